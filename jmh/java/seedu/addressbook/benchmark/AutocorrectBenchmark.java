@@ -0,0 +1,52 @@
+//@@author andyrobert3
+package seedu.addressbook.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.addressbook.autocorrect.CheckDistance;
+import seedu.addressbook.autocorrect.EditDistance;
+
+/**
+ * Times {@link EditDistance#computeDistance(String, String)} on its own, and {@link CheckDistance} looking for the
+ * command or NRIC a mistyped one was meant to be. {@link CheckDistance} compares NRICs with those in the default
+ * storage file, as it does in the System.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class AutocorrectBenchmark {
+    private CheckDistance checkDistance;
+
+    @Setup
+    public void setup() {
+        checkDistance = new CheckDistance();
+    }
+
+    @Benchmark
+    public int computeDistanceCommand() {
+        return EditDistance.computeDistance("scrennings", "screenings");
+    }
+
+    @Benchmark
+    public int computeDistanceNric() {
+        return EditDistance.computeDistance("s1234576a", "s1234567a");
+    }
+
+    @Benchmark
+    public String checkDistanceCommand() {
+        return checkDistance.checkDistance("lsit");
+    }
+
+    @Benchmark
+    public String checkDistanceNric() {
+        return checkDistance.checkInputDistance("s1234576a");
+    }
+}
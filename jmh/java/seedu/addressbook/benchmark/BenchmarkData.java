@@ -0,0 +1,182 @@
+//@@author andyrobert3
+package seedu.addressbook.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.DateOfBirth;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Nric;
+import seedu.addressbook.data.person.Offense;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.PostalCode;
+import seedu.addressbook.data.person.Status;
+import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.timeanddate.ClockService;
+
+/**
+ * Synthetic records, screening history and inboxes for the benchmarks.
+ *
+ * Everything is drawn from a {@link Random} seeded with {@value #SEED}, so the same size gives the same data on every
+ * run and results can be compared between runs. Person {@code i} has the NRIC {@link #nric(int)}, so benchmarks can
+ * look up persons known to be there, or not.
+ */
+public class BenchmarkData {
+    public static final long SEED = 2018;
+
+    /** The time of the first screening and message, midnight of 01/11/2018 in Singapore. */
+    public static final long START_MILLIS = 1541001600000L;
+
+    public static final String[] OFFICERS = {
+        "Headquarters Personnel",
+        "Police Officer Alpha Bravo Charlie",
+        "Police Officer Tango Hotel Romeo Echo Echo",
+        "Police Officer Tango Whiskey Oscar",
+        "Police Officer Foxtrot India Victor Echo"
+    };
+
+    private static final String[] FIRST_NAMES = {
+        "Adam", "Beatrice", "Chong", "Devi", "Ethan", "Farah", "Gopal", "Hui Min", "Ismail", "Jia Wei"
+    };
+    private static final String[] LAST_NAMES = {
+        "Brown", "Tan", "Lim", "Kumar", "Ng", "Rahman", "Wong", "Lee", "Goh", "Pillai"
+    };
+    private static final String[] STATUSES = {"wanted", "xc", "clear"};
+    private static final String[] OFFENSES = {
+        "theft", "drugs", "riot", "murder", "cheating", "assault", "robbery", "kidnap", "fire", "piracy"
+    };
+
+    private static final long MILLIS_PER_MINUTE = 60 * 1000;
+
+    /**
+     * Returns the NRIC of person {@code i}, for {@code i} below ten million.
+     */
+    public static String nric(int i) {
+        return String.format("s%07d%c", i, (char) ('a' + i % 26));
+    }
+
+    /**
+     * Returns {@code count} persons with the NRICs of persons 0 until {@code count}.
+     */
+    public static List<Person> persons(int count) {
+        Random random = new Random(SEED);
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(person(random, i));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns person {@code i}, with the rest of their details drawn from {@code random}.
+     */
+    public static Person person(Random random, int i) {
+        try {
+            String status = STATUSES[random.nextInt(STATUSES.length)];
+            String wantedFor = status.equals("wanted") ? OFFENSES[random.nextInt(OFFENSES.length)]
+                    : Offense.NULL_OFFENSE;
+            Offense[] pastOffenses = new Offense[random.nextInt(4)];
+            for (int j = 0; j < pastOffenses.length; j++) {
+                pastOffenses[j] = new Offense(OFFENSES[random.nextInt(OFFENSES.length)]);
+            }
+            return new Person(
+                    new Name(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                            + LAST_NAMES[random.nextInt(LAST_NAMES.length)]),
+                    new Nric(nric(i)),
+                    new DateOfBirth(Integer.toString(1940 + random.nextInt(60))),
+                    new PostalCode(String.format("%06d", 10000 + random.nextInt(820000))),
+                    new Status(status),
+                    new Offense(wantedFor),
+                    new HashSet<>(Arrays.asList(pastOffenses)));
+        } catch (IllegalValueException ive) {
+            throw new AssertionError("Synthetic person should be valid", ive);
+        }
+    }
+
+    /**
+     * Returns records of {@code count} persons.
+     */
+    public static AddressBook addressBook(int count) {
+        try {
+            return new AddressBook(new UniquePersonList(persons(count)));
+        } catch (UniquePersonList.DuplicatePersonException dpe) {
+            throw new AssertionError("Synthetic persons should be unique", dpe);
+        }
+    }
+
+    /**
+     * Returns {@code count} lines of screening history, a minute apart, of persons 0 until {@code numPersons}.
+     */
+    public static List<String> screeningLines(int count, int numPersons) {
+        Random random = new Random(SEED);
+        List<String> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            lines.add(nric(random.nextInt(numPersons)) + " "
+                    + ClockService.formatForCheckCommand(START_MILLIS + i * MILLIS_PER_MINUTE) + "hrs "
+                    + OFFICERS[random.nextInt(OFFICERS.length)]);
+        }
+        return lines;
+    }
+
+    /**
+     * Writes an inbox of {@code count} messages, a minute apart, to {@code file}, as {@code NotificationWriter}
+     * writes them.
+     */
+    public static void writeInbox(File file, int count) throws IOException {
+        Random random = new Random(SEED);
+        String[] priorities = {"HIGH", "MED", "LOW"};
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8))) {
+            for (int i = 0; i < count; i++) {
+                writer.println("> START OF MESSAGE <");
+                writer.println("Sender ID:po" + (1 + random.nextInt(5)));
+                writer.println("Read status:" + random.nextBoolean());
+                writer.println("Priority:" + priorities[random.nextInt(priorities.length)]);
+                writer.println("Timestamp:" + ClockService.formatTimestamp(START_MILLIS + i * MILLIS_PER_MINUTE)
+                        + "hrs");
+                writer.println("Message:PO" + (1 + random.nextInt(5)) + " needs help with "
+                        + OFFENSES[random.nextInt(OFFENSES.length)]);
+                writer.println('-');
+                writer.println("Location:" + (1.28 + random.nextDouble() / 10) + ","
+                        + (103.8 + random.nextDouble() / 10));
+                writer.println("> END OF MESSAGE <");
+            }
+        }
+    }
+
+    /**
+     * Returns a new directory to hold the files of a benchmark, to be removed with {@link #delete(Path)}.
+     */
+    public static Path createDirectory(String prefix) throws IOException {
+        return Files.createTempDirectory(prefix);
+    }
+
+    /**
+     * Deletes {@code directory} and everything in it.
+     */
+    public static void delete(Path directory) throws IOException {
+        if (directory == null || !Files.exists(directory)) {
+            return;
+        }
+        List<Path> paths;
+        try (Stream<Path> walk = Files.walk(directory)) {
+            paths = walk.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+        }
+        for (Path path : paths) {
+            Files.delete(path);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+//@@author andyrobert3
+package seedu.addressbook.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.addressbook.common.Location;
+import seedu.addressbook.inbox.Msg;
+import seedu.addressbook.inbox.NotificationReader;
+import seedu.addressbook.inbox.NotificationWriter;
+
+/**
+ * Times reading an inbox of 100 and 10 thousand messages with {@link NotificationReader}, and appending a message
+ * to an inbox with {@link NotificationWriter}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class NotificationBenchmark {
+    @Param({"100", "10000"})
+    public int messages;
+
+    private Path directory;
+    private String inbox;
+    private String appendedTo;
+    private Msg message;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = BenchmarkData.createDirectory("inbox");
+        inbox = directory.resolve("inbox.txt").toString();
+        BenchmarkData.writeInbox(directory.resolve("inbox.txt").toFile(), messages);
+        appendedTo = directory.resolve("appendedTo.txt").toString();
+        message = new Msg(Msg.Priority.MED, "PO1 needs help with theft", new Location(1.3521, 103.8198));
+    }
+
+    /**
+     * Empties the inbox appended to, so that it does not grow from one iteration to the next.
+     */
+    @Setup(Level.Iteration)
+    public void emptyAppendedTo() throws IOException {
+        Files.write(directory.resolve("appendedTo.txt"), new byte[0]);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkData.delete(directory);
+    }
+
+    @Benchmark
+    public TreeSet<Msg> readFromFile() throws IOException {
+        return new NotificationReader(inbox).readFromFile();
+    }
+
+    @Benchmark
+    public void writeToFile() throws IOException {
+        new NotificationWriter(appendedTo, true).writeToFile(message);
+    }
+}
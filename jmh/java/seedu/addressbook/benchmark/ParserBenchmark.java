@@ -0,0 +1,68 @@
+//@@author andyrobert3
+package seedu.addressbook.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.addressbook.commands.Command;
+import seedu.addressbook.parser.Parser;
+
+/**
+ * Times {@link Parser#parseCommand(String)} on a command of each type, as written in {@value #COMMANDS_FILE}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class ParserBenchmark {
+    public static final String COMMANDS_FILE = "jmh/data/ParserBenchmark/commands.txt";
+
+    @Param({"add", "edit", "delete", "find", "findName", "findSoundsLike", "check", "list", "viewall", "dispatch",
+        "stats", "screenings", "nearby", "unknown"})
+    public String command;
+
+    private Parser parser;
+    private String input;
+
+    @Setup
+    public void setup() throws IOException {
+        input = readCommands().get(command);
+        if (input == null) {
+            throw new IllegalStateException("No " + command + " command in " + COMMANDS_FILE);
+        }
+        parser = new Parser();
+    }
+
+    @Benchmark
+    public Command parseCommand() {
+        return parser.parseCommand(input);
+    }
+
+    /**
+     * Returns the commands in {@value #COMMANDS_FILE} by name.
+     */
+    private static Map<String, String> readCommands() throws IOException {
+        Map<String, String> commands = new HashMap<>();
+        for (String line : Files.readAllLines(Paths.get(COMMANDS_FILE), StandardCharsets.UTF_8)) {
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] parts = line.split(" ", 2);
+            commands.put(parts[0], parts[1]);
+        }
+        return commands;
+    }
+}
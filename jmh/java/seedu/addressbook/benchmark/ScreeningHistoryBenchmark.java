@@ -0,0 +1,67 @@
+//@@author andyrobert3
+package seedu.addressbook.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.readandwrite.ScreeningLog;
+
+/**
+ * Times {@link AddressBook#readDatabase(String, String)}, as {@code check} uses it, on a screening history of 1
+ * thousand and 100 thousand screenings of {@value #PERSONS} persons, for an NRIC screened and one never screened.
+ * The history is appended to through its {@link ScreeningLog}, so it is sealed into segments as in the System.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class ScreeningHistoryBenchmark {
+    public static final int PERSONS = 1000;
+
+    @Param({"1000", "100000"})
+    public int screenings;
+
+    private Path directory;
+    private String file;
+    private AddressBook addressBook;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = BenchmarkData.createDirectory("screening");
+        Path history = Files.createFile(directory.resolve("screeningHistory.txt"));
+        file = history.toString();
+        addressBook = new AddressBook();
+        ScreeningLog log = addressBook.getScreeningLog(file);
+        for (String line : BenchmarkData.screeningLines(screenings, PERSONS)) {
+            log.append(line);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkData.delete(directory);
+    }
+
+    @Benchmark
+    public List<String> readDatabaseScreened() throws IOException {
+        return addressBook.readDatabase(BenchmarkData.nric(PERSONS / 2), file);
+    }
+
+    @Benchmark
+    public List<String> readDatabaseNeverScreened() throws IOException {
+        return addressBook.readDatabase(BenchmarkData.nric(PERSONS * 2), file);
+    }
+}
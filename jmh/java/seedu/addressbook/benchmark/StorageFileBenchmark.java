@@ -0,0 +1,65 @@
+//@@author andyrobert3
+package seedu.addressbook.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.storage.StorageFile;
+
+/**
+ * Times saving and loading records of 1 thousand, 100 thousand and 1 million persons with {@link StorageFile}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class StorageFileBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    public int persons;
+
+    private Path directory;
+    private AddressBook addressBook;
+    private StorageFile saved;
+    private StorageFile toSave;
+
+    @Setup
+    public void setup() throws Exception {
+        directory = BenchmarkData.createDirectory("storage");
+        addressBook = BenchmarkData.addressBook(persons);
+        saved = new StorageFile(directory.resolve("saved.txt").toString());
+        saved.save(addressBook);
+        toSave = new StorageFile(directory.resolve("toSave.txt").toString());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkData.delete(directory);
+    }
+
+    @Benchmark
+    public void save() throws Exception {
+        toSave.save(addressBook);
+    }
+
+    @Benchmark
+    public AddressBook load() throws Exception {
+        return saved.load();
+    }
+}
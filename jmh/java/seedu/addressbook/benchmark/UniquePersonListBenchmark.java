@@ -0,0 +1,68 @@
+//@@author andyrobert3
+package seedu.addressbook.benchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.UniquePersonList;
+
+/**
+ * Times adding a person to, and looking persons up in, a {@link UniquePersonList} of 1 thousand and 100 thousand
+ * persons.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class UniquePersonListBenchmark {
+    @Param({"1000", "100000"})
+    public int persons;
+
+    private UniquePersonList list;
+    private Person first;
+    private Person last;
+    private Person absent;
+
+    @Setup
+    public void setup() throws Exception {
+        List<Person> all = BenchmarkData.persons(persons);
+        list = new UniquePersonList(all);
+        first = all.get(0);
+        last = all.get(persons - 1);
+        absent = BenchmarkData.person(new Random(BenchmarkData.SEED), persons);
+    }
+
+    /**
+     * Adds a person and removes them again, so that the list stays the same size.
+     */
+    @Benchmark
+    public void addThenRemove() throws Exception {
+        list.add(absent);
+        list.remove(absent);
+    }
+
+    @Benchmark
+    public boolean containsFirst() {
+        return list.contains(first);
+    }
+
+    @Benchmark
+    public boolean containsLast() {
+        return list.contains(last);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return list.contains(absent);
+    }
+}
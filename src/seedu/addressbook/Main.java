@@ -3,6 +3,7 @@ package seedu.addressbook;
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.stage.Stage;
+import seedu.addressbook.common.EtaMatrix;
 import seedu.addressbook.logic.Logic;
 import seedu.addressbook.ui.Gui;
 import seedu.addressbook.ui.Stoppable;
@@ -19,6 +20,7 @@ public class Main extends Application implements Stoppable {
 
     @Override
     public void start(Stage primaryStage) throws Exception {
+        EtaMatrix.startShared();
         Gui gui = new Gui(new Logic(), VERSION);
         gui.start(primaryStage, this);
 
@@ -0,0 +1,129 @@
+//@@author andyrobert3
+package seedu.addressbook.autocorrect;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import org.javatuples.Triplet;
+
+import seedu.addressbook.commands.CheckCommand;
+import seedu.addressbook.commands.DeleteCommand;
+import seedu.addressbook.commands.Dictionary;
+import seedu.addressbook.commands.DispatchCommand;
+import seedu.addressbook.commands.FindCommand;
+import seedu.addressbook.commands.NearbyCommand;
+import seedu.addressbook.commands.RequestHelpCommand;
+import seedu.addressbook.commands.UpdateStatusCommand;
+import seedu.addressbook.common.Location;
+import seedu.addressbook.common.PatrolResourceStatus;
+import seedu.addressbook.data.person.Offense;
+
+/**
+ * Suggests how to finish the word being typed at the end of a command: a command word, an NRIC, an offense or
+ * an officer ID, depending on where the word is in the command. Unlike {@link AutoCorrect}, which corrects a
+ * command once it is entered, suggestions are made as the user types.
+ */
+public class AutoComplete {
+    public static final int MAX_SUGGESTIONS = 8;
+
+    static final String NRIC_PREFIX = "n/";
+    static final String WANTED_FOR_PREFIX = "w/";
+    static final String PAST_OFFENSE_PREFIX = "o/";
+
+    /**
+     * Lists the NRICs in the records which start with a prefix, e.g. {@code Logic::completeNric}.
+     */
+    @FunctionalInterface
+    public interface NricSource {
+        List<String> complete(String prefix, int limit);
+    }
+
+    private final Trie commandWords;
+    private final Trie offenses;
+    private final Trie officerIds;
+    private final NricSource nrics;
+
+    public AutoComplete(NricSource nrics) {
+        this(Dictionary.getCommands(), Offense.getPriorities().keySet(), getOfficerIds(), nrics);
+    }
+
+    public AutoComplete(Collection<String> commandWords, Collection<String> offenses, Collection<String> officerIds,
+                        NricSource nrics) {
+        this.commandWords = new Trie(commandWords);
+        this.offenses = new Trie(offenses);
+        this.officerIds = new Trie(officerIds);
+        this.nrics = nrics;
+    }
+
+    private static List<String> getOfficerIds() {
+        List<String> officerIds = new ArrayList<>();
+        for (Triplet<String, Location, Boolean> resource : PatrolResourceStatus.getPatrolResourceStatus()) {
+            if (!resource.getValue0().equals(PatrolResourceStatus.HEADQUARTER_PERSONNEL_ID)) {
+                officerIds.add(resource.getValue0());
+            }
+        }
+        return officerIds;
+    }
+
+    /**
+     * Returns at most {@link #MAX_SUGGESTIONS} ways to finish the last word of {@code commandText}, each the whole
+     * word as it would be typed. There are none if the command ends with a space, or the word is not one the
+     * System can suggest.
+     */
+    public List<String> suggest(String commandText) {
+        if (commandText.isEmpty() || Character.isWhitespace(commandText.charAt(commandText.length() - 1))) {
+            return Collections.emptyList();
+        }
+        String[] words = commandText.trim().split("\\s+");
+        String word = words[words.length - 1].toLowerCase(Locale.ROOT);
+        if (words.length == 1) {
+            return commandWords.complete(word, MAX_SUGGESTIONS);
+        }
+        if (word.startsWith(NRIC_PREFIX)) {
+            return withPrefix(NRIC_PREFIX, nrics.complete(word.substring(NRIC_PREFIX.length()), MAX_SUGGESTIONS));
+        }
+        if (word.startsWith(WANTED_FOR_PREFIX) || word.startsWith(PAST_OFFENSE_PREFIX)) {
+            String prefix = word.substring(0, WANTED_FOR_PREFIX.length());
+            return withPrefix(prefix, offenses.complete(word.substring(prefix.length()), MAX_SUGGESTIONS));
+        }
+        return suggestArgument(words[0].toLowerCase(Locale.ROOT), words.length - 1, word);
+    }
+
+    /**
+     * Returns ways to finish {@code word}, the argument at {@code position} (from 1) of the command {@code command}.
+     */
+    private List<String> suggestArgument(String command, int position, String word) {
+        switch (command) {
+        case FindCommand.COMMAND_WORD: // Fallthrough
+        case CheckCommand.COMMAND_WORD: // Fallthrough
+        case DeleteCommand.COMMAND_WORD:
+            return position == 1 ? nrics.complete(word, MAX_SUGGESTIONS) : Collections.emptyList();
+        case UpdateStatusCommand.COMMAND_WORD: // Fallthrough
+        case NearbyCommand.COMMAND_WORD:
+            return position == 1 ? officerIds.complete(word, MAX_SUGGESTIONS) : Collections.emptyList();
+        case RequestHelpCommand.COMMAND_WORD:
+            return position == 1 ? offenses.complete(word, MAX_SUGGESTIONS) : Collections.emptyList();
+        case DispatchCommand.COMMAND_WORD:
+            if (position == 2) {
+                return offenses.complete(word, MAX_SUGGESTIONS);
+            }
+            return position <= 3 ? officerIds.complete(word, MAX_SUGGESTIONS) : Collections.emptyList();
+        default:
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Returns {@code completions}, each preceded by {@code prefix}.
+     */
+    private static List<String> withPrefix(String prefix, List<String> completions) {
+        List<String> prefixed = new ArrayList<>(completions.size());
+        for (String completion : completions) {
+            prefixed.add(prefix + completion);
+        }
+        return prefixed;
+    }
+}
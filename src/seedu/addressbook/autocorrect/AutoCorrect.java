@@ -4,6 +4,7 @@ package seedu.addressbook.autocorrect;
 import static seedu.addressbook.common.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import seedu.addressbook.commands.AddCommand;
+import seedu.addressbook.commands.BroadcastCommand;
 import seedu.addressbook.commands.CheckCommand;
 import seedu.addressbook.commands.CheckPoStatusCommand;
 import seedu.addressbook.commands.ClearCommand;
@@ -19,10 +20,15 @@ import seedu.addressbook.commands.InboxCommand;
 import seedu.addressbook.commands.IncorrectCommand;
 import seedu.addressbook.commands.ListCommand;
 import seedu.addressbook.commands.LogoutCommand;
+import seedu.addressbook.commands.NearbyCommand;
+import seedu.addressbook.commands.NextCommand;
+import seedu.addressbook.commands.QueueCommand;
 import seedu.addressbook.commands.ReadCommand;
 import seedu.addressbook.commands.RequestHelpCommand;
+import seedu.addressbook.commands.ScreeningsCommand;
 import seedu.addressbook.commands.ShowUnreadCommand;
 import seedu.addressbook.commands.ShutdownCommand;
+import seedu.addressbook.commands.StatsCommand;
 import seedu.addressbook.commands.UpdateStatusCommand;
 import seedu.addressbook.commands.ViewAllCommand;
 import seedu.addressbook.password.Password;
@@ -83,6 +89,10 @@ public class AutoCorrect {
                 displayCommand = new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                         AddCommand.MESSAGE_USAGE)).feedbackToUser;
 
+            } else if (BroadcastCommand.COMMAND_WORD.equals(output) && isHqp) {
+                displayCommand = new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        BroadcastCommand.MESSAGE_USAGE)).feedbackToUser;
+
             } else if (CheckCommand.COMMAND_WORD.equals(output) && isHqp) {
                 displayCommand = new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                         CheckCommand.MESSAGE_USAGE)).feedbackToUser;
@@ -131,6 +141,18 @@ public class AutoCorrect {
                 displayCommand = new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                         LogoutCommand.MESSAGE_USAGE)).feedbackToUser;
 
+            } else if (NearbyCommand.COMMAND_WORD.equals(output)) {
+                displayCommand = new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        NearbyCommand.MESSAGE_USAGE)).feedbackToUser;
+
+            } else if (NextCommand.COMMAND_WORD.equals(output) && isHqp) {
+                displayCommand = new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        NextCommand.MESSAGE_USAGE)).feedbackToUser;
+
+            } else if (QueueCommand.COMMAND_WORD.equals(output) && isHqp) {
+                displayCommand = new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        QueueCommand.MESSAGE_USAGE)).feedbackToUser;
+
             } else if (ReadCommand.COMMAND_WORD.equals(output)) {
                 displayCommand = new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                         ReadCommand.MESSAGE_USAGE)).feedbackToUser;
@@ -139,6 +161,10 @@ public class AutoCorrect {
                 displayCommand = new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                         RequestHelpCommand.MESSAGE_USAGE)).feedbackToUser;
 
+            } else if (ScreeningsCommand.COMMAND_WORD.equals(output) && isHqp) {
+                displayCommand = new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        ScreeningsCommand.MESSAGE_USAGE)).feedbackToUser;
+
             } else if (ShowUnreadCommand.COMMAND_WORD.equals(output)) {
                 displayCommand = new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                         ShowUnreadCommand.MESSAGE_USAGE)).feedbackToUser;
@@ -147,6 +173,10 @@ public class AutoCorrect {
                 displayCommand = new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                         ShutdownCommand.MESSAGE_USAGE)).feedbackToUser;
 
+            } else if (StatsCommand.COMMAND_WORD.equals(output) && isHqp) {
+                displayCommand = new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        StatsCommand.MESSAGE_USAGE)).feedbackToUser;
+
             } else if (UpdateStatusCommand.COMMAND_WORD.equals(output) && isHqp) {
                 displayCommand = new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                         UpdateStatusCommand.MESSAGE_USAGE)).feedbackToUser;
@@ -169,11 +199,16 @@ public class AutoCorrect {
             } else {
                 switch (output) {
                 case AddCommand.COMMAND_WORD:
+                case BroadcastCommand.COMMAND_WORD:
                 case CheckCommand.COMMAND_WORD:
                 case ClearCommand.COMMAND_WORD:
                 case DeleteCommand.COMMAND_WORD:
                 case DispatchCommand.COMMAND_WORD:
                 case EditCommand.COMMAND_WORD:
+                case NextCommand.COMMAND_WORD:
+                case QueueCommand.COMMAND_WORD:
+                case ScreeningsCommand.COMMAND_WORD:
+                case StatsCommand.COMMAND_WORD:
                 case UpdateStatusCommand.COMMAND_WORD:
                     break;
                 default:
@@ -4,7 +4,7 @@ package seedu.addressbook.autocorrect;
 /**
  * Returns the edit distance needed to convert one string to the other.
  */
-class EditDistance {
+public class EditDistance {
 
     /**
      * If returns 0, the strings are same.
@@ -14,7 +14,7 @@ class EditDistance {
      * @param storedString The string contained in the Dictionary.
      * @return The minimum number of operations required to transform inputString into storedString.
      */
-    static int computeDistance(String inputString, String storedString) {
+    public static int computeDistance(String inputString, String storedString) {
 
         int originalLength = inputString.length();
         int finalLength = storedString.length();
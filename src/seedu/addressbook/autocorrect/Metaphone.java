@@ -0,0 +1,180 @@
+//@@author andyrobert3
+package seedu.addressbook.autocorrect;
+
+import java.util.Locale;
+
+/**
+ * Returns a key for how a word sounds in English, so that words which sound alike, like "Cesaro" and "Sesaro",
+ * have the same key. Follows the original Metaphone rules of Lawrence Philips, keeping the first four sounds.
+ */
+public class Metaphone {
+    public static final int MAX_KEY_LENGTH = 4;
+
+    private static final String VOWELS = "AEIOU";
+    private static final String FRONT_VOWELS = "EIY";
+    private static final String[] SILENT_FIRST_LETTER = {"AE", "GN", "KN", "PN", "WR"};
+    private static final char NONE = '\0';
+
+    private Metaphone() {
+    }
+
+    /**
+     * Returns the key of {@code word}, ignoring anything but the letters A to Z. The key is empty if there are none.
+     */
+    public static String encode(String word) {
+        StringBuilder lettersOnly = new StringBuilder();
+        for (char c : word.toUpperCase(Locale.ROOT).toCharArray()) {
+            if (c >= 'A' && c <= 'Z') {
+                lettersOnly.append(c);
+            }
+        }
+        String letters = dropSilentStart(lettersOnly.toString());
+
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; i < letters.length() && key.length() < MAX_KEY_LENGTH; i++) {
+            char c = letters.charAt(i);
+            if (c != 'C' && i > 0 && letters.charAt(i - 1) == c) {
+                continue;
+            }
+            appendSound(letters, i, key);
+        }
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key.toString();
+    }
+
+    /**
+     * Rewrites the start of {@code letters} where its first letter is not sounded as it otherwise would be.
+     */
+    private static String dropSilentStart(String letters) {
+        for (String start : SILENT_FIRST_LETTER) {
+            if (letters.startsWith(start)) {
+                return letters.substring(1);
+            }
+        }
+        if (letters.startsWith("X")) {
+            return "S" + letters.substring(1);
+        }
+        if (letters.startsWith("WH")) {
+            return "W" + letters.substring(2);
+        }
+        return letters;
+    }
+
+    /**
+     * Appends the sound of the letter at {@code i} of {@code letters} to {@code key}, if it is sounded.
+     */
+    private static void appendSound(String letters, int i, StringBuilder key) {
+        char c = letters.charAt(i);
+        char previous = letterAt(letters, i - 1);
+        char next = letterAt(letters, i + 1);
+        char afterNext = letterAt(letters, i + 2);
+        boolean isLast = i == letters.length() - 1;
+
+        switch (c) {
+        case 'A': case 'E': case 'I': case 'O': case 'U':
+            if (i == 0) {
+                key.append(c);
+            }
+            break;
+        case 'B':
+            if (!(previous == 'M' && isLast)) {
+                key.append('B');
+            }
+            break;
+        case 'C':
+            if (isFrontVowel(next)) {
+                if (next == 'I' && afterNext == 'A') {
+                    key.append('X');
+                } else if (previous != 'S') {
+                    key.append('S');
+                }
+            } else if (next == 'H') {
+                key.append(previous == 'S' ? 'K' : 'X');
+            } else {
+                key.append('K');
+            }
+            break;
+        case 'D':
+            key.append(next == 'G' && isFrontVowel(afterNext) ? 'J' : 'T');
+            break;
+        case 'G':
+            appendSoundOfG(letters, i, key);
+            break;
+        case 'H':
+            if (!(isVowel(previous) && !isVowel(next)) && "CGPST".indexOf(previous) < 0) {
+                key.append('H');
+            }
+            break;
+        case 'K':
+            if (previous != 'C') {
+                key.append('K');
+            }
+            break;
+        case 'P':
+            key.append(next == 'H' ? 'F' : 'P');
+            break;
+        case 'Q':
+            key.append('K');
+            break;
+        case 'S':
+            key.append(next == 'H' || (next == 'I' && (afterNext == 'O' || afterNext == 'A')) ? 'X' : 'S');
+            break;
+        case 'T':
+            if (next == 'I' && (afterNext == 'O' || afterNext == 'A')) {
+                key.append('X');
+            } else if (next == 'H') {
+                key.append('0');
+            } else if (!(next == 'C' && afterNext == 'H')) {
+                key.append('T');
+            }
+            break;
+        case 'V':
+            key.append('F');
+            break;
+        case 'W': case 'Y':
+            if (isVowel(next)) {
+                key.append(c);
+            }
+            break;
+        case 'X':
+            key.append("KS");
+            break;
+        case 'Z':
+            key.append('S');
+            break;
+        default:
+            key.append(c);
+        }
+    }
+
+    /**
+     * Appends the sound of the G at {@code i} of {@code letters} to {@code key}, if it is sounded.
+     * G is silent in -GH- before a consonant, in a final -GN or -GNED, and after a D which sounds as J.
+     */
+    private static void appendSoundOfG(String letters, int i, StringBuilder key) {
+        char previous = letterAt(letters, i - 1);
+        char next = letterAt(letters, i + 1);
+        char afterNext = letterAt(letters, i + 2);
+        if (next == 'H' && afterNext != NONE && !isVowel(afterNext)) {
+            return;
+        }
+        if (next == 'N' && (i + 2 == letters.length() || letters.substring(i + 2).equals("ED"))) {
+            return;
+        }
+        if (previous == 'D' && isFrontVowel(next)) {
+            return;
+        }
+        key.append(isFrontVowel(next) && previous != 'G' ? 'J' : 'K');
+    }
+
+    private static char letterAt(String letters, int i) {
+        return i >= 0 && i < letters.length() ? letters.charAt(i) : NONE;
+    }
+
+    private static boolean isVowel(char c) {
+        return c != NONE && VOWELS.indexOf(c) >= 0;
+    }
+
+    private static boolean isFrontVowel(char c) {
+        return c != NONE && FRONT_VOWELS.indexOf(c) >= 0;
+    }
+}
@@ -0,0 +1,232 @@
+//@@author andyrobert3
+package seedu.addressbook.autocorrect;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A set of words which lists the words starting with a prefix, in alphabetical order.
+ *
+ * Completing a prefix takes time in proportion to the length of the prefix and of the words listed, however many
+ * words there are. The nodes are kept in parallel arrays rather than as objects, each pointing to its first child
+ * and its next sibling, so that a million NRICs fit in a few tens of megabytes.
+ * Removing a word also removes the nodes no other word passes through, so completing never walks removed words;
+ * their slots are reused by the words added later.
+ *
+ * Not thread safe.
+ */
+public class Trie {
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private char[] labels = new char[INITIAL_CAPACITY];
+    private int[] firstChildren = new int[INITIAL_CAPACITY];
+    private int[] nextSiblings = new int[INITIAL_CAPACITY];
+    private final BitSet isWordEnd = new BitSet();
+    private int numNodes = 0;
+    private int numWords = 0;
+    /** The first of the slots of removed nodes, chained through {@link #nextSiblings}. */
+    private int firstFree = NONE;
+    private int numFree = 0;
+
+    public Trie() {
+        newNode('\0', NONE);
+    }
+
+    public Trie(Collection<String> words) {
+        this();
+        for (String word : words) {
+            add(word);
+        }
+    }
+
+    /**
+     * Adds {@code word}.
+     *
+     * @return false if it was already there.
+     */
+    public boolean add(String word) {
+        int node = ROOT;
+        for (int i = 0; i < word.length(); i++) {
+            node = getOrAddChild(node, word.charAt(i));
+        }
+        if (isWordEnd.get(node)) {
+            return false;
+        }
+        isWordEnd.set(node);
+        numWords++;
+        return true;
+    }
+
+    /**
+     * Removes {@code word}.
+     *
+     * @return false if it was not there.
+     */
+    public boolean remove(String word) {
+        int[] path = new int[word.length() + 1];
+        path[0] = ROOT;
+        for (int i = 0; i < word.length(); i++) {
+            path[i + 1] = getChild(path[i], word.charAt(i));
+            if (path[i + 1] == NONE) {
+                return false;
+            }
+        }
+        if (!isWordEnd.get(path[word.length()])) {
+            return false;
+        }
+        isWordEnd.clear(path[word.length()]);
+        numWords--;
+        for (int i = word.length(); i > 0 && firstChildren[path[i]] == NONE && !isWordEnd.get(path[i]); i--) {
+            removeChild(path[i - 1], path[i]);
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code word} has been added and not removed since.
+     */
+    public boolean contains(String word) {
+        int node = find(word);
+        return node != NONE && isWordEnd.get(node);
+    }
+
+    /**
+     * Removes every word.
+     */
+    public void clear() {
+        isWordEnd.clear();
+        numNodes = 0;
+        numWords = 0;
+        firstFree = NONE;
+        numFree = 0;
+        newNode('\0', NONE);
+    }
+
+    public int size() {
+        return numWords;
+    }
+
+    /**
+     * Returns how many nodes there are, the root included.
+     */
+    int getNumNodes() {
+        return numNodes - numFree;
+    }
+
+    /**
+     * Returns the first {@code limit} words in alphabetical order which start with {@code prefix}.
+     */
+    public List<String> complete(String prefix, int limit) {
+        List<String> words = new ArrayList<>();
+        int node = find(prefix);
+        if (node != NONE && limit > 0) {
+            collect(node, new StringBuilder(prefix), limit, words);
+        }
+        return words;
+    }
+
+    /**
+     * Adds the words at and below {@code node}, which is reached by {@code word}, to {@code words}
+     * until there are {@code limit} of them.
+     */
+    private void collect(int node, StringBuilder word, int limit, List<String> words) {
+        if (isWordEnd.get(node)) {
+            words.add(word.toString());
+        }
+        for (int child = firstChildren[node]; child != NONE && words.size() < limit; child = nextSiblings[child]) {
+            word.append(labels[child]);
+            collect(child, word, limit, words);
+            word.setLength(word.length() - 1);
+        }
+    }
+
+    /**
+     * Returns the node reached by {@code prefix}, or {@link #NONE} if no word starts with it.
+     */
+    private int find(String prefix) {
+        int node = ROOT;
+        for (int i = 0; i < prefix.length() && node != NONE; i++) {
+            node = getChild(node, prefix.charAt(i));
+        }
+        return node;
+    }
+
+    private int getChild(int parent, char label) {
+        int child = firstChildren[parent];
+        while (child != NONE && labels[child] < label) {
+            child = nextSiblings[child];
+        }
+        return child != NONE && labels[child] == label ? child : NONE;
+    }
+
+    /**
+     * Returns the child of {@code parent} labelled {@code label}, adding it among its siblings in alphabetical order
+     * if there is none.
+     */
+    private int getOrAddChild(int parent, char label) {
+        int previous = NONE;
+        int child = firstChildren[parent];
+        while (child != NONE && labels[child] < label) {
+            previous = child;
+            child = nextSiblings[child];
+        }
+        if (child != NONE && labels[child] == label) {
+            return child;
+        }
+        int added = newNode(label, child);
+        if (previous == NONE) {
+            firstChildren[parent] = added;
+        } else {
+            nextSiblings[previous] = added;
+        }
+        return added;
+    }
+
+    /**
+     * Unlinks {@code child}, which has no children, from among the children of {@code parent} and frees its slot.
+     */
+    private void removeChild(int parent, int child) {
+        if (firstChildren[parent] == child) {
+            firstChildren[parent] = nextSiblings[child];
+        } else {
+            int previous = firstChildren[parent];
+            while (nextSiblings[previous] != child) {
+                previous = nextSiblings[previous];
+            }
+            nextSiblings[previous] = nextSiblings[child];
+        }
+        nextSiblings[child] = firstFree;
+        firstFree = child;
+        numFree++;
+    }
+
+    /**
+     * Adds a node with no children, in the slot of a removed node if there is one, growing the arrays if they are
+     * full, and returns it.
+     */
+    private int newNode(char label, int nextSibling) {
+        int node;
+        if (firstFree != NONE) {
+            node = firstFree;
+            firstFree = nextSiblings[node];
+            numFree--;
+        } else {
+            if (numNodes == labels.length) {
+                int capacity = labels.length * 2;
+                labels = Arrays.copyOf(labels, capacity);
+                firstChildren = Arrays.copyOf(firstChildren, capacity);
+                nextSiblings = Arrays.copyOf(nextSiblings, capacity);
+            }
+            node = numNodes++;
+        }
+        labels[node] = label;
+        firstChildren[node] = NONE;
+        nextSiblings[node] = nextSibling;
+        return node;
+    }
+}
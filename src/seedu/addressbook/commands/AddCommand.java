@@ -67,6 +67,11 @@ public class AddCommand extends Command {
         return toAdd;
     }
 
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public CommandResult execute() {
         try {
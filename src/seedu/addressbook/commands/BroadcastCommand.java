@@ -0,0 +1,48 @@
+//@@author andyrobert3
+package seedu.addressbook.commands;
+
+import java.io.IOException;
+
+import seedu.addressbook.common.Messages;
+import seedu.addressbook.inbox.BulletinBoard;
+import seedu.addressbook.inbox.Msg;
+
+/**
+ * Sends a bulletin from headquarters to the inbox of every officer.
+ */
+public class BroadcastCommand extends Command {
+    public static final String COMMAND_WORD = "broadcast";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ":\n"
+            + "Sends a message to the inbox of every officer.\n\t"
+            + "Parameters: MESSAGE\n\t"
+            + "Example: " + COMMAND_WORD
+            + " Roadblock at Clementi Ave 3 until 1800hrs";
+
+    public static final String MESSAGE_BROADCAST_SUCCESS = "Bulletin sent to all officers: %s";
+
+    private final String message;
+
+    public BroadcastCommand(String message) {
+        this.message = message;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    /** Broadcasting appends to the shared bulletin log. */
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
+    @Override
+    public CommandResult execute() {
+        try {
+            new BulletinBoard().broadcast(new Msg(Msg.Priority.MED, message));
+            return new CommandResult(String.format(MESSAGE_BROADCAST_SUCCESS, message));
+        } catch (IOException ioe) {
+            return new CommandResult(Messages.MESSAGE_SAVE_ERROR);
+        }
+    }
+}
@@ -11,6 +11,11 @@ public class ClearCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "Police Records has been cleared!";
 
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public CommandResult execute() {
         addressBook.clear();
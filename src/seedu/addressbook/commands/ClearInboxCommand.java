@@ -11,7 +11,6 @@ import seedu.addressbook.inbox.Inbox;
 import seedu.addressbook.inbox.MessageFilePaths;
 import seedu.addressbook.inbox.NotificationReader;
 import seedu.addressbook.inbox.NotificationWriter;
-import seedu.addressbook.password.Password;
 
 
 /**
@@ -42,12 +41,18 @@ public class ClearInboxCommand extends Command {
         setupLoggerForAll(logger);
     }
 
+    /** Clearing an inbox rewrites it. */
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public CommandResult execute() {
         setupLogger();
         try {
             if (myInbox == null) {
-                myInbox = MessageFilePaths.getFilePathFromUserId(Password.getId());
+                myInbox = MessageFilePaths.getFilePathFromUserId(getSession().getUserId());
             }
             logger.log(Level.INFO, String.format("Clearing messages in \"%s\"", myInbox));
 
@@ -6,6 +6,8 @@ import java.util.List;
 
 import seedu.addressbook.autocorrect.CheckDistance;
 import seedu.addressbook.common.Messages;
+import seedu.addressbook.common.Session;
+import seedu.addressbook.common.SessionContext;
 import seedu.addressbook.data.AddressBook;
 import seedu.addressbook.data.person.Nric;
 import seedu.addressbook.data.person.ReadOnlyPerson;
@@ -18,6 +20,7 @@ import seedu.addressbook.ui.UiFormatter;
 public abstract class Command {
     protected AddressBook addressBook;
     protected List<? extends ReadOnlyPerson> relevantPersons;
+    private Session session;
     private int targetIndex = -1;
 
     /**
@@ -128,15 +131,45 @@ public abstract class Command {
     //Note: it is better to make the execute() method abstract, by replacing the above method with the line below:
     //public abstract CommandResult execute();
 
+    //@@author andyrobert3
+    /**
+     * Returns true if the command changes the records or other state shared between sessions, such as inboxes, the
+     * triage queue or officers' statuses, in which case it must not run alongside other commands.
+     */
+    public boolean isMutating() {
+        return false;
+    }
+
+    //@@author
+
     /**
      * Supplies the data the command will operate on.
      */
     public void setData(AddressBook addressBook, List<? extends ReadOnlyPerson> relevantPersons) {
         this.addressBook = addressBook;
         this.relevantPersons = (relevantPersons.isEmpty())
-                ? addressBook.getAllPersons().immutableListView() : relevantPersons;
+                ? addressBook.getPersonsSnapshot() : relevantPersons;
+    }
+
+    //@@author andyrobert3
+    /**
+     * Supplies the data the command will operate on and the identity of the user running it.
+     */
+    public void setData(AddressBook addressBook, List<? extends ReadOnlyPerson> relevantPersons, Session session) {
+        setData(addressBook, relevantPersons);
+        this.session = session;
+    }
+
+    /**
+     * Returns the identity of the user running the command.
+     * Commands run without {@link #setData(AddressBook, List, Session)} take it from the current session.
+     */
+    protected Session getSession() {
+        return (session == null) ? SessionContext.current().getSession() : session;
     }
 
+    //@@author
+
     /**
      * Extracts the the target person in the last shown list from the given arguments.
      *
@@ -27,6 +27,11 @@ public class DeleteCommand extends Command {
     }
 
 
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public CommandResult execute() {
         try {
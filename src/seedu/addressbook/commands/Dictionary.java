@@ -19,33 +19,41 @@ public class Dictionary extends Command {
     private ArrayList<String> details = new ArrayList<>();
     private AddressBook addressBook;
 
+    static {
+        COMMANDS.add(AddCommand.COMMAND_WORD);
+        COMMANDS.add(BroadcastCommand.COMMAND_WORD);
+        COMMANDS.add(CheckCommand.COMMAND_WORD);
+        COMMANDS.add(CheckPoStatusCommand.COMMAND_WORD);
+        COMMANDS.add(ClearCommand.COMMAND_WORD);
+        COMMANDS.add(DateTimeCommand.COMMAND_WORD);
+        COMMANDS.add(DeleteCommand.COMMAND_WORD);
+        COMMANDS.add(DispatchCommand.COMMAND_WORD);
+        COMMANDS.add(EditCommand.COMMAND_WORD);
+        COMMANDS.add(ShutdownCommand.COMMAND_WORD);
+        COMMANDS.add(FindCommand.COMMAND_WORD);
+        COMMANDS.add(HelpCommand.COMMAND_WORD);
+        COMMANDS.add(ShowUnreadCommand.COMMAND_WORD);
+        COMMANDS.add(InboxCommand.COMMAND_WORD);
+        COMMANDS.add(ClearInboxCommand.COMMAND_WORD);
+        COMMANDS.add(ListCommand.COMMAND_WORD);
+        COMMANDS.add(LogoutCommand.COMMAND_WORD);
+        COMMANDS.add(NearbyCommand.COMMAND_WORD);
+        COMMANDS.add(NextCommand.COMMAND_WORD);
+        COMMANDS.add(QueueCommand.COMMAND_WORD);
+        COMMANDS.add(ReadCommand.COMMAND_WORD);
+        COMMANDS.add(RequestHelpCommand.COMMAND_WORD);
+        COMMANDS.add(ScreeningsCommand.COMMAND_WORD);
+        COMMANDS.add(StatsCommand.COMMAND_WORD);
+        COMMANDS.add(UpdateStatusCommand.COMMAND_WORD);
+        COMMANDS.add(ViewAllCommand.COMMAND_WORD);
+    }
+
     public Dictionary() {
         try {
             StorageFile storage = new StorageFile();
             this.addressBook = storage.load();
         } catch (Exception e) {
             //This constructor is only used to access the addressbook, and thus will never throw an exception
-        } finally {
-            COMMANDS.add(AddCommand.COMMAND_WORD);
-            COMMANDS.add(CheckCommand.COMMAND_WORD);
-            COMMANDS.add(CheckPoStatusCommand.COMMAND_WORD);
-            COMMANDS.add(ClearCommand.COMMAND_WORD);
-            COMMANDS.add(DateTimeCommand.COMMAND_WORD);
-            COMMANDS.add(DeleteCommand.COMMAND_WORD);
-            COMMANDS.add(DispatchCommand.COMMAND_WORD);
-            COMMANDS.add(EditCommand.COMMAND_WORD);
-            COMMANDS.add(ShutdownCommand.COMMAND_WORD);
-            COMMANDS.add(FindCommand.COMMAND_WORD);
-            COMMANDS.add(HelpCommand.COMMAND_WORD);
-            COMMANDS.add(ShowUnreadCommand.COMMAND_WORD);
-            COMMANDS.add(InboxCommand.COMMAND_WORD);
-            COMMANDS.add(ClearInboxCommand.COMMAND_WORD);
-            COMMANDS.add(ListCommand.COMMAND_WORD);
-            COMMANDS.add(LogoutCommand.COMMAND_WORD);
-            COMMANDS.add(ReadCommand.COMMAND_WORD);
-            COMMANDS.add(RequestHelpCommand.COMMAND_WORD);
-            COMMANDS.add(UpdateStatusCommand.COMMAND_WORD);
-            COMMANDS.add(ViewAllCommand.COMMAND_WORD);
         }
     }
 
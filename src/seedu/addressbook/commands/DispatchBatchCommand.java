@@ -0,0 +1,255 @@
+//@@author andyrobert3
+package seedu.addressbook.commands;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.addressbook.common.AssignmentSolver;
+import seedu.addressbook.common.EtaEstimator;
+import seedu.addressbook.common.EtaMatrix;
+import seedu.addressbook.common.Location;
+import seedu.addressbook.common.PatrolResourceStatus;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.inbox.Msg;
+import seedu.addressbook.inbox.NotificationWriter;
+import seedu.addressbook.inbox.TriageQueue;
+import seedu.addressbook.tracking.PositionSnapshot;
+import seedu.addressbook.tracking.PositionStore;
+
+/**
+ * Sends backup to all open requests at once, choosing the officers so that the total ETA is the least possible.
+ * When there are more requests than free officers, the most urgent requests in the {@link TriageQueue} are served.
+ *
+ * The officers are engaged and their requests taken off the queue before anyone is notified, so that no other
+ * command can send them elsewhere. A notification which then cannot be written does not undo the dispatch, as the
+ * other officers may already have been told: the officers who were not notified are named, to be told directly.
+ */
+public class DispatchBatchCommand extends Command {
+    public static final String BATCH_KEYWORD = "batch";
+
+    public static final String MESSAGE_USAGE = DispatchCommand.COMMAND_WORD + " " + BATCH_KEYWORD + ":\n"
+            + "Dispatches free officers to all open backup requests, keeping the total ETA the least possible.\n\t"
+            + "Example: " + DispatchCommand.COMMAND_WORD + " " + BATCH_KEYWORD;
+
+    public static final String MESSAGE_NO_OPEN_REQUESTS = "There are no open backup requests to dispatch.";
+    public static final String MESSAGE_NO_FREE_OFFICERS = "There are no free officers to dispatch.\n\t"
+            + "Use 'checkstatus' command to see engaged/free officers.";
+    public static final String MESSAGE_CHANGED = "Requests or officers changed while dispatching. Try again.";
+    public static final String MESSAGE_DISPATCHED = "Dispatched %d backups, total ETA %s:\n";
+    public static final String MESSAGE_DISPATCH_LINE = "%s to %s for %s, ETA %s\n";
+    public static final String MESSAGE_NOT_NOTIFIED = "\tCould not write to the inbox of %s. Tell them directly.\n";
+    public static final String MESSAGE_STILL_WAITING = "%d requests are still waiting for a free officer.";
+
+    /**
+     * Delivers a message to the inbox of an officer, e.g. through a {@link NotificationWriter}.
+     */
+    @FunctionalInterface
+    public interface Notifier {
+        void send(String recipientId, Msg message) throws IOException;
+    }
+
+    private final EtaEstimator etaEstimator;
+    private final Notifier notifier;
+
+    public DispatchBatchCommand() {
+        this(EtaMatrix.getShared());
+    }
+
+    public DispatchBatchCommand(EtaEstimator etaEstimator) {
+        this(etaEstimator, (recipientId, message) -> new NotificationWriter(recipientId).writeToFile(message));
+    }
+
+    public DispatchBatchCommand(EtaEstimator etaEstimator, Notifier notifier) {
+        this.etaEstimator = etaEstimator;
+        this.notifier = notifier;
+    }
+
+    /** Dispatching writes to inboxes, the triage queue and the officers' statuses. */
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
+    @Override
+    public CommandResult execute() {
+        List<TriageQueue.Request> requests = TriageQueue.getInstance().getRequests();
+        List<String> freeOfficers = PatrolResourceStatus.getFreeOfficers();
+        if (requests.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_OPEN_REQUESTS);
+        }
+        if (freeOfficers.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_FREE_OFFICERS);
+        }
+
+        try {
+            Optional<List<Assignment>> assignments = dispatch(requests, freeOfficers);
+            if (!assignments.isPresent()) {
+                return new CommandResult(MESSAGE_CHANGED);
+            }
+            long totalEtaSeconds = 0;
+            for (Assignment assignment : assignments.get()) {
+                totalEtaSeconds += assignment.getEtaSeconds();
+            }
+            StringBuilder result = new StringBuilder(String.format(MESSAGE_DISPATCHED, assignments.get().size(),
+                    EtaEstimator.describe(totalEtaSeconds)));
+            for (Assignment assignment : assignments.get()) {
+                result.append(notifyOfficers(assignment));
+            }
+            int numWaiting = requests.size() - assignments.get().size();
+            if (numWaiting > 0) {
+                result.append(String.format(MESSAGE_STILL_WAITING, numWaiting));
+            }
+            return new CommandResult(result.toString());
+        } catch (IllegalValueException ive) {
+            return new CommandResult(ive.getMessage());
+        }
+    }
+
+    /**
+     * Sends free officers to the open requests as {@link #execute()} does, without notifying anyone.
+     *
+     * @return the officers sent, none if there are no open requests or no free officers,
+     *         or empty if requests or officers changed while dispatching.
+     * @throws IllegalValueException if a free officer is not valid
+     */
+    public Optional<List<Assignment>> dispatch() throws IllegalValueException {
+        List<TriageQueue.Request> requests = TriageQueue.getInstance().getRequests();
+        List<String> freeOfficers = PatrolResourceStatus.getFreeOfficers();
+        if (requests.isEmpty() || freeOfficers.isEmpty()) {
+            return Optional.of(Collections.emptyList());
+        }
+        return dispatch(requests, freeOfficers);
+    }
+
+    /**
+     * Sends {@code freeOfficers} to the most urgent of {@code requests}, keeping the total ETA the least possible.
+     */
+    private Optional<List<Assignment>> dispatch(List<TriageQueue.Request> requests, List<String> freeOfficers)
+            throws IllegalValueException {
+        requests = requests.subList(0, Math.min(requests.size(), freeOfficers.size()));
+        PositionSnapshot positions = PositionStore.getInstance().snapshot();
+        long[][] etaSeconds = etaEstimator.getEtaSecondsMatrix(getLocations(positions, freeOfficers),
+                getRequesterLocations(positions, requests));
+        int[] requestOfOfficer = AssignmentSolver.solve(etaSeconds);
+
+        List<Assignment> assignments = new ArrayList<>();
+        for (int i = 0; i < freeOfficers.size(); i++) {
+            if (requestOfOfficer[i] != AssignmentSolver.UNASSIGNED) {
+                assignments.add(new Assignment(freeOfficers.get(i), requests.get(requestOfOfficer[i]),
+                        etaSeconds[i][requestOfOfficer[i]]));
+            }
+        }
+        return commit(assignments) ? Optional.of(assignments) : Optional.empty();
+    }
+
+    /**
+     * Engages the officers of {@code assignments} and takes their requests off the queue, or does neither
+     * if another command has engaged one of the officers or taken one of the requests in the meantime.
+     *
+     * @return true if the dispatch was committed.
+     */
+    private static boolean commit(List<Assignment> assignments) throws IllegalValueException {
+        List<TriageQueue.Request> requests = new ArrayList<>();
+        List<String> officers = new ArrayList<>();
+        for (Assignment assignment : assignments) {
+            requests.add(assignment.getRequest());
+            officers.add(assignment.getOfficerId());
+        }
+        if (!PatrolResourceStatus.engageAll(officers)) {
+            return false;
+        }
+        if (!TriageQueue.getInstance().removeAll(requests)) {
+            for (String officer : officers) {
+                PatrolResourceStatus.setStatus(officer, false);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Tells the backup officer and the requester of {@code assignment} about the dispatch.
+     *
+     * @return a line describing the dispatch, followed by a line for each officer who could not be told.
+     */
+    private String notifyOfficers(Assignment assignment) {
+        String backupOfficer = assignment.getOfficerId();
+        TriageQueue.Request request = assignment.getRequest();
+        long etaSeconds = assignment.getEtaSeconds();
+        String requester = request.getRequesterId();
+        String etaText = EtaEstimator.describe(etaSeconds);
+        Msg.Priority priority = request.getMessage().getPriority();
+        Msg dispatchMessage = new Msg(priority, DispatchCommand.generateStringMessage(etaText, requester, requester,
+                request.getOffense(), true), PatrolResourceStatus.getLocation(requester), (int) etaSeconds);
+        Msg requesterMessage = new Msg(priority, DispatchCommand.generateStringMessage(etaText, backupOfficer,
+                requester, request.getOffense(), false), PatrolResourceStatus.getLocation(backupOfficer),
+                (int) etaSeconds);
+        return String.format(MESSAGE_DISPATCH_LINE, backupOfficer, requester, request.getOffense(), etaText)
+                + send(requester, requesterMessage) + send(backupOfficer, dispatchMessage);
+    }
+
+    /**
+     * Sends {@code message} to {@code recipientId}.
+     *
+     * @return a line saying the message could not be sent, or nothing if it was.
+     */
+    private String send(String recipientId, Msg message) {
+        try {
+            notifier.send(recipientId, message);
+            return "";
+        } catch (IOException ioe) {
+            return String.format(MESSAGE_NOT_NOTIFIED, recipientId);
+        }
+    }
+
+    private static List<Location> getRequesterLocations(PositionSnapshot positions,
+            List<TriageQueue.Request> requests) {
+        List<Location> locations = new ArrayList<>(requests.size());
+        for (TriageQueue.Request request : requests) {
+            locations.add(PatrolResourceStatus.getLocation(positions, request.getRequesterId()));
+        }
+        return locations;
+    }
+
+    /**
+     * Returns where each of {@code officers} was when {@code positions} was taken, so that every ETA
+     * in one dispatch is worked out from the same moment.
+     */
+    private static List<Location> getLocations(PositionSnapshot positions, List<String> officers) {
+        List<Location> locations = new ArrayList<>(officers.size());
+        for (String officer : officers) {
+            locations.add(PatrolResourceStatus.getLocation(positions, officer));
+        }
+        return locations;
+    }
+
+    /**
+     * A free officer sent as backup to an open request.
+     */
+    public static class Assignment {
+        private final String officerId;
+        private final TriageQueue.Request request;
+        private final long etaSeconds;
+
+        Assignment(String officerId, TriageQueue.Request request, long etaSeconds) {
+            this.officerId = officerId;
+            this.request = request;
+            this.etaSeconds = etaSeconds;
+        }
+
+        public String getOfficerId() {
+            return officerId;
+        }
+
+        public TriageQueue.Request getRequest() {
+            return request;
+        }
+
+        public long getEtaSeconds() {
+            return etaSeconds;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import org.javatuples.Pair;
 import org.json.JSONException;
 
+import seedu.addressbook.common.DistanceService;
 import seedu.addressbook.common.Location;
 import seedu.addressbook.common.Messages;
 import seedu.addressbook.common.PatrolResourceStatus;
@@ -15,6 +16,9 @@ import seedu.addressbook.data.exception.PatrolResourceUnavailableException;
 import seedu.addressbook.data.person.Offense;
 import seedu.addressbook.inbox.Msg;
 import seedu.addressbook.inbox.NotificationWriter;
+import seedu.addressbook.inbox.TriageQueue;
+import seedu.addressbook.tracking.PositionSnapshot;
+import seedu.addressbook.tracking.PositionStore;
 
 /**
  * Sends dispatch & backup message to relevant personnel
@@ -36,7 +40,6 @@ public class DispatchCommand extends Command {
     private final NotificationWriter writeNotificationToBackupOfficer;
     private final NotificationWriter writeNotificationToRequester;
 
-    private Location origin;
     private ArrayList<Location> destinationList;
     private String backupOfficer;
     private String requester;
@@ -53,12 +56,14 @@ public class DispatchCommand extends Command {
         this.offense = caseName;
         this.backupOfficer = backupOfficer;
         this.requester = requester;
-        this.origin = PatrolResourceStatus.getLocation(backupOfficer);
         this.destinationList = new ArrayList<>();
     }
 
-    private String generateStringMessage(String etaMessage, String patrolResourceId,
-                                         String caseType, boolean isRequester) {
+    /**
+     * Returns the message telling an officer about a dispatch to {@code requester}.
+     */
+    static String generateStringMessage(String etaMessage, String patrolResourceId, String requester,
+                                        String caseType, boolean isRequester) {
         return "Case type is: " + caseType + ", ETA " + etaMessage + ", Location of "
                 + (isRequester ? "Requester: " : "Backup: ") + patrolResourceId + ", "
                 + PatrolResourceStatus.getLocation(requester).getGoogleMapsUrl();
@@ -87,20 +92,31 @@ public class DispatchCommand extends Command {
         return offense;
     }
 
+    /** Dispatching writes to inboxes, the triage queue and the officers' statuses. */
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public CommandResult execute() {
         try {
-            destinationList.add(PatrolResourceStatus.getLocation(requester));
-            ArrayList<Pair<Integer, String>> etaList = origin.getEtaFrom(destinationList);
+            PositionSnapshot positions = PositionStore.getInstance().snapshot();
+            Location requesterLocation = PatrolResourceStatus.getLocation(positions, requester);
+            Location backupLocation = PatrolResourceStatus.getLocation(positions, backupOfficer);
+            destinationList.add(requesterLocation);
+            ArrayList<Pair<Integer, String>> etaList = DistanceService.getInstance().getEta(destinationList,
+                    backupLocation);
 
             Pair<Integer, String> etaPair = etaList.get(0);
 
-            String dispatchStringMessage = generateStringMessage(etaPair.getValue1(), requester, this.offense, true);
-            String requesterStringMessage = generateStringMessage(etaPair.getValue1(), backupOfficer,
+            String dispatchStringMessage = generateStringMessage(etaPair.getValue1(), requester, requester,
+                    this.offense, true);
+            String requesterStringMessage = generateStringMessage(etaPair.getValue1(), backupOfficer, requester,
                                                     this.offense, false);
 
             Msg dispatchMessage = new Msg(Offense.getPriority(offense), dispatchStringMessage,
-                    PatrolResourceStatus.getLocation(requester), etaPair.getValue0());
+                    requesterLocation, etaPair.getValue0());
 
             if (PatrolResourceStatus.getPatrolResource(backupOfficer).getValue2()) {
                 throw new PatrolResourceUnavailableException(backupOfficer);
@@ -109,10 +125,11 @@ public class DispatchCommand extends Command {
             PatrolResourceStatus.setStatus(backupOfficer, true);
 
             Msg requesterMessage = new Msg(Offense.getPriority(offense), requesterStringMessage,
-                    PatrolResourceStatus.getLocation(backupOfficer), etaPair.getValue0());
+                    backupLocation, etaPair.getValue0());
 
             writeNotificationToRequester.writeToFile(requesterMessage);
             writeNotificationToBackupOfficer.writeToFile(dispatchMessage);
+            TriageQueue.getInstance().remove(requester, offense);
         } catch (IOException ioe) {
             return new CommandResult(Messages.MESSAGE_INTERNET_NOT_AVAILABLE + "/"
                     + Messages.MESSAGE_SAVE_ERROR);
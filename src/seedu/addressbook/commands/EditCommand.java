@@ -1,7 +1,10 @@
 //@@author andyrobert3
 package seedu.addressbook.commands;
 
+import java.io.IOException;
 import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import seedu.addressbook.common.Messages;
 import seedu.addressbook.data.exception.IllegalValueException;
@@ -11,6 +14,8 @@ import seedu.addressbook.data.person.Person;
 import seedu.addressbook.data.person.PostalCode;
 import seedu.addressbook.data.person.Status;
 import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.inbox.BulletinBoard;
+import seedu.addressbook.inbox.Msg;
 
 /**
  * Edits existing person in police records.
@@ -28,6 +33,10 @@ public class EditCommand extends Command {
             + " n/s1234567a p/510247 s/wanted w/murder o/gun";
 
     public static final String MESSAGE_EDIT_PERSON_SUCCESS = "Edited Person: %s";
+    public static final String MESSAGE_NOW_WANTED = "%s (%s) is now wanted for %s.";
+
+    private static final Logger logger = Logger.getLogger(EditCommand.class.getName());
+
     private Nric nric;
     private PostalCode postalCode;
     private Status status;
@@ -80,35 +89,52 @@ public class EditCommand extends Command {
         return wantedFor;
     }
     /**
-     * Updates selected person identified by NRIC with entered attributes
+     * Returns the person identified by NRIC
      * @throws UniquePersonList.PersonNotFoundException
      */
-    private void updatePerson() throws UniquePersonList.PersonNotFoundException {
+    private Person findPerson() throws UniquePersonList.PersonNotFoundException {
         for (Person person : addressBook.getAllPersons()) {
             if (person.getNric().equals(this.nric)) {
-                if (postalCode != null) {
-                    person.setPostalCode(postalCode);
-                }
-                if (wantedFor != null) {
-                    person.setWantedFor(wantedFor);
-                }
-                if (status != null) {
-                    person.setStatus(status);
-                }
-                if (offenses != null) {
-                    person.addPastOffenses(offenses);
-                }
-                return;
+                return person;
             }
         }
 
         throw new UniquePersonList.PersonNotFoundException();
     }
 
+    /**
+     * Updates {@code person} with entered attributes
+     */
+    private void updatePerson(Person person) {
+        if (postalCode != null) {
+            person.setPostalCode(postalCode);
+        }
+        if (wantedFor != null) {
+            person.setWantedFor(wantedFor);
+        }
+        if (status != null) {
+            person.setStatus(status);
+        }
+        if (offenses != null) {
+            person.addPastOffenses(offenses);
+        }
+        addressBook.personEdited(person);
+    }
+
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public CommandResult execute() {
         try {
-            this.updatePerson();
+            Person person = findPerson();
+            boolean wasWanted = person.getStatus().isWanted();
+            updatePerson(person);
+            if (!wasWanted && person.getStatus().isWanted()) {
+                broadcastWanted(person);
+            }
             return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, this.nric));
         } catch (UniquePersonList.PersonNotFoundException pnfe) {
             //@@author ShreyasKp
@@ -121,6 +147,20 @@ public class EditCommand extends Command {
         }
     }
 
+    /**
+     * Tells every officer that {@code person} is now wanted.
+     * The person has been edited even if the bulletin cannot be sent, so a failure is only logged.
+     */
+    private void broadcastWanted(Person person) {
+        Msg bulletin = new Msg(Msg.Priority.HIGH, String.format(MESSAGE_NOW_WANTED,
+                person.getName(), person.getNric(), person.getWantedFor().getOffense()));
+        try {
+            new BulletinBoard().broadcast(bulletin);
+        } catch (IOException ioe) {
+            logger.log(Level.WARNING, String.format("Unable to broadcast that %s is wanted", person.getNric()));
+        }
+    }
+
     //@@author ShreyasKp
     /**
      * Finds result of invalid NRIC input
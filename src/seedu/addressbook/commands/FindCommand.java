@@ -52,6 +52,12 @@ public class FindCommand extends Command {
         return screeningDatabase;
     }
 
+    /** Screening a person updates the shared screening history. */
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public CommandResult execute() {
         try {
@@ -75,7 +81,7 @@ public class FindCommand extends Command {
             for (ReadOnlyPerson person : this.addressBookForTest.getAllPersons().immutableListView()) {
                 if (person.getNric().getIdentificationNumber().equals(nric)) {
                     this.addressBookForTest.addPersonToDbAndUpdate(person);
-                    this.addressBookForTest.updateDatabase(screeningDatabase);
+                    this.addressBookForTest.updateDatabase(screeningDatabase, getSession().getDisplayName());
                     result = person;
                     break;
                 }
@@ -84,7 +90,7 @@ public class FindCommand extends Command {
             for (ReadOnlyPerson person : relevantPersons) {
                 if (person.getNric().getIdentificationNumber().equals(nric)) {
                     addressBook.addPersonToDbAndUpdate(person);
-                    addressBook.updateDatabase(screeningDatabase);
+                    addressBook.updateDatabase(screeningDatabase, getSession().getDisplayName());
                     result = person;
                     break;
                 }
@@ -0,0 +1,56 @@
+//@@author andyrobert3
+package seedu.addressbook.commands;
+
+import java.util.List;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Lists the persons whose name best matches all or part of a name, or sounds like it, for when the Nric is not
+ * at hand. Unlike finding a person by Nric, this does not record a screening.
+ */
+public class FindNameCommand extends Command {
+    public static final String NAME_PREFIX = "n/";
+    public static final String SOUNDS_LIKE_PREFIX = "~";
+    public static final int MAX_RESULTS = 10;
+
+    public static final String MESSAGE_USAGE = FindCommand.COMMAND_WORD + " " + NAME_PREFIX + " or "
+            + FindCommand.COMMAND_WORD + " " + SOUNDS_LIKE_PREFIX + ":\n"
+            + "Lists the " + MAX_RESULTS + " persons whose name best matches all or part of a name, "
+            + "or sounds like it.\n\t"
+            + "Parameters: " + NAME_PREFIX + "NAME or " + SOUNDS_LIKE_PREFIX + "NAME\n\t"
+            + "Example: " + FindCommand.COMMAND_WORD + " " + NAME_PREFIX + "ada bro\n\t"
+            + "Example: " + FindCommand.COMMAND_WORD + " " + SOUNDS_LIKE_PREFIX + "sesaro";
+
+    public static final String MESSAGE_NAME_MATCHES = "%1$d persons matching \"%2$s\" listed!";
+    public static final String MESSAGE_SOUNDS_LIKE_MATCHES = "%1$d persons sounding like \"%2$s\" listed!";
+
+    private final String name;
+    private final boolean isSoundsLike;
+
+    public FindNameCommand(String name) {
+        this(name, false);
+    }
+
+    public FindNameCommand(String name, boolean isSoundsLike) {
+        this.name = name;
+        this.isSoundsLike = isSoundsLike;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isSoundsLike() {
+        return isSoundsLike;
+    }
+
+    @Override
+    public CommandResult execute() {
+        List<ReadOnlyPerson> matches = isSoundsLike
+                ? addressBook.findBySound(name, MAX_RESULTS)
+                : addressBook.findByName(name, MAX_RESULTS);
+        String message = isSoundsLike ? MESSAGE_SOUNDS_LIKE_MATCHES : MESSAGE_NAME_MATCHES;
+        return new CommandResult("\n\n" + String.format(message, matches.size(), name), matches);
+    }
+}
@@ -17,15 +17,23 @@ public class HelpCommand extends Command {
             + "\n" + ClearCommand.MESSAGE_USAGE
             + "\n" + EditCommand.MESSAGE_USAGE
             + "\n" + CheckCommand.MESSAGE_USAGE
+            + "\n" + ScreeningsCommand.MESSAGE_USAGE
             + "\n" + CheckPoStatusCommand.MESSAGE_USAGE
             + "\n" + UpdateStatusCommand.MESSAGE_USAGE
             + "\n" + FindCommand.MESSAGE_USAGE
+            + "\n" + FindNameCommand.MESSAGE_USAGE
             + "\n" + ShowUnreadCommand.MESSAGE_USAGE
             + "\n" + InboxCommand.MESSAGE_USAGE
             + "\n" + RequestHelpCommand.MESSAGE_USAGE
             + "\n" + DispatchCommand.MESSAGE_USAGE
+            + "\n" + DispatchBatchCommand.MESSAGE_USAGE
+            + "\n" + BroadcastCommand.MESSAGE_USAGE
+            + "\n" + QueueCommand.MESSAGE_USAGE
+            + "\n" + NextCommand.MESSAGE_USAGE
             + "\n" + ReadCommand.MESSAGE_USAGE
             + "\n" + ListCommand.MESSAGE_USAGE
+            + "\n" + NearbyCommand.MESSAGE_USAGE
+            + "\n" + StatsCommand.MESSAGE_USAGE
             + "\n" + ViewAllCommand.MESSAGE_USAGE
             + "\n" + Password.UPDATE_PASSWORD_MESSAGE_USAGE
             + "\n" + HelpCommand.MESSAGE_USAGE
@@ -33,7 +41,9 @@ public class HelpCommand extends Command {
             + "\n" + ShutdownCommand.MESSAGE_USAGE;
 
     public static final String MESSAGE_PO_USAGES = FindCommand.MESSAGE_USAGE
+            + "\n" + FindNameCommand.MESSAGE_USAGE
             + "\n" + ListCommand.MESSAGE_USAGE
+            + "\n" + NearbyCommand.MESSAGE_USAGE
             + "\n" + ViewAllCommand.MESSAGE_USAGE
             + "\n" + HelpCommand.MESSAGE_USAGE
             + "\n" + RequestHelpCommand.MESSAGE_USAGE
@@ -11,7 +11,6 @@ import java.util.logging.Logger;
 import seedu.addressbook.inbox.Inbox;
 import seedu.addressbook.inbox.MessageFilePaths;
 import seedu.addressbook.inbox.Msg;
-import seedu.addressbook.password.Password;
 import seedu.addressbook.timeanddate.TimeAndDate;
 
 
@@ -39,7 +38,7 @@ public class InboxCommand extends Command {
     @Override
     public CommandResult execute() {
         setupLogger();
-        Inbox myInbox = new Inbox(Password.getId());
+        Inbox myInbox = new Inbox(getSession().getUserId());
         TreeSet<Msg> allMsgs;
         int myUnreadMsgs;
         int totalMsgs;
@@ -63,7 +62,7 @@ public class InboxCommand extends Command {
 
             e.printStackTrace();
             return new CommandResult(String.format(MESSAGE_UNKNOWN_ERROR,
-                                        MessageFilePaths.getFilePathFromUserId(Password.getId())));
+                                        MessageFilePaths.getFilePathFromUserId(getSession().getUserId())));
         }
     }
 
@@ -79,12 +78,13 @@ public class InboxCommand extends Command {
      */
     public static String concatenateMsg(int messageNum, Msg message) throws NullPointerException {
         String concatenatedMsg;
+        String sender = message.isBulletin() ? message.getSenderId() + " (bulletin)" : message.getSenderId();
         if (!message.hasBeenRead()) {
-            concatenatedMsg = String.valueOf(messageNum) + ". [UNREAD] Sender: " + message.getSenderId()
+            concatenatedMsg = String.valueOf(messageNum) + ". [UNREAD] Sender: " + sender
                     + " Priority: " + message.getPriority() + ", Sent: "
                     + TimeAndDate.outputDatHrsForMain(message.getTime()) + ",\n\tMessage: " + message.getMsg() + "\n\n";
         } else {
-            concatenatedMsg = String.valueOf(messageNum) + ".\tSender: " + message.getSenderId() + " Priority: "
+            concatenatedMsg = String.valueOf(messageNum) + ".\tSender: " + sender + " Priority: "
                     + message.getPriority() + ", Sent: " + TimeAndDate.outputDatHrsForMain(message.getTime())
                     + ",\n\tMessage: " + message.getMsg() + "\n\n";
         }
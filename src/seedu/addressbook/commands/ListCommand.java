@@ -1,23 +1,107 @@
 package seedu.addressbook.commands;
 import java.util.List;
 
+import seedu.addressbook.data.person.PersonCursor;
 import seedu.addressbook.data.person.ReadOnlyPerson;
 
 /**
- * Lists all persons in the records to the user.
+ * Lists all persons in the records to the user, either all at once or a page at a time.
  */
 public class ListCommand extends Command {
 
     public static final String COMMAND_WORD = "list";
+    public static final String PAGE_PREFIX = "--page";
+    public static final String SIZE_PREFIX = "--size";
+    public static final String NEXT_PREFIX = "--next";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ":\n"
             + "Displays all persons in the Police Records as a list with index numbers.\n\t"
-            + "Example: " + COMMAND_WORD;
+            + "Parameters: [" + PAGE_PREFIX + " PAGE] [" + SIZE_PREFIX + " SIZE] | [" + NEXT_PREFIX + "]\n\t"
+            + "Example: " + COMMAND_WORD + "\n\t"
+            + "Example: " + COMMAND_WORD + " " + PAGE_PREFIX + " 2 " + SIZE_PREFIX + " 10\n\t"
+            + "Example: " + COMMAND_WORD + " " + NEXT_PREFIX;
 
+    public static final String MESSAGE_PAGE_OVERVIEW = "Page %1$d of %2$d: persons %3$d to %4$d of %5$d listed!";
+    public static final String MESSAGE_NO_SUCH_PAGE = "There is no page %1$d; there are %2$d page(s) of %3$d.";
+    public static final String MESSAGE_NO_MORE_PAGES = "There are no more persons to list.";
+    public static final String MESSAGE_NOT_PAGING = "Use \"" + COMMAND_WORD + " " + SIZE_PREFIX
+            + " SIZE\" to start listing a page at a time.";
+
+    /** Page size used when only a page number is given. */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    private final int pageNumber;
+    private final int pageSize;
+    private final boolean isNextPage;
+
+    /**
+     * Lists all persons at once.
+     */
+    public ListCommand() {
+        this(0, 0, false);
+    }
+
+    private ListCommand(int pageNumber, int pageSize, boolean isNextPage) {
+        this.pageNumber = pageNumber;
+        this.pageSize = pageSize;
+        this.isNextPage = isNextPage;
+    }
+
+    //@@author andyrobert3
+    /**
+     * Lists page {@code pageNumber} (starting at 1) of the persons, {@code pageSize} to a page.
+     */
+    public static ListCommand page(int pageNumber, int pageSize) {
+        return new ListCommand(pageNumber, pageSize, false);
+    }
+
+    /**
+     * Lists the page after the one last shown.
+     */
+    public static ListCommand nextPage() {
+        return new ListCommand(0, 0, true);
+    }
 
     @Override
     public CommandResult execute() {
-        List<ReadOnlyPerson> allPersons = addressBook.getAllPersons().immutableListView();
-        return new CommandResult(getMessageForPersonListShownSummary(allPersons), allPersons);
+        if (isNextPage) {
+            return listNextPage();
+        }
+        List<ReadOnlyPerson> allPersons = addressBook.getPersonsSnapshot();
+        if (pageSize == 0) {
+            PersonCursor everyone = PersonCursor.all(allPersons);
+            return new CommandResult(getMessageForPersonListShownSummary(everyone), everyone);
+        }
+        int numberOfPages = PersonCursor.countPages(allPersons.size(), pageSize);
+        if (pageNumber > numberOfPages) {
+            return new CommandResult(String.format(MESSAGE_NO_SUCH_PAGE, pageNumber, numberOfPages, pageSize));
+        }
+        return showPage(PersonCursor.page(allPersons, pageNumber, pageSize));
+    }
+
+    /**
+     * Continues from the page last shown, over the same snapshot of the records.
+     */
+    private CommandResult listNextPage() {
+        if (!(relevantPersons instanceof PersonCursor)) {
+            return new CommandResult(MESSAGE_NOT_PAGING);
+        }
+        PersonCursor lastPage = (PersonCursor) relevantPersons;
+        if (!lastPage.hasNext()) {
+            return new CommandResult(MESSAGE_NO_MORE_PAGES);
+        }
+        return showPage(lastPage.next());
+    }
+
+    /**
+     * Shows {@code page}, with an overview of where it lies in the records.
+     */
+    private static CommandResult showPage(PersonCursor page) {
+        if (page.isEmpty()) {
+            return new CommandResult(getMessageForPersonListShownSummary(page), page);
+        }
+        String overview = String.format(MESSAGE_PAGE_OVERVIEW, page.getPageNumber(), page.getNumberOfPages(),
+                page.getFirstPosition(), page.getFirstPosition() + page.size() - 1, page.getTotal());
+        return new CommandResult("\n\n" + overview, page);
     }
 }
@@ -0,0 +1,55 @@
+//@@author andyrobert3
+package seedu.addressbook.commands;
+
+import java.util.List;
+
+import seedu.addressbook.common.PatrolResourceStatus;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Lists the wanted persons and ex-convicts living near an officer, nearest first.
+ * Persons are located by their postal code.
+ */
+public class NearbyCommand extends Command {
+    public static final String COMMAND_WORD = "nearby";
+    public static final String WANTED_ONLY_PREFIX = "s/wanted";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ":\n"
+            + "Lists the wanted persons and ex-convicts living within RADIUS km of an officer, nearest first.\n\t"
+            + "Parameters: OFFICER_ID RADIUS [" + WANTED_ONLY_PREFIX + "]\n\t"
+            + "Example: " + COMMAND_WORD + " po1 2.5\n\t"
+            + "Example: " + COMMAND_WORD + " po1 5 " + WANTED_ONLY_PREFIX;
+
+    public static final String MESSAGE_NEARBY_OVERVIEW = "%1$d %2$s within %3$.1f km of %4$s listed!";
+
+    private final String officerId;
+    private final double radiusKm;
+    private final boolean isWantedOnly;
+
+    public NearbyCommand(String officerId, double radiusKm, boolean isWantedOnly) {
+        this.officerId = officerId;
+        this.radiusKm = radiusKm;
+        this.isWantedOnly = isWantedOnly;
+    }
+
+    public String getOfficerId() {
+        return officerId;
+    }
+
+    public double getRadiusKm() {
+        return radiusKm;
+    }
+
+    public boolean isWantedOnly() {
+        return isWantedOnly;
+    }
+
+    @Override
+    public CommandResult execute() {
+        List<ReadOnlyPerson> nearby = addressBook.findNearby(PatrolResourceStatus.getLocation(officerId), radiusKm,
+                isWantedOnly);
+        String kind = isWantedOnly ? "wanted persons" : "wanted persons and ex-convicts";
+        return new CommandResult("\n\n" + String.format(MESSAGE_NEARBY_OVERVIEW, nearby.size(), kind, radiusKm,
+                officerId), nearby);
+    }
+}
@@ -0,0 +1,28 @@
+//@@author andyrobert3
+package seedu.addressbook.commands;
+
+import seedu.addressbook.inbox.TriageQueue;
+
+/**
+ * Shows the most urgent open backup request, for headquarters to dispatch backup to.
+ * The request stays queued until backup is dispatched to its requester, whose most urgent request it is.
+ */
+public class NextCommand extends Command {
+    public static final String COMMAND_WORD = "next";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ":\n"
+            + "Shows the most urgent open backup request.\n\t"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_NEXT_REQUEST = "Next request:\n%s\n\t"
+            + "Dispatch backup with: " + DispatchCommand.COMMAND_WORD + " BACKUP_OFFICER_ID %s %s";
+
+    @Override
+    public CommandResult execute() {
+        TriageQueue.Request request = TriageQueue.getInstance().peek();
+        if (request == null) {
+            return new CommandResult(QueueCommand.MESSAGE_QUEUE_EMPTY);
+        }
+        return new CommandResult(String.format(MESSAGE_NEXT_REQUEST, QueueCommand.formatRequest(1, request),
+                request.getOffense(), request.getRequesterId()));
+    }
+}
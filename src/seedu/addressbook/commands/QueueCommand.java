@@ -0,0 +1,44 @@
+//@@author andyrobert3
+package seedu.addressbook.commands;
+
+import java.util.List;
+
+import seedu.addressbook.inbox.TriageQueue;
+import seedu.addressbook.timeanddate.ClockService;
+
+/**
+ * Lists the backup requests headquarters has yet to handle, most urgent first.
+ */
+public class QueueCommand extends Command {
+    public static final String COMMAND_WORD = "queue";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ":\n"
+            + "Lists the open backup requests, most urgent first.\n\t"
+            + "Requests gain priority the longer they wait.\n\t"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_QUEUE_EMPTY = "There are no open backup requests.";
+    public static final String MESSAGE_QUEUE_SIZE = "%d open backup requests:\n";
+
+    @Override
+    public CommandResult execute() {
+        List<TriageQueue.Request> requests = TriageQueue.getInstance().getRequests();
+        if (requests.isEmpty()) {
+            return new CommandResult(MESSAGE_QUEUE_EMPTY);
+        }
+        StringBuilder queue = new StringBuilder(String.format(MESSAGE_QUEUE_SIZE, requests.size()));
+        int requestNum = 1;
+        for (TriageQueue.Request request : requests) {
+            queue.append(formatRequest(requestNum++, request)).append('\n');
+        }
+        return new CommandResult(queue.toString());
+    }
+
+    /**
+     * Returns a line describing {@code request}, numbered {@code requestNum}.
+     */
+    static String formatRequest(int requestNum, TriageQueue.Request request) {
+        long minutesWaiting = (ClockService.currentTimeMillis() - request.getMessage().getTime().getTime()) / 60000;
+        return requestNum + ". " + request.getRequesterId() + " needs help with " + request.getOffense()
+                + " (Priority: " + request.getMessage().getPriority() + ", waiting " + minutesWaiting + " min)";
+    }
+}
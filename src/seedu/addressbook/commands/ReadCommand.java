@@ -6,7 +6,6 @@ import java.util.logging.Logger;
 
 import seedu.addressbook.inbox.Inbox;
 import seedu.addressbook.parser.Parser;
-import seedu.addressbook.password.Password;
 
 
 /**
@@ -27,7 +26,6 @@ public class ReadCommand extends Command {
 
     private int index;
 
-    private Inbox myInbox = new Inbox(Password.getId());
 
     public ReadCommand(int targetVisibleIndex) {
         index = targetVisibleIndex;
@@ -37,6 +35,12 @@ public class ReadCommand extends Command {
         Parser.setupLoggerForAll(logger);
     }
 
+    /** Reading a message rewrites the inbox it is in. */
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public CommandResult execute() {
         setupLogger();
@@ -45,6 +49,7 @@ public class ReadCommand extends Command {
 
             return new CommandResult(MESSAGE_INPUT_INDEX_TOO_LARGE);
         }
+        Inbox myInbox = new Inbox(getSession().getUserId());
         String result = myInbox.markMsgAsRead(index);
         switch (result) {
         case Inbox.MESSAGE_READ_STATUS_UPDATED:
@@ -10,7 +10,7 @@ import seedu.addressbook.data.person.Offense;
 import seedu.addressbook.inbox.MessageFilePaths;
 import seedu.addressbook.inbox.Msg;
 import seedu.addressbook.inbox.NotificationWriter;
-import seedu.addressbook.password.Password;
+import seedu.addressbook.inbox.TriageQueue;
 
 /**
  * Sends request message to HQP Inbox
@@ -26,8 +26,11 @@ public class RequestHelpCommand extends Command {
 
     private static String messageRequestSuccess = "Request for backup case from %s has been sent to HQP.";
 
-    private static Msg requestHelpMessage;
+    /** The message of the last request sent, for tests. Commands never read it. */
+    private static volatile Msg requestHelpMessage;
     private String caseName;
+    private String messageString;
+    private Msg.Priority priority;
     private NotificationWriter notificationWriter;
 
     /**
@@ -37,9 +40,9 @@ public class RequestHelpCommand extends Command {
      */
     public RequestHelpCommand(String caseName, String messageString) throws IllegalValueException {
         this.caseName = caseName;
+        this.messageString = messageString;
+        priority = Offense.getPriority(caseName);
         notificationWriter = new NotificationWriter(MessageFilePaths.FILEPATH_HQP_INBOX, true);
-        requestHelpMessage = new Msg(Offense.getPriority(caseName), messageString,
-                PatrolResourceStatus.getLocation(Password.getId()));
     }
 
     public String getCaseName() {
@@ -50,12 +53,22 @@ public class RequestHelpCommand extends Command {
         return messageRequestSuccess;
     }
 
+    /** Requesting backup writes to inboxes and the triage queue. */
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public CommandResult execute() {
+        String userId = getSession().getUserId();
         try {
-            notificationWriter.writeToFile(requestHelpMessage);
-            PatrolResourceStatus.setStatus(Password.getId(), true);
-            return new CommandResult(String.format(messageRequestSuccess, Password.getId()));
+            Msg message = new Msg(priority, messageString, PatrolResourceStatus.getLocation(userId));
+            notificationWriter.writeToFile(message);
+            TriageQueue.getInstance().add(userId, caseName, message);
+            PatrolResourceStatus.setStatus(userId, true);
+            requestHelpMessage = message;
+            return new CommandResult(String.format(messageRequestSuccess, userId));
         } catch (IOException ioe) {
             return new CommandResult(Messages.MESSAGE_SAVE_ERROR);
         } catch (IllegalValueException ive) {
@@ -68,7 +81,7 @@ public class RequestHelpCommand extends Command {
     }
 
     /**
-     * Retrieves most recent Msg from request command
+     * Retrieves most recent Msg from request command, once it has been sent.
      * @return most recent Msg
      */
     public static Msg getRecentMsg() {
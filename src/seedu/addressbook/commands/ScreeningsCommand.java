@@ -0,0 +1,126 @@
+//@@author andyrobert3
+package seedu.addressbook.commands;
+
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Map;
+
+import seedu.addressbook.data.ScreeningIndex;
+import seedu.addressbook.data.ScreeningIndex.Screening;
+import seedu.addressbook.password.Password;
+import seedu.addressbook.timeanddate.ClockService;
+
+/**
+ * Lists who was screened in a period, optionally only by one officer, or who was screened most often.
+ * Unlike {@link CheckCommand}, screenings are looked up by time rather than by NRIC.
+ */
+public class ScreeningsCommand extends Command {
+    public static final String COMMAND_WORD = "screenings";
+    public static final String PERIOD_TODAY = "today";
+    public static final String PERIOD_WEEK = "week";
+    public static final String OFFICER_PREFIX = "by/";
+    public static final String TOP_PREFIX = "top/";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ":\n"
+            + "Lists the persons screened today, this week or between two times, optionally only by one officer, "
+            + "or the NRICs screened most often.\n\t"
+            + "Parameters: " + PERIOD_TODAY + "|" + PERIOD_WEEK + "|FROM TO [" + OFFICER_PREFIX + "OFFICER_ID] ["
+            + TOP_PREFIX + "N]\n\t"
+            + "Example: " + COMMAND_WORD + " 29/10/2018-0000 30/10/2018-1200\n\t"
+            + "Example: " + COMMAND_WORD + " " + PERIOD_TODAY + " " + OFFICER_PREFIX + "po1\n\t"
+            + "Example: " + COMMAND_WORD + " " + PERIOD_WEEK + " " + TOP_PREFIX + "5";
+
+    public static final String MESSAGE_SCREENINGS_OVERVIEW = "%1$d screenings from %2$s to %3$s%4$s listed!";
+    public static final String MESSAGE_MOST_SCREENED_OVERVIEW = "%1$d NRICs screened most from %2$s to %3$s%4$s:";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File not found";
+
+    private final long fromMillis;
+    private final long toMillis;
+    private final String officerId;
+    private final int top;
+    private String screeningDatabase = "screeningHistory.txt";
+
+    /**
+     * Lists the screenings from {@code fromMillis} until before {@code toMillis}, only by {@code officerId}
+     * unless it is null, or if {@code top} is above 0, that many NRICs screened most often.
+     */
+    public ScreeningsCommand(long fromMillis, long toMillis, String officerId, int top) {
+        this.fromMillis = fromMillis;
+        this.toMillis = toMillis;
+        this.officerId = officerId;
+        this.top = top;
+    }
+
+    /**
+     * Returns the times at which {@code period}, {@link #PERIOD_TODAY} or {@link #PERIOD_WEEK}, starts and ends.
+     * Weeks start on Monday.
+     */
+    public static long[] getPeriod(String period) {
+        LocalDate today = Instant.ofEpochMilli(ClockService.currentTimeMillis()).atZone(ClockService.getZone())
+                .toLocalDate();
+        LocalDate start = PERIOD_WEEK.equals(period)
+                ? today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                : today;
+        LocalDate end = PERIOD_WEEK.equals(period) ? start.plusWeeks(1) : start.plusDays(1);
+        return new long[] {
+            start.atStartOfDay(ClockService.getZone()).toInstant().toEpochMilli(),
+            end.atStartOfDay(ClockService.getZone()).toInstant().toEpochMilli()
+        };
+    }
+
+    public long getFromMillis() {
+        return fromMillis;
+    }
+
+    public long getToMillis() {
+        return toMillis;
+    }
+
+    public String getOfficerId() {
+        return officerId;
+    }
+
+    public int getTop() {
+        return top;
+    }
+
+    public void setFile(String file) {
+        this.screeningDatabase = file;
+    }
+
+    @Override
+    public CommandResult execute() {
+        ScreeningIndex screenings;
+        try {
+            screenings = addressBook.getScreeningIndex(screeningDatabase);
+        } catch (IOException ioe) {
+            return new CommandResult(MESSAGE_FILE_NOT_FOUND);
+        }
+        String officer = (officerId == null) ? null : Password.getDisplayName(officerId);
+        String from = ClockService.formatForCheckCommand(fromMillis) + "hrs";
+        String to = ClockService.formatForCheckCommand(toMillis) + "hrs";
+        String byOfficer = (officer == null) ? "" : " by " + officer;
+
+        StringBuilder result = new StringBuilder("\n\n");
+        if (top > 0) {
+            List<Map.Entry<String, Integer>> mostScreened = screenings.getMostScreened(officer, fromMillis, toMillis,
+                    top);
+            result.append(String.format(MESSAGE_MOST_SCREENED_OVERVIEW, mostScreened.size(), from, to, byOfficer));
+            for (int i = 0; i < mostScreened.size(); i++) {
+                result.append("\n").append(i + 1).append(". ").append(mostScreened.get(i).getKey()).append(", ")
+                        .append(mostScreened.get(i).getValue()).append(" times");
+            }
+        } else {
+            List<Screening> inPeriod = screenings.getScreenings(officer, fromMillis, toMillis);
+            result.append(String.format(MESSAGE_SCREENINGS_OVERVIEW, inPeriod.size(), from, to, byOfficer));
+            for (int i = 0; i < inPeriod.size(); i++) {
+                result.append("\n").append(i + 1).append(". ").append(inPeriod.get(i));
+            }
+        }
+        return new CommandResult(result.toString());
+    }
+}
@@ -11,7 +11,6 @@ import java.util.logging.Logger;
 import seedu.addressbook.common.Messages;
 import seedu.addressbook.inbox.Inbox;
 import seedu.addressbook.inbox.Msg;
-import seedu.addressbook.password.Password;
 
 /** Prints out all unread notifications ordered by read status, priority, then timestamp
  * (earlier message has higher priority).
@@ -37,7 +36,7 @@ public class ShowUnreadCommand extends Command {
     @Override
     public CommandResult execute() {
         setupLogger();
-        Inbox myInbox = new Inbox(Password.getId());
+        Inbox myInbox = new Inbox(getSession().getUserId());
         TreeSet<Msg> allMsgs;
         int myUnreadMsgs;
         int messageNum = 1;
@@ -0,0 +1,145 @@
+//@@author andyrobert3
+package seedu.addressbook.commands;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import seedu.addressbook.common.PostalCodeTable;
+import seedu.addressbook.data.PersonStatistics;
+import seedu.addressbook.data.person.Offense;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.Status;
+import seedu.addressbook.timeanddate.ClockService;
+
+/**
+ * Counts the persons in the records by status, by offense, by postal district and by age band, for HQ.
+ *
+ * Counts of everyone are kept as the records change and are shown at once. Counts of only the persons with a
+ * status, in a postal district or with an offense are worked out by going through the records in parallel.
+ */
+public class StatsCommand extends Command {
+    public static final String COMMAND_WORD = "stats";
+    public static final String STATUS_PREFIX = "s/";
+    public static final String DISTRICT_PREFIX = "p/";
+    public static final String OFFENSE_PREFIX = "o/";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ":\n"
+            + "Counts the persons in the records by status, offense, postal district and age band, "
+            + "optionally only those with a status, in a postal district (1 to " + PostalCodeTable.NUM_DISTRICTS
+            + ") or with an offense, wanted for or past.\n\t"
+            + "Parameters: [" + STATUS_PREFIX + "STATUS] [" + DISTRICT_PREFIX + "DISTRICT] ["
+            + OFFENSE_PREFIX + "OFFENSE]\n\t"
+            + "Example: " + COMMAND_WORD + "\n\t"
+            + "Example: " + COMMAND_WORD + " " + STATUS_PREFIX + "wanted " + DISTRICT_PREFIX + "19";
+
+    public static final String MESSAGE_STATS_OVERVIEW = "Statistics of %1$d persons%2$s:";
+    public static final String MESSAGE_NONE = "none";
+
+    private final String status;
+    private final Integer district;
+    private final String offense;
+
+    /**
+     * Counts everyone in the records.
+     */
+    public StatsCommand() {
+        this(null, null, null);
+    }
+
+    /**
+     * Counts the persons with {@code status}, in {@code district} and with {@code offense}, any of which may be
+     * null to count everyone.
+     */
+    public StatsCommand(Status status, Integer district, Offense offense) {
+        this.status = status == null ? null : status.getCurrentStatus();
+        this.district = district;
+        this.offense = offense == null ? null : offense.getOffense();
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public Integer getDistrict() {
+        return district;
+    }
+
+    public String getOffense() {
+        return offense;
+    }
+
+    private boolean isFiltered() {
+        return status != null || district != null || offense != null;
+    }
+
+    /**
+     * Returns true if {@code person} is to be counted.
+     */
+    private boolean isCounted(ReadOnlyPerson person) {
+        if (status != null && !status.equals(person.getStatus().getCurrentStatus())) {
+            return false;
+        }
+        if (district != null
+                && PostalCodeTable.getDistrict(person.getPostalCode().getPostalCode()).orElse(0) != district) {
+            return false;
+        }
+        if (offense == null || offense.equals(person.getWantedFor().getOffense())) {
+            return true;
+        }
+        for (Offense pastOffense : person.getPastOffenses()) {
+            if (offense.equals(pastOffense.getOffense())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public CommandResult execute() {
+        PersonStatistics statistics = isFiltered()
+                ? PersonStatistics.of(addressBook.getPersonsSnapshot(), this::isCounted)
+                : addressBook.getStatistics();
+        int currentYear = Instant.ofEpochMilli(ClockService.currentTimeMillis()).atZone(ClockService.getZone())
+                .getYear();
+        return new CommandResult("\n\n" + String.format(MESSAGE_STATS_OVERVIEW, statistics.getTotal(),
+                getFilterDescription())
+                + "\nBy status: " + formatCounts(statistics.getByStatus())
+                + "\nWanted for: " + formatCounts(statistics.getByWantedFor())
+                + "\nPast offenses: " + formatCounts(statistics.getByPastOffense())
+                + "\nBy postal district: " + formatCounts(statistics.getByDistrict())
+                + "\nBy age band: " + formatCounts(statistics.getByAgeBand(currentYear)));
+    }
+
+    /**
+     * Returns the filters given, as they would be typed, or nothing if everyone is counted.
+     */
+    private String getFilterDescription() {
+        if (!isFiltered()) {
+            return "";
+        }
+        StringJoiner filters = new StringJoiner(" ", " with ", "");
+        if (status != null) {
+            filters.add(STATUS_PREFIX + status);
+        }
+        if (district != null) {
+            filters.add(DISTRICT_PREFIX + district);
+        }
+        if (offense != null) {
+            filters.add(OFFENSE_PREFIX + offense);
+        }
+        return filters.toString();
+    }
+
+    /**
+     * Returns {@code counts} as a list such as "clear 3, wanted 1".
+     */
+    private static String formatCounts(Map<String, Integer> counts) {
+        if (counts.isEmpty()) {
+            return MESSAGE_NONE;
+        }
+        StringJoiner formatted = new StringJoiner(", ");
+        counts.forEach((key, count) -> formatted.add(key + " " + count));
+        return formatted.toString();
+    }
+}
@@ -25,6 +25,12 @@ public class UpdateStatusCommand extends Command {
         this.toUpdate = po;
     }
 
+    /** Updating a status changes the officers' shared statuses. */
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public CommandResult execute() {
         try {
@@ -0,0 +1,113 @@
+//@@author andyrobert3
+package seedu.addressbook.common;
+
+import java.util.Arrays;
+
+/**
+ * Pairs up rows and columns of a cost matrix so that the total cost is the least possible,
+ * e.g. backup officers with the requests they should respond to.
+ *
+ * Uses the Hungarian algorithm with potentials, which takes O(n^2 m) time for n rows and m columns (n <= m).
+ * A few hundred requests and officers are assigned in milliseconds.
+ */
+public class AssignmentSolver {
+    public static final int UNASSIGNED = -1;
+
+    private static final long INFINITY = Long.MAX_VALUE / 4;
+
+    /**
+     * Returns the column assigned to each row of {@code cost}, such that no column is used twice and the
+     * sum of the costs of the assigned cells is the least possible.
+     * Every row is assigned if there are at least as many columns as rows; otherwise every column is used,
+     * and the rows left out are {@link #UNASSIGNED}.
+     *
+     * @param cost a rectangular matrix of non-negative costs, cost[row][column].
+     */
+    public static int[] solve(long[][] cost) {
+        int rows = cost.length;
+        int columns = (rows == 0) ? 0 : cost[0].length;
+        int[] assignment = new int[rows];
+        Arrays.fill(assignment, UNASSIGNED);
+        if (rows == 0 || columns == 0) {
+            return assignment;
+        }
+        if (rows <= columns) {
+            int[] rowOfColumn = solveWide(cost, rows, columns, false);
+            for (int column = 0; column < columns; column++) {
+                if (rowOfColumn[column] != UNASSIGNED) {
+                    assignment[rowOfColumn[column]] = column;
+                }
+            }
+        } else {
+            int[] columnOfRow = solveWide(cost, columns, rows, true);
+            for (int row = 0; row < rows; row++) {
+                assignment[row] = columnOfRow[row];
+            }
+        }
+        return assignment;
+    }
+
+    /**
+     * Solves an n x m problem with n <= m, reading {@code cost} transposed if {@code isTransposed}.
+     *
+     * @return the row assigned to each of the m columns, or {@link #UNASSIGNED}.
+     */
+    private static int[] solveWide(long[][] cost, int n, int m, boolean isTransposed) {
+        // Rows and columns are numbered from 1; column 0 holds the row being added.
+        long[] rowPotential = new long[n + 1];
+        long[] columnPotential = new long[m + 1];
+        int[] rowOfColumn = new int[m + 1];
+        int[] previousColumn = new int[m + 1];
+        long[] minSlack = new long[m + 1];
+        boolean[] isVisited = new boolean[m + 1];
+
+        for (int row = 1; row <= n; row++) {
+            rowOfColumn[0] = row;
+            int column = 0;
+            Arrays.fill(minSlack, INFINITY);
+            Arrays.fill(isVisited, false);
+            do {
+                isVisited[column] = true;
+                int currentRow = rowOfColumn[column];
+                long delta = INFINITY;
+                int nextColumn = 0;
+                for (int j = 1; j <= m; j++) {
+                    if (isVisited[j]) {
+                        continue;
+                    }
+                    long cellCost = isTransposed ? cost[j - 1][currentRow - 1] : cost[currentRow - 1][j - 1];
+                    long slack = cellCost - rowPotential[currentRow] - columnPotential[j];
+                    if (slack < minSlack[j]) {
+                        minSlack[j] = slack;
+                        previousColumn[j] = column;
+                    }
+                    if (minSlack[j] < delta) {
+                        delta = minSlack[j];
+                        nextColumn = j;
+                    }
+                }
+                for (int j = 0; j <= m; j++) {
+                    if (isVisited[j]) {
+                        rowPotential[rowOfColumn[j]] += delta;
+                        columnPotential[j] -= delta;
+                    } else {
+                        minSlack[j] -= delta;
+                    }
+                }
+                column = nextColumn;
+            } while (rowOfColumn[column] != 0);
+
+            do { // Flip the augmenting path back to the free column 0
+                int previous = previousColumn[column];
+                rowOfColumn[column] = rowOfColumn[previous];
+                column = previous;
+            } while (column != 0);
+        }
+
+        int[] result = new int[m];
+        for (int j = 1; j <= m; j++) {
+            result[j - 1] = rowOfColumn[j] - 1;
+        }
+        return result;
+    }
+}
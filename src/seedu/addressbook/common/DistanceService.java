@@ -0,0 +1,232 @@
+//@@author andyrobert3
+package seedu.addressbook.common;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpResponseException;
+import org.apache.http.util.EntityUtils;
+import org.javatuples.Pair;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Gets the Estimated Time of Arrival (ETA) between locations from the Google Maps Distance Matrix API.
+ * The API key is read from the {@value #API_KEY_FILE} file once, when the service is first used.
+ *
+ * The API takes at most {@value #MAX_LOCATIONS_PER_REQUEST} origins or destinations and
+ * {@value #MAX_ELEMENTS_PER_REQUEST} pairs of them in one request, so a larger matrix is asked for in blocks.
+ */
+public class DistanceService implements EtaSource {
+    public static final String API_KEY_FILE = "env";
+    public static final int MAX_LOCATIONS_PER_REQUEST = 25;
+    public static final int MAX_ELEMENTS_PER_REQUEST = 100;
+
+    private static final String DISTANCE_MATRIX_BASE_URL = "https://maps.googleapis.com/maps/api/distancematrix/json?";
+    private static final String STATUS_OK = "OK";
+    private static final long SIGNATURE = 0x474f4f474c45L; // "GOOGLE"
+
+    private static DistanceService instance;
+
+    private final String googleMapsApiKey;
+    private final HttpRestClient httpRestClient;
+
+    public DistanceService(String googleMapsApiKey, HttpRestClient httpRestClient) {
+        this.googleMapsApiKey = googleMapsApiKey;
+        this.httpRestClient = httpRestClient;
+    }
+
+    /**
+     * Returns the service shared by the System, using the API key in {@value #API_KEY_FILE}.
+     */
+    public static synchronized DistanceService getInstance() {
+        if (instance == null) {
+            instance = new DistanceService(readApiKey(Paths.get(API_KEY_FILE)), new HttpRestClient());
+        }
+        return instance;
+    }
+
+    public boolean hasApiKey() {
+        return googleMapsApiKey != null && !googleMapsApiKey.trim().isEmpty();
+    }
+
+    /**
+     * Returns the first line of {@code keyFile}, or null if it cannot be read.
+     */
+    static String readApiKey(Path keyFile) {
+        try (BufferedReader bufferedReader = Files.newBufferedReader(keyFile, StandardCharsets.UTF_8)) {
+            return bufferedReader.readLine();
+        } catch (IOException ioe) {
+            return null;
+        }
+    }
+
+    private ArrayList<Pair<Integer, String>> sortEta(ArrayList<Pair<Integer, String>> etaList) {
+        etaList.sort(Comparator.comparing(Pair::getValue0));
+        return etaList;
+    }
+
+    /**
+     * Returns Google Maps API URL for HTTP GET request from multiple origins.
+     *
+     * @param origins multiple origins ETA to the destination
+     * @param destination location to get ETA to
+     * @return Google Maps URL String
+     */
+    String getMapsDistanceUrl(List<Location> origins, Location destination) {
+        return getMapsDistanceUrl(origins, Collections.singletonList(destination));
+    }
+
+    /**
+     * Returns Google Maps API URL for HTTP GET request from multiple origins to multiple destinations.
+     */
+    String getMapsDistanceUrl(List<Location> origins, List<Location> destinations) {
+        return DISTANCE_MATRIX_BASE_URL + "origins=" + joinCoordinates(origins)
+                + "&destinations=" + joinCoordinates(destinations)
+                + "&key=" + googleMapsApiKey;
+    }
+
+    /**
+     * Returns the coordinates of {@code locations} separated by "|", as the API takes them.
+     */
+    private static String joinCoordinates(List<Location> locations) {
+        StringBuilder coordinates = new StringBuilder(locations.get(0).getLatitude() + ","
+                + locations.get(0).getLongitude());
+
+        for (int i = 1; i < locations.size(); i++) {
+            coordinates.append("|").append(locations.get(i).getLatitude())
+                    .append(",").append(locations.get(i).getLongitude());
+        }
+        return coordinates.toString();
+    }
+
+    /**
+     * Returns List of Pairs of Estimated Time of Arrival (ETA) from JSON ETA data
+     *
+     * @param jsonData from Google Maps GET Request
+     * @return ArrayList of Pair- ETA in seconds, ETA in natural text
+     */
+    private ArrayList<Pair<Integer, String>> getEtaFromJsonObject(JSONObject jsonData) {
+        ArrayList<Pair<Integer, String>> etaList = new ArrayList<>();
+
+        try {
+            JSONArray etaRows = jsonData.getJSONArray("rows");
+
+            for (int i = 0; i < etaRows.length(); i++) {
+                JSONArray etaTimeElements = etaRows.getJSONObject(i).getJSONArray("elements");
+                JSONObject etaDuration = etaTimeElements.getJSONObject(0).getJSONObject("duration");
+
+                Pair<Integer, String> durationPair = new Pair<>(etaDuration.getInt("value"),
+                        etaDuration.getString("text"));
+                etaList.add(durationPair);
+            }
+
+        } catch (JSONException jsonE) {
+            jsonE.getMessage();
+        }
+
+        return etaList;
+    }
+
+    /**
+     * Returns ETA to {@code destination} from each of {@code origins}, quickest first.
+     *
+     * @param origins list of origins to the destination
+     * @param destination location to get ETA to
+     * @return ArrayList of Pair- Number of seconds ETA, Text description of ETA
+     */
+    public ArrayList<Pair<Integer, String>> getEta(List<Location> origins, Location destination)
+            throws IOException, JSONException {
+        return sortEta(getEtaFromJsonObject(requestJson(getMapsDistanceUrl(origins, destination))));
+    }
+
+    /**
+     * Returns the number of seconds to drive from each of {@code origins} (by row) to each of {@code destinations}
+     * (by column), in the order given, or {@link #UNKNOWN} for a pair Google Maps has no route between.
+     * The pairs are asked for in blocks, as few as the API allows.
+     *
+     * @throws IOException if any block cannot be fetched or understood.
+     */
+    @Override
+    public long[][] getEtaSecondsMatrix(List<Location> origins, List<Location> destinations) throws IOException {
+        long[][] etaSeconds = new long[origins.size()][destinations.size()];
+        int originsPerRequest = Math.min(origins.size(), MAX_LOCATIONS_PER_REQUEST);
+        int destinationsPerRequest = Math.min(MAX_LOCATIONS_PER_REQUEST,
+                MAX_ELEMENTS_PER_REQUEST / Math.max(1, originsPerRequest));
+        for (int i = 0; i < origins.size(); i += originsPerRequest) {
+            List<Location> originBlock = origins.subList(i, Math.min(origins.size(), i + originsPerRequest));
+            for (int j = 0; j < destinations.size(); j += destinationsPerRequest) {
+                List<Location> destinationBlock = destinations.subList(j,
+                        Math.min(destinations.size(), j + destinationsPerRequest));
+                try {
+                    fillBlock(etaSeconds, i, j, originBlock.size(), destinationBlock.size(),
+                            requestJson(getMapsDistanceUrl(originBlock, destinationBlock)));
+                } catch (JSONException jse) {
+                    throw new IOException("Unexpected response from Google Maps API", jse);
+                }
+            }
+        }
+        return etaSeconds;
+    }
+
+    @Override
+    public long getSignature() {
+        return SIGNATURE;
+    }
+
+    /**
+     * Copies the ETAs of a block of {@code numOrigins} by {@code numDestinations} in {@code jsonData} into
+     * {@code etaSeconds}, from row {@code firstOrigin} and column {@code firstDestination}.
+     */
+    private static void fillBlock(long[][] etaSeconds, int firstOrigin, int firstDestination, int numOrigins,
+            int numDestinations, JSONObject jsonData) throws IOException, JSONException {
+        String status = jsonData.optString("status", STATUS_OK);
+        if (!status.equals(STATUS_OK)) {
+            throw new IOException("Google Maps API refused the request: " + status);
+        }
+        JSONArray rows = jsonData.getJSONArray("rows");
+        for (int i = 0; i < numOrigins; i++) {
+            JSONArray elements = rows.getJSONObject(i).getJSONArray("elements");
+            for (int j = 0; j < numDestinations; j++) {
+                JSONObject element = elements.getJSONObject(j);
+                boolean hasRoute = element.optString("status", STATUS_OK).equals(STATUS_OK)
+                        && element.has("duration");
+                etaSeconds[firstOrigin + i][firstDestination + j] = hasRoute
+                        ? element.getJSONObject("duration").getLong("value") : UNKNOWN;
+            }
+        }
+    }
+
+    /**
+     * Sends a GET request to {@code url} and returns the JSON it answers with.
+     *
+     * @throws HttpResponseException if the request did not succeed.
+     */
+    private JSONObject requestJson(String url) throws IOException, JSONException {
+        HttpResponse response = httpRestClient.requestGetResponse(url);
+        try {
+            int responseStatusCode = response.getStatusLine().getStatusCode();
+
+            if (responseStatusCode != 200 && responseStatusCode != 201 && responseStatusCode != 204) {
+                throw new HttpResponseException(responseStatusCode,
+                        "Request to Google Maps API did not work. Try again");
+            }
+
+            return new JSONObject(IOUtils.toString(response.getEntity().getContent(), "UTF-8"));
+        } finally {
+            // Frees the connection for the next request, whether or not the response was read.
+            EntityUtils.consume(response.getEntity());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+//@@author andyrobert3
+package seedu.addressbook.common;
+
+import java.util.List;
+
+/**
+ * Estimates the Estimated Time of Arrival (ETA) between locations without going online,
+ * from the straight line distance between them.
+ *
+ * Roads are longer than the straight line between two places, so the distance is stretched by
+ * {@link #ROAD_DISTANCE_FACTOR} before being driven at the given average speed.
+ */
+public class EtaEstimator implements EtaSource {
+    public static final double DEFAULT_SPEED_KM_PER_HOUR = 40;
+    public static final double ROAD_DISTANCE_FACTOR = 1.3;
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double SECONDS_PER_HOUR = 3600;
+
+    private final double speedKmPerHour;
+
+    public EtaEstimator() {
+        this(DEFAULT_SPEED_KM_PER_HOUR);
+    }
+
+    public EtaEstimator(double speedKmPerHour) {
+        this.speedKmPerHour = speedKmPerHour;
+    }
+
+    /**
+     * Returns the great circle distance between two locations, in kilometres.
+     */
+    public static double getDistanceKm(Location origin, Location destination) {
+        double originLatitude = Math.toRadians(origin.getLatitude());
+        double destinationLatitude = Math.toRadians(destination.getLatitude());
+        double latitudeDifference = destinationLatitude - originLatitude;
+        double longitudeDifference = Math.toRadians(destination.getLongitude() - origin.getLongitude());
+        double haversine = Math.pow(Math.sin(latitudeDifference / 2), 2)
+                + Math.cos(originLatitude) * Math.cos(destinationLatitude)
+                * Math.pow(Math.sin(longitudeDifference / 2), 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(haversine)));
+    }
+
+    /**
+     * Returns the estimated number of seconds to travel from {@code origin} to {@code destination}.
+     */
+    public int getEtaSeconds(Location origin, Location destination) {
+        double roadDistanceKm = getDistanceKm(origin, destination) * ROAD_DISTANCE_FACTOR;
+        return (int) Math.round(roadDistanceKm / speedKmPerHour * SECONDS_PER_HOUR);
+    }
+
+    /**
+     * Returns the estimated number of seconds to travel from each of {@code origins} (by row)
+     * to each of {@code destinations} (by column).
+     */
+    @Override
+    public long[][] getEtaSecondsMatrix(List<Location> origins, List<Location> destinations) {
+        long[][] etaSeconds = new long[origins.size()][destinations.size()];
+        for (int i = 0; i < origins.size(); i++) {
+            for (int j = 0; j < destinations.size(); j++) {
+                etaSeconds[i][j] = getEtaSeconds(origins.get(i), destinations.get(j));
+            }
+        }
+        return etaSeconds;
+    }
+
+    /**
+     * Returns a value identifying the speed and road factor of this estimator: estimators with the same signature
+     * give the same ETAs between the same locations.
+     */
+    @Override
+    public long getSignature() {
+        return Double.doubleToLongBits(speedKmPerHour) * 31 + Double.doubleToLongBits(ROAD_DISTANCE_FACTOR);
+    }
+
+    /**
+     * Describes {@code etaSeconds} the way Google Maps does, e.g. "1 min" or "12 mins".
+     */
+    public static String describe(long etaSeconds) {
+        long minutes = Math.max(1, Math.round(etaSeconds / 60.0));
+        return minutes + ((minutes == 1) ? " min" : " mins");
+    }
+}
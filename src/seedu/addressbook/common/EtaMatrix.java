@@ -0,0 +1,306 @@
+//@@author andyrobert3
+package seedu.addressbook.common;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.addressbook.timeanddate.ClockService;
+
+/**
+ * The ETA between every pair of cells of a {@link PatrolGrid}, fetched ahead of time from a slow
+ * {@link EtaSource} such as Google Maps, so that dispatching only has to look it up.
+ *
+ * The ETAs are kept as an {@code int} per pair of cells, in seconds, in one flat array which is usually
+ * a memory-mapped file, so they survive restarts without being loaded or saved. Each origin cell also records
+ * when its ETAs were fetched; {@link #refreshStalest(int, long)} fetches those of a few cells, never fetched first
+ * and then the oldest, so a background job keeps the matrix up to date with traffic without ever stalling a lookup.
+ * A cell is fetched in one batched call to the source.
+ *
+ * The file records the {@link EtaSource#getSignature() signature} of the source, and is started again when the
+ * source changes.
+ *
+ * A pair of cells not yet fetched or without a route, a location outside the grid or two locations in the same cell
+ * are estimated from the distance between them instead, as by {@link EtaEstimator}.
+ */
+public class EtaMatrix extends EtaEstimator {
+    public static final String DEFAULT_FILE_PATH = "etaMatrix.bin";
+    /** ETA of a pair of cells which has not been fetched. */
+    public static final int UNKNOWN = -1;
+    public static final long DEFAULT_REFRESH_PERIOD_MILLIS = 10 * 1000;
+    public static final int DEFAULT_CELLS_PER_REFRESH = 4;
+    /** Age after which the ETAs of a cell are fetched again, as traffic changes. */
+    public static final long DEFAULT_MAX_AGE_MILLIS = 24 * 60 * 60 * 1000;
+
+    private static final Logger logger = Logger.getLogger(EtaMatrix.class.getName());
+    private static final int MAGIC = 0x45544147; // "ETAG"
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 48;
+
+    private static volatile EtaEstimator shared = new EtaEstimator();
+
+    private final PatrolGrid grid;
+    private final EtaSource source;
+    private final ByteBuffer buffer;
+    private final LongBuffer fetchedAt;
+    private final IntBuffer etaSeconds;
+    private ScheduledExecutorService refresher;
+
+    private EtaMatrix(PatrolGrid grid, EtaSource source, ByteBuffer buffer) {
+        this.grid = grid;
+        this.source = source;
+        this.buffer = buffer;
+        int numCells = grid.getNumCells();
+        fetchedAt = slice(buffer, HEADER_BYTES, numCells * Long.BYTES).asLongBuffer();
+        etaSeconds = slice(buffer, HEADER_BYTES + numCells * Long.BYTES, numCells * numCells * Integer.BYTES)
+                .asIntBuffer();
+        if (!hasValidHeader()) {
+            reset();
+        }
+    }
+
+    /**
+     * Returns the estimator used for dispatching: the shared matrix once it has been started, or else an estimate
+     * from the distance between locations.
+     */
+    public static EtaEstimator getShared() {
+        return shared;
+    }
+
+    /**
+     * Opens the matrix stored at {@link #DEFAULT_FILE_PATH} for dispatching, filled from Google Maps in the
+     * background. If the file cannot be opened, a matrix kept in memory is filled instead. Without an API key
+     * there is nothing to fetch, so dispatching keeps estimating ETAs from distances.
+     */
+    public static void startShared() {
+        DistanceService distanceService = DistanceService.getInstance();
+        if (!distanceService.hasApiKey()) {
+            logger.log(Level.INFO, "No Google Maps API key, estimating ETAs from distances");
+            return;
+        }
+        EtaMatrix matrix;
+        try {
+            matrix = open(Paths.get(DEFAULT_FILE_PATH), PatrolGrid.SINGAPORE, distanceService);
+        } catch (IOException ioe) {
+            logger.log(Level.WARNING, "Could not open " + DEFAULT_FILE_PATH + ", keeping ETAs in memory", ioe);
+            matrix = inMemory(PatrolGrid.SINGAPORE, distanceService);
+        }
+        matrix.startRefreshing(DEFAULT_REFRESH_PERIOD_MILLIS, DEFAULT_CELLS_PER_REFRESH, DEFAULT_MAX_AGE_MILLIS);
+        shared = matrix;
+    }
+
+    /**
+     * Maps the matrix of {@code grid} stored at {@code path}, creating it if needed, with ETAs fetched
+     * from {@code source}. A file for another grid or another source is started again.
+     */
+    public static EtaMatrix open(Path path, PatrolGrid grid, EtaSource source) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, getFileBytes(grid));
+            return new EtaMatrix(grid, source, buffer);
+        }
+    }
+
+    /**
+     * Returns a matrix of {@code grid} kept only in memory, with ETAs fetched from {@code source}.
+     */
+    public static EtaMatrix inMemory(PatrolGrid grid, EtaSource source) {
+        return new EtaMatrix(grid, source, ByteBuffer.allocate((int) getFileBytes(grid)));
+    }
+
+    private static long getFileBytes(PatrolGrid grid) {
+        long numCells = grid.getNumCells();
+        return HEADER_BYTES + numCells * Long.BYTES + numCells * numCells * Integer.BYTES;
+    }
+
+    /**
+     * Returns {@code length} bytes of {@code buffer} from {@code offset}, sharing its content.
+     */
+    private static ByteBuffer slice(ByteBuffer buffer, int offset, int length) {
+        ByteBuffer duplicate = buffer.duplicate();
+        duplicate.position(offset);
+        duplicate.limit(offset + length);
+        return duplicate.slice();
+    }
+
+    public PatrolGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * Returns the ETA in seconds from {@code originCell} to {@code destinationCell}, or {@link #UNKNOWN}.
+     */
+    public int lookup(int originCell, int destinationCell) {
+        return etaSeconds.get(originCell * grid.getNumCells() + destinationCell);
+    }
+
+    /**
+     * Returns the ETA in seconds between the cells of {@code origin} and {@code destination}, or {@link #UNKNOWN}
+     * if it has not been fetched, either location is outside the grid, or both are in the same cell.
+     */
+    public int lookup(Location origin, Location destination) {
+        int originCell = grid.getCell(origin);
+        int destinationCell = grid.getCell(destination);
+        if (originCell < 0 || destinationCell < 0 || originCell == destinationCell) {
+            return UNKNOWN;
+        }
+        return lookup(originCell, destinationCell);
+    }
+
+    @Override
+    public int getEtaSeconds(Location origin, Location destination) {
+        int eta = lookup(origin, destination);
+        return (eta != UNKNOWN) ? eta : super.getEtaSeconds(origin, destination);
+    }
+
+    /**
+     * Returns when the ETAs from {@code cell} were fetched, or 0 if they have not been.
+     */
+    public long getFetchedAt(int cell) {
+        return fetchedAt.get(cell);
+    }
+
+    /**
+     * Fetches the ETAs from at most {@code numCells} cells which have never been fetched or were fetched at least
+     * {@code maxAgeMillis} ago, stalest first. Each cell is saved as soon as it is fetched.
+     *
+     * @return the number of cells fetched, 0 if none is stale.
+     * @throws IOException if the source fails; the cells fetched before then are kept.
+     */
+    public synchronized int refreshStalest(int numCells, long maxAgeMillis) throws IOException {
+        List<Integer> cells = getStaleCells(ClockService.currentTimeMillis() - maxAgeMillis);
+        List<Location> centres = getCentres();
+        int numFetched = 0;
+        try {
+            for (int cell : cells.subList(0, Math.min(numCells, cells.size()))) {
+                long[][] row = source.getEtaSecondsMatrix(Collections.singletonList(grid.getCentre(cell)), centres);
+                int rowStart = cell * centres.size();
+                for (int destination = 0; destination < centres.size(); destination++) {
+                    long eta = row[0][destination];
+                    etaSeconds.put(rowStart + destination, (eta < 0) ? UNKNOWN : (int) Math.min(Integer.MAX_VALUE,
+                            eta));
+                }
+                fetchedAt.put(cell, ClockService.currentTimeMillis());
+                numFetched++;
+            }
+        } finally {
+            force();
+        }
+        return numFetched;
+    }
+
+    /**
+     * Fetches {@code cellsPerRefresh} of the stalest cells every {@code periodMillis} on a background thread,
+     * those fetched at least {@code maxAgeMillis} ago included, until stopped.
+     */
+    public synchronized void startRefreshing(long periodMillis, int cellsPerRefresh, long maxAgeMillis) {
+        stopRefreshing();
+        refresher = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "eta-matrix-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refresher.scheduleWithFixedDelay(() -> refreshInBackground(cellsPerRefresh, maxAgeMillis), 0, periodMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops refreshing the matrix in the background. A refresh already running is allowed to finish.
+     */
+    public synchronized void stopRefreshing() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+            refresher = null;
+        }
+    }
+
+    /**
+     * Refreshes the stalest cells, logging rather than throwing any failure so that later runs still happen.
+     */
+    private void refreshInBackground(int cellsPerRefresh, long maxAgeMillis) {
+        try {
+            refreshStalest(cellsPerRefresh, maxAgeMillis);
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.WARNING, "Could not refresh ETA matrix", e);
+        }
+    }
+
+    /**
+     * Returns the cells fetched before {@code staleBefore}, or never, stalest first.
+     */
+    private List<Integer> getStaleCells(long staleBefore) {
+        List<Integer> cells = new ArrayList<>();
+        for (int i = 0; i < grid.getNumCells(); i++) {
+            if (fetchedAt.get(i) == 0 || fetchedAt.get(i) <= staleBefore) {
+                cells.add(i);
+            }
+        }
+        cells.sort(Comparator.comparingLong(fetchedAt::get));
+        return cells;
+    }
+
+    private List<Location> getCentres() {
+        Location[] centres = new Location[grid.getNumCells()];
+        for (int i = 0; i < centres.length; i++) {
+            centres[i] = grid.getCentre(i);
+        }
+        return Arrays.asList(centres);
+    }
+
+    /**
+     * Returns true if the buffer holds a matrix of this grid, fetched from this source.
+     */
+    private boolean hasValidHeader() {
+        return buffer.getInt(0) == MAGIC && buffer.getInt(4) == VERSION
+                && grid.hasCells(buffer.getDouble(8), buffer.getDouble(16), buffer.getDouble(24),
+                        buffer.getInt(32), buffer.getInt(36))
+                && buffer.getLong(40) == source.getSignature();
+    }
+
+    /**
+     * Forgets every ETA and writes the header of this grid and source.
+     */
+    private void reset() {
+        for (int i = 0; i < grid.getNumCells(); i++) {
+            fetchedAt.put(i, 0);
+        }
+        for (int i = 0; i < etaSeconds.capacity(); i++) {
+            etaSeconds.put(i, UNKNOWN);
+        }
+        buffer.putInt(4, VERSION);
+        buffer.putDouble(8, grid.getMinLatitude());
+        buffer.putDouble(16, grid.getMinLongitude());
+        buffer.putDouble(24, grid.getCellDegrees());
+        buffer.putInt(32, grid.getNumRows());
+        buffer.putInt(36, grid.getNumColumns());
+        buffer.putLong(40, source.getSignature());
+        buffer.putInt(0, MAGIC);
+        force();
+    }
+
+    /**
+     * Writes the changes to a memory-mapped file through to the disk.
+     */
+    private void force() {
+        if (buffer instanceof MappedByteBuffer) {
+            MappedByteBuffer file = (MappedByteBuffer) buffer;
+            file.force();
+        }
+    }
+}
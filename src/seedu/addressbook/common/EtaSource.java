@@ -0,0 +1,28 @@
+//@@author andyrobert3
+package seedu.addressbook.common;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Works out the Estimated Time of Arrival (ETA) between many locations at once, e.g. {@link DistanceService}
+ * online or {@link EtaEstimator} offline.
+ */
+public interface EtaSource {
+    /** ETA of a pair of locations without a route between them. */
+    long UNKNOWN = -1;
+
+    /**
+     * Returns the number of seconds to travel from each of {@code origins} (by row) to each of
+     * {@code destinations} (by column), in the order given, or {@link #UNKNOWN} for a pair without a route.
+     *
+     * @throws IOException if the ETAs cannot be worked out at all.
+     */
+    long[][] getEtaSecondsMatrix(List<Location> origins, List<Location> destinations) throws IOException;
+
+    /**
+     * Returns a value identifying how this source works out ETAs: sources with the same signature give
+     * ETAs the same way.
+     */
+    long getSignature();
+}
@@ -5,22 +5,40 @@ import java.io.IOException;
 
 import org.apache.http.HttpResponse;
 import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.impl.client.HttpClientBuilder;
 
 
 /**
  * Http Client needed for RESTful APIs
+ *
+ * Requests give up rather than hang when the network is slow: see the timeouts below.
  */
 public class HttpRestClient {
+    /** Time allowed to connect to the server. */
+    public static final int CONNECT_TIMEOUT_MILLIS = 5 * 1000;
+    /** Time allowed between packets of the response. */
+    public static final int SOCKET_TIMEOUT_MILLIS = 10 * 1000;
+    /** Time allowed to wait for a pooled connection to be free. */
+    public static final int CONNECTION_REQUEST_TIMEOUT_MILLIS = 5 * 1000;
+
+    private static final RequestConfig REQUEST_CONFIG = RequestConfig.custom()
+            .setConnectTimeout(CONNECT_TIMEOUT_MILLIS)
+            .setSocketTimeout(SOCKET_TIMEOUT_MILLIS)
+            .setConnectionRequestTimeout(CONNECTION_REQUEST_TIMEOUT_MILLIS)
+            .build();
+
     private HttpClient httpClient;
 
     public HttpRestClient() {
-        httpClient = HttpClientBuilder.create().build();
+        httpClient = HttpClientBuilder.create().setDefaultRequestConfig(REQUEST_CONFIG).build();
     }
 
     /**
-     * Sends HTTP GET Request to specified URL
+     * Sends HTTP GET Request to specified URL.
+     * The caller must consume the entity of the response, e.g. with {@code EntityUtils.consume}, so that
+     * its connection is returned to the pool.
      * @param url
      * @return HttpResponse from GET Request
      * @throws IOException
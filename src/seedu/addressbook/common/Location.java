@@ -1,36 +1,27 @@
 //@@author andyrobert3
 package seedu.addressbook.common;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Comparator;
-
-import org.apache.commons.io.IOUtils;
-import org.apache.http.HttpResponse;
-import org.apache.http.client.HttpResponseException;
-import org.javatuples.Pair;
-import org.json.JSONArray;
-import org.json.JSONException;
-import org.json.JSONObject;
-
 /**
- * Stores each Police Resource location and get ETA time
- * from different locations with Google Maps API
+ * The coordinates of a Police Resource or of a request for backup.
+ * Guarantees: immutable. Creating a location does no I/O; see {@link DistanceService} for travel times.
  */
-public class Location {
-    private static final String DISTANCE_MATRIX_BASE_URL = "https://maps.googleapis.com/maps/api/distancematrix/json?";
+public final class Location {
     private static final String GOOGLE_MAPS_BASE_URL = "https://www.google.com/maps/place/";
 
-    private String googleMapsApiKey;
-    private double longitude;
-    private double latitude;
+    private final double longitude;
+    private final double latitude;
 
     public Location(double latitude, double longitude) {
         this.longitude = longitude;
         this.latitude = latitude;
-        this.googleMapsApiKey = getGoogleMapsApiKey();
+    }
+
+    /**
+     * Returns true if {@code latitude} and {@code longitude} are finite and within -90 to 90 and -180 to 180
+     * degrees respectively.
+     */
+    public static boolean isValidCoordinates(double latitude, double longitude) {
+        return Math.abs(latitude) <= 90 && Math.abs(longitude) <= 180;
     }
 
     public double getLongitude() {
@@ -40,103 +31,39 @@ public class Location {
         return latitude;
     }
 
-    public void setLongitude(double longitude) {
-        this.longitude = longitude;
-    }
-    public void setLatitude(double latitude) {
-        this.latitude = latitude;
-    }
-
-    private String getGoogleMapsApiKey() {
-        try {
-            BufferedReader bufferedReader = new BufferedReader(new FileReader("env"));
-            return bufferedReader.readLine();
-        } catch (IOException ioe) {
-            ioe.getMessage();
-        }
-
-        return null;
-    }
-
-    private ArrayList<Pair<Integer, String>> sortEta(ArrayList<Pair<Integer, String>> etaList) {
-        etaList.sort(Comparator.comparing(Pair::getValue0));
-        return etaList;
-    }
-
     /**
-     * Returns Google Maps API URL for HTTP GET request from multiple origins.
-     *
-     * @param origins multiple origins ETA to this location
-     * @return Google Maps URL String
+     * Returns a location at {@code longitude} and the same latitude as this.
      */
-    private String getMapsDistanceUrl(ArrayList<Location> origins) {
-        StringBuilder originCoordinatesString = new StringBuilder(origins.get(0).latitude + ","
-                + origins.get(0).longitude);
-
-        for (int i = 1; i < origins.size(); i++) {
-            originCoordinatesString
-                    .append("|").append(origins.get(i).latitude).append(",").append(origins.get(i).longitude);
-        }
-
-        return DISTANCE_MATRIX_BASE_URL + "origins=" + originCoordinatesString
-                + "&destinations=" + this.latitude + "," + this.longitude + "&key=" + googleMapsApiKey;
+    public Location withLongitude(double longitude) {
+        return new Location(latitude, longitude);
     }
 
     /**
-     * Returns List of Pairs of Estimated Time of Arrival (ETA) from JSON ETA data
-     *
-     * @param jsonData from Google Maps GET Request
-     * @return ArrayList of Pair- ETA in seconds, ETA in natural text
+     * Returns a location at {@code latitude} and the same longitude as this.
      */
-    private ArrayList<Pair<Integer, String>> getEtaFromJsonObject(JSONObject jsonData) {
-        ArrayList<Pair<Integer, String>> etaList = new ArrayList<>();
-
-        try {
-            JSONArray etaRows = jsonData.getJSONArray("rows");
-
-            for (int i = 0; i < etaRows.length(); i++) {
-                JSONArray etaTimeElements = etaRows.getJSONObject(i).getJSONArray("elements");
-                JSONObject etaDuration = etaTimeElements.getJSONObject(0).getJSONObject("duration");
-
-                Pair<Integer, String> durationPair = new Pair<>(etaDuration.getInt("value"),
-                        etaDuration.getString("text"));
-                etaList.add(durationPair);
-            }
-
-        } catch (JSONException jsonE) {
-            jsonE.getMessage();
-        }
-
-        return etaList;
+    public Location withLatitude(double latitude) {
+        return new Location(latitude, longitude);
     }
 
-    /**
-     * Returns ETA for this location from multiple locations
-     *
-     * @param locations list of origins to this destination
-     * @return ArrayList of Pair- Number of seconds ETA, Text description of ETA
-     */
-
-    public ArrayList<Pair<Integer, String>> getEtaFrom(ArrayList<Location> locations)
-            throws IOException, JSONException {
-        ArrayList<Pair<Integer, String>> etaList;
-
-        HttpRestClient httpRestClient = new HttpRestClient();
-        HttpResponse response = httpRestClient.requestGetResponse(getMapsDistanceUrl(locations));
-        int responseStatusCode = response.getStatusLine().getStatusCode();
-
-        if (responseStatusCode != 200 && responseStatusCode != 201 && responseStatusCode != 204) {
-            throw new HttpResponseException(responseStatusCode, "Request to Google Maps API did not work. Try again");
-        }
-
-        String jsonString = IOUtils.toString(response.getEntity().getContent(), "UTF-8");
-        etaList = getEtaFromJsonObject(new JSONObject(jsonString));
+    public String getGoogleMapsUrl() {
+        return GOOGLE_MAPS_BASE_URL + this.getLatitude() + "," + this.getLongitude();
+    }
 
-        return sortEta(etaList);
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Location // instanceof handles nulls
+                && Double.compare(latitude, ((Location) other).latitude) == 0
+                && Double.compare(longitude, ((Location) other).longitude) == 0);
     }
 
-    public String getGoogleMapsUrl() {
-        return GOOGLE_MAPS_BASE_URL + this.getLatitude() + "," + this.getLongitude();
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(latitude) + Double.hashCode(longitude);
     }
 
+    @Override
+    public String toString() {
+        return latitude + "," + longitude;
+    }
 }
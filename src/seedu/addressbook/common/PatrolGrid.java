@@ -0,0 +1,85 @@
+//@@author andyrobert3
+package seedu.addressbook.common;
+
+/**
+ * Divides the patrol area into square cells of equal size, numbered row by row from the south-west corner.
+ * Guarantees: immutable.
+ */
+public final class PatrolGrid {
+    /** Singapore, in cells of about 2 km. */
+    public static final PatrolGrid SINGAPORE = new PatrolGrid(1.20, 103.60, 1.48, 104.05, 0.018);
+
+    private final double minLatitude;
+    private final double minLongitude;
+    private final double cellDegrees;
+    private final int numRows;
+    private final int numColumns;
+
+    /**
+     * Covers the area between the given corners with cells {@code cellDegrees} wide and high.
+     */
+    public PatrolGrid(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+                      double cellDegrees) {
+        this.minLatitude = minLatitude;
+        this.minLongitude = minLongitude;
+        this.cellDegrees = cellDegrees;
+        this.numRows = (int) Math.ceil((maxLatitude - minLatitude) / cellDegrees);
+        this.numColumns = (int) Math.ceil((maxLongitude - minLongitude) / cellDegrees);
+    }
+
+    public double getMinLatitude() {
+        return minLatitude;
+    }
+
+    public double getMinLongitude() {
+        return minLongitude;
+    }
+
+    public double getCellDegrees() {
+        return cellDegrees;
+    }
+
+    public int getNumRows() {
+        return numRows;
+    }
+
+    public int getNumColumns() {
+        return numColumns;
+    }
+
+    public int getNumCells() {
+        return numRows * numColumns;
+    }
+
+    /**
+     * Returns the cell containing {@code location}, or -1 if it is outside the grid.
+     */
+    public int getCell(Location location) {
+        int row = (int) Math.floor((location.getLatitude() - minLatitude) / cellDegrees);
+        int column = (int) Math.floor((location.getLongitude() - minLongitude) / cellDegrees);
+        if (row < 0 || row >= numRows || column < 0 || column >= numColumns) {
+            return -1;
+        }
+        return row * numColumns + column;
+    }
+
+    /**
+     * Returns the centre of {@code cell}.
+     */
+    public Location getCentre(int cell) {
+        int row = cell / numColumns;
+        int column = cell % numColumns;
+        return new Location(minLatitude + (row + 0.5) * cellDegrees, minLongitude + (column + 0.5) * cellDegrees);
+    }
+
+    /**
+     * Returns true if this grid has {@code rows} by {@code columns} cells {@code degrees} wide,
+     * starting from the given south-west corner.
+     */
+    public boolean hasCells(double latitude, double longitude, double degrees, int rows, int columns) {
+        return Double.compare(minLatitude, latitude) == 0
+                && Double.compare(minLongitude, longitude) == 0
+                && Double.compare(cellDegrees, degrees) == 0
+                && numRows == rows && numColumns == columns;
+    }
+}
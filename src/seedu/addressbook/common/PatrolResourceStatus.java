@@ -2,10 +2,13 @@
 package seedu.addressbook.common;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import org.javatuples.Triplet;
 
 import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.tracking.PositionSnapshot;
+import seedu.addressbook.tracking.PositionStore;
 
 /**
  * Stores the status of each patrol resource during runtime
@@ -70,8 +73,22 @@ public class PatrolResourceStatus {
         }
     }
 
+    /**
+     * Returns the latest position reported by {@code patrolResource}, or where they started if they have not
+     * reported one. See {@link PositionStore}.
+     */
     public static Location getLocation(String patrolResource) {
-        return getPatrolResource(patrolResource).getValue1();
+        Location latest = PositionStore.getInstance().getLocation(patrolResource);
+        return (latest != null) ? latest : getPatrolResource(patrolResource).getValue1();
+    }
+
+    /**
+     * Returns the position of {@code patrolResource} in {@code positions}, or where they started if
+     * {@code positions} has none for them.
+     */
+    public static Location getLocation(PositionSnapshot positions, String patrolResource) {
+        Location location = positions.getLocation(patrolResource);
+        return (location != null) ? location : getPatrolResource(patrolResource).getValue1();
     }
 
     /**
@@ -81,7 +98,7 @@ public class PatrolResourceStatus {
      * @param status
      * @throws IllegalValueException if policeOfficerId is not valid
      */
-    public static void setStatus(String policeOfficerId, Boolean status) throws IllegalValueException {
+    public static synchronized void setStatus(String policeOfficerId, Boolean status) throws IllegalValueException {
         int index = 0;
         for (Triplet<String, Location, Boolean> policeOfficer : patrolResourceStatus) {
             if (policeOfficer.getValue0().equalsIgnoreCase(policeOfficerId)) {
@@ -94,4 +111,56 @@ public class PatrolResourceStatus {
         throw new IllegalValueException(Messages.MESSAGE_PO_NOT_FOUND);
     }
 
+    /**
+     * Returns the IDs of the police officers who are free to be sent as backup.
+     */
+    public static synchronized List<String> getFreeOfficers() {
+        List<String> freeOfficers = new ArrayList<>();
+        for (Triplet<String, Location, Boolean> policeOfficer : patrolResourceStatus) {
+            if (!policeOfficer.getValue2()) {
+                freeOfficers.add(policeOfficer.getValue0());
+            }
+        }
+        return freeOfficers;
+    }
+
+    /**
+     * Engages every one of {@code policeOfficerIds}, or none of them if any is already engaged.
+     *
+     * @return true if the officers were engaged.
+     * @throws IllegalValueException if any of {@code policeOfficerIds} is not valid
+     */
+    public static synchronized boolean engageAll(List<String> policeOfficerIds) throws IllegalValueException {
+        for (String policeOfficerId : policeOfficerIds) {
+            if (findIndex(policeOfficerId) < 0) {
+                throw new IllegalValueException(Messages.MESSAGE_PO_NOT_FOUND);
+            }
+        }
+        if (!getFreeOfficers().containsAll(policeOfficerIds)) {
+            return false;
+        }
+        for (String policeOfficerId : policeOfficerIds) {
+            setStatus(policeOfficerId, true);
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code patrolResourceId} is the ID of a patrol resource.
+     */
+    public static boolean isValidId(String patrolResourceId) {
+        return findIndex(patrolResourceId) >= 0;
+    }
+
+    /**
+     * Returns the position of {@code policeOfficerId} in the status list, or -1 if there is no such officer.
+     */
+    private static int findIndex(String policeOfficerId) {
+        for (int i = 0; i < patrolResourceStatus.size(); i++) {
+            if (patrolResourceStatus.get(i).getValue0().equalsIgnoreCase(policeOfficerId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
 }
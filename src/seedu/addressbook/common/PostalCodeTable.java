@@ -0,0 +1,159 @@
+//@@author andyrobert3
+package seedu.addressbook.common;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Locates Singapore postal codes without going online, from a table bundled with the System.
+ *
+ * The table gives the centre of each postal sector (the first two digits of a postal code), and may also
+ * give the exact location of particular postal codes, which then take precedence over their sector.
+ * Sectors are also grouped into the 28 postal districts, for counting persons by where they live.
+ */
+public class PostalCodeTable {
+    public static final String DEFAULT_RESOURCE = "/resources/postalSectors.csv";
+    public static final int NUM_DISTRICTS = 28;
+
+    private static final Logger logger = Logger.getLogger(PostalCodeTable.class.getName());
+    private static final int NUM_SECTORS = 100;
+    private static final int SECTOR_DIGITS = 2;
+    private static final int POSTAL_CODE_DIGITS = 6;
+
+    /** Each postal district, followed by the postal sectors in it. */
+    private static final int[][] DISTRICT_SECTORS = {
+        {1, 1, 2, 3, 4, 5, 6}, {2, 7, 8}, {3, 14, 15, 16}, {4, 9, 10}, {5, 11, 12, 13}, {6, 17}, {7, 18, 19},
+        {8, 20, 21}, {9, 22, 23}, {10, 24, 25, 26, 27}, {11, 28, 29, 30}, {12, 31, 32, 33}, {13, 34, 35, 36, 37},
+        {14, 38, 39, 40, 41}, {15, 42, 43, 44, 45}, {16, 46, 47, 48}, {17, 49, 50, 81}, {18, 51, 52},
+        {19, 53, 54, 55, 82}, {20, 56, 57}, {21, 58, 59}, {22, 60, 61, 62, 63, 64}, {23, 65, 66, 67, 68},
+        {24, 69, 70, 71}, {25, 72, 73}, {26, 77, 78}, {27, 75, 76}, {28, 79, 80}
+    };
+    private static final int[] SECTOR_DISTRICTS = new int[NUM_SECTORS];
+    static {
+        for (int[] districtSectors : DISTRICT_SECTORS) {
+            for (int i = 1; i < districtSectors.length; i++) {
+                SECTOR_DISTRICTS[districtSectors[i]] = districtSectors[0];
+            }
+        }
+    }
+
+    private static PostalCodeTable instance;
+
+    private final Location[] sectors = new Location[NUM_SECTORS];
+    private final Map<Integer, Location> postalCodes = new HashMap<>();
+
+    private PostalCodeTable() {
+    }
+
+    /**
+     * Reads the table from {@code reader}. Malformed lines are skipped.
+     */
+    public PostalCodeTable(BufferedReader reader) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            if (!addEntry(line.split(","))) {
+                logger.log(Level.WARNING, String.format("Ignoring malformed postal code entry \"%s\"", line));
+            }
+        }
+    }
+
+    /**
+     * Returns the table bundled with the System, reading it on first use.
+     * If the table cannot be read, no postal code can be located.
+     */
+    public static synchronized PostalCodeTable getInstance() {
+        if (instance == null) {
+            try (InputStream stream = PostalCodeTable.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+                if (stream == null) {
+                    throw new IOException(DEFAULT_RESOURCE + " is missing");
+                }
+                instance = new PostalCodeTable(new BufferedReader(new InputStreamReader(stream,
+                        StandardCharsets.UTF_8)));
+            } catch (IOException ioe) {
+                logger.log(Level.SEVERE, "Could not read postal code table", ioe);
+                instance = new PostalCodeTable();
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the location of {@code postalCode}, or empty if neither it nor its sector is in the table.
+     */
+    public Optional<Location> locate(String postalCode) {
+        if (!isAllDigits(postalCode, POSTAL_CODE_DIGITS)) {
+            return Optional.empty();
+        }
+        Location exact = postalCodes.get(Integer.parseInt(postalCode));
+        if (exact != null) {
+            return Optional.of(exact);
+        }
+        return Optional.ofNullable(sectors[Integer.parseInt(postalCode.substring(0, SECTOR_DIGITS))]);
+    }
+
+    /**
+     * Returns the postal district, from 1 to {@link #NUM_DISTRICTS}, of {@code postalCode},
+     * or empty if it is not a postal code or its sector is in no district.
+     */
+    public static OptionalInt getDistrict(String postalCode) {
+        if (!isAllDigits(postalCode, POSTAL_CODE_DIGITS)) {
+            return OptionalInt.empty();
+        }
+        int district = SECTOR_DISTRICTS[Integer.parseInt(postalCode.substring(0, SECTOR_DIGITS))];
+        return district == 0 ? OptionalInt.empty() : OptionalInt.of(district);
+    }
+
+    /**
+     * Adds the postal sector or postal code in {@code fields}.
+     *
+     * @return false if {@code fields} is malformed.
+     */
+    private boolean addEntry(String[] fields) {
+        if (fields.length != 3) {
+            return false;
+        }
+        String key = fields[0].trim();
+        Location location;
+        try {
+            location = new Location(Double.parseDouble(fields[1].trim()), Double.parseDouble(fields[2].trim()));
+        } catch (NumberFormatException nfe) {
+            return false;
+        }
+        if (isAllDigits(key, SECTOR_DIGITS)) {
+            sectors[Integer.parseInt(key)] = location;
+        } else if (isAllDigits(key, POSTAL_CODE_DIGITS)) {
+            postalCodes.put(Integer.parseInt(key), location);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code text} is exactly {@code length} digits.
+     */
+    private static boolean isAllDigits(String text, int length) {
+        if (text.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!Character.isDigit(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,68 @@
+//@@author andyrobert3
+package seedu.addressbook.common;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import seedu.addressbook.password.Password;
+
+/**
+ * The identity of a logged in user: their user ID and the name they are addressed by.
+ *
+ * A session is immutable and there is one per user ID, so the identity can be read for every command
+ * or message without looking anything up again.
+ */
+public final class Session {
+
+    /** The identity used when no one is logged in. */
+    public static final Session NONE = new Session("Ghost", "Ghost");
+
+    private static final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+    private final String userId;
+    private final String displayName;
+
+    private Session(String userId, String displayName) {
+        this.userId = userId;
+        this.displayName = displayName;
+    }
+
+    /**
+     * Returns the session of {@code userId}.
+     */
+    public static Session of(String userId) {
+        return sessions.computeIfAbsent(userId, id -> new Session(id, Password.getDisplayName(id)));
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    /**
+     * Returns the name the user is addressed by, e.g. "Police Officer Oscar November Echo" for po1.
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public boolean isHqp() {
+        return PatrolResourceStatus.HEADQUARTER_PERSONNEL_ID.equals(userId);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Session // instanceof handles nulls
+                && userId.equals(((Session) other).userId));
+    }
+
+    @Override
+    public int hashCode() {
+        return userId.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return userId;
+    }
+}
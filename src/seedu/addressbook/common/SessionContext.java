@@ -0,0 +1,104 @@
+//@@author andyrobert3
+package seedu.addressbook.common;
+
+import java.util.Collections;
+import java.util.List;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.inbox.InboxCursor;
+import seedu.addressbook.password.Password;
+
+/**
+ * State that belongs to a single user session rather than to the whole process:
+ * the identity of the logged in user, the list of persons last shown and the inbox cursor.
+ *
+ * The session executing a command is bound to the executing thread for the duration of the command,
+ * so code deep in the call chain (e.g. {@code Password.getId()}) can resolve it with {@link #current()}.
+ * When no session is bound, the shared console session is used.
+ */
+public class SessionContext {
+
+    private static final InboxCursor CONSOLE_INBOX_CURSOR = new InboxCursor();
+    private static final SessionContext CONSOLE = forConsole();
+    private static final ThreadLocal<SessionContext> boundSession = new ThreadLocal<>();
+
+    /** Null when the identity follows the console login held by {@code Password}. */
+    private final Session session;
+    private final InboxCursor inboxCursor;
+    private volatile List<? extends ReadOnlyPerson> lastShownList = Collections.emptyList();
+
+    private SessionContext(Session session, InboxCursor inboxCursor) {
+        this.session = session;
+        this.inboxCursor = inboxCursor;
+    }
+
+    /**
+     * Returns a new session for the local console.
+     * Its identity follows the console login and its inbox cursor is shared with other console sessions.
+     */
+    public static SessionContext forConsole() {
+        return new SessionContext(null, CONSOLE_INBOX_CURSOR);
+    }
+
+    /**
+     * Returns a new session logged in as {@code userId}, with its own inbox cursor.
+     */
+    public static SessionContext forUser(String userId) {
+        return new SessionContext(Session.of(userId), new InboxCursor());
+    }
+
+    /**
+     * Returns the session bound to the current thread, or the console session if there is none.
+     */
+    public static SessionContext current() {
+        SessionContext session = boundSession.get();
+        return (session == null) ? CONSOLE : session;
+    }
+
+    /**
+     * Binds {@code session} to the current thread and returns the previously bound session (possibly null),
+     * to be restored with {@link #restore(SessionContext)}.
+     */
+    public static SessionContext bind(SessionContext session) {
+        SessionContext previous = boundSession.get();
+        boundSession.set(session);
+        return previous;
+    }
+
+    /**
+     * Restores a binding returned by {@link #bind(SessionContext)}.
+     */
+    public static void restore(SessionContext previous) {
+        if (previous == null) {
+            boundSession.remove();
+        } else {
+            boundSession.set(previous);
+        }
+    }
+
+    /**
+     * Returns the user ID of this session, or null if the identity follows the console login.
+     */
+    public String getUserId() {
+        return (session == null) ? null : session.getUserId();
+    }
+
+    /**
+     * Returns the identity of the user of this session, which for the console is whoever is logged in to it.
+     */
+    public Session getSession() {
+        return (session == null) ? Password.getConsoleSession() : session;
+    }
+
+    public InboxCursor getInboxCursor() {
+        return inboxCursor;
+    }
+
+    public List<? extends ReadOnlyPerson> getLastShownList() {
+        return lastShownList;
+    }
+
+    public void setLastShownList(List<? extends ReadOnlyPerson> lastShownList) {
+        this.lastShownList = lastShownList;
+    }
+}
@@ -1,19 +1,24 @@
 package seedu.addressbook.data;
 
-import java.io.BufferedReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import seedu.addressbook.autocorrect.Trie;
+import seedu.addressbook.common.Location;
 import seedu.addressbook.data.person.Person;
 import seedu.addressbook.data.person.ReadOnlyPerson;
 import seedu.addressbook.data.person.UniquePersonList;
 import seedu.addressbook.data.person.UniquePersonList.DuplicateNricException;
 import seedu.addressbook.data.person.UniquePersonList.PersonNotFoundException;
-import seedu.addressbook.password.Password;
 import seedu.addressbook.readandwrite.ReaderAndWriter;
+import seedu.addressbook.readandwrite.ScreeningLog;
+import seedu.addressbook.readandwrite.ScreeningLogPolicy;
+import seedu.addressbook.readandwrite.ScreeningRecord;
+import seedu.addressbook.timeanddate.ClockService;
 import seedu.addressbook.timeanddate.TimeAndDate;
 
 /**
@@ -26,8 +31,24 @@ public class AddressBook {
     private int counter = 0;
 
     private final UniquePersonList allPersons;
+    private final ProximityIndex proximityIndex = new ProximityIndex();
+    private final NameIndex nameIndex = new NameIndex();
+    private final PhoneticIndex phoneticIndex = new PhoneticIndex();
+    private final StatisticsIndex statisticsIndex = new StatisticsIndex();
+    /** Every index of the persons, changed together with {@link #allPersons}. */
+    private final List<PersonIndex> personIndexes = Arrays.asList(proximityIndex, nameIndex, phoneticIndex,
+            statisticsIndex);
+    private final Trie nrics = new Trie();
     private ReaderAndWriter readerAndWriter = new ReaderAndWriter();
 
+    /** The screening history files read or written so far, by path. */
+    private final Map<String, ScreeningLog> screeningLogs = new ConcurrentHashMap<>();
+    /** The screening history files indexed so far, by path. */
+    private final Map<String, ScreeningIndex> screeningIndexes = new ConcurrentHashMap<>();
+
+    /** Incremented on every change to the list of persons, so readers can tell whether a saved copy is stale. */
+    private volatile long version = 0;
+
     /**
      * Creates an empty record.
      */
@@ -42,6 +63,12 @@ public class AddressBook {
      */
     public AddressBook(UniquePersonList persons) {
         this.allPersons = new UniquePersonList(persons);
+        for (Person person : allPersons) {
+            for (PersonIndex personIndex : personIndexes) {
+                personIndex.add(person);
+            }
+            nrics.add(person.getNric().getIdentificationNumber());
+        }
     }
 
     public static AddressBook empty() {
@@ -55,6 +82,11 @@ public class AddressBook {
      */
     public void addPerson(Person toAdd) throws UniquePersonList.DuplicateNricException {
         allPersons.add(toAdd);
+        for (PersonIndex personIndex : personIndexes) {
+            personIndex.add(toAdd);
+        }
+        nrics.add(toAdd.getNric().getIdentificationNumber());
+        version++;
     }
     //@@author muhdharun
 
@@ -73,58 +105,35 @@ public class AddressBook {
 
     public List<String> readDatabase(String nric, String file) throws IOException {
         List<String> data = new ArrayList<>();
-        String line;
-        BufferedReader br = readerAndWriter.openReader(readerAndWriter.fileToUse(file));
-        line = br.readLine();
-        while (line != null) {
-            String[] parts = line.split(" ", 3);
-
-            if (parts[0].equals(nric)) {
-                if (parts[2].equals("null")) {
-                    continue;
-                }
-                data.add(parts[1] + " by " + parts[2]);
-                line = br.readLine();
-            } else {
-                line = br.readLine();
-            }
+        for (ScreeningRecord record : getScreeningLog(file).read(nric)) {
+            data.add(ClockService.formatForCheckCommand(record.getEpochMilli()) + "hrs by " + record.getOfficer());
         }
-        br.close();
         return data;
     }
 
     /**
      * Adds the timestamp, the respective Nric and the PO who screened the person (using 'find' command)
+     *
+     * @param screenedBy name of the PO who screened the person
      */
 
-    public void updateDatabase(String file) throws IOException {
-        String line;
-        BufferedReader br = readerAndWriter.openReader(readerAndWriter.fileToUse(file));
-        FileWriter write = new FileWriter(file, true);
-        PrintWriter myPrinter = new PrintWriter(write);
-        try {
-            while ((line = br.readLine()) != null) {
-                String[] parts = line.split(" ", 3);
-
-                if (parts[0].equals(tempNric)) {
-                    myPrinter.println(tempNric + " " + tempTimestamp + " " + Password.getFullId(Password.getId()));
-                    myPrinter.close();
-                    br.close();
-                    return;
-                }
-                line = br.readLine();
-                continue;
-            }
-            myPrinter.println(tempNric + " " + tempTimestamp + " " + Password.getFullId(Password.getId()));
-            myPrinter.close();
-            br.close();
-        } catch (Exception e) {
-            myPrinter.print(tempNric + " " + tempTimestamp + " " + Password.getFullId(Password.getId()));
-
-            myPrinter.close();
-            br.close();
+    public void updateDatabase(String file, String screenedBy) throws IOException {
+        getScreeningLog(file).append(tempNric + " " + tempTimestamp + " " + screenedBy);
+        //@@author andyrobert3
+        ScreeningIndex screeningIndex = screeningIndexes.get(file);
+        if (screeningIndex != null) {
+            screeningIndex.refresh();
         }
     }
+
+    /**
+     * Returns the screening history {@code file}, with the segments sealed from it, under the policy in
+     * {@value ScreeningLogPolicy#DEFAULT_FILE}.
+     */
+    public ScreeningLog getScreeningLog(String file) {
+        return screeningLogs.computeIfAbsent(file, path -> new ScreeningLog(readerAndWriter.fileToUse(path),
+                ScreeningLogPolicy.load(readerAndWriter.fileToUse(ScreeningLogPolicy.DEFAULT_FILE))));
+    }
     //@@author
     /**
      * Checks if an equivalent person exists in the records.
@@ -141,6 +150,11 @@ public class AddressBook {
      */
     public void removePerson(ReadOnlyPerson toRemove) throws PersonNotFoundException {
         allPersons.remove(toRemove);
+        for (PersonIndex personIndex : personIndexes) {
+            personIndex.remove(toRemove);
+        }
+        nrics.remove(toRemove.getNric().getIdentificationNumber());
+        version++;
     }
 
     /**
@@ -160,6 +174,18 @@ public class AddressBook {
      */
     public void clear() {
         allPersons.clear();
+        for (PersonIndex personIndex : personIndexes) {
+            personIndex.clear();
+        }
+        nrics.clear();
+        version++;
+    }
+
+    /**
+     * Returns the number of changes made to the list of persons so far.
+     */
+    public long getVersion() {
+        return version;
     }
 
     /**
@@ -169,6 +195,74 @@ public class AddressBook {
         return new UniquePersonList(allPersons);
     }
 
+    //@@author andyrobert3
+    /**
+     * Unmodifiable snapshot of all persons in the records at the time of the call.
+     * Unlike {@link #getAllPersons()}, the snapshot is only copied again after the records change.
+     */
+    public List<ReadOnlyPerson> getPersonsSnapshot() {
+        return allPersons.snapshot();
+    }
+
+    /**
+     * Records that {@code edited}, a person in the records, has been changed in place, e.g. by the edit command.
+     */
+    public void personEdited(ReadOnlyPerson edited) {
+        for (PersonIndex personIndex : personIndexes) {
+            personIndex.update(edited);
+        }
+        version++;
+    }
+
+    /**
+     * Returns the wanted persons, and the ex-convicts unless {@code isWantedOnly}, whose postal code lies within
+     * {@code radiusKm} of {@code centre}, nearest first.
+     */
+    public List<ReadOnlyPerson> findNearby(Location centre, double radiusKm, boolean isWantedOnly) {
+        return proximityIndex.findNearby(centre, radiusKm, isWantedOnly);
+    }
+
+    /**
+     * Returns at most {@code limit} persons whose name matches all or part of {@code name}, best match first.
+     */
+    public List<ReadOnlyPerson> findByName(String name, int limit) {
+        return nameIndex.find(name, limit);
+    }
+
+    /**
+     * Returns at most {@code limit} persons whose name sounds like {@code name}, best match first.
+     */
+    public List<ReadOnlyPerson> findBySound(String name, int limit) {
+        return phoneticIndex.find(name, limit);
+    }
+
+    /**
+     * Returns the counts of the persons in the records by status, offense, postal district and age band.
+     * They are kept up to date as the records change, so this takes no longer however many persons there are.
+     */
+    public PersonStatistics getStatistics() {
+        return statisticsIndex.getStatistics();
+    }
+
+    /**
+     * Returns the index of the screenings in the screening history {@code file}, indexing the lines added to it
+     * since it was last indexed.
+     */
+    public ScreeningIndex getScreeningIndex(String file) throws IOException {
+        ScreeningIndex screeningIndex = screeningIndexes.computeIfAbsent(file,
+            path -> new ScreeningIndex(getScreeningLog(path)));
+        screeningIndex.refresh();
+        return screeningIndex;
+    }
+
+    /**
+     * Returns the first {@code limit} NRICs in the records, in alphabetical order, which start with {@code prefix}.
+     */
+    public List<String> completeNric(String prefix, int limit) {
+        return nrics.complete(prefix, limit);
+    }
+
+    //@@author
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
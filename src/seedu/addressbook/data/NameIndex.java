@@ -0,0 +1,160 @@
+//@@author andyrobert3
+package seedu.addressbook.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Finds persons by part of their name, best match first.
+ *
+ * Every name is broken into trigrams (runs of three characters) of its lower-cased words, each word padded with two
+ * spaces in front and one behind, so "Adam" gives "  a", " ad", "ada", "dam" and "am ". Each trigram lists the persons
+ * whose name contains it. A query is broken up the same way, but without the trailing pad as its last word may be
+ * incomplete, and only the persons listed under its trigrams are looked at. The more trigrams a name shares with the
+ * query, and the fewer it has besides, the better it matches, so a misspelt name is still found.
+ */
+public class NameIndex implements PersonIndex {
+    /** The least fraction of the trigrams of a query which a name must contain to match it. */
+    public static final double MIN_MATCHED_FRACTION = 0.5;
+
+    private static final int GRAM_LENGTH = 3;
+    private static final String WORD_PREFIX = "  ";
+    private static final String WORD_SUFFIX = " ";
+
+    private final Map<String, Set<Entry>> entriesByTrigram = new HashMap<>();
+    private final Map<String, Entry> entriesByNric = new HashMap<>();
+
+    /**
+     * Lists {@code person} under each trigram of their name.
+     */
+    @Override
+    public void add(ReadOnlyPerson person) {
+        remove(person);
+        Entry entry = new Entry(person, getTrigrams(person.getName().fullName, true));
+        entriesByNric.put(PersonIndex.getKey(person), entry);
+        for (String trigram : entry.trigrams) {
+            entriesByTrigram.computeIfAbsent(trigram, unused -> new LinkedHashSet<>()).add(entry);
+        }
+    }
+
+    /**
+     * Takes the person with the NRIC of {@code person} off the lists of their trigrams, dropping lists left empty.
+     */
+    @Override
+    public void remove(ReadOnlyPerson person) {
+        Entry entry = entriesByNric.remove(PersonIndex.getKey(person));
+        if (entry == null) {
+            return;
+        }
+        for (String trigram : entry.trigrams) {
+            Set<Entry> entries = entriesByTrigram.get(trigram);
+            entries.remove(entry);
+            if (entries.isEmpty()) {
+                entriesByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        entriesByTrigram.clear();
+        entriesByNric.clear();
+    }
+
+    @Override
+    public int size() {
+        return entriesByNric.size();
+    }
+
+    /**
+     * Returns at most {@code limit} persons whose name matches {@code query}, best match first.
+     */
+    public List<ReadOnlyPerson> find(String query, int limit) {
+        Set<String> queryTrigrams = getTrigrams(query, false);
+        if (queryTrigrams.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        Map<Entry, Integer> numShared = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            for (Entry entry : entriesByTrigram.getOrDefault(trigram, Collections.emptySet())) {
+                numShared.merge(entry, 1, Integer::sum);
+            }
+        }
+
+        int minShared = (int) Math.ceil(queryTrigrams.size() * MIN_MATCHED_FRACTION);
+        PriorityQueue<Match> best = new PriorityQueue<>(Match.BEST_FIRST.reversed());
+        for (Map.Entry<Entry, Integer> shared : numShared.entrySet()) {
+            if (shared.getValue() < minShared) {
+                continue;
+            }
+            best.add(new Match(shared.getKey(), shared.getValue(), queryTrigrams.size()));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<Match> matches = new ArrayList<>(best);
+        matches.sort(Match.BEST_FIRST);
+        List<ReadOnlyPerson> persons = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            persons.add(match.entry.person);
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the trigrams of the words of {@code text}, padding the end of each word only if {@code isComplete}.
+     */
+    static Set<String> getTrigrams(String text, boolean isComplete) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (String word : text.toLowerCase(Locale.ROOT).trim().split("\\s+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = WORD_PREFIX + word + (isComplete ? WORD_SUFFIX : "");
+            for (int i = 0; i + GRAM_LENGTH <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + GRAM_LENGTH));
+            }
+        }
+        return trigrams;
+    }
+
+    /**
+     * A person with the trigrams their name was listed under, to take them off the same lists after a rename.
+     */
+    private static class Entry {
+        private final ReadOnlyPerson person;
+        private final Set<String> trigrams;
+
+        Entry(ReadOnlyPerson person, Set<String> trigrams) {
+            this.person = person;
+            this.trigrams = trigrams;
+        }
+    }
+
+    /**
+     * A person found by a query, scored by the Dice coefficient of the trigrams of their name and of the query.
+     */
+    private static class Match {
+        static final Comparator<Match> BEST_FIRST = Comparator.<Match>comparingDouble(match -> -match.score)
+                .thenComparing(match -> match.entry.person.getName().fullName)
+                .thenComparing(match -> PersonIndex.getKey(match.entry.person));
+
+        private final Entry entry;
+        private final double score;
+
+        Match(Entry entry, int numShared, int numQueryTrigrams) {
+            this.entry = entry;
+            this.score = 2.0 * numShared / (numQueryTrigrams + entry.trigrams.size());
+        }
+    }
+}
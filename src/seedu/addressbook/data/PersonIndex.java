@@ -0,0 +1,46 @@
+//@@author andyrobert3
+package seedu.addressbook.data;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * An index of the persons in the records, which {@link AddressBook} keeps up to date as persons are added, edited,
+ * removed and cleared. Persons are indexed by NRIC, so adding a person replaces whoever was indexed with their NRIC.
+ *
+ * Implementations are not thread safe: the address book only changes them with the records, under the same lock.
+ */
+public interface PersonIndex {
+    /**
+     * Indexes {@code person}, in place of any person indexed with their NRIC.
+     */
+    void add(ReadOnlyPerson person);
+
+    /**
+     * Stops indexing the person with the NRIC of {@code person}, if any.
+     */
+    void remove(ReadOnlyPerson person);
+
+    /**
+     * Indexes {@code person} again after they changed in place, e.g. by the edit command.
+     */
+    default void update(ReadOnlyPerson person) {
+        add(person);
+    }
+
+    /**
+     * Stops indexing every person.
+     */
+    void clear();
+
+    /**
+     * Returns the number of persons indexed.
+     */
+    int size();
+
+    /**
+     * Returns the NRIC {@code person} is indexed by.
+     */
+    static String getKey(ReadOnlyPerson person) {
+        return person.getNric().getIdentificationNumber();
+    }
+}
@@ -0,0 +1,193 @@
+//@@author andyrobert3
+package seedu.addressbook.data;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+import seedu.addressbook.common.PostalCodeTable;
+import seedu.addressbook.data.person.Offense;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Counts persons by status, by the offense they are wanted for, by their past offenses, by postal district
+ * and by age band.
+ *
+ * Counts can be combined, so that persons may be counted in parallel, as by {@link #of(Collection, Predicate)},
+ * and taken away again, so that a running count can be kept as the records change, as by {@link StatisticsIndex}.
+ * Persons are counted by year of birth, as that is all the records hold, and only put in age bands when asked.
+ *
+ * Not thread safe.
+ */
+public class PersonStatistics {
+    public static final String UNKNOWN_DISTRICT = "unknown";
+
+    /** The youngest age in each age band, youngest band first. */
+    private static final int[] AGE_BAND_MINIMUMS = {0, 18, 30, 45, 60};
+
+    private final Map<String, Integer> byStatus = new TreeMap<>();
+    private final Map<String, Integer> byWantedFor = new TreeMap<>();
+    private final Map<String, Integer> byPastOffense = new TreeMap<>();
+    private final Map<String, Integer> byDistrict = new TreeMap<>();
+    private final Map<Integer, Integer> byBirthYear = new TreeMap<>();
+    private int total = 0;
+
+    /**
+     * Counts the persons in {@code persons} for whom {@code filter} holds, in parallel.
+     */
+    public static PersonStatistics of(Collection<? extends ReadOnlyPerson> persons,
+                                      Predicate<? super ReadOnlyPerson> filter) {
+        return persons.parallelStream()
+                .filter(filter)
+                .collect(PersonStatistics::new, PersonStatistics::add, PersonStatistics::combine);
+    }
+
+    /**
+     * Counts {@code person}.
+     */
+    public void add(ReadOnlyPerson person) {
+        count(new Facts(person), 1);
+    }
+
+    /**
+     * Adds the counts of {@code other} to these.
+     */
+    public void combine(PersonStatistics other) {
+        other.byStatus.forEach((status, count) -> adjust(byStatus, status, count));
+        other.byWantedFor.forEach((offense, count) -> adjust(byWantedFor, offense, count));
+        other.byPastOffense.forEach((offense, count) -> adjust(byPastOffense, offense, count));
+        other.byDistrict.forEach((district, count) -> adjust(byDistrict, district, count));
+        other.byBirthYear.forEach((year, count) -> adjust(byBirthYear, year, count));
+        total += other.total;
+    }
+
+    /**
+     * Returns a copy of these counts, which does not change with them.
+     */
+    public PersonStatistics copy() {
+        PersonStatistics copy = new PersonStatistics();
+        copy.combine(this);
+        return copy;
+    }
+
+    /**
+     * Adds {@code delta} to the count of each of {@code facts}.
+     */
+    void count(Facts facts, int delta) {
+        adjust(byStatus, facts.status, delta);
+        if (facts.wantedFor != null) {
+            adjust(byWantedFor, facts.wantedFor, delta);
+        }
+        for (String offense : facts.pastOffenses) {
+            adjust(byPastOffense, offense, delta);
+        }
+        adjust(byDistrict, facts.district, delta);
+        adjust(byBirthYear, facts.birthYear, delta);
+        total += delta;
+    }
+
+    /**
+     * Adds {@code delta} to the count of {@code key} in {@code counts}, leaving out keys counted no more.
+     */
+    private static <K> void adjust(Map<K, Integer> counts, K key, int delta) {
+        counts.merge(key, delta, (count, change) -> count + change == 0 ? null : count + change);
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public Map<String, Integer> getByStatus() {
+        return Collections.unmodifiableMap(byStatus);
+    }
+
+    public Map<String, Integer> getByWantedFor() {
+        return Collections.unmodifiableMap(byWantedFor);
+    }
+
+    public Map<String, Integer> getByPastOffense() {
+        return Collections.unmodifiableMap(byPastOffense);
+    }
+
+    /**
+     * Returns the count of persons in each postal district, from "D01" to "D28", and those whose postal code
+     * is in no district under {@link #UNKNOWN_DISTRICT}.
+     */
+    public Map<String, Integer> getByDistrict() {
+        return Collections.unmodifiableMap(byDistrict);
+    }
+
+    /**
+     * Returns the count of persons in each age band in {@code currentYear}, youngest band first.
+     * Every band is listed, however few persons are in it.
+     */
+    public Map<String, Integer> getByAgeBand(int currentYear) {
+        Map<String, Integer> byAgeBand = new LinkedHashMap<>();
+        for (int i = 0; i < AGE_BAND_MINIMUMS.length; i++) {
+            byAgeBand.put(getAgeBandName(i), 0);
+        }
+        byBirthYear.forEach((year, count) -> byAgeBand.merge(getAgeBandOf(currentYear - year), count, Integer::sum));
+        return byAgeBand;
+    }
+
+    /**
+     * Returns the name of the age band at {@code index} in {@link #AGE_BAND_MINIMUMS}.
+     */
+    private static String getAgeBandName(int index) {
+        if (index == 0) {
+            return "under " + AGE_BAND_MINIMUMS[1];
+        }
+        if (index == AGE_BAND_MINIMUMS.length - 1) {
+            return AGE_BAND_MINIMUMS[index] + " and over";
+        }
+        return AGE_BAND_MINIMUMS[index] + "-" + (AGE_BAND_MINIMUMS[index + 1] - 1);
+    }
+
+    /**
+     * Returns the name of the age band of persons aged {@code age}.
+     */
+    private static String getAgeBandOf(int age) {
+        int index = AGE_BAND_MINIMUMS.length - 1;
+        while (index > 0 && age < AGE_BAND_MINIMUMS[index]) {
+            index--;
+        }
+        return getAgeBandName(index);
+    }
+
+    /**
+     * Returns the name under which persons with {@code postalCode} are counted.
+     */
+    private static String getDistrictName(String postalCode) {
+        OptionalInt district = PostalCodeTable.getDistrict(postalCode);
+        return district.isPresent() ? String.format("D%02d", district.getAsInt()) : UNKNOWN_DISTRICT;
+    }
+
+    /**
+     * The details of a person which are counted, kept so that they can be taken away from the counts
+     * after the person has changed.
+     */
+    static class Facts {
+        private final String status;
+        private final String wantedFor;
+        private final Set<String> pastOffenses = new TreeSet<>();
+        private final String district;
+        private final int birthYear;
+
+        Facts(ReadOnlyPerson person) {
+            status = person.getStatus().getCurrentStatus();
+            String offense = person.getWantedFor().getOffense();
+            wantedFor = Offense.NULL_OFFENSE.equals(offense) ? null : offense;
+            for (Offense pastOffense : person.getPastOffenses()) {
+                pastOffenses.add(pastOffense.getOffense());
+            }
+            district = getDistrictName(person.getPostalCode().getPostalCode());
+            birthYear = Integer.parseInt(person.getDateOfBirth().getDob());
+        }
+    }
+}
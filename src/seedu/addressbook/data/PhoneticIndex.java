@@ -0,0 +1,190 @@
+//@@author andyrobert3
+package seedu.addressbook.data;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import seedu.addressbook.autocorrect.EditDistance;
+import seedu.addressbook.autocorrect.Metaphone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Finds persons whose name sounds like a name heard, e.g. over the radio, however it was spelt.
+ *
+ * Each word of a name is filed in the bucket of its {@link Metaphone} key. A query only looks at the persons in the
+ * buckets of its own words, ranking first those matching more of its words by sound, then those spelt most like
+ * it. A word of the query which sounds like no word of a name must be spelt like one, at most
+ * {@link #getMaxEditDistance(String)} edits from it, or the person is dropped.
+ */
+public class PhoneticIndex implements PersonIndex {
+    /** The fewest edits allowed to a word of a query, however short it is. */
+    public static final int MIN_EDIT_DISTANCE = 2;
+
+    private final Map<String, Set<Entry>> entriesByKey = new HashMap<>();
+    private final Map<String, Entry> entriesByNric = new HashMap<>();
+
+    /**
+     * Files {@code person} in the bucket of the Metaphone key of each word of their name.
+     */
+    @Override
+    public void add(ReadOnlyPerson person) {
+        remove(person);
+        Entry entry = new Entry(person, getWords(person.getName().fullName));
+        entriesByNric.put(PersonIndex.getKey(person), entry);
+        for (String key : entry.keys) {
+            entriesByKey.computeIfAbsent(key, unused -> new LinkedHashSet<>()).add(entry);
+        }
+    }
+
+    /**
+     * Takes the person with the NRIC of {@code person} out of their buckets, dropping buckets left empty.
+     */
+    @Override
+    public void remove(ReadOnlyPerson person) {
+        Entry entry = entriesByNric.remove(PersonIndex.getKey(person));
+        if (entry == null) {
+            return;
+        }
+        for (String key : entry.keys) {
+            Set<Entry> entries = entriesByKey.get(key);
+            entries.remove(entry);
+            if (entries.isEmpty()) {
+                entriesByKey.remove(key);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        entriesByKey.clear();
+        entriesByNric.clear();
+    }
+
+    @Override
+    public int size() {
+        return entriesByNric.size();
+    }
+
+    /**
+     * Returns at most {@code limit} persons whose name sounds like {@code query}, best match first.
+     */
+    public List<ReadOnlyPerson> find(String query, int limit) {
+        List<String> queryWords = getWords(query);
+        if (queryWords.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        Map<Entry, BitSet> wordsSoundingAlike = new HashMap<>();
+        for (int i = 0; i < queryWords.size(); i++) {
+            for (Entry entry : entriesByKey.getOrDefault(Metaphone.encode(queryWords.get(i)), Collections.emptySet())) {
+                wordsSoundingAlike.computeIfAbsent(entry, unused -> new BitSet()).set(i);
+            }
+        }
+
+        PriorityQueue<Match> best = new PriorityQueue<>(Match.BEST_FIRST.reversed());
+        for (Map.Entry<Entry, BitSet> candidate : wordsSoundingAlike.entrySet()) {
+            int editDistance = getEditDistance(queryWords, candidate.getKey().words, candidate.getValue());
+            if (editDistance < 0) {
+                continue;
+            }
+            best.add(new Match(candidate.getKey(), candidate.getValue().cardinality(), editDistance));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<Match> matches = new ArrayList<>(best);
+        matches.sort(Match.BEST_FIRST);
+        List<ReadOnlyPerson> persons = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            persons.add(match.entry.person);
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the most edits allowed to {@code queryWord} for a word of a name to still match it.
+     */
+    static int getMaxEditDistance(String queryWord) {
+        return Math.max(MIN_EDIT_DISTANCE, queryWord.length() / 2);
+    }
+
+    /**
+     * Returns the edits needed to spell each of {@code queryWords} as the word of {@code nameWords} nearest to it,
+     * or -1 if a query word sounding like none of the name is more than {@link #getMaxEditDistance(String)} edits
+     * from every word of it.
+     *
+     * @param soundingAlike the positions of the query words which sound like a word of the name.
+     */
+    private static int getEditDistance(List<String> queryWords, List<String> nameWords, BitSet soundingAlike) {
+        int total = 0;
+        for (int i = 0; i < queryWords.size(); i++) {
+            String queryWord = queryWords.get(i);
+            int nearest = Integer.MAX_VALUE;
+            for (String nameWord : nameWords) {
+                nearest = Math.min(nearest, EditDistance.computeDistance(queryWord, nameWord));
+            }
+            if (!soundingAlike.get(i) && nearest > getMaxEditDistance(queryWord)) {
+                return -1;
+            }
+            total += nearest;
+        }
+        return total;
+    }
+
+    private static List<String> getWords(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : text.toLowerCase(Locale.ROOT).trim().split("\\s+")) {
+            if (!Metaphone.encode(word).isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * A person with the words of their name, kept to rank matches by spelling, and the Metaphone keys of the
+     * buckets they were filed in.
+     */
+    private static class Entry {
+        private final ReadOnlyPerson person;
+        private final List<String> words;
+        private final Set<String> keys = new LinkedHashSet<>();
+
+        Entry(ReadOnlyPerson person, List<String> words) {
+            this.person = person;
+            this.words = words;
+            for (String word : words) {
+                keys.add(Metaphone.encode(word));
+            }
+        }
+    }
+
+    /**
+     * A person found by a query, with how many of its words sound like a word of their name
+     * and how many edits their name is from it.
+     */
+    private static class Match {
+        static final Comparator<Match> BEST_FIRST = Comparator.<Match>comparingInt(match -> -match.numSoundingAlike)
+                .thenComparingInt(match -> match.editDistance)
+                .thenComparing(match -> match.entry.person.getName().fullName)
+                .thenComparing(match -> PersonIndex.getKey(match.entry.person));
+
+        private final Entry entry;
+        private final int numSoundingAlike;
+        private final int editDistance;
+
+        Match(Entry entry, int numSoundingAlike, int editDistance) {
+            this.entry = entry;
+            this.numSoundingAlike = numSoundingAlike;
+            this.editDistance = editDistance;
+        }
+    }
+}
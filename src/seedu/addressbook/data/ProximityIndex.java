@@ -0,0 +1,197 @@
+//@@author andyrobert3
+package seedu.addressbook.data;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.addressbook.common.EtaEstimator;
+import seedu.addressbook.common.Location;
+import seedu.addressbook.common.PatrolGrid;
+import seedu.addressbook.common.PostalCodeTable;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Finds the wanted persons and ex-convicts living near a location.
+ *
+ * Each such person is located by their postal code and kept in the cell of a {@link PatrolGrid} containing them,
+ * with the wanted and the ex-convicts of a cell kept apart. A query only looks at the persons of interest in the
+ * cells within reach, so it takes about as long however many persons are in the records.
+ * Persons who are neither wanted nor ex-convicts, or whose postal code cannot be located, are not indexed.
+ */
+public class ProximityIndex implements PersonIndex {
+    private static final double KM_PER_DEGREE_OF_LATITUDE = 111.2;
+
+    private final PatrolGrid grid;
+    private final PostalCodeTable postalCodes;
+    private final Map<String, Entry> entriesByNric = new HashMap<>();
+    private final Cell[] cells;
+
+    public ProximityIndex() {
+        this(PatrolGrid.SINGAPORE, PostalCodeTable.getInstance());
+    }
+
+    public ProximityIndex(PatrolGrid grid, PostalCodeTable postalCodes) {
+        this.grid = grid;
+        this.postalCodes = postalCodes;
+        this.cells = new Cell[grid.getNumCells()];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new Cell();
+        }
+    }
+
+    /**
+     * Puts {@code person} in the cell of their postal code if they are wanted or an ex-convict. A person who is
+     * neither, or whose postal code cannot be located in the grid, is only taken out of the cell they were in.
+     */
+    @Override
+    public void add(ReadOnlyPerson person) {
+        remove(person);
+        boolean isWanted = person.getStatus().isWanted();
+        if (!isWanted && !person.getStatus().isExConvict()) {
+            return;
+        }
+        Optional<Location> location = postalCodes.locate(person.getPostalCode().getPostalCode());
+        if (!location.isPresent() || grid.getCell(location.get()) < 0) {
+            return;
+        }
+        Entry entry = new Entry(person, location.get(), grid.getCell(location.get()), isWanted);
+        entriesByNric.put(PersonIndex.getKey(person), entry);
+        cells[entry.cell].getEntries(isWanted).add(entry);
+    }
+
+    /**
+     * Takes the person with the NRIC of {@code person} out of their cell.
+     */
+    @Override
+    public void remove(ReadOnlyPerson person) {
+        Entry entry = entriesByNric.remove(PersonIndex.getKey(person));
+        if (entry != null) {
+            cells[entry.cell].getEntries(entry.isWanted).remove(entry);
+        }
+    }
+
+    /**
+     * Empties every cell.
+     */
+    @Override
+    public void clear() {
+        entriesByNric.clear();
+        for (Cell cell : cells) {
+            cell.wanted.clear();
+            cell.exConvicts.clear();
+        }
+    }
+
+    /**
+     * Returns the number of wanted persons and ex-convicts located in a cell.
+     */
+    @Override
+    public int size() {
+        return entriesByNric.size();
+    }
+
+    /**
+     * Returns the indexed persons living within {@code radiusKm} of {@code centre}, nearest first.
+     *
+     * @param isWantedOnly whether to leave out ex-convicts who are not wanted.
+     */
+    public List<ReadOnlyPerson> findNearby(Location centre, double radiusKm, boolean isWantedOnly) {
+        double latitudeDegrees = radiusKm / KM_PER_DEGREE_OF_LATITUDE;
+        double longitudeDegrees = latitudeDegrees / Math.max(0.01, Math.cos(Math.toRadians(centre.getLatitude())));
+        int minRow = clampRow(getRow(centre.getLatitude() - latitudeDegrees));
+        int maxRow = clampRow(getRow(centre.getLatitude() + latitudeDegrees));
+        int minColumn = clampColumn(getColumn(centre.getLongitude() - longitudeDegrees));
+        int maxColumn = clampColumn(getColumn(centre.getLongitude() + longitudeDegrees));
+
+        List<Match> nearby = new ArrayList<>();
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                Cell cell = cells[row * grid.getNumColumns() + column];
+                addWithin(cell.wanted, centre, radiusKm, nearby);
+                if (!isWantedOnly) {
+                    addWithin(cell.exConvicts, centre, radiusKm, nearby);
+                }
+            }
+        }
+        nearby.sort(Comparator.comparingDouble(match -> match.distanceKm));
+        return nearby.stream().map(match -> match.person).collect(Collectors.toList());
+    }
+
+    /**
+     * Adds those of {@code entries} within {@code radiusKm} of {@code centre} to {@code nearby}.
+     */
+    private static void addWithin(Set<Entry> entries, Location centre, double radiusKm, List<Match> nearby) {
+        for (Entry entry : entries) {
+            double distanceKm = EtaEstimator.getDistanceKm(centre, entry.location);
+            if (distanceKm <= radiusKm) {
+                nearby.add(new Match(entry.person, distanceKm));
+            }
+        }
+    }
+
+    private int getRow(double latitude) {
+        return (int) Math.floor((latitude - grid.getMinLatitude()) / grid.getCellDegrees());
+    }
+
+    private int getColumn(double longitude) {
+        return (int) Math.floor((longitude - grid.getMinLongitude()) / grid.getCellDegrees());
+    }
+
+    private int clampRow(int row) {
+        return Math.max(0, Math.min(grid.getNumRows() - 1, row));
+    }
+
+    private int clampColumn(int column) {
+        return Math.max(0, Math.min(grid.getNumColumns() - 1, column));
+    }
+
+    /**
+     * The wanted persons and ex-convicts located in one cell of the grid.
+     */
+    private static class Cell {
+        private final Set<Entry> wanted = new LinkedHashSet<>();
+        private final Set<Entry> exConvicts = new LinkedHashSet<>();
+
+        Set<Entry> getEntries(boolean isWanted) {
+            return isWanted ? wanted : exConvicts;
+        }
+    }
+
+    /**
+     * A person of interest at the location of their postal code. It is found by NRIC to be taken out of the set of
+     * its cell, since the person may have moved or changed status by then.
+     */
+    private static class Entry {
+        private final ReadOnlyPerson person;
+        private final Location location;
+        private final int cell;
+        private final boolean isWanted;
+
+        Entry(ReadOnlyPerson person, Location location, int cell, boolean isWanted) {
+            this.person = person;
+            this.location = location;
+            this.cell = cell;
+            this.isWanted = isWanted;
+        }
+    }
+
+    /**
+     * A person found by a query, and how far they live from its centre.
+     */
+    private static class Match {
+        private final ReadOnlyPerson person;
+        private final double distanceKm;
+
+        Match(ReadOnlyPerson person, double distanceKm) {
+            this.person = person;
+            this.distanceKm = distanceKm;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+//@@author andyrobert3
+package seedu.addressbook.data;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+import seedu.addressbook.readandwrite.ScreeningLog;
+import seedu.addressbook.readandwrite.ScreeningRecord;
+import seedu.addressbook.timeanddate.ClockService;
+
+/**
+ * The screenings in a screening history log, in order of time, to answer who was screened between two times,
+ * whom an officer screened and who was screened most.
+ *
+ * Screenings are kept by the minute they happened in, and by officer, in sorted maps so that the screenings in a
+ * period are found without looking at any outside it. The log's sealed segments and file are read in one pass as
+ * they are first indexed, and {@link #refresh()} reads only the lines appended to the file since, so the index can be
+ * kept up to date on every append. Once the file is sealed into a segment, the log is indexed again from the start.
+ * Each screening keeps its NRIC packed into a long and its officer's name shared with their other screenings.
+ *
+ * Thread safe.
+ */
+public class ScreeningIndex {
+    private static final long MILLIS_PER_MINUTE = 60 * 1000;
+
+    private final ScreeningLog log;
+    private final File file;
+    private final NavigableMap<Long, List<Screening>> byMinute = new TreeMap<>();
+    private final Map<String, NavigableMap<Long, List<Screening>>> byOfficer = new HashMap<>();
+
+    /** Officers' names, so that each is kept once however many screenings they made. */
+    private final Map<String, String> officers = new HashMap<>();
+
+    /** The generation of the log whose sealed segments have been indexed, or -1 if they have not been. */
+    private int generation = -1;
+    /** The bytes of the file indexed so far, always up to the end of a line. */
+    private long bytesRead = 0;
+    /** The first line of the file, to tell whether it has been replaced since. */
+    private String firstLine = null;
+    private int size = 0;
+
+    public ScreeningIndex(ScreeningLog log) {
+        this.log = log;
+        this.file = log.getFile();
+    }
+
+    /**
+     * Indexes the lines appended to the file since it was last read. A line still being written is left for later,
+     * and malformed lines are skipped. If the file has been replaced or sealed into a segment, the log is indexed
+     * again from the start.
+     */
+    public synchronized void refresh() throws IOException {
+        if (generation != log.getGeneration() || !file.exists() || file.length() < bytesRead
+                || (bytesRead > 0 && !firstLine.equals(readFirstLine()))) {
+            clear();
+        }
+        if (generation == -1) {
+            generation = log.getGeneration();
+            log.forEachSealed(this::add);
+        }
+        if (!file.exists() || file.length() == bytesRead) {
+            return;
+        }
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            skipFully(in, bytesRead);
+            StringBuilder line = new StringBuilder();
+            long lineBytes = 0;
+            int b;
+            while ((b = in.read()) != -1) {
+                lineBytes++;
+                if (b != '\n') {
+                    line.append((char) b);
+                    continue;
+                }
+                if (firstLine == null) {
+                    firstLine = line.toString();
+                }
+                addLine(line.toString().trim());
+                bytesRead += lineBytes;
+                line.setLength(0);
+                lineBytes = 0;
+            }
+        }
+    }
+
+    /**
+     * Returns the first line of the file, as {@link #refresh()} reads it.
+     */
+    private String readFirstLine() throws IOException {
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            StringBuilder line = new StringBuilder();
+            int b;
+            while ((b = in.read()) != -1 && b != '\n') {
+                line.append((char) b);
+            }
+            return line.toString();
+        }
+    }
+
+    /**
+     * Skips exactly {@code count} bytes of {@code in}.
+     */
+    private static void skipFully(InputStream in, long count) throws IOException {
+        long remaining = count;
+        while (remaining > 0) {
+            long skipped = in.skip(remaining);
+            if (skipped <= 0) {
+                throw new IOException("Screening history is shorter than indexed");
+            }
+            remaining -= skipped;
+        }
+    }
+
+    /**
+     * Indexes a line of screening history, e.g. "s1234567a 01/11/2018-2202hrs Headquarters Personnel".
+     *
+     * @return false if the line is malformed and was skipped.
+     */
+    synchronized boolean addLine(String line) {
+        ScreeningRecord record = ScreeningRecord.parseLegacyLine(line);
+        if (record == null) {
+            return false;
+        }
+        add(record);
+        return true;
+    }
+
+    /**
+     * Files the screening {@code record} by its minute and by its officer.
+     */
+    private void add(ScreeningRecord record) {
+        Screening screening = new Screening(record.getPackedNric(),
+                (int) Math.floorDiv(record.getEpochMilli(), MILLIS_PER_MINUTE),
+                officers.computeIfAbsent(record.getOfficer(), name -> name));
+        byMinute.computeIfAbsent((long) screening.epochMinute, unused -> new ArrayList<>()).add(screening);
+        byOfficer.computeIfAbsent(screening.officer, unused -> new TreeMap<>())
+                .computeIfAbsent((long) screening.epochMinute, unused -> new ArrayList<>()).add(screening);
+        size++;
+    }
+
+    /**
+     * Forgets every screening, to index the log again from the start.
+     */
+    private void clear() {
+        generation = -1;
+        byMinute.clear();
+        byOfficer.clear();
+        officers.clear();
+        bytesRead = 0;
+        firstLine = null;
+        size = 0;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Returns the screenings from {@code fromMillis} until before {@code toMillis}, earliest first, only those by
+     * {@code officer}, named as in the file, unless it is null.
+     * Screenings are only known to the minute, so the times are rounded down to the minute.
+     */
+    public synchronized List<Screening> getScreenings(String officer, long fromMillis, long toMillis) {
+        List<Screening> screenings = new ArrayList<>();
+        for (List<Screening> inMinute : getPeriod(officer, fromMillis, toMillis).values()) {
+            screenings.addAll(inMinute);
+        }
+        return screenings;
+    }
+
+    /**
+     * Returns the {@code limit} NRICs screened most often from {@code fromMillis} until before {@code toMillis},
+     * only by {@code officer} unless it is null, with how often, most screened first.
+     * NRICs screened equally often are in alphabetical order.
+     */
+    public synchronized List<Map.Entry<String, Integer>> getMostScreened(String officer, long fromMillis,
+                                                                          long toMillis, int limit) {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (List<Screening> inMinute : getPeriod(officer, fromMillis, toMillis).values()) {
+            for (Screening screening : inMinute) {
+                counts.merge(screening.nric, 1, Integer::sum);
+            }
+        }
+        // Packed NRICs sort as the NRICs themselves do
+        Comparator<Map.Entry<Long, Integer>> mostFirst = Map.Entry.<Long, Integer>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey());
+        PriorityQueue<Map.Entry<Long, Integer>> most = new PriorityQueue<>(mostFirst.reversed());
+        for (Map.Entry<Long, Integer> count : counts.entrySet()) {
+            most.add(count);
+            if (most.size() > limit) {
+                most.poll();
+            }
+        }
+        List<Map.Entry<Long, Integer>> packed = new ArrayList<>(most);
+        packed.sort(mostFirst);
+        List<Map.Entry<String, Integer>> mostScreened = new ArrayList<>(packed.size());
+        for (Map.Entry<Long, Integer> count : packed) {
+            mostScreened.add(new AbstractMap.SimpleImmutableEntry<>(ScreeningRecord.unpackNric(count.getKey()),
+                    count.getValue()));
+        }
+        return mostScreened;
+    }
+
+    /**
+     * Returns the screenings by minute from {@code fromMillis} until before {@code toMillis}, only by
+     * {@code officer} unless it is null.
+     */
+    private NavigableMap<Long, List<Screening>> getPeriod(String officer, long fromMillis, long toMillis) {
+        NavigableMap<Long, List<Screening>> screenings = (officer == null) ? byMinute : byOfficer.get(officer);
+        long fromMinute = Math.floorDiv(fromMillis, MILLIS_PER_MINUTE);
+        long toMinute = Math.floorDiv(toMillis, MILLIS_PER_MINUTE);
+        if (screenings == null || fromMinute >= toMinute) {
+            return Collections.emptyNavigableMap();
+        }
+        return screenings.subMap(fromMinute, true, toMinute, false);
+    }
+
+    /**
+     * A screening of a person by an officer.
+     */
+    public static class Screening {
+        private final long nric;
+        private final int epochMinute;
+        private final String officer;
+
+        Screening(long nric, int epochMinute, String officer) {
+            this.nric = nric;
+            this.epochMinute = epochMinute;
+            this.officer = officer;
+        }
+
+        public String getNric() {
+            return ScreeningRecord.unpackNric(nric);
+        }
+
+        public long getEpochMilli() {
+            return epochMinute * MILLIS_PER_MINUTE;
+        }
+
+        public String getOfficer() {
+            return officer;
+        }
+
+        /**
+         * Returns the screening as it is shown in screening history, e.g.
+         * "s1234567a 01/11/2018-2202hrs by Headquarters Personnel".
+         */
+        @Override
+        public String toString() {
+            return getNric() + " " + ClockService.formatForCheckCommand(getEpochMilli()) + "hrs by " + officer;
+        }
+    }
+}
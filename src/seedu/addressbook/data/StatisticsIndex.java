@@ -0,0 +1,65 @@
+//@@author andyrobert3
+package seedu.addressbook.data;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.addressbook.data.PersonStatistics.Facts;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Keeps count of the persons in the records by status, offense, postal district and age band as they are added,
+ * edited and removed, so that the counts of everyone are at hand without going through the records.
+ */
+public class StatisticsIndex implements PersonIndex {
+    private final PersonStatistics statistics = new PersonStatistics();
+
+    /** What was counted of each person, by NRIC, to be taken away when they change or are removed. */
+    private final Map<String, Facts> factsByNric = new HashMap<>();
+
+    /**
+     * Counts {@code person} by their status, offenses, postal district and age band, first taking away what was
+     * counted of any earlier person with their NRIC.
+     */
+    @Override
+    public void add(ReadOnlyPerson person) {
+        remove(person);
+        Facts facts = new Facts(person);
+        factsByNric.put(PersonIndex.getKey(person), facts);
+        statistics.count(facts, 1);
+    }
+
+    /**
+     * Takes away what was counted of the person with the NRIC of {@code person}.
+     */
+    @Override
+    public void remove(ReadOnlyPerson person) {
+        Facts facts = factsByNric.remove(PersonIndex.getKey(person));
+        if (facts != null) {
+            statistics.count(facts, -1);
+        }
+    }
+
+    /**
+     * Takes away everything counted, leaving every count at zero.
+     */
+    @Override
+    public void clear() {
+        for (Facts facts : factsByNric.values()) {
+            statistics.count(facts, -1);
+        }
+        factsByNric.clear();
+    }
+
+    @Override
+    public int size() {
+        return factsByNric.size();
+    }
+
+    /**
+     * Returns the counts of every person, as they are now.
+     */
+    public PersonStatistics getStatistics() {
+        return statistics.copy();
+    }
+}
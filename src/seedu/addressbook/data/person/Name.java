@@ -33,7 +33,7 @@ public class Name {
     /**
      * Returns true if a given string is a valid person name.
      */
-    private static boolean isValidName(String test) {
+    public static boolean isValidName(String test) {
         return test.matches(NAME_VALIDATION_REGEX);
     }
 
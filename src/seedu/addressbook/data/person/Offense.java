@@ -1,9 +1,12 @@
 package seedu.addressbook.data.person;
 //@@author muhdharun
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 import seedu.addressbook.data.exception.IllegalValueException;
 import seedu.addressbook.inbox.Msg;
@@ -19,7 +22,7 @@ public class Offense {
             + "Please try again.\n"
             + "Offense must be inside this list:\n";
 
-    static final String NULL_OFFENSE = "none";
+    public static final String NULL_OFFENSE = "none";
 
     //@@author andyrobert3
     private static final HashMap<String, Msg.Priority> OFFENSE_LIST = new HashMap<>();
@@ -122,6 +125,19 @@ public class Offense {
 
         return OFFENSE_LIST.get(offense);
     }
+
+    /**
+     * Returns the valid offences listed by {@link #getListOfValidOffences()}, each with its priority.
+     */
+    public static Map<String, Msg.Priority> getPriorities() {
+        Map<String, Msg.Priority> priorities = new TreeMap<>();
+        for (HashMap.Entry<String, Msg.Priority> entry : OFFENSE_LIST.entrySet()) {
+            if (!entry.getKey().matches(".*\\d+.*") && !entry.getKey().equals("none")) {
+                priorities.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return Collections.unmodifiableMap(priorities);
+    }
     //@@author muhdharun
     public static Set<Offense> getOffenseSet(Set<String> offenseStringSet) throws IllegalValueException {
         Set<Offense> offenseSet = new HashSet<>();
@@ -0,0 +1,93 @@
+//@@author andyrobert3
+package seedu.addressbook.data.person;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A page of persons over a snapshot of the records, which can be advanced to the following page.
+ * Persons are looked up in the snapshot on demand; creating or advancing a cursor copies nothing.
+ */
+public class PersonCursor extends AbstractList<ReadOnlyPerson> implements RandomAccess {
+    private final List<ReadOnlyPerson> source;
+    private final int offset;
+    private final int pageSize;
+
+    private PersonCursor(List<ReadOnlyPerson> source, int offset, int pageSize) {
+        this.source = source;
+        this.offset = offset;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Returns a cursor over all of {@code source} as a single page.
+     */
+    public static PersonCursor all(List<ReadOnlyPerson> source) {
+        return new PersonCursor(source, 0, Math.max(source.size(), 1));
+    }
+
+    /**
+     * Returns the page {@code pageNumber} (starting at 1) of {@code source}, split into pages of {@code pageSize}.
+     *
+     * @throws IllegalArgumentException if there is no such page.
+     */
+    public static PersonCursor page(List<ReadOnlyPerson> source, int pageNumber, int pageSize) {
+        if (pageSize < 1 || pageNumber < 1 || pageNumber > countPages(source.size(), pageSize)) {
+            throw new IllegalArgumentException("No page " + pageNumber + " of size " + pageSize);
+        }
+        return new PersonCursor(source, (pageNumber - 1) * pageSize, pageSize);
+    }
+
+    /**
+     * Returns the number of pages needed to list {@code total} persons, {@code pageSize} to a page.
+     * There is always at least one page, even if it is empty.
+     */
+    public static int countPages(int total, int pageSize) {
+        return Math.max(1, (int) (((long) total + pageSize - 1) / pageSize));
+    }
+
+    @Override
+    public ReadOnlyPerson get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        return source.get(offset + index);
+    }
+
+    @Override
+    public int size() {
+        return Math.max(0, Math.min(pageSize, source.size() - offset));
+    }
+
+    /**
+     * Returns true if there are persons after this page.
+     */
+    public boolean hasNext() {
+        return offset + pageSize < source.size();
+    }
+
+    /**
+     * Returns the page after this one, over the same snapshot.
+     */
+    public PersonCursor next() {
+        return new PersonCursor(source, offset + pageSize, pageSize);
+    }
+
+    public int getPageNumber() {
+        return offset / pageSize + 1;
+    }
+
+    public int getNumberOfPages() {
+        return countPages(source.size(), pageSize);
+    }
+
+    /** Returns the position (starting at 1) in the snapshot of the first person on this page. */
+    public int getFirstPosition() {
+        return offset + 1;
+    }
+
+    public int getTotal() {
+        return source.size();
+    }
+}
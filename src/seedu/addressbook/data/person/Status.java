@@ -42,6 +42,14 @@ public class Status {
         return currentStatus;
     }
 
+    public boolean isWanted() {
+        return WANTED_KEYWORD.equals(currentStatus);
+    }
+
+    public boolean isExConvict() {
+        return EXCONVICT_KEYWORD.equals(currentStatus);
+    }
+
     /**
      * Returns true if a given string is a valid Status.
      */
@@ -1,6 +1,5 @@
 package seedu.addressbook.data.person;
 
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -22,10 +21,12 @@ public class UniquePersonList implements Iterable<Person> {
     /**
      * Signals that an operation would have violated the 'no duplicates' property of the list.
      */
-    private static final SimpleDateFormat timestampFormatter = new SimpleDateFormat("dd/MM/yyyy HH:mm:ss");
 
     private final List<Person> internalList = new ArrayList<>();
 
+    /** Copy of the list as of the last change, shared by all readers until the next change. */
+    private volatile List<ReadOnlyPerson> snapshot;
+
     /**
      * Constructs a person list with the given persons.
      */
@@ -113,6 +114,21 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
 
+    //@@author andyrobert3
+    /**
+     * Unmodifiable copy of the list as it is now. Later changes to the list are not visible in the copy.
+     * The copy is made at most once between changes, so repeated calls without changes are cheap.
+     */
+    public List<ReadOnlyPerson> snapshot() {
+        List<ReadOnlyPerson> current = snapshot;
+        if (current == null) {
+            current = Collections.unmodifiableList(new ArrayList<>(internalList));
+            snapshot = current;
+        }
+        return current;
+    }
+
+    //@@author
     /**
      * Checks if the list contains an equivalent person as the given argument.
      */
@@ -132,6 +148,7 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicateNricException();
         }
         internalList.add(toAdd);
+        snapshot = null;
     }
 
     /**
@@ -144,6 +161,7 @@ public class UniquePersonList implements Iterable<Person> {
         if (!personFoundAndDeleted) {
             throw new PersonNotFoundException();
         }
+        snapshot = null;
     }
 
     /**
@@ -151,6 +169,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void clear() {
         internalList.clear();
+        snapshot = null;
     }
 
     @Override
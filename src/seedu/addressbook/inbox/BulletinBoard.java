@@ -0,0 +1,186 @@
+//@@author andyrobert3
+package seedu.addressbook.inbox;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Messages broadcast to every user, e.g. a person who has just become wanted.
+ *
+ * A bulletin is written once to a shared log, however many inboxes there are. Each inbox keeps its own
+ * read state beside the log: a cursor before which bulletins have been cleared, and a bitmap of
+ * the bulletins read since. {@link Inbox} merges the bulletins with the user's own messages when they are viewed.
+ */
+public class BulletinBoard {
+    static final String READ_STATE_SUFFIX = ".bulletins";
+
+    private static final Logger logger = Logger.getLogger(BulletinBoard.class.getName());
+    private static final String CLEARED_PREFIX = "Cleared up to:";
+    private static final String READ_PREFIX = "Read:";
+
+    private static volatile String defaultLogPath = MessageFilePaths.FILEPATH_BULLETINS;
+
+    private final String logPath;
+
+    public BulletinBoard() {
+        this(defaultLogPath);
+    }
+
+    public BulletinBoard(String logPath) {
+        this.logPath = logPath;
+    }
+
+    /**
+     * Replaces the log used by boards created without one. For testing purposes.
+     */
+    public static void setDefaultLogPath(String newLogPath) {
+        defaultLogPath = newLogPath;
+    }
+
+    public static void resetDefaultLogPath() {
+        defaultLogPath = MessageFilePaths.FILEPATH_BULLETINS;
+    }
+
+    /**
+     * Appends {@code message} to the shared log, making it visible in every inbox.
+     */
+    public void broadcast(Msg message) throws IOException {
+        synchronized (BulletinBoard.class) {
+            new NotificationWriter(logPath, true).writeToFile(message);
+        }
+        InboxEvents.bulletinArrived(message);
+    }
+
+    /**
+     * Returns the bulletins which have not been cleared from the inbox stored at {@code inboxPath},
+     * marked as read or unread for that inbox.
+     */
+    List<Msg> loadBulletins(String inboxPath) throws IOException {
+        List<Msg> bulletins = readLog();
+        ReadState state = ReadState.load(getStatePath(inboxPath));
+        for (int i = 0; i < bulletins.size(); i++) {
+            Msg bulletin = bulletins.get(i);
+            bulletin.setBulletinIndex(i);
+            bulletin.setReadStatus(state.isRead(i));
+        }
+        return bulletins.subList(Math.min(state.clearedUpTo, bulletins.size()), bulletins.size());
+    }
+
+    /**
+     * Marks the bulletin at {@code bulletinIndex} of the log as read in the inbox stored at {@code inboxPath}.
+     */
+    void markRead(String inboxPath, int bulletinIndex) throws IOException {
+        synchronized (BulletinBoard.class) {
+            ReadState state = ReadState.load(getStatePath(inboxPath));
+            state.read.set(bulletinIndex);
+            state.save(getStatePath(inboxPath));
+        }
+    }
+
+    /**
+     * Hides every bulletin broadcast so far from the inbox stored at {@code inboxPath}.
+     */
+    void clear(String inboxPath) throws IOException {
+        synchronized (BulletinBoard.class) {
+            ReadState state = new ReadState(readLog().size(), new BitSet());
+            state.save(getStatePath(inboxPath));
+        }
+    }
+
+    /**
+     * Empties the shared log and forgets which bulletins the inboxes stored at {@code inboxPaths} have read.
+     */
+    void clearAll(String... inboxPaths) throws IOException {
+        synchronized (BulletinBoard.class) {
+            Files.deleteIfExists(Paths.get(logPath));
+            for (String inboxPath : inboxPaths) {
+                Files.deleteIfExists(getStatePath(inboxPath));
+            }
+        }
+    }
+
+    /**
+     * Returns every bulletin in the shared log, earliest first. There are none before the first broadcast.
+     */
+    private List<Msg> readLog() throws IOException {
+        if (!Files.exists(Paths.get(logPath))) {
+            return Collections.emptyList();
+        }
+        return new NotificationReader(logPath).readInFileOrder();
+    }
+
+    /**
+     * Returns where the read state of the inbox stored at {@code inboxPath} is kept, beside the log.
+     */
+    private Path getStatePath(String inboxPath) {
+        return Paths.get(logPath).resolveSibling(Paths.get(inboxPath).getFileName() + READ_STATE_SUFFIX);
+    }
+
+    /**
+     * The bulletins one inbox has cleared and read.
+     */
+    private static class ReadState {
+        private final int clearedUpTo;
+        private final BitSet read;
+
+        ReadState(int clearedUpTo, BitSet read) {
+            this.clearedUpTo = clearedUpTo;
+            this.read = read;
+        }
+
+        boolean isRead(int bulletinIndex) {
+            return bulletinIndex < clearedUpTo || read.get(bulletinIndex);
+        }
+
+        /**
+         * Reads the state saved at {@code path}.
+         * An inbox without a readable state has read no bulletins.
+         */
+        static ReadState load(Path path) throws IOException {
+            int clearedUpTo = 0;
+            BitSet read = new BitSet();
+            if (!Files.exists(path)) {
+                return new ReadState(clearedUpTo, read);
+            }
+            try {
+                for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                    if (line.startsWith(CLEARED_PREFIX)) {
+                        clearedUpTo = Integer.parseInt(line.substring(CLEARED_PREFIX.length()).trim());
+                    } else if (line.startsWith(READ_PREFIX)) {
+                        for (String index : line.substring(READ_PREFIX.length()).split(",")) {
+                            if (!index.trim().isEmpty()) {
+                                read.set(Integer.parseInt(index.trim()));
+                            }
+                        }
+                    }
+                }
+            } catch (NumberFormatException nfe) {
+                logger.log(Level.WARNING, String.format("Ignoring malformed bulletin state \"%s\"", path));
+                return new ReadState(0, new BitSet());
+            }
+            return new ReadState(clearedUpTo, read);
+        }
+
+        /**
+         * Saves the state to {@code path}.
+         * Only bulletins read after the cursor are kept, as those before it count as read anyway.
+         */
+        void save(Path path) throws IOException {
+            StringBuilder readIndices = new StringBuilder(READ_PREFIX);
+            for (int i = read.nextSetBit(clearedUpTo); i >= 0; i = read.nextSetBit(i + 1)) {
+                readIndices.append(i).append(',');
+            }
+            Files.write(path, Arrays.asList(CLEARED_PREFIX + clearedUpTo, readIndices.toString()),
+                    StandardCharsets.UTF_8);
+        }
+    }
+}
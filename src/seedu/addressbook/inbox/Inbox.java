@@ -5,9 +5,11 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.TreeSet;
 
+import seedu.addressbook.common.SessionContext;
+
 /**
- * Stores all messages read from user's inbox message storage file.
- * Also keeps track of the total number of messages and unread messages.
+ * Stores all messages read from user's inbox message storage file, together with the bulletins broadcast to everyone.
+ * Also keeps track of the total number of messages and unread messages, in the cursor of the current session.
  */
 public class Inbox {
     public static final String INBOX_NOT_READ_YET = "You have not read your inbox! \n\t"
@@ -18,13 +20,11 @@ public class Inbox {
     public static final String MESSAGE_STORAGE_PATH_NOT_FOUND = "Cannot find file to write to.";
     public static final String MESSAGE_READ_STATUS_UPDATED = "Successful update";
 
-    private static int numUnreadMsgs = -1;
-
-    private static HashMap<Integer, Msg> recordNotifications = new HashMap<>();
-    private static NotificationReader notificationReader;
-    private static NotificationWriter allMessages;
+    private NotificationReader notificationReader;
+    private NotificationWriter allMessages;
+    private BulletinBoard bulletinBoard = new BulletinBoard();
     // all messages will be stored here, notifications will appear based on severity and timestamp.
-    private static String messageStorageFilepath;
+    private String messageStorageFilepath;
     private TreeSet<Msg> notificationsToPrint = new TreeSet<>();
 
     public Inbox(String policeOfficerId) {
@@ -33,28 +33,61 @@ public class Inbox {
         allMessages = new NotificationWriter(messageStorageFilepath, false);
     }
 
+    private static InboxCursor cursor() {
+        return SessionContext.current().getInboxCursor();
+    }
+
     public static void setNumUnreadMsgs(int numUnreadMsgs) {
-        Inbox.numUnreadMsgs = numUnreadMsgs;
+        cursor().setNumUnreadMsgs(numUnreadMsgs);
     }
 
     /**
-     * TODO: Add Javadoc comment
-     * @return
+     * Reads the user's messages and the bulletins they have not cleared, and records them by their displayed index.
+     * @return the messages sorted by read status, priority, then timestamp.
      * @throws IOException
      */
     public TreeSet<Msg> loadMsgs() throws IOException {
         notificationsToPrint = notificationReader.readFromFile();
+        int numUnreadMsgs = notificationReader.getNumUnreadMsgs();
+        for (Msg bulletin : bulletinBoard.loadBulletins(messageStorageFilepath)) {
+            notificationsToPrint.add(bulletin);
+            if (!bulletin.hasBeenRead()) {
+                numUnreadMsgs++;
+            }
+        }
+        HashMap<Integer, Msg> recordNotifications = cursor().getRecordNotifications();
         int messageIndex = 1;
         for (Msg message : notificationsToPrint) {
             recordNotifications.put(messageIndex++, message);
         }
-        numUnreadMsgs = notificationReader.getNumUnreadMsgs();
+        cursor().setNumUnreadMsgs(numUnreadMsgs);
+        InboxEvents.unreadCountChanged(messageStorageFilepath, numUnreadMsgs);
         return notificationsToPrint;
     }
 
+    /**
+     * Counts the unread messages and bulletins, without recording them for the current session.
+     * @throws IOException
+     */
+    public int countUnreadMsgs() throws IOException {
+        int numUnreadMsgs = 0;
+        for (Msg message : notificationReader.readInFileOrder()) {
+            if (!message.hasBeenRead()) {
+                numUnreadMsgs++;
+            }
+        }
+        for (Msg bulletin : bulletinBoard.loadBulletins(messageStorageFilepath)) {
+            if (!bulletin.hasBeenRead()) {
+                numUnreadMsgs++;
+            }
+        }
+        return numUnreadMsgs;
+    }
+
     /**
      * Messages marked as read by the user will be updated in recordNotifications.
      * Message storage file will be updated with the respective changes.
+     * For a bulletin, only the user's bulletin read state is updated.
      *
      * @param index
      * @return feedback to user indicating if execution was successful or not.
@@ -62,19 +95,33 @@ public class Inbox {
      * @throws IndexOutOfBoundsException
      */
     public String markMsgAsRead(int index) throws NullPointerException, IndexOutOfBoundsException {
+        HashMap<Integer, Msg> recordNotifications = cursor().getRecordNotifications();
+        int numUnreadMsgs = cursor().getNumUnreadMsgs();
         try {
             if ((index < 1) || (index > numUnreadMsgs)) {
                 throw new IndexOutOfBoundsException();
             }
-            recordNotifications.get(index).setMsgAsRead();
-            for (int i = 1; i <= recordNotifications.size(); i++) {
-                notificationsToPrint.add(recordNotifications.get(i));
+            Msg messageRead = recordNotifications.get(index);
+            boolean wasUnread = !messageRead.hasBeenRead();
+            messageRead.setMsgAsRead();
+            if (messageRead.isBulletin()) {
+                bulletinBoard.markRead(messageStorageFilepath, messageRead.getBulletinIndex());
+            } else {
+                for (int i = 1; i <= recordNotifications.size(); i++) {
+                    Msg message = recordNotifications.get(i);
+                    if (!message.isBulletin()) {
+                        notificationsToPrint.add(message);
+                    }
+                }
+                allMessages.writeToFile(notificationsToPrint);
+            }
+            if (wasUnread) {
+                InboxEvents.messageRead(messageStorageFilepath, messageRead);
             }
-            allMessages.writeToFile(notificationsToPrint);
         } catch (IndexOutOfBoundsException | NullPointerException e) {
             if (numUnreadMsgs > 0) {
                 return INDEX_OUT_OF_BOUNDS;
-            } else if (numUnreadMsgs == -1) {
+            } else if (numUnreadMsgs == InboxCursor.UNREAD_UNKNOWN) {
                 return INBOX_NOT_READ_YET;
             } else if (numUnreadMsgs == 0) {
                 return INBOX_NO_UNREAD_MESSAGES;
@@ -86,27 +133,25 @@ public class Inbox {
     }
 
     public int checkNumUnreadMessages() {
-        return numUnreadMsgs;
+        return cursor().getNumUnreadMsgs();
     }
 
     /**
      * TODO: Add Javadoc comment
      */
     public static void resetInboxWhenLogout() {
-        numUnreadMsgs = -1;
-        recordNotifications.clear();
+        cursor().reset();
     }
 
     /**
      * TODO: Add Javadoc comment
      */
     public static void clearInboxRecords() {
-        numUnreadMsgs = 0;
-        recordNotifications.clear();
+        cursor().clear();
     }
 
     public static boolean isRecordMsgsEmpty() {
-        return recordNotifications.isEmpty();
+        return cursor().getRecordNotifications().isEmpty();
     }
 
 }
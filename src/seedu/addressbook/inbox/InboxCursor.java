@@ -0,0 +1,44 @@
+//@@author andyrobert3
+package seedu.addressbook.inbox;
+
+import java.util.HashMap;
+
+/**
+ * Tracks how far a single session has read into its inbox:
+ * the messages last displayed (keyed by their displayed index) and the number of unread messages.
+ */
+public class InboxCursor {
+    /** Number of unread messages is unknown until the inbox has been loaded. */
+    public static final int UNREAD_UNKNOWN = -1;
+
+    private int numUnreadMsgs = UNREAD_UNKNOWN;
+    private final HashMap<Integer, Msg> recordNotifications = new HashMap<>();
+
+    public int getNumUnreadMsgs() {
+        return numUnreadMsgs;
+    }
+
+    public void setNumUnreadMsgs(int numUnreadMsgs) {
+        this.numUnreadMsgs = numUnreadMsgs;
+    }
+
+    public HashMap<Integer, Msg> getRecordNotifications() {
+        return recordNotifications;
+    }
+
+    /**
+     * Forgets the displayed messages, returning the cursor to the state before the inbox was first read.
+     */
+    public void reset() {
+        numUnreadMsgs = UNREAD_UNKNOWN;
+        recordNotifications.clear();
+    }
+
+    /**
+     * Forgets the displayed messages after the inbox has been emptied.
+     */
+    public void clear() {
+        numUnreadMsgs = 0;
+        recordNotifications.clear();
+    }
+}
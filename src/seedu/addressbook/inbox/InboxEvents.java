@@ -0,0 +1,77 @@
+//@@author andyrobert3
+package seedu.addressbook.inbox;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Tells the listeners of each inbox about the changes made to it within this application.
+ *
+ * Listeners are called on the thread which changed the inbox, after the change has been written,
+ * so they should hand any slow work, such as updating the GUI, to another thread.
+ */
+public class InboxEvents {
+    private static final Logger logger = Logger.getLogger(InboxEvents.class.getName());
+
+    private static final Map<String, List<InboxListener>> listeners = new ConcurrentHashMap<>();
+
+    /**
+     * Starts telling {@code listener} about changes to the inbox stored at {@code inboxPath}.
+     */
+    public static void subscribe(String inboxPath, InboxListener listener) {
+        listeners.computeIfAbsent(inboxPath, path -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    /**
+     * Stops telling {@code listener} about changes to the inbox stored at {@code inboxPath}.
+     */
+    public static void unsubscribe(String inboxPath, InboxListener listener) {
+        List<InboxListener> inboxListeners = listeners.get(inboxPath);
+        if (inboxListeners != null) {
+            inboxListeners.remove(listener);
+        }
+    }
+
+    static void messageArrived(String inboxPath, Msg message) {
+        notifyListeners(listeners.get(inboxPath), listener -> listener.messageArrived(message));
+    }
+
+    /**
+     * Tells the listeners of every inbox that {@code bulletin} has been broadcast.
+     */
+    static void bulletinArrived(Msg bulletin) {
+        for (List<InboxListener> inboxListeners : listeners.values()) {
+            notifyListeners(inboxListeners, listener -> listener.messageArrived(bulletin));
+        }
+    }
+
+    static void messageRead(String inboxPath, Msg message) {
+        notifyListeners(listeners.get(inboxPath), listener -> listener.messageRead(message));
+    }
+
+    static void unreadCountChanged(String inboxPath, int numUnreadMsgs) {
+        notifyListeners(listeners.get(inboxPath), listener -> listener.unreadCountChanged(numUnreadMsgs));
+    }
+
+    /**
+     * Tells each of {@code inboxListeners} about a change.
+     * A failing listener is logged and skipped, as the change has already been made.
+     */
+    private static void notifyListeners(List<InboxListener> inboxListeners, Consumer<InboxListener> notification) {
+        if (inboxListeners == null) {
+            return;
+        }
+        for (InboxListener listener : inboxListeners) {
+            try {
+                notification.accept(listener);
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Inbox listener failed", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+//@@author andyrobert3
+package seedu.addressbook.inbox;
+
+/**
+ * Is told about changes to an inbox as they happen, so the inbox need not be read again to notice them.
+ */
+public interface InboxListener {
+
+    /**
+     * Called after {@code message} has been written to the inbox, or broadcast to every inbox.
+     */
+    void messageArrived(Msg message);
+
+    /**
+     * Called after the unread {@code message} has been marked as read.
+     */
+    void messageRead(Msg message);
+
+    /**
+     * Called after the unread messages of the inbox have been counted afresh, e.g. when it is read or cleared.
+     */
+    void unreadCountChanged(int numUnreadMsgs);
+}
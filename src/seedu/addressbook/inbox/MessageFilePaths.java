@@ -12,6 +12,7 @@ public class MessageFilePaths {
     public static final String FILEPATH_PO4_INBOX = "inboxMessages/PO4";
     public static final String FILEPATH_PO5_INBOX = "inboxMessages/PO5";
     public static final String FILEPATH_DEFAULT = "notifications.txt";
+    public static final String FILEPATH_BULLETINS = "inboxMessages/bulletins";
 
     public static String getFilePathFromUserId(String userId) {
         switch(userId) {
@@ -6,6 +6,7 @@ import java.sql.Timestamp;
 import seedu.addressbook.common.Location;
 
 import seedu.addressbook.password.Password;
+import seedu.addressbook.timeanddate.ClockService;
 import seedu.addressbook.timeanddate.TimeAndDate;
 
 
@@ -19,11 +20,12 @@ public class Msg implements Comparable <Msg> {
     private static final boolean MESSAGE_IS_READ = true;
     private static final boolean MESSAGE_IS_UNREAD = false;
 
-    private String senderId = Password.getId();
+    private String senderId;
     private String newMsg;
     private Priority priority;
     private Location location;
     private int eta = -1;
+    private int bulletinIndex = -1;
 
     private boolean isRead;
     private Timestamp time;
@@ -55,27 +57,30 @@ public class Msg implements Comparable <Msg> {
     }
 
     public Msg(Priority urgency, String message) {
+        senderId = Password.getId();
         isLocationAvailable = false;
         isRead = MESSAGE_IS_UNREAD;
         priority = urgency;
-        time = new Timestamp(System.currentTimeMillis());
+        time = new Timestamp(ClockService.currentTimeMillis());
         newMsg = message;
     }
 
     public Msg(Priority urgency, String message, Location myLocale) { // Constructor for request backup message
+        senderId = Password.getId();
         isLocationAvailable = true;
         isRead = MESSAGE_IS_UNREAD;
         priority = urgency;
-        time = new Timestamp(System.currentTimeMillis());
+        time = new Timestamp(ClockService.currentTimeMillis());
         newMsg = message;
         location = myLocale;
     }
 
     // Constructor for request backup message
     public Msg(Priority urgency, String message, Location requesterLocale, int myEta) {
+        senderId = Password.getId();
         isLocationAvailable = true;
         priority = urgency;
-        time = new Timestamp(System.currentTimeMillis());
+        time = new Timestamp(ClockService.currentTimeMillis());
         newMsg = message;
         location = requesterLocale;
         eta = myEta;
@@ -99,6 +104,9 @@ public class Msg implements Comparable <Msg> {
         if (compare == 0) { // If priority is the same, compare by timestamp.
             compare = compareByTimestamp(other);
         }
+        if (compare == 0) { // Keep bulletins sent together apart from each other and from personal messages.
+            compare = Integer.compare(bulletinIndex, other.bulletinIndex);
+        }
 
         return compare;
     }
@@ -180,6 +188,21 @@ public class Msg implements Comparable <Msg> {
         return time;
     }
 
+    /**
+     * Returns true if this message was broadcast to everyone, rather than sent to this inbox alone.
+     */
+    public boolean isBulletin() {
+        return bulletinIndex != -1;
+    }
+
+    int getBulletinIndex() {
+        return bulletinIndex;
+    }
+
+    void setBulletinIndex(int bulletinIndex) {
+        this.bulletinIndex = bulletinIndex;
+    }
+
     public String getTimeString() {
         return TimeAndDate.outputDatHrs(time);
     }
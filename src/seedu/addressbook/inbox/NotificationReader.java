@@ -5,18 +5,20 @@ import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
 import java.sql.Timestamp;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.TreeSet;
 
 import seedu.addressbook.common.Location;
+import seedu.addressbook.timeanddate.ClockService;
 
 /**
  * Reads the respective text files containing the messages sent to the user.
  */
 public class NotificationReader {
-    private static String path;
+    private String path;
     private Msg returnMsg;
     private int unreadMsgs = 0;
     private TreeSet<Msg> sortedMsgs = new TreeSet<>();
@@ -34,6 +36,18 @@ public class NotificationReader {
     public TreeSet<Msg>
         readFromFile() throws IOException { //If no new notifications and 'inbox' command invoked,
         // show past 10 notifications
+        sortedMsgs.addAll(readInFileOrder());
+        return sortedMsgs;
+    }
+
+    /**
+     * Parses the messages stored, in the order they were written.
+     *
+     * @return the Msgs found in the storage file, earliest written first.
+     * @throws IOException
+     */
+    List<Msg> readInFileOrder() throws IOException {
+        List<Msg> msgs = new ArrayList<>();
         String line;
         BufferedReader br = new BufferedReader(new FileReader(path));
         unreadMsgs = 0;
@@ -42,8 +56,8 @@ public class NotificationReader {
             case "> START OF MESSAGE <":
                 returnMsg = new Msg();
                 break;
-            case "> END OF MESSAGE <": // End of message entry, store into TreeSet
-                sortedMsgs.add(returnMsg);
+            case "> END OF MESSAGE <": // End of message entry
+                msgs.add(returnMsg);
                 break;
             default:
                 String[] parts = line.split(":", 2);
@@ -75,7 +89,8 @@ public class NotificationReader {
                 break;
             }
         }
-        return sortedMsgs;
+        br.close();
+        return msgs;
     }
 
     int getNumUnreadMsgs() {
@@ -117,14 +132,13 @@ public class NotificationReader {
      * @param timestamp
      */
     private void readMsgTimestamp(String timestamp) {
-        SimpleDateFormat timeFormatted = new SimpleDateFormat("dd/MM/yyyy-HH:mm:ss:SSS");
-        Date parsedTimeStamp;
+        long parsedTimeStamp;
         try {
-            parsedTimeStamp = timeFormatted.parse(timestamp);
-        } catch (ParseException e) {
-            parsedTimeStamp = new Date(0, 1, 1, 0, 0, 0);
+            parsedTimeStamp = ClockService.parseTimestamp(timestamp);
+        } catch (DateTimeParseException e) {
+            parsedTimeStamp = new Date(0, 1, 1, 0, 0, 0).getTime();
         }
-        Timestamp msgTime = new Timestamp(parsedTimeStamp.getTime());
+        Timestamp msgTime = new Timestamp(parsedTimeStamp);
         returnMsg.setTime(msgTime);
     }
 
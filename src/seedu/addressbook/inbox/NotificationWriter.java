@@ -59,6 +59,9 @@ public class NotificationWriter {
         myPrinter.println("> END OF MESSAGE <"); // Notate the end of 1 message entry with "---"
 
         myPrinter.close();
+        if (isAppend) {
+            InboxEvents.messageArrived(path, message);
+        }
     }
 
     // Create overload function for write to file to write a set of notifications.
@@ -99,12 +102,18 @@ public class NotificationWriter {
         myPrinter.close();
     }
 
+    /**
+     * Clears the messages stored at {@code path}, and hides the bulletins broadcast so far from that inbox.
+     * @throws IOException
+     */
     public static void clearInbox(String path) throws IOException {
         clearInboxFromPath(path);
+        new BulletinBoard().clear(path);
+        InboxEvents.unreadCountChanged(path, 0);
     }
 
     /**
-     * TODO: Add Javadoc comment
+     * Clears every inbox, and the bulletins broadcast to them.
      * @throws IOException
      */
     public static void clearAllInbox() throws IOException {
@@ -120,6 +129,10 @@ public class NotificationWriter {
         for (String myPath : paths) {
             clearInboxFromPath(myPath);
         }
+        new BulletinBoard().clearAll(paths);
+        for (String myPath : paths) {
+            InboxEvents.unreadCountChanged(myPath, 0);
+        }
     }
 
     private static void clearInboxFromPath(String myPath) throws IOException {
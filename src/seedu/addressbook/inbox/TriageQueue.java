@@ -0,0 +1,128 @@
+//@@author andyrobert3
+package seedu.addressbook.inbox;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * The backup requests which headquarters has yet to handle, most urgent first.
+ *
+ * Requests are ranked by priority, and a request gains one priority level for every {@link #AGING_MILLIS}
+ * it waits, so MED and LOW requests are not starved by a stream of HIGH ones. As every request ages at the
+ * same rate, the order never changes once a request is queued: a request is ranked by the time at which it
+ * would have been sent had it been one level lower, {@code requestedAt - priority * AGING_MILLIS}.
+ * This keeps the requests in a sorted set, so the most urgent request is found in O(log n) time.
+ */
+public class TriageQueue {
+    /** How long a request waits to gain a priority level. */
+    public static final long AGING_MILLIS = 5 * 60 * 1000;
+
+    private static final TriageQueue instance = new TriageQueue();
+
+    private final TreeSet<Request> requests = new TreeSet<>(Comparator.comparingLong(Request::getRank)
+            .thenComparingLong(request -> request.sequenceNumber));
+    private long nextSequenceNumber = 0;
+
+    public static TriageQueue getInstance() {
+        return instance;
+    }
+
+    /**
+     * Queues the backup request {@code message} sent by {@code requesterId} for {@code offense}.
+     */
+    public synchronized Request add(String requesterId, String offense, Msg message) {
+        Request request = new Request(requesterId, offense, message, nextSequenceNumber++);
+        requests.add(request);
+        return request;
+    }
+
+    /**
+     * Returns the most urgent request, leaving it queued, or null if there are none.
+     */
+    public synchronized Request peek() {
+        return requests.isEmpty() ? null : requests.first();
+    }
+
+    /**
+     * Removes the most urgent request of {@code requesterId} for {@code offense}, once backup has been sent to them.
+     * Their requests for other offenses stay queued.
+     *
+     * @return the request removed, or null if {@code requesterId} has no open requests for {@code offense}.
+     */
+    public synchronized Request remove(String requesterId, String offense) {
+        for (Request request : requests) {
+            if (request.getRequesterId().equalsIgnoreCase(requesterId)
+                    && request.getOffense().equalsIgnoreCase(offense)) {
+                requests.remove(request);
+                return request;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes every one of {@code claimed}, or none of them if any has already been removed.
+     *
+     * @return true if the requests were removed.
+     */
+    public synchronized boolean removeAll(Collection<Request> claimed) {
+        if (!requests.containsAll(claimed)) {
+            return false;
+        }
+        requests.removeAll(claimed);
+        return true;
+    }
+
+    /**
+     * Returns the open requests, most urgent first.
+     */
+    public synchronized List<Request> getRequests() {
+        return new ArrayList<>(requests);
+    }
+
+    public synchronized int size() {
+        return requests.size();
+    }
+
+    public synchronized void clear() {
+        requests.clear();
+    }
+
+    /**
+     * A backup request waiting for headquarters.
+     */
+    public static class Request {
+        private final String requesterId;
+        private final String offense;
+        private final Msg message;
+        private final long rank;
+        private final long sequenceNumber;
+
+        private Request(String requesterId, String offense, Msg message, long sequenceNumber) {
+            this.requesterId = requesterId;
+            this.offense = offense;
+            this.message = message;
+            this.rank = message.getTime().getTime() - message.getPriority().toInteger() * AGING_MILLIS;
+            this.sequenceNumber = sequenceNumber;
+        }
+
+        public String getRequesterId() {
+            return requesterId;
+        }
+
+        public String getOffense() {
+            return offense;
+        }
+
+        public Msg getMessage() {
+            return message;
+        }
+
+        long getRank() {
+            return rank;
+        }
+    }
+}
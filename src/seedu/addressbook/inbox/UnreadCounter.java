@@ -0,0 +1,45 @@
+//@@author andyrobert3
+package seedu.addressbook.inbox;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * Keeps the number of unread messages in an inbox up to date from its {@link InboxEvents},
+ * without reading the inbox again.
+ */
+public class UnreadCounter implements InboxListener {
+    private final AtomicInteger numUnreadMsgs;
+    private final IntConsumer onChange;
+
+    /**
+     * @param numUnreadMsgs the number of unread messages when the counter starts listening.
+     * @param onChange called with the new number whenever it changes.
+     */
+    public UnreadCounter(int numUnreadMsgs, IntConsumer onChange) {
+        this.numUnreadMsgs = new AtomicInteger(numUnreadMsgs);
+        this.onChange = onChange;
+    }
+
+    public int getNumUnreadMsgs() {
+        return numUnreadMsgs.get();
+    }
+
+    @Override
+    public void messageArrived(Msg message) {
+        if (!message.hasBeenRead()) {
+            onChange.accept(numUnreadMsgs.incrementAndGet());
+        }
+    }
+
+    @Override
+    public void messageRead(Msg message) {
+        onChange.accept(numUnreadMsgs.updateAndGet(count -> Math.max(count - 1, 0)));
+    }
+
+    @Override
+    public void unreadCountChanged(int newNumUnreadMsgs) {
+        numUnreadMsgs.set(newNumUnreadMsgs);
+        onChange.accept(newNumUnreadMsgs);
+    }
+}
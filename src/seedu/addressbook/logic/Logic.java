@@ -8,9 +8,12 @@ import java.io.PrintWriter;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.StampedLock;
 
 import seedu.addressbook.commands.Command;
 import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.common.SessionContext;
 import seedu.addressbook.data.AddressBook;
 import seedu.addressbook.data.person.ReadOnlyPerson;
 import seedu.addressbook.inbox.MessageFilePaths;
@@ -21,37 +24,69 @@ import seedu.addressbook.storage.StorageFile;
 
 /**
  * Represents the main Logic of the AddressBook.
+ *
+ * The records are shared by every session. Commands that only read the records run concurrently,
+ * while commands that change them run one at a time.
  */
 public class Logic {
 
+    private static final long NEVER_SAVED = -1;
+
     private static AddressBook addressBook;
+    private static final StampedLock addressBookLock = new StampedLock();
     private static ReaderAndWriter readerandwriter = new ReaderAndWriter();
     private StorageFile storage;
 
-    /** The list of person shown to the user most recently.  */
-    private List<? extends ReadOnlyPerson> lastShownList = Collections.emptyList();
+    /** Session state (identity, last shown list, inbox cursor) of the user this Logic serves. */
+    private final SessionContext session;
+
+    /** Version of the records last written to {@link #storage}, shared by all sessions using that storage. */
+    private AtomicLong savedVersion = new AtomicLong(NEVER_SAVED);
+
+    public Logic(StorageFile storageFile, AddressBook addressBook) {
+        this(storageFile, addressBook, SessionContext.forConsole());
+    }
 
-    Logic(StorageFile storageFile, AddressBook addressBook) {
+    Logic(StorageFile storageFile, AddressBook addressBook, SessionContext session) {
+        this.session = session;
         setStorage(storageFile);
         setAddressBook(addressBook);
     }
 
     public Logic() throws Exception {
+        session = SessionContext.forConsole();
         setStorage(initializeStorage());
         setAddressBook(storage.load());
         initializeTextFiles();
     }
 
+    //@@author andyrobert3
+    /**
+     * Returns a Logic serving {@code newSession}, sharing the records and storage of this Logic.
+     */
+    public Logic openSession(SessionContext newSession) {
+        Logic logic = new Logic(storage, addressBook, newSession);
+        logic.savedVersion = savedVersion;
+        return logic;
+    }
+
+    public SessionContext getSession() {
+        return session;
+    }
+
+    //@@author
     public static AddressBook getAddressBook() {
         return addressBook;
     }
 
     void setStorage(StorageFile storage) {
         this.storage = storage;
+        savedVersion.set(NEVER_SAVED);
     }
 
     void setAddressBook(AddressBook addressBook) {
         this.addressBook = addressBook;
+        savedVersion.set(NEVER_SAVED);
     }
 
     /**
@@ -70,11 +105,11 @@ public class Logic {
      * Unmodifiable view of the current last shown list.
      */
     public List<ReadOnlyPerson> getLastShownList() {
-        return Collections.unmodifiableList(lastShownList);
+        return Collections.unmodifiableList(session.getLastShownList());
     }
 
     protected void setLastShownList(List<? extends ReadOnlyPerson> newList) {
-        lastShownList = newList;
+        session.setLastShownList(newList);
     }
 
     /**
@@ -82,31 +117,129 @@ public class Logic {
      * @throws Exception if there was any problem during command execution.
      */
     public CommandResult execute(String userCommandText) throws Exception {
-        Command command = new Parser().parseCommand(userCommandText);
-        CommandResult result = execute(command);
-        recordResult(result);
-        return result;
+        SessionContext previous = SessionContext.bind(session);
+        try {
+            Command command = new Parser().parseCommand(userCommandText);
+            CommandResult result = execute(command);
+            recordResult(result);
+            return result;
+        } finally {
+            SessionContext.restore(previous);
+        }
+    }
+
+    //@@author andyrobert3
+    /**
+     * Returns whether the user command would change the records, inboxes or other shared state if executed,
+     * as decided by {@link Command#isMutating()}. Nothing is executed.
+     */
+    public boolean isMutating(String userCommandText) {
+        SessionContext previous = SessionContext.bind(session);
+        try {
+            return new Parser().parseCommand(userCommandText).isMutating();
+        } finally {
+            SessionContext.restore(previous);
+        }
     }
 
     /**
      * Executes the command, updates storage, and returns the result.
+     * Mutating commands hold the records exclusively; all other commands share them with other readers.
      *
      * @param command user command
      * @return result of the command
      * @throws Exception if there was any problem during command execution.
      */
-    private CommandResult execute(Command command) throws Exception {
-        command.setData(addressBook, lastShownList);
-        CommandResult result = command.execute();
-        storage.save(addressBook);
+    CommandResult execute(Command command) throws Exception {
+        SessionContext previous = SessionContext.bind(session);
+        try {
+            return executeWithLock(command);
+        } finally {
+            SessionContext.restore(previous);
+        }
+    }
+
+    /**
+     * Runs the command under the lock its kind requires, saving the records if they changed.
+     * Mutating commands include those writing inboxes and other shared files, so that a session rewriting an inbox
+     * cannot lose a message another session appends to it.
+     */
+    private CommandResult executeWithLock(Command command) throws Exception {
+        if (command.isMutating()) {
+            long stamp = addressBookLock.writeLock();
+            try {
+                CommandResult result = executeWithData(command);
+                if (savedVersion.get() != addressBook.getVersion()) {
+                    save();
+                }
+                return result;
+            } finally {
+                addressBookLock.unlockWrite(stamp);
+            }
+        }
+
+        CommandResult result;
+        long stamp = addressBookLock.readLock();
+        try {
+            result = executeWithData(command);
+        } finally {
+            addressBookLock.unlockRead(stamp);
+        }
+        saveIfStale();
         return result;
     }
 
-    /** Updates the {@link #lastShownList} if the result contains a list of Persons. */
+    private CommandResult executeWithData(Command command) {
+        command.setData(addressBook, session.getLastShownList(), session.getSession());
+        return command.execute();
+    }
+
+    /**
+     * Saves the records if they changed since this Logic last saved them.
+     * Readers only take the write lock when there is something to save.
+     */
+    private void saveIfStale() throws Exception {
+        if (savedVersion.get() == addressBook.getVersion()) {
+            return;
+        }
+        long stamp = addressBookLock.writeLock();
+        try {
+            if (savedVersion.get() != addressBook.getVersion()) {
+                save();
+            }
+        } finally {
+            addressBookLock.unlockWrite(stamp);
+        }
+    }
+
+    /** Must be called while holding the write lock. */
+    private void save() throws Exception {
+        storage.save(addressBook);
+        savedVersion.set(addressBook.getVersion());
+    }
+
+    /**
+     * Returns the first {@code limit} NRICs in the records which start with {@code prefix}, for suggesting as the
+     * user types. Rather than wait for a command changing the records, returns none while one runs.
+     */
+    public List<String> completeNric(String prefix, int limit) {
+        long stamp = addressBookLock.tryReadLock();
+        if (stamp == 0) {
+            return Collections.emptyList();
+        }
+        try {
+            return addressBook.completeNric(prefix, limit);
+        } finally {
+            addressBookLock.unlockRead(stamp);
+        }
+    }
+
+    //@@author
+    /** Updates the last shown list of the session if the result contains a list of Persons. */
     private void recordResult(CommandResult result) {
         final Optional<List<? extends ReadOnlyPerson>> personList = result.getRelevantPersons();
         if (personList.isPresent()) {
-            lastShownList = personList.get();
+            session.setLastShownList(personList.get());
         }
     }
 
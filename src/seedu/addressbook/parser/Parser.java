@@ -5,6 +5,7 @@ import static seedu.addressbook.common.Messages.MESSAGE_PO_NOT_FOUND;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.time.format.DateTimeParseException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -19,6 +20,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.addressbook.commands.AddCommand;
+import seedu.addressbook.commands.BroadcastCommand;
 import seedu.addressbook.commands.CheckCommand;
 import seedu.addressbook.commands.CheckPoStatusCommand;
 import seedu.addressbook.commands.ClearCommand;
@@ -26,25 +28,36 @@ import seedu.addressbook.commands.ClearInboxCommand;
 import seedu.addressbook.commands.Command;
 import seedu.addressbook.commands.DateTimeCommand;
 import seedu.addressbook.commands.DeleteCommand;
+import seedu.addressbook.commands.DispatchBatchCommand;
 import seedu.addressbook.commands.DispatchCommand;
 import seedu.addressbook.commands.EditCommand;
 import seedu.addressbook.commands.FindCommand;
+import seedu.addressbook.commands.FindNameCommand;
 import seedu.addressbook.commands.HelpCommand;
 import seedu.addressbook.commands.InboxCommand;
 import seedu.addressbook.commands.IncorrectCommand;
 import seedu.addressbook.commands.ListCommand;
 import seedu.addressbook.commands.LogoutCommand;
+import seedu.addressbook.commands.NearbyCommand;
+import seedu.addressbook.commands.NextCommand;
+import seedu.addressbook.commands.QueueCommand;
 import seedu.addressbook.commands.ReadCommand;
 import seedu.addressbook.commands.RequestHelpCommand;
+import seedu.addressbook.commands.ScreeningsCommand;
 import seedu.addressbook.commands.ShowUnreadCommand;
 import seedu.addressbook.commands.ShutdownCommand;
+import seedu.addressbook.commands.StatsCommand;
 import seedu.addressbook.commands.UpdateStatusCommand;
 import seedu.addressbook.commands.ViewAllCommand;
 import seedu.addressbook.common.PatrolResourceStatus;
+import seedu.addressbook.common.PostalCodeTable;
 import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Name;
 import seedu.addressbook.data.person.Nric;
 import seedu.addressbook.data.person.Offense;
+import seedu.addressbook.data.person.Status;
 import seedu.addressbook.password.Password;
+import seedu.addressbook.timeanddate.ClockService;
 
 /**
  * Parses user input.
@@ -82,6 +95,25 @@ public class Parser {
 
     private static final Pattern PERSON_INDEX_ARGS_FORMAT = Pattern.compile("(?<targetIndex>.+)");
 
+    private static final Pattern LIST_PAGE_ARGS_FORMAT = Pattern.compile(
+            "(?:" + ListCommand.PAGE_PREFIX + "\\s+(?<page>\\d{1,9}))?\\s*"
+            + "(?:" + ListCommand.SIZE_PREFIX + "\\s+(?<size>\\d{1,9}))?");
+
+    private static final Pattern NEARBY_ARGS_FORMAT = Pattern.compile(
+            "(?<officer>\\S+)\\s+(?<radius>\\d{1,3}(?:\\.\\d+)?)"
+            + "(?<wantedOnly>\\s+" + NearbyCommand.WANTED_ONLY_PREFIX + ")?");
+
+    private static final Pattern STATS_ARGS_FORMAT = Pattern.compile(
+            "(?:" + StatsCommand.STATUS_PREFIX + "(?<status>[^/\\s]+))?\\s*"
+            + "(?:" + StatsCommand.DISTRICT_PREFIX + "(?<district>\\d{1,2}))?\\s*"
+            + "(?:" + StatsCommand.OFFENSE_PREFIX + "(?<offense>[^/]+))?");
+
+    private static final Pattern SCREENINGS_ARGS_FORMAT = Pattern.compile(
+            "(?:(?<period>" + ScreeningsCommand.PERIOD_TODAY + "|" + ScreeningsCommand.PERIOD_WEEK + ")"
+            + "|(?<from>\\S+)\\s+(?<to>\\S+))"
+            + "(?:\\s+" + ScreeningsCommand.OFFICER_PREFIX + "(?<officer>\\S+))?"
+            + "(?:\\s+" + ScreeningsCommand.TOP_PREFIX + "(?<top>\\d{1,3}))?");
+
     private static final int INDEX_EDIT_OFFENSE_TAG = 4;
 
     private static final Logger logger = Logger.getLogger(Parser.class.getName());
@@ -156,7 +188,7 @@ public class Parser {
             return new CheckPoStatusCommand();
 
         case ListCommand.COMMAND_WORD:
-            return new ListCommand();
+            return prepareList(arguments);
 
         case ShowUnreadCommand.COMMAND_WORD:
             return new ShowUnreadCommand();
@@ -182,6 +214,24 @@ public class Parser {
         case DispatchCommand.COMMAND_WORD:
             return prepareDispatch(arguments);
 
+        case BroadcastCommand.COMMAND_WORD:
+            return prepareBroadcast(arguments);
+
+        case NearbyCommand.COMMAND_WORD:
+            return prepareNearby(arguments);
+
+        case QueueCommand.COMMAND_WORD:
+            return new QueueCommand();
+
+        case StatsCommand.COMMAND_WORD:
+            return prepareStats(arguments);
+
+        case ScreeningsCommand.COMMAND_WORD:
+            return prepareScreenings(arguments);
+
+        case NextCommand.COMMAND_WORD:
+            return new NextCommand();
+
         case ShutdownCommand.COMMAND_WORD:
             return new ShutdownCommand();
 
@@ -387,6 +437,117 @@ public class Parser {
         }
     }
 
+    //@@author andyrobert3
+    /**
+     * Parses arguments in the context of the list command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareList(String args) {
+        final String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new ListCommand();
+        }
+        if (trimmedArgs.equals(ListCommand.NEXT_PREFIX)) {
+            return ListCommand.nextPage();
+        }
+        final Matcher matcher = LIST_PAGE_ARGS_FORMAT.matcher(trimmedArgs);
+        if (!matcher.matches()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+        }
+        final String page = matcher.group("page");
+        final String size = matcher.group("size");
+        final int pageNumber = (page == null) ? 1 : Integer.parseInt(page);
+        final int pageSize = (size == null) ? ListCommand.DEFAULT_PAGE_SIZE : Integer.parseInt(size);
+        if (pageNumber < 1 || pageSize < 1) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+        }
+        return ListCommand.page(pageNumber, pageSize);
+    }
+
+    /**
+     * Parses arguments in the context of the nearby command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareNearby(String args) {
+        final Matcher matcher = NEARBY_ARGS_FORMAT.matcher(args.trim());
+        if (!matcher.matches()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, NearbyCommand.MESSAGE_USAGE));
+        }
+        final String officerId = matcher.group("officer").toLowerCase();
+        if (!PatrolResourceStatus.isValidId(officerId)) {
+            return new IncorrectCommand(MESSAGE_PO_NOT_FOUND);
+        }
+        final double radiusKm = Double.parseDouble(matcher.group("radius"));
+        if (radiusKm <= 0) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, NearbyCommand.MESSAGE_USAGE));
+        }
+        return new NearbyCommand(officerId, radiusKm, matcher.group("wantedOnly") != null);
+    }
+
+    /**
+     * Parses arguments in the context of the screenings command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareScreenings(String args) {
+        final Matcher matcher = SCREENINGS_ARGS_FORMAT.matcher(args.trim().toLowerCase());
+        if (!matcher.matches()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ScreeningsCommand.MESSAGE_USAGE));
+        }
+        final long[] period;
+        try {
+            period = (matcher.group("period") != null)
+                    ? ScreeningsCommand.getPeriod(matcher.group("period"))
+                    : new long[] {ClockService.parseForCheckCommand(matcher.group("from")),
+                        ClockService.parseForCheckCommand(matcher.group("to"))};
+        } catch (DateTimeParseException dtpe) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ScreeningsCommand.MESSAGE_USAGE));
+        }
+        final String officerId = matcher.group("officer");
+        if (officerId != null && !PatrolResourceStatus.isValidId(officerId)) {
+            return new IncorrectCommand(MESSAGE_PO_NOT_FOUND);
+        }
+        final int top = (matcher.group("top") == null) ? 0 : Integer.parseInt(matcher.group("top"));
+        if (period[0] >= period[1] || (matcher.group("top") != null && top < 1)) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ScreeningsCommand.MESSAGE_USAGE));
+        }
+        return new ScreeningsCommand(period[0], period[1], officerId, top);
+    }
+
+    /**
+     * Parses arguments in the context of the stats command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareStats(String args) {
+        final Matcher matcher = STATS_ARGS_FORMAT.matcher(args.trim());
+        if (!matcher.matches()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+        }
+        final Integer district = matcher.group("district") == null ? null
+                : Integer.valueOf(matcher.group("district"));
+        if (district != null && (district < 1 || district > PostalCodeTable.NUM_DISTRICTS)) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+        }
+        try {
+            return new StatsCommand(
+                    matcher.group("status") == null ? null : new Status(matcher.group("status")),
+                    district,
+                    matcher.group("offense") == null ? null : new Offense(matcher.group("offense")));
+        } catch (IllegalValueException ive) {
+            return new IncorrectCommand(ive.getMessage());
+        }
+    }
+
     //@@author
     /**
      * Parses arguments in the context of the view all command.
@@ -467,6 +628,12 @@ public class Parser {
      */
     private Command prepareFind(String args) {
         args = args.trim();
+        if (args.startsWith(FindNameCommand.NAME_PREFIX)) {
+            return prepareFindName(args.substring(FindNameCommand.NAME_PREFIX.length()), false);
+        }
+        if (args.startsWith(FindNameCommand.SOUNDS_LIKE_PREFIX)) {
+            return prepareFindName(args.substring(FindNameCommand.SOUNDS_LIKE_PREFIX.length()), true);
+        }
         if (Nric.isValidNric(args)) {
             return new FindCommand(args);
         } else {
@@ -475,6 +642,21 @@ public class Parser {
         }
     }
 
+    //@@author andyrobert3
+    /**
+     * Parses the name after {@code n/} or {@code ~} in the context of the find command.
+     *
+     * @param isSoundsLike whether to find names sounding like {@code name} rather than spelt like it.
+     */
+    private Command prepareFindName(String name, boolean isSoundsLike) {
+        name = name.trim().replaceAll("\\s+", " ");
+        if (name.isEmpty() || !Name.isValidName(name)) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindNameCommand.MESSAGE_USAGE));
+        }
+        return new FindNameCommand(name, isSoundsLike);
+    }
+    //@@author
+
     /**
      * Parses arguments in the context of updating a PO's status.
      *
@@ -496,6 +678,21 @@ public class Parser {
 
     //@@author andyrobert3
 
+    /**
+     * Parses arguments in context of broadcast command.
+     *
+     * @param args full command args string
+     * @return the prepared broadcast command
+     */
+    private Command prepareBroadcast(String args) {
+        String message = args.trim();
+        if (message.isEmpty()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    BroadcastCommand.MESSAGE_USAGE));
+        }
+        return new BroadcastCommand(message);
+    }
+
     /**
      * Parses arguments in context of request help command.
      *
@@ -536,6 +733,9 @@ public class Parser {
         String caseName;
         String[] argParts = args.trim().split("\\s+", 3);
 
+        if (args.trim().equalsIgnoreCase(DispatchBatchCommand.BATCH_KEYWORD)) {
+            return new DispatchBatchCommand();
+        }
         if (argParts.length < 3) {
             logger.warning("Prepare Dispatch format is wrong");
             return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
@@ -0,0 +1,119 @@
+//@@author andyrobert3
+package seedu.addressbook.password;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The users of the System and the hashes of their passwords, read from the password file once and kept in memory.
+ * Each line of the password file holds a user ID and the hash of that user's password, separated by a space.
+ *
+ * Changes are written to a temporary file which then replaces the password file in a single step,
+ * so the password file is never left half written.
+ */
+public class CredentialStore {
+
+    private final Path file;
+    private final Map<String, String> hashByUser = new LinkedHashMap<>();
+    private final Map<String, String> userByHash = new HashMap<>();
+
+    private CredentialStore(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Reads the users and password hashes in {@code file}.
+     *
+     * @throws IOException if the file cannot be read or a line has no password hash.
+     */
+    public static CredentialStore load(Path file) throws IOException {
+        CredentialStore store = new CredentialStore(file);
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            String entry = line.trim();
+            if (entry.isEmpty()) {
+                continue;
+            }
+            int separator = entry.lastIndexOf(' ');
+            if (separator < 0) {
+                throw new IOException("Malformed line in " + file + ": " + entry);
+            }
+            store.put(entry.substring(0, separator), entry.substring(separator + 1));
+        }
+        return store;
+    }
+
+    /**
+     * Returns the hash under which {@code password} is stored.
+     */
+    public static String hash(String password) {
+        return Integer.toString(password.hashCode());
+    }
+
+    /**
+     * Returns the ID of the user whose password is {@code password}, or null if there is no such user.
+     */
+    public synchronized String findUser(String password) {
+        return userByHash.get(hash(password));
+    }
+
+    public synchronized boolean isPasswordInUse(String password) {
+        return userByHash.containsKey(hash(password));
+    }
+
+    public synchronized boolean hasUser(String userId) {
+        return hashByUser.containsKey(userId);
+    }
+
+    public synchronized int getNumberOfUsers() {
+        return hashByUser.size();
+    }
+
+    /**
+     * Sets the password of {@code userId}, adding the user if there is no such user yet, and saves the change.
+     * If the change cannot be saved, the store is left as it was.
+     */
+    public synchronized void setPassword(String userId, String newPassword) throws IOException {
+        Map<String, String> updated = new LinkedHashMap<>(hashByUser);
+        updated.put(userId, hash(newPassword));
+        write(updated);
+
+        String oldHash = hashByUser.get(userId);
+        if (oldHash != null) {
+            userByHash.remove(oldHash);
+        }
+        put(userId, hash(newPassword));
+    }
+
+    private void put(String userId, String passwordHash) {
+        hashByUser.put(userId, passwordHash);
+        userByHash.put(passwordHash, userId);
+    }
+
+    /**
+     * Replaces the password file with one holding {@code entries}.
+     */
+    private void write(Map<String, String> entries) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            lines.add(entry.getKey() + " " + entry.getValue());
+        }
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            Files.write(tempFile, lines, StandardCharsets.UTF_8);
+            Files.move(tempFile, file, ATOMIC_MOVE, REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+}
@@ -1,15 +1,14 @@
 package seedu.addressbook.password;
 
-import java.io.BufferedReader;
-import java.io.File;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.nio.file.Paths;
 import java.util.logging.Logger;
 
 import seedu.addressbook.common.Messages;
 import seedu.addressbook.common.PatrolResourceStatus;
+import seedu.addressbook.common.Session;
+import seedu.addressbook.common.SessionContext;
 import seedu.addressbook.parser.Parser;
-import seedu.addressbook.readandwrite.ReaderAndWriter;
 
 //@@author iamputradanish
 
@@ -22,8 +21,8 @@ public class Password {
     public static final String MESSAGE_ENTER_PASSWORD = "Please enter password: ";
     public static final String MESSAGE_ENTER_COMMAND = "Please enter a command: ";
     public static final String MESSAGE_WELCOME = "Welcome %s.";
-    public static final String MESSAGE_UNAUTHORIZED = "You are not authorized to ADD, CLEAR, CHECK, DELETE, DISPATCH,"
-            + " " + "EDIT, UPDATE PASSWORD nor UPDATE STATUS.";
+    public static final String MESSAGE_UNAUTHORIZED = "You are not authorized to ADD, BROADCAST, CLEAR, CHECK, DELETE,"
+            + " " + "DISPATCH, EDIT, NEXT, QUEUE, SCREENINGS, STATS, UPDATE PASSWORD nor UPDATE STATUS.";
     public static final String MESSAGE_INCORRECT_PASSWORD = "Password is incorrect. " + MESSAGE_TRY_AGAIN;
     public static final String MESSAGE_ATTEMPTS_LEFT = "You have %1$d attempts left. ";
     public static final String MESSAGE_ATTEMPT_LEFT = "You have %1$d attempt left. ";
@@ -51,6 +50,7 @@ public class Password {
     public static final String UPDATE_PASSWORD_MESSAGE_USAGE = UPDATE_PASSWORD_COMMAND_WORD
             + ":\n" + "Updates a password\n\t" + "Example: " + UPDATE_PASSWORD_COMMAND_WORD;
     public static final String MESSAGE_VALID = "valid";
+    public static final String PASSWORD_FILE = "passwordStorage.txt";
 
     private static final Logger logr = Logger.getLogger(Password.class.getName());
     private static final String MESSAGE_TRY_UNAUTHORIZED = "You are unauthorized to %s.\n"
@@ -58,13 +58,8 @@ public class Password {
 
     private static int wrongPasswordCounter = 5;
 
-    private static boolean isHqp = false;
-
-    private static boolean isPO1 = false;
-    private static boolean isPO2 = false;
-    private static boolean isPO3 = false;
-    private static boolean isPO4 = false;
-    private static boolean isPO5 = false;
+    /** The user logged in at the console, or null if the console is locked. */
+    private static volatile Session consoleSession = null;
 
     private static boolean isUpdatingPassword = false;
 
@@ -73,14 +68,10 @@ public class Password {
     private static boolean isShutDown = false;
     private static String oneTimePassword = null;
 
-    private static ReaderAndWriter readerandwriter = new ReaderAndWriter();
+    private static CredentialStore credentials = null;
 
-    private static boolean isLoginHqp = false;
-    private static boolean isLoginPO1 = false;
-    private static boolean isLoginPO2 = false;
-    private static boolean isLoginPO3 = false;
-    private static boolean isLoginPO4 = false;
-    private static boolean isLoginPO5 = false;
+    /** The user whose password is being updated, once their current password has been entered. */
+    private static String updatingUserId = null;
 
     public static void setupLogger() {
         Parser.setupLoggerForAll(logr);
@@ -94,43 +85,42 @@ public class Password {
     }
 
     public static void unlockHqp() {
-        isHqp = true;
+        consoleSession = Session.of(PatrolResourceStatus.HEADQUARTER_PERSONNEL_ID);
     }
 
     /**
-     * Logs into System as all PO, for testing purposes
+     * Logs into System as a PO, for testing purposes
      */
     public static void unlockPo() {
-        isPO1 = true;
-        isPO2 = true;
-        isPO3 = true;
-        isPO4 = true;
-        isPO5 = true;
+        consoleSession = Session.of(PatrolResourceStatus.POLICE_OFFICER_1_ID);
     }
 
+    /**
+     * Logs out of System if logged in as HQP, for testing purposes
+     */
     public static void lockIsHqp() {
-        isHqp = false;
+        if (isHqpUser()) {
+            consoleSession = null;
+        }
     }
 
     /**
-     * Logs out of System for all PO, for testing purposes
+     * Logs out of System if logged in as a PO, for testing purposes
      */
     public static void lockIsPo() {
-        isPO1 = false;
-        isPO2 = false;
-        isPO3 = false;
-        isPO4 = false;
-        isPO5 = false;
+        if (isPo()) {
+            consoleSession = null;
+        }
     }
     public static boolean isHqpUser() {
-        return isHqp;
+        return getConsoleSession().isHqp();
     }
     public static boolean isLocked() {
-        return !(isHqp || isPo());
+        return consoleSession == null;
     }
 
     public static boolean isPo() {
-        return (isPO1 || isPO2 || isPO3 || isPO4 || isPO5);
+        return !isLocked() && !isHqpUser();
     }
 
     public static boolean isUpdatingPasswordNow() {
@@ -177,20 +167,12 @@ public class Password {
      */
 
     public static void logoutUser() {
-        isLoginHqp = false;
-        isLoginPO1 = false;
-        isLoginPO2 = false;
-        isLoginPO3 = false;
-        isLoginPO4 = false;
-        isLoginPO5 = false;
+        updatingUserId = null;
     }
 
 
     private static boolean isNotLogin() {
-        return (!isLoginHqp && !isLoginPo());
-    }
-    private static boolean isLoginPo() {
-        return (isLoginPO1 || isLoginPO2 || isLoginPO3 || isLoginPO4 || isLoginPO5);
+        return updatingUserId == null;
     }
 
 
@@ -202,74 +184,38 @@ public class Password {
         oneTimePassword = input;
     }
 
+    //@@author andyrobert3
+    /**
+     * Returns the users and their passwords, reading them from {@value #PASSWORD_FILE} the first time.
+     */
+    private static synchronized CredentialStore getCredentials() throws IOException {
+        if (credentials == null) {
+            credentials = CredentialStore.load(Paths.get(PASSWORD_FILE));
+        }
+        return credentials;
+    }
+
+    //@@author iamputradanish
     /**
      * The main implementation of logging into the System.
      * Takes the user input and attempts to match with an existing password in the System.
      */
     public static String unlockDevice(String userCommandText, int number) throws IOException {
         logr.info("Unlocking the system.");
-        String result = null;
-
-        File originalFile = readerandwriter.fileToUse("passwordStorage.txt");
-        BufferedReader br = readerandwriter.openReader(originalFile);
-
-
-        int hashedEnteredPassword = userCommandText.hashCode();
-
-        String line;
-        int numberOfPasswords = 6;
-
-        while (numberOfPasswords > 0) {
-            line = br.readLine();
-            String storedCurrPassword = line.substring(line.lastIndexOf(" ") + 1);
-            String user = line.substring(0, line.lastIndexOf(" "));
-
-            if (correctHqp(user, storedCurrPassword, hashedEnteredPassword)) {
-                isHqp = true;
-                result = String.format(MESSAGE_WELCOME, MESSAGE_HQP) + "\n"
-                        + MESSAGE_ENTER_COMMAND;
-                logr.info("Logged in as HQP");
-                break;
-            } else if (correctPO1(user, storedCurrPassword, hashedEnteredPassword)) {
-                isPO1 = true;
-                result = String.format(MESSAGE_WELCOME, MESSAGE_PO + MESSAGE_ONE) + "\n"
-                        + MESSAGE_UNAUTHORIZED + "\n"
-                        + MESSAGE_ENTER_COMMAND;
-                logr.info("Logged in as PO1");
-                break;
-            } else if (correctPO2(user, storedCurrPassword, hashedEnteredPassword)) {
-                isPO2 = true;
-                result = String.format(MESSAGE_WELCOME, MESSAGE_PO + MESSAGE_TWO) + "\n"
-                        + MESSAGE_UNAUTHORIZED + "\n"
-                        + MESSAGE_ENTER_COMMAND;
-                logr.info("Logged in as PO2");
-                break;
-            } else if (correctPO3(user, storedCurrPassword, hashedEnteredPassword)) {
-                isPO3 = true;
-                result = String.format(MESSAGE_WELCOME, MESSAGE_PO + MESSAGE_THREE) + "\n"
-                        + MESSAGE_UNAUTHORIZED + "\n"
-                        + MESSAGE_ENTER_COMMAND;
-                logr.info("Logged in as PO3");
-                break;
-            } else if (correctPO4(user, storedCurrPassword, hashedEnteredPassword)) {
-                isPO4 = true;
-                result = String.format(MESSAGE_WELCOME, MESSAGE_PO + MESSAGE_FOUR) + "\n"
-                        + MESSAGE_UNAUTHORIZED + "\n"
-                        + MESSAGE_ENTER_COMMAND;
-                logr.info("Logged in as PO4");
-                break;
-            } else if (correctPO5(user, storedCurrPassword, hashedEnteredPassword)) {
-                isPO5 = true;
-                result = String.format(MESSAGE_WELCOME, MESSAGE_PO + MESSAGE_FIVE) + "\n"
-                        + MESSAGE_UNAUTHORIZED + "\n"
-                        + MESSAGE_ENTER_COMMAND;
-                logr.info("Logged in as PO5");
-                break;
-            } else {
-                result = Messages.MESSAGE_ERROR;
-                logr.info("Error in logging in.");
-            }
-            numberOfPasswords--;
+        String result = Messages.MESSAGE_ERROR;
+
+        String user = getCredentials().findUser(userCommandText);
+        if (PatrolResourceStatus.HEADQUARTER_PERSONNEL_ID.equals(user)) {
+            consoleSession = Session.of(user);
+            result = String.format(MESSAGE_WELCOME, MESSAGE_HQP) + "\n"
+                    + MESSAGE_ENTER_COMMAND;
+            logr.info("Logged in as HQP");
+        } else if (user != null) {
+            consoleSession = Session.of(user);
+            result = String.format(MESSAGE_WELCOME, consoleSession.getDisplayName()) + "\n"
+                    + MESSAGE_UNAUTHORIZED + "\n"
+                    + MESSAGE_ENTER_COMMAND;
+            logr.info("Logged in as " + user);
         }
         if (isLocked()) {
             result = wrongPasswordShutDown(number);
@@ -278,10 +224,19 @@ public class Password {
             isShutDown = false;
             logr.info("Shutdown sequence aborted.");
         }
-        br.close();
         return result;
     }
 
+    //@@author andyrobert3
+    /**
+     * Returns the ID of the user whose password is {@code enteredPassword}, or null if no user has that password.
+     * Unlike {@link #unlockDevice(String, int)}, the console is not logged in.
+     */
+    public static String authenticate(String enteredPassword) throws IOException {
+        return getCredentials().findUser(enteredPassword);
+    }
+
+    //@@author iamputradanish
     /**
      * When wrong password is entered, this method sequence runs.
      * The number of tries left decreases with each wrong attempt.
@@ -380,63 +335,16 @@ public class Password {
      */
     public static String updatePassword(String userCommandText, int number) throws Exception {
         logr.info("Update sequence stage 1 initiated.");
-        String result = null;
-
-        File originalFile = readerandwriter.fileToUse("passwordStorage.txt");
-        BufferedReader br = readerandwriter.openReader(originalFile);
-
-        String line;
+        String result;
 
         if (isNotLogin()) {
-
-            int enteredCurrentPassword = userCommandText.hashCode();
-
-            int numberOfPasswords = 6;
-
-            while (numberOfPasswords > 0) {
-                line = br.readLine();
-                String storedCurrPassword = line.substring(line.lastIndexOf(" ") + 1);
-                String user = line.substring(0, line.lastIndexOf(" "));
-
-                if (correctPassword(storedCurrPassword, enteredCurrentPassword)) {
-                    setWrongPasswordCounter(5);
-
-                    if (PatrolResourceStatus.HEADQUARTER_PERSONNEL_ID.equals(user)) {
-                        isLoginHqp = true;
-                        result = MESSAGE_ENTER_NEW_PASSWORD + MESSAGE_HQP + ":";
-                        logr.info("Updating HQP password.");
-
-                    } else if (PatrolResourceStatus.POLICE_OFFICER_1_ID.equals(user)) {
-                        isLoginPO1 = true;
-                        result = MESSAGE_ENTER_NEW_PASSWORD + MESSAGE_PO + MESSAGE_ONE + ":";
-                        logr.info("Updating PO1 password.");
-
-                    } else if (PatrolResourceStatus.POLICE_OFFICER_2_ID.equals(user)) {
-                        isLoginPO2 = true;
-                        result = MESSAGE_ENTER_NEW_PASSWORD + MESSAGE_PO + MESSAGE_TWO + ":";
-                        logr.info("Updating PO2 password.");
-
-                    } else if (PatrolResourceStatus.POLICE_OFFICER_3_ID.equals(user)) {
-                        isLoginPO3 = true;
-                        result = MESSAGE_ENTER_NEW_PASSWORD + MESSAGE_PO + MESSAGE_THREE + ":";
-                        logr.info("Updating PO3 password.");
-
-                    } else if (PatrolResourceStatus.POLICE_OFFICER_4_ID.equals(user)) {
-                        isLoginPO4 = true;
-                        result = MESSAGE_ENTER_NEW_PASSWORD + MESSAGE_PO + MESSAGE_FOUR + ":";
-                        logr.info("Updating PO4 password.");
-
-                    } else if (PatrolResourceStatus.POLICE_OFFICER_5_ID.equals(user)) {
-                        isLoginPO5 = true;
-                        result = MESSAGE_ENTER_NEW_PASSWORD + MESSAGE_PO + MESSAGE_FIVE + ":";
-                        logr.info("Updating PO5 password.");
-
-                    }
-
-                }
-                numberOfPasswords--;
-            }
-            if (isNotLogin()) {
+            String user = getCredentials().findUser(userCommandText);
+            if (user != null) {
+                setWrongPasswordCounter(5);
+                updatingUserId = user;
+                result = MESSAGE_ENTER_NEW_PASSWORD + getDisplayName(user) + ":";
+                logr.info("Updating " + user + " password.");
+            } else {
                 result = wrongPasswordShutDown(number);
                 logr.info("Shutdown sequence running.");
             }
@@ -449,7 +357,6 @@ public class Password {
                 logr.info("Prompting user to re-enter new password.");
             }
         }
-        br.close();
         return result;
     }
 
@@ -462,75 +369,25 @@ public class Password {
      */
     public static String updatePasswordFinal(String userCommandText) throws IOException {
         logr.info("Update password sequence stage 2 initiated.");
-        String result = null;
-        int lineNumber = 0;
-        int linesLeft;
-
-        File originalFile = readerandwriter.fileToUse("passwordStorage.txt");
-        BufferedReader br = readerandwriter.openReader(originalFile);
-        File tempFile = readerandwriter.fileToUse("tempFile.txt");
-        PrintWriter pw = readerandwriter.openTempWriter(tempFile);
-
-        String line;
+        String result;
 
         if (isEqualPassword(userCommandText)) {
-            int storedNewPassword = userCommandText.hashCode();
-
-            if (isLoginHqp) {
-                isLoginHqp = false;
-                result = String.format(MESSAGE_UPDATED_PASSWORD, MESSAGE_HQP);
-                logr.info("Updated HQP password.");
-            } else if (isLoginPO1) {
-                lineNumber = 1;
-                isLoginPO1 = false;
-                result = String.format(MESSAGE_UPDATED_PASSWORD, MESSAGE_PO + MESSAGE_ONE);
-                logr.info("Updated PO1 password.");
-            } else if (isLoginPO2) {
-                lineNumber = 2;
-                isLoginPO2 = false;
-                result = String.format(MESSAGE_UPDATED_PASSWORD, MESSAGE_PO + MESSAGE_TWO);
-                logr.info("Updated PO2 password.");
-            } else if (isLoginPO3) {
-                lineNumber = 3;
-                isLoginPO3 = false;
-                result = String.format(MESSAGE_UPDATED_PASSWORD, MESSAGE_PO + MESSAGE_THREE);
-                logr.info("Updated PO3 password.");
-            } else if (isLoginPO4) {
-                lineNumber = 4;
-                isLoginPO4 = false;
-                result = String.format(MESSAGE_UPDATED_PASSWORD, MESSAGE_PO + MESSAGE_FOUR);
-                logr.info("Updated PO4 password.");
-            } else if (isLoginPO5) {
-                lineNumber = 5;
-                isLoginPO5 = false;
-                result = String.format(MESSAGE_UPDATED_PASSWORD, MESSAGE_PO + MESSAGE_FIVE);
-                logr.info("Updated PO5 password.");
-            }
+            String user = updatingUserId;
+            updatingUserId = null;
             unprepareUpdatePassword();
             notUpdatingFinal();
-            linesLeft = 5 - lineNumber;
-            while (lineNumber > 0) {
-                reprintLine(br, pw);
-                lineNumber--;
-            }
-            line = br.readLine();
-            line = line.substring(0, line.lastIndexOf(" ") + 1) + Integer.toString(storedNewPassword);
-            pw.println(line);
-            pw.flush();
-            while (linesLeft > 0) {
-                reprintLine(br, pw);
-                linesLeft--;
-            }
-            pw.close();
-            br.close();
-
-            if (!originalFile.delete()) {
-                result = (Messages.MESSAGE_ERROR);
-                logr.info("Unable to locate file to delete.");
-            }
-            if (!tempFile.renameTo(originalFile)) {
-                result = (Messages.MESSAGE_ERROR);
-                logr.info("Unable to locate file to rename.");
+            if (user == null) {
+                result = Messages.MESSAGE_ERROR;
+                logr.info("No user to update password for.");
+            } else {
+                try {
+                    getCredentials().setPassword(user, userCommandText);
+                    result = String.format(MESSAGE_UPDATED_PASSWORD, getDisplayName(user));
+                    logr.info("Updated " + user + " password.");
+                } catch (IOException e) {
+                    result = Messages.MESSAGE_ERROR;
+                    logr.info("Unable to save password file.");
+                }
             }
             result = result
                     + "\n" + MESSAGE_ENTER_COMMAND;
@@ -540,43 +397,19 @@ public class Password {
                     + "\n" + MESSAGE_TRY_AGAIN;
             logr.info("Update password stage 2 does not match stage 1.");
         }
-        pw.close();
-        br.close();
         return result;
     }
 
-    private static void reprintLine(BufferedReader br, PrintWriter pw) throws IOException {
-        String line = br.readLine();
-        pw.println(line);
-        pw.flush();
-    }
-
     /**
      * Checks if input already exists in the System. Returns appropriate message for either case.
      */
     public static String passwordExistsChecker(String newEnteredPassword) throws IOException {
         logr.info("Checking password validity.");
-        String result = MESSAGE_VALID;
-
-        File originalFile = readerandwriter.fileToUse("passwordStorage.txt");
-        BufferedReader br = readerandwriter.openReader(originalFile);
-
-        int hashedEnteredPassword = newEnteredPassword.hashCode();
-
-        String line;
-        int numberOfPasswords = 6;
-
-        while (numberOfPasswords > 0) {
-            line = br.readLine();
-            String storedCurrPassword = line.substring(line.lastIndexOf(" ") + 1);
-            if (correctPassword(storedCurrPassword, hashedEnteredPassword)) {
-                result = MESSAGE_PASSWORD_EXISTS;
-                logr.info("New password already exists in system.");
-            }
-            numberOfPasswords--;
+        if (getCredentials().isPasswordInUse(newEnteredPassword)) {
+            logr.info("New password already exists in system.");
+            return MESSAGE_PASSWORD_EXISTS;
         }
-        br.close();
-        return result;
+        return MESSAGE_VALID;
     }
 
     /**
@@ -620,17 +453,19 @@ public class Password {
      */
     public static String passwordValidityChecker(String newEnteredPassword) throws IOException {
         logr.info("New password checked for validity.");
+        String existsResult = passwordExistsChecker(newEnteredPassword);
+        String alphanumericResult = passwordAlphanumericChecker(newEnteredPassword);
+        String lengthResult = passwordLengthChecker(newEnteredPassword);
         String result = MESSAGE_VALID;
-        if (!passwordExistsChecker(newEnteredPassword).equals(MESSAGE_VALID)) {
-            result = passwordExistsChecker(newEnteredPassword);
-        } else if (!passwordAlphanumericChecker(newEnteredPassword).equals(MESSAGE_VALID)
-                && !passwordLengthChecker(newEnteredPassword).equals(MESSAGE_VALID)) {
-            result = passwordLengthChecker(newEnteredPassword)
-                    + "\n" + passwordAlphanumericChecker(newEnteredPassword);
-        } else if (!passwordAlphanumericChecker(newEnteredPassword).equals(MESSAGE_VALID)) {
-            result = passwordAlphanumericChecker(newEnteredPassword);
-        } else if (!passwordLengthChecker(newEnteredPassword).equals(MESSAGE_VALID)) {
-            result = passwordLengthChecker(newEnteredPassword);
+        if (!existsResult.equals(MESSAGE_VALID)) {
+            result = existsResult;
+        } else if (!alphanumericResult.equals(MESSAGE_VALID) && !lengthResult.equals(MESSAGE_VALID)) {
+            result = lengthResult
+                    + "\n" + alphanumericResult;
+        } else if (!alphanumericResult.equals(MESSAGE_VALID)) {
+            result = alphanumericResult;
+        } else if (!lengthResult.equals(MESSAGE_VALID)) {
+            result = lengthResult;
         }
         return (result.equals(MESSAGE_VALID)) ? MESSAGE_VALID : result + "\n" + MESSAGE_TRY_AGAIN;
     }
@@ -661,11 +496,16 @@ public class Password {
     public static boolean isRejectPo(String userCommandWord) {
         logr.info("PO command unauthorized.");
         return (userCommandWord.equals("add")
+                || userCommandWord.equals("broadcast")
                 || userCommandWord.equals("check")
                 || userCommandWord.equals("clear")
                 || userCommandWord.equals("delete")
                 || userCommandWord.equals("dispatch")
                 || userCommandWord.equals("edit")
+                || userCommandWord.equals("next")
+                || userCommandWord.equals("queue")
+                || userCommandWord.equals("screenings")
+                || userCommandWord.equals("stats")
                 || userCommandWord.equals("update password")
                 || userCommandWord.equals("updatestatus"));
     }
@@ -673,26 +513,26 @@ public class Password {
     public static String invalidPoResult(String userCommandText) {
         return String.format(MESSAGE_TRY_UNAUTHORIZED, getUnauthorizedPoCommand(userCommandText));
     }
+
+    /**
+     * Returns the ID of the user of the current session.
+     * Sessions without an identity of their own fall back to the console login.
+     */
     public static String getId() {
-        logr.info("Obtained user ID");
-        if (isHqp) {
-            return PatrolResourceStatus.HEADQUARTER_PERSONNEL_ID;
-        } else if (isPO1) {
-            return PatrolResourceStatus.POLICE_OFFICER_1_ID;
-        } else if (isPO2) {
-            return PatrolResourceStatus.POLICE_OFFICER_2_ID;
-        } else if (isPO3) {
-            return PatrolResourceStatus.POLICE_OFFICER_3_ID;
-        } else if (isPO4) {
-            return PatrolResourceStatus.POLICE_OFFICER_4_ID;
-        } else if (isPO5) {
-            return PatrolResourceStatus.POLICE_OFFICER_5_ID;
-        }
-        return "Ghost";
+        return SessionContext.current().getSession().getUserId();
     }
 
+    //@@author andyrobert3
+    /**
+     * Returns the identity of the user logged in at the console, or {@link Session#NONE} if no one is.
+     */
+    public static Session getConsoleSession() {
+        Session session = consoleSession;
+        return (session == null) ? Session.NONE : session;
+    }
+
+    //@@author iamputradanish
     public static String getFullId(String id) {
-        logr.info("Obtained user full ID");
         String result = "Ghost";
         if (PatrolResourceStatus.HEADQUARTER_PERSONNEL_ID.equals(id)) {
             result = MESSAGE_HQP;
@@ -716,4 +556,14 @@ public class Password {
 
         return result;
     }
+
+    //@@author andyrobert3
+    /**
+     * Returns the name to greet {@code id} by. Users other than the HQP and the five POs are named by their ID.
+     * Use {@link Session#getDisplayName()} for the name of a logged in user, which does not look it up again.
+     */
+    public static String getDisplayName(String id) {
+        String fullId = getFullId(id);
+        return "Ghost".equals(fullId) ? MESSAGE_PO + id : fullId;
+    }
 }
@@ -0,0 +1,106 @@
+//@@author andyrobert3
+package seedu.addressbook.readandwrite;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * A set of strings which may wrongly say it holds a string it does not, about one time in a hundred, but never
+ * wrongly says it does not hold one. It takes about 10 bits a string however long the strings are, so it can be
+ * kept beside a file to tell, without reading the file, that a string is not in it.
+ */
+public class BloomFilter {
+    private static final int BITS_PER_ENTRY = 10;
+    private static final int NUM_HASHES = 7;
+    private static final int BITS_PER_WORD = 64;
+
+    private final long[] words;
+    private final int numHashes;
+
+    /**
+     * Creates an empty filter sized for {@code expectedEntries} strings.
+     */
+    public BloomFilter(int expectedEntries) {
+        this(new long[Math.max(1, (int) (((long) expectedEntries * BITS_PER_ENTRY + BITS_PER_WORD - 1)
+                / BITS_PER_WORD))], NUM_HASHES);
+    }
+
+    private BloomFilter(long[] words, int numHashes) {
+        this.words = words;
+        this.numHashes = numHashes;
+    }
+
+    /**
+     * Adds {@code key}.
+     */
+    public void add(String key) {
+        int hash1 = key.hashCode();
+        int hash2 = hash2(key);
+        for (int i = 0; i < numHashes; i++) {
+            int bit = getBit(hash1, hash2, i);
+            words[bit / BITS_PER_WORD] |= 1L << (bit % BITS_PER_WORD);
+        }
+    }
+
+    /**
+     * Returns false if {@code key} has certainly not been added.
+     */
+    public boolean mightContain(String key) {
+        int hash1 = key.hashCode();
+        int hash2 = hash2(key);
+        for (int i = 0; i < numHashes; i++) {
+            int bit = getBit(hash1, hash2, i);
+            if ((words[bit / BITS_PER_WORD] & (1L << (bit % BITS_PER_WORD))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the filter to {@code out}, to be read back by {@link #readFrom(DataInputStream)}.
+     */
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(numHashes);
+        out.writeInt(words.length);
+        for (long word : words) {
+            out.writeLong(word);
+        }
+    }
+
+    /**
+     * Reads a filter written by {@link #writeTo(DataOutputStream)}.
+     */
+    public static BloomFilter readFrom(DataInputStream in) throws IOException {
+        int numHashes = in.readInt();
+        int numWords = in.readInt();
+        if (numHashes < 1 || numWords < 1) {
+            throw new IOException("Malformed bloom filter");
+        }
+        long[] words = new long[numWords];
+        for (int i = 0; i < numWords; i++) {
+            words[i] = in.readLong();
+        }
+        return new BloomFilter(words, numHashes);
+    }
+
+    /**
+     * Returns the bit set by the {@code i}th hash of a key hashing to {@code hash1} and {@code hash2}.
+     */
+    private int getBit(int hash1, int hash2, int i) {
+        return (int) Math.floorMod(hash1 + (long) i * hash2, (long) words.length * BITS_PER_WORD);
+    }
+
+    /**
+     * Returns a second hash of {@code key} independent of {@link String#hashCode()}: 32-bit FNV-1a.
+     */
+    private static int hash2(String key) {
+        int hash = 0x811c9dc5;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x01000193;
+        }
+        return hash | 1;
+    }
+}
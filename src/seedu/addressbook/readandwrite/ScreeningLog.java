@@ -0,0 +1,309 @@
+//@@author andyrobert3
+package seedu.addressbook.readandwrite;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.addressbook.timeanddate.ClockService;
+
+/**
+ * A screening history file, e.g. "s1234567a 01/11/2018-2202hrs Headquarters Personnel" a line, which is kept
+ * small by sealing it into a {@link ScreeningSegment} whenever it grows past its {@link ScreeningLogPolicy},
+ * and optionally every day. Segments are kept in a directory beside the file, named after it with
+ * {@value #SEGMENTS_SUFFIX}, and are archived or deleted once they are older than the policy keeps them.
+ *
+ * The file itself is only ever appended to, so it can still be read as before, while segments keep each screening
+ * as a compact {@link ScreeningRecord}. Looking up an NRIC reads the segments whose bloom filters do not rule it
+ * out, then the file.
+ *
+ * Sealing survives a crash at any point: the file is first moved into the segments directory under the name of
+ * the segment it becomes, with {@value #PENDING_SUFFIX}, and deleted once the segment's index is written. Opening
+ * the log seals any such pending file whose segment has no index yet, and deletes those which already have one,
+ * so no screening is lost or sealed twice.
+ *
+ * Thread safe.
+ */
+public class ScreeningLog {
+    public static final String SEGMENTS_SUFFIX = ".segments";
+    public static final String ARCHIVE_DIRECTORY = "archive";
+
+    private static final String SEGMENT_NAME_FORMAT = "segment-%06d";
+    private static final String PENDING_SUFFIX = ".txt";
+    private static final long MILLIS_PER_DAY = 24 * 60 * 60 * 1000;
+
+    private static final Logger logger = Logger.getLogger(ScreeningLog.class.getName());
+
+    private final File file;
+    private final File segmentsDirectory;
+    private final ScreeningLogPolicy policy;
+
+    /** The sealed segments, oldest first. */
+    private final List<ScreeningSegment> segments = new ArrayList<>();
+    private int nextSequence = 1;
+    /** How many times the file has been sealed, to tell readers of the file that it has started over. */
+    private int generation = 0;
+    /** The day of the first screening in the file, once read, for daily rotation. */
+    private LocalDate firstDay = null;
+
+    /**
+     * Opens the screening history {@code file} and the segments sealed from it, finishing any sealing cut short.
+     * Segments which cannot be read are left out with a warning.
+     */
+    public ScreeningLog(File file, ScreeningLogPolicy policy) {
+        this.file = file;
+        this.segmentsDirectory = new File(file.getPath() + SEGMENTS_SUFFIX);
+        this.policy = policy;
+
+        finishPendingSeals();
+        File[] indexFiles = segmentsDirectory.listFiles((dir, name) -> name.endsWith(ScreeningSegment.INDEX_SUFFIX));
+        if (indexFiles == null) {
+            return;
+        }
+        Arrays.sort(indexFiles);
+        for (File indexFile : indexFiles) {
+            String name = indexFile.getName();
+            String baseName = name.substring(0, name.length() - ScreeningSegment.INDEX_SUFFIX.length());
+            File dataFile = new File(segmentsDirectory, baseName + ScreeningSegment.DATA_SUFFIX);
+            try {
+                segments.add(ScreeningSegment.open(dataFile, indexFile));
+                nextSequence = Math.max(nextSequence,
+                        Integer.parseInt(baseName.substring(baseName.lastIndexOf('-') + 1)) + 1);
+            } catch (IOException | NumberFormatException e) {
+                logger.log(Level.WARNING, "Skipping unreadable screening segment " + indexFile, e);
+            }
+        }
+    }
+
+    /**
+     * Seals the files left pending by a sealing cut short, and deletes those already sealed. The file is created
+     * again if it was moved aside but not yet replaced.
+     */
+    private void finishPendingSeals() {
+        File[] pendingFiles = segmentsDirectory.listFiles((dir, name) -> name.endsWith(PENDING_SUFFIX));
+        if (pendingFiles == null || pendingFiles.length == 0) {
+            return;
+        }
+        for (File pendingFile : pendingFiles) {
+            String name = pendingFile.getName();
+            String baseName = name.substring(0, name.length() - PENDING_SUFFIX.length());
+            try {
+                if (new File(segmentsDirectory, baseName + ScreeningSegment.INDEX_SUFFIX).exists()) {
+                    Files.delete(pendingFile.toPath());
+                } else {
+                    sealPending(pendingFile, baseName);
+                }
+            } catch (IOException ioe) {
+                logger.log(Level.WARNING, "Could not finish sealing " + pendingFile, ioe);
+            }
+        }
+        try {
+            if (file.createNewFile()) {
+                logger.info("Created " + file + " again after sealing was cut short");
+            }
+        } catch (IOException ioe) {
+            logger.log(Level.WARNING, "Could not create " + file, ioe);
+        }
+    }
+
+    /**
+     * Seals the screenings in {@code pendingFile} into the segment named {@code baseName}, then deletes it.
+     * Malformed lines are left out of the segment.
+     */
+    private ScreeningSegment sealPending(File pendingFile, String baseName) throws IOException {
+        List<String> lines = Files.readAllLines(pendingFile.toPath());
+        List<ScreeningRecord> records = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            ScreeningRecord record = ScreeningRecord.parseLegacyLine(line);
+            if (record != null) {
+                records.add(record);
+            }
+        }
+        ScreeningSegment segment = ScreeningSegment.seal(records,
+                new File(segmentsDirectory, baseName + ScreeningSegment.DATA_SUFFIX),
+                new File(segmentsDirectory, baseName + ScreeningSegment.INDEX_SUFFIX));
+        Files.delete(pendingFile.toPath());
+        return segment;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Appends {@code line} to the file, first sealing the file into a segment if the policy says it is due.
+     *
+     * @throws FileNotFoundException if the file does not exist.
+     */
+    public synchronized void append(String line) throws IOException {
+        if (!file.exists()) {
+            throw new FileNotFoundException(file.getPath());
+        }
+        if (isRotationDue()) {
+            rotate();
+        }
+        try (PrintWriter writer = new PrintWriter(new FileWriter(file, true))) {
+            writer.println(line);
+        }
+    }
+
+    /**
+     * Returns whether the file has grown past the policy's segment size, or holds a screening from before today
+     * while the policy rotates daily.
+     */
+    private boolean isRotationDue() throws IOException {
+        long length = file.length();
+        if (length == 0) {
+            return false;
+        }
+        if (length >= policy.getMaxSegmentBytes()) {
+            return true;
+        }
+        if (!policy.isRotateDaily()) {
+            return false;
+        }
+        if (firstDay == null) {
+            firstDay = readFirstDay();
+        }
+        return firstDay != null && firstDay.isBefore(toDay(ClockService.currentTimeMillis()));
+    }
+
+    /**
+     * Returns the day of the first screening in the file, or null if it cannot be read.
+     */
+    private LocalDate readFirstDay() throws IOException {
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            String line = reader.readLine();
+            String[] parts = (line == null) ? new String[0] : line.split(" ", 3);
+            if (parts.length < 2) {
+                return null;
+            }
+            return toDay(ClockService.parseForCheckCommand(parts[1]));
+        } catch (DateTimeParseException dtpe) {
+            return null;
+        }
+    }
+
+    private static LocalDate toDay(long epochMilli) {
+        return Instant.ofEpochMilli(epochMilli).atZone(ClockService.getZone()).toLocalDate();
+    }
+
+    /**
+     * Seals the screenings in the file into a new segment and empties the file, then archives or deletes the
+     * segments the policy no longer keeps. Malformed lines are left out of the segment.
+     */
+    public synchronized void rotate() throws IOException {
+        if (file.length() == 0) {
+            return;
+        }
+        if (!segmentsDirectory.isDirectory() && !segmentsDirectory.mkdirs()) {
+            throw new IOException("Could not create " + segmentsDirectory);
+        }
+        String baseName = String.format(SEGMENT_NAME_FORMAT, nextSequence);
+        File pendingFile = new File(segmentsDirectory, baseName + PENDING_SUFFIX);
+        Files.move(file.toPath(), pendingFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        // The pending file keeps this name until it is sealed, even if sealing fails now, so it is never reused.
+        nextSequence++;
+        new PrintWriter(new FileWriter(file)).close();
+        generation++;
+        firstDay = null;
+        segments.add(sealPending(pendingFile, baseName));
+        applyRetention();
+    }
+
+    /**
+     * Archives, or deletes if the policy does not archive, the segments whose last screening is older than the
+     * policy keeps.
+     */
+    private void applyRetention() throws IOException {
+        if (policy.getRetentionDays() <= 0) {
+            return;
+        }
+        long cutoff = ClockService.currentTimeMillis() - policy.getRetentionDays() * MILLIS_PER_DAY;
+        File archiveDirectory = new File(segmentsDirectory, ARCHIVE_DIRECTORY);
+        for (Iterator<ScreeningSegment> it = segments.iterator(); it.hasNext();) {
+            ScreeningSegment segment = it.next();
+            if (segment.getLastMillis() >= cutoff) {
+                continue;
+            }
+            for (File segmentFile : Arrays.asList(segment.getDataFile(), segment.getIndexFile())) {
+                if (!policy.isArchive()) {
+                    Files.deleteIfExists(segmentFile.toPath());
+                    continue;
+                }
+                if (!archiveDirectory.isDirectory() && !archiveDirectory.mkdirs()) {
+                    throw new IOException("Could not create " + archiveDirectory);
+                }
+                Files.move(segmentFile.toPath(), new File(archiveDirectory, segmentFile.getName()).toPath(),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+            it.remove();
+        }
+    }
+
+    /**
+     * Returns the screenings of {@code nric}, oldest segment first, then those in the file. Malformed lines in the
+     * file are skipped.
+     *
+     * @throws FileNotFoundException if the file does not exist.
+     */
+    public synchronized List<ScreeningRecord> read(String nric) throws IOException {
+        List<ScreeningRecord> records = new ArrayList<>();
+        for (ScreeningSegment segment : segments) {
+            if (segment.mightContain(nric)) {
+                records.addAll(segment.read(nric));
+            }
+        }
+        String prefix = nric + " ";
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.startsWith(prefix)) {
+                    continue;
+                }
+                ScreeningRecord record = ScreeningRecord.parseLegacyLine(line);
+                if (record != null) {
+                    records.add(record);
+                }
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Passes every screening in the sealed segments, oldest segment first, to {@code action}.
+     */
+    public synchronized void forEachSealed(Consumer<ScreeningRecord> action) throws IOException {
+        for (ScreeningSegment segment : segments) {
+            segment.forEach(action);
+        }
+    }
+
+    public synchronized List<ScreeningSegment> getSegments() {
+        return Collections.unmodifiableList(new ArrayList<>(segments));
+    }
+
+    /**
+     * Returns how many times the file has been sealed into a segment and emptied since it was opened.
+     */
+    public synchronized int getGeneration() {
+        return generation;
+    }
+}
@@ -0,0 +1,113 @@
+//@@author andyrobert3
+package seedu.addressbook.readandwrite;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * When a {@link ScreeningLog} starts a new segment, and how long it keeps the old ones.
+ *
+ * The policy may be set in {@value #DEFAULT_FILE}, a properties file with the keys
+ * {@value #KEY_MAX_SEGMENT_BYTES}, {@value #KEY_ROTATE_DAILY}, {@value #KEY_RETENTION_DAYS} and
+ * {@value #KEY_ARCHIVE}. Keys left out take their default.
+ */
+public class ScreeningLogPolicy {
+    public static final String DEFAULT_FILE = "screeningLog.properties";
+    public static final String KEY_MAX_SEGMENT_BYTES = "maxSegmentBytes";
+    public static final String KEY_ROTATE_DAILY = "rotateDaily";
+    public static final String KEY_RETENTION_DAYS = "retentionDays";
+    public static final String KEY_ARCHIVE = "archive";
+
+    public static final long DEFAULT_MAX_SEGMENT_BYTES = 1024 * 1024;
+
+    private static final Logger logger = Logger.getLogger(ScreeningLogPolicy.class.getName());
+
+    private final long maxSegmentBytes;
+    private final boolean isRotateDaily;
+    private final int retentionDays;
+    private final boolean isArchive;
+
+    /**
+     * @param maxSegmentBytes the size the history may grow to before a new segment is started.
+     * @param isRotateDaily whether a new segment is also started every day.
+     * @param retentionDays the days a segment is kept after its last screening, or 0 to keep every segment.
+     * @param isArchive whether segments no longer kept are moved to the archive rather than deleted.
+     */
+    public ScreeningLogPolicy(long maxSegmentBytes, boolean isRotateDaily, int retentionDays, boolean isArchive) {
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.isRotateDaily = isRotateDaily;
+        this.retentionDays = retentionDays;
+        this.isArchive = isArchive;
+    }
+
+    /**
+     * Returns the policy of starting a new segment every {@value #DEFAULT_MAX_SEGMENT_BYTES} bytes
+     * and keeping every segment.
+     */
+    public static ScreeningLogPolicy defaultPolicy() {
+        return new ScreeningLogPolicy(DEFAULT_MAX_SEGMENT_BYTES, false, 0, true);
+    }
+
+    /**
+     * Reads the policy from the properties file {@code file}, or returns the default policy if there is none.
+     * Values which cannot be read are left at their default.
+     */
+    public static ScreeningLogPolicy load(File file) {
+        Properties properties = new Properties();
+        if (file.exists()) {
+            try (InputStream in = new FileInputStream(file)) {
+                properties.load(in);
+            } catch (IOException ioe) {
+                logger.log(Level.WARNING, "Could not read " + file + ", using the default screening log policy", ioe);
+            }
+        }
+        ScreeningLogPolicy defaults = defaultPolicy();
+        return new ScreeningLogPolicy(
+                getLong(properties, KEY_MAX_SEGMENT_BYTES, defaults.maxSegmentBytes),
+                Boolean.parseBoolean(properties.getProperty(KEY_ROTATE_DAILY, String.valueOf(defaults.isRotateDaily))),
+                (int) getLong(properties, KEY_RETENTION_DAYS, defaults.retentionDays),
+                Boolean.parseBoolean(properties.getProperty(KEY_ARCHIVE, String.valueOf(defaults.isArchive))));
+    }
+
+    /**
+     * Returns the value of {@code key} in {@code properties}, or {@code defaultValue} if it is not a number
+     * of at least 0.
+     */
+    private static long getLong(Properties properties, String key, long defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            long parsed = Long.parseLong(value.trim());
+            if (parsed >= 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException nfe) {
+            // Falls through to the warning below
+        }
+        logger.log(Level.WARNING, String.format("Ignoring %s=%s in the screening log policy", key, value));
+        return defaultValue;
+    }
+
+    public long getMaxSegmentBytes() {
+        return maxSegmentBytes;
+    }
+
+    public boolean isRotateDaily() {
+        return isRotateDaily;
+    }
+
+    public int getRetentionDays() {
+        return retentionDays;
+    }
+
+    public boolean isArchive() {
+        return isArchive;
+    }
+}
@@ -0,0 +1,142 @@
+//@@author andyrobert3
+package seedu.addressbook.readandwrite;
+
+import java.time.format.DateTimeParseException;
+
+import seedu.addressbook.timeanddate.ClockService;
+
+/**
+ * A screening of a person by an officer, as kept in screening history.
+ *
+ * The NRIC is packed into a long which sorts as the NRIC does, and the time is kept to the second, so that a
+ * screening takes 15 bytes on disk rather than a line of text. See {@link ScreeningRecordCodec}.
+ */
+public class ScreeningRecord {
+    private static final int NUM_LETTERS = 26;
+    private static final int NUM_NRIC_NUMBERS = 10000000;
+    private static final int NRIC_LENGTH = 9;
+    private static final long MAX_EPOCH_SECOND = 0xFFFFFFFFL;
+    private static final long MILLIS_PER_SECOND = 1000;
+
+    private final long nric;
+    private final long epochSecond;
+    private final String officer;
+
+    /**
+     * @param nric the NRIC packed by {@link #packNric(String)}.
+     * @param epochSecond the time of the screening, which must not be before 1970 or after 2105.
+     * @param officer the name of the officer who screened the person.
+     */
+    public ScreeningRecord(long nric, long epochSecond, String officer) {
+        if (epochSecond < 0 || epochSecond > MAX_EPOCH_SECOND) {
+            throw new IllegalArgumentException("Screening time out of range: " + epochSecond);
+        }
+        this.nric = nric;
+        this.epochSecond = epochSecond;
+        this.officer = officer;
+    }
+
+    /**
+     * Returns the screening of {@code nric} at {@code epochMilli} by {@code officer}.
+     *
+     * @throws IllegalArgumentException if the NRIC or the time cannot be kept.
+     */
+    public static ScreeningRecord of(String nric, long epochMilli, String officer) {
+        return new ScreeningRecord(packNric(nric), Math.floorDiv(epochMilli, MILLIS_PER_SECOND), officer);
+    }
+
+    /**
+     * Returns the screening in a line of the text screening history used before screenings were kept as records,
+     * e.g. "s1234567a 01/11/2018-2202hrs Headquarters Personnel", or null if the line is malformed or has no
+     * officer.
+     */
+    public static ScreeningRecord parseLegacyLine(String line) {
+        String[] parts = line.trim().split(" ", 3);
+        if (parts.length < 3 || parts[2].equals("null")) {
+            return null;
+        }
+        try {
+            return of(parts[0], ClockService.parseForCheckCommand(parts[1]), parts[2]);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns {@code nric}, a letter, seven digits and a letter, packed into a long. Packed NRICs sort as the NRICs
+     * themselves do.
+     *
+     * @throws IllegalArgumentException if {@code nric} is not of that form.
+     */
+    public static long packNric(String nric) {
+        if (nric.length() != NRIC_LENGTH || !isLetter(nric.charAt(0)) || !isLetter(nric.charAt(NRIC_LENGTH - 1))) {
+            throw new IllegalArgumentException("Not an NRIC: " + nric);
+        }
+        long number = 0;
+        for (int i = 1; i < NRIC_LENGTH - 1; i++) {
+            char digit = nric.charAt(i);
+            if (digit < '0' || digit > '9') {
+                throw new IllegalArgumentException("Not an NRIC: " + nric);
+            }
+            number = number * 10 + (digit - '0');
+        }
+        return ((nric.charAt(0) - 'a') * NUM_NRIC_NUMBERS + number) * NUM_LETTERS
+                + (nric.charAt(NRIC_LENGTH - 1) - 'a');
+    }
+
+    /**
+     * Returns the NRIC packed into {@code packed} by {@link #packNric(String)}.
+     */
+    public static String unpackNric(long packed) {
+        long prefixAndNumber = packed / NUM_LETTERS;
+        return String.format("%c%07d%c", (char) ('a' + prefixAndNumber / NUM_NRIC_NUMBERS),
+                prefixAndNumber % NUM_NRIC_NUMBERS, (char) ('a' + packed % NUM_LETTERS));
+    }
+
+    private static boolean isLetter(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    public long getPackedNric() {
+        return nric;
+    }
+
+    public String getNric() {
+        return unpackNric(nric);
+    }
+
+    public long getEpochSecond() {
+        return epochSecond;
+    }
+
+    public long getEpochMilli() {
+        return epochSecond * MILLIS_PER_SECOND;
+    }
+
+    public String getOfficer() {
+        return officer;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ScreeningRecord // instanceof handles nulls
+                && nric == ((ScreeningRecord) other).nric
+                && epochSecond == ((ScreeningRecord) other).epochSecond
+                && officer.equals(((ScreeningRecord) other).officer));
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(nric) * 31 + Long.hashCode(epochSecond);
+    }
+
+    /**
+     * Returns the screening as a line of the text screening history, e.g.
+     * "s1234567a 01/11/2018-2202hrs Headquarters Personnel".
+     */
+    @Override
+    public String toString() {
+        return getNric() + " " + ClockService.formatForCheckCommand(getEpochMilli()) + "hrs " + officer;
+    }
+}
@@ -0,0 +1,108 @@
+//@@author andyrobert3
+package seedu.addressbook.readandwrite;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes and reads a stream of {@link ScreeningRecord}s.
+ *
+ * A screening is written as the byte 'S', the packed NRIC (8 bytes), the time in seconds (4 bytes, unsigned) and
+ * the officer's number (2 bytes, unsigned): 15 bytes. Officers are numbered in the order they first screen someone
+ * in the stream, and the first screening by an officer is preceded by the byte 'O' and their name in UTF-8,
+ * prefixed with its length (2 bytes).
+ *
+ * A codec keeps the officers of one stream, so the same codec must be used for all of a stream, and a new one
+ * for each stream. Not thread safe.
+ */
+public class ScreeningRecordCodec {
+    public static final int SCREENING_BYTES = 15;
+
+    private static final int TAG_OFFICER = 'O';
+    private static final int TAG_SCREENING = 'S';
+    private static final int MAX_OFFICERS = 0x10000;
+    private static final int MAX_NAME_BYTES = 0xFFFF;
+
+    private final List<String> officers = new ArrayList<>();
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private long bytesRead = 0;
+
+    /**
+     * Reads the next screening from {@code in}, and the names of any officers before it.
+     *
+     * @return null at the end of {@code in}, or if the screening has not been written in full.
+     * @throws IOException if {@code in} does not hold screening records.
+     */
+    public ScreeningRecord read(DataInputStream in) throws IOException {
+        try {
+            while (true) {
+                int tag = in.read();
+                if (tag == -1) {
+                    return null;
+                } else if (tag == TAG_OFFICER) {
+                    byte[] name = new byte[in.readUnsignedShort()];
+                    in.readFully(name);
+                    define(new String(name, StandardCharsets.UTF_8));
+                    bytesRead += 3 + name.length;
+                } else if (tag == TAG_SCREENING) {
+                    long nric = in.readLong();
+                    long epochSecond = Integer.toUnsignedLong(in.readInt());
+                    int ordinal = in.readUnsignedShort();
+                    if (ordinal >= officers.size()) {
+                        throw new IOException("Screening by unknown officer " + ordinal);
+                    }
+                    bytesRead += SCREENING_BYTES;
+                    return new ScreeningRecord(nric, epochSecond, officers.get(ordinal));
+                } else {
+                    throw new IOException("Not a screening record: " + tag);
+                }
+            }
+        } catch (EOFException eofe) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes {@code record} to {@code out}, preceded by its officer's name if it is their first screening.
+     */
+    public void write(DataOutputStream out, ScreeningRecord record) throws IOException {
+        Integer ordinal = ordinals.get(record.getOfficer());
+        if (ordinal == null) {
+            byte[] name = record.getOfficer().getBytes(StandardCharsets.UTF_8);
+            if (officers.size() == MAX_OFFICERS || name.length > MAX_NAME_BYTES) {
+                throw new IOException("Cannot record screening by " + record.getOfficer());
+            }
+            out.writeByte(TAG_OFFICER);
+            out.writeShort(name.length);
+            out.write(name);
+            ordinal = define(record.getOfficer());
+        }
+        out.writeByte(TAG_SCREENING);
+        out.writeLong(record.getPackedNric());
+        out.writeInt((int) record.getEpochSecond());
+        out.writeShort(ordinal);
+    }
+
+    /**
+     * Numbers {@code officer} after the officers before them.
+     */
+    private int define(String officer) {
+        officers.add(officer);
+        ordinals.put(officer, officers.size() - 1);
+        return officers.size() - 1;
+    }
+
+    /**
+     * Returns the bytes of the stream read so far, up to the end of the last screening read in full.
+     */
+    public long getBytesRead() {
+        return bytesRead;
+    }
+}
@@ -0,0 +1,284 @@
+//@@author andyrobert3
+package seedu.addressbook.readandwrite;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A sealed part of a {@link ScreeningLog}, which is no longer written to.
+ *
+ * The screenings are sorted by NRIC, keeping the screenings of each NRIC in the order they were made, and
+ * compressed in blocks of {@value #BLOCK_RECORDS} records, each a gzip member and a {@link ScreeningRecordCodec}
+ * stream of its own. An index file beside the data holds a bloom filter of the NRICs in the segment, and the first
+ * and last NRIC of each block with where it starts. A lookup skips a segment its bloom filter rules out, and
+ * otherwise only decompresses the blocks whose NRICs span the NRIC looked up.
+ *
+ * The index is written last, and moved into place once complete, so an index only ever names a whole segment.
+ */
+public class ScreeningSegment {
+    public static final String DATA_SUFFIX = ".gz";
+    public static final String INDEX_SUFFIX = ".idx";
+    static final int BLOCK_RECORDS = 256;
+
+    private static final String PARTIAL_SUFFIX = ".partial";
+    private static final int MAGIC = 0x53434732;
+
+    private final File dataFile;
+    private final File indexFile;
+    private final int numRecords;
+    private final long firstMillis;
+    private final long lastMillis;
+    private final BloomFilter nrics;
+    private final List<Block> blocks;
+
+    private ScreeningSegment(File dataFile, File indexFile, int numRecords, long firstMillis, long lastMillis,
+                             BloomFilter nrics, List<Block> blocks) {
+        this.dataFile = dataFile;
+        this.indexFile = indexFile;
+        this.numRecords = numRecords;
+        this.firstMillis = firstMillis;
+        this.lastMillis = lastMillis;
+        this.nrics = nrics;
+        this.blocks = blocks;
+    }
+
+    /**
+     * Writes {@code records} of screening history, in the order they were appended, to a new segment.
+     */
+    public static ScreeningSegment seal(List<ScreeningRecord> records, File dataFile, File indexFile)
+            throws IOException {
+        List<ScreeningRecord> sorted = new ArrayList<>(records);
+        sorted.sort(Comparator.comparingLong(ScreeningRecord::getPackedNric));
+
+        int numNrics = 0;
+        long firstMillis = Long.MAX_VALUE;
+        long lastMillis = Long.MIN_VALUE;
+        for (int i = 0; i < sorted.size(); i++) {
+            if (i == 0 || sorted.get(i).getPackedNric() != sorted.get(i - 1).getPackedNric()) {
+                numNrics++;
+            }
+            firstMillis = Math.min(firstMillis, sorted.get(i).getEpochMilli());
+            lastMillis = Math.max(lastMillis, sorted.get(i).getEpochMilli());
+        }
+        BloomFilter nrics = new BloomFilter(numNrics);
+        for (int i = 0; i < sorted.size(); i++) {
+            if (i == 0 || sorted.get(i).getPackedNric() != sorted.get(i - 1).getPackedNric()) {
+                nrics.add(sorted.get(i).getNric());
+            }
+        }
+
+        List<Block> blocks = new ArrayList<>();
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(dataFile))) {
+            long offset = 0;
+            for (int start = 0; start < sorted.size(); start += BLOCK_RECORDS) {
+                List<ScreeningRecord> blockRecords = sorted.subList(start,
+                        Math.min(start + BLOCK_RECORDS, sorted.size()));
+                byte[] compressed = compress(blockRecords);
+                out.write(compressed);
+                blocks.add(new Block(blockRecords.get(0).getPackedNric(),
+                        blockRecords.get(blockRecords.size() - 1).getPackedNric(), offset, compressed.length));
+                offset += compressed.length;
+            }
+        }
+        ScreeningSegment segment = new ScreeningSegment(dataFile, indexFile, sorted.size(), firstMillis, lastMillis,
+                nrics, blocks);
+        segment.writeIndex();
+        return segment;
+    }
+
+    /**
+     * Reads the index of the segment written to {@code dataFile} and {@code indexFile}.
+     *
+     * @throws IOException if the index cannot be read or is malformed.
+     */
+    public static ScreeningSegment open(File dataFile, File indexFile) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException(indexFile + " is not a screening segment index");
+            }
+            int numRecords = in.readInt();
+            long firstMillis = in.readLong();
+            long lastMillis = in.readLong();
+            BloomFilter nrics = BloomFilter.readFrom(in);
+            int numBlocks = in.readInt();
+            List<Block> blocks = new ArrayList<>(numBlocks);
+            for (int i = 0; i < numBlocks; i++) {
+                blocks.add(new Block(in.readLong(), in.readLong(), in.readLong(), in.readInt()));
+            }
+            return new ScreeningSegment(dataFile, indexFile, numRecords, firstMillis, lastMillis, nrics, blocks);
+        }
+    }
+
+    /**
+     * Writes the bloom filter and the sparse index of the blocks to the index file, replacing any index there.
+     */
+    private void writeIndex() throws IOException {
+        File partialFile = new File(indexFile.getPath() + PARTIAL_SUFFIX);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new FileOutputStream(partialFile)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(numRecords);
+            out.writeLong(firstMillis);
+            out.writeLong(lastMillis);
+            nrics.writeTo(out);
+            out.writeInt(blocks.size());
+            for (Block block : blocks) {
+                out.writeLong(block.firstNric);
+                out.writeLong(block.lastNric);
+                out.writeLong(block.offset);
+                out.writeInt(block.length);
+            }
+        }
+        Files.move(partialFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Returns false if no screening of {@code nric} is certainly in the segment.
+     */
+    public boolean mightContain(String nric) {
+        return nrics.mightContain(nric);
+    }
+
+    /**
+     * Returns the screenings of {@code nric} in the segment, in the order they were made.
+     */
+    public List<ScreeningRecord> read(String nric) throws IOException {
+        if (!mightContain(nric)) {
+            return Collections.emptyList();
+        }
+        long packed;
+        try {
+            packed = ScreeningRecord.packNric(nric);
+        } catch (IllegalArgumentException iae) {
+            return Collections.emptyList();
+        }
+        List<ScreeningRecord> records = new ArrayList<>();
+        try (RandomAccessFile data = new RandomAccessFile(dataFile, "r")) {
+            for (int i = findFirstBlock(packed); i < blocks.size() && blocks.get(i).firstNric <= packed; i++) {
+                for (ScreeningRecord record : readBlock(data, blocks.get(i))) {
+                    if (record.getPackedNric() == packed) {
+                        records.add(record);
+                    }
+                }
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Returns the first block whose last NRIC is not before {@code packed}.
+     */
+    private int findFirstBlock(long packed) {
+        int low = 0;
+        int high = blocks.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (blocks.get(middle).lastNric < packed) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Passes every screening in the segment to {@code action}, sorted by NRIC.
+     */
+    public void forEach(Consumer<ScreeningRecord> action) throws IOException {
+        try (RandomAccessFile data = new RandomAccessFile(dataFile, "r")) {
+            for (Block block : blocks) {
+                readBlock(data, block).forEach(action);
+            }
+        }
+    }
+
+    public File getDataFile() {
+        return dataFile;
+    }
+
+    public File getIndexFile() {
+        return indexFile;
+    }
+
+    public int getNumRecords() {
+        return numRecords;
+    }
+
+    /**
+     * Returns the time of the last screening in the segment, or {@link Long#MIN_VALUE} if it has none.
+     */
+    public long getLastMillis() {
+        return lastMillis;
+    }
+
+    /**
+     * Returns {@code records} compressed as one gzip member.
+     */
+    private static byte[] compress(List<ScreeningRecord> records) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            ScreeningRecordCodec codec = new ScreeningRecordCodec();
+            for (ScreeningRecord record : records) {
+                codec.write(out, record);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Returns the screenings in {@code block} of {@code data}.
+     */
+    private static List<ScreeningRecord> readBlock(RandomAccessFile data, Block block) throws IOException {
+        byte[] compressed = new byte[block.length];
+        data.seek(block.offset);
+        data.readFully(compressed);
+        List<ScreeningRecord> records = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(
+                new ByteArrayInputStream(compressed))))) {
+            ScreeningRecordCodec codec = new ScreeningRecordCodec();
+            ScreeningRecord record;
+            while ((record = codec.read(in)) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * A block of the segment, a gzip member of its own, in the sparse index.
+     */
+    private static class Block {
+        private final long firstNric;
+        private final long lastNric;
+        private final long offset;
+        private final int length;
+
+        Block(long firstNric, long lastNric, long offset, int length) {
+            this.firstNric = firstNric;
+            this.lastNric = lastNric;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+}
@@ -0,0 +1,390 @@
+//@@author andyrobert3
+package seedu.addressbook.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.commands.LogoutCommand;
+import seedu.addressbook.commands.ShutdownCommand;
+import seedu.addressbook.common.PatrolResourceStatus;
+import seedu.addressbook.common.SessionContext;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.logic.Logic;
+import seedu.addressbook.parser.Parser;
+import seedu.addressbook.password.Password;
+import seedu.addressbook.timeanddate.ClockService;
+import seedu.addressbook.ui.UiFormatter;
+
+/**
+ * Serves commands over HTTP so that several terminals can share one set of records.
+ *
+ * A terminal logs in with {@code POST /login} (body: password) and receives a session ID.
+ * It then sends commands with {@code POST /command} (body: command, header {@value #SESSION_HEADER}: session ID)
+ * and ends the session with {@code POST /logout}.
+ * Every session has its own identity, last shown list and inbox cursor.
+ * Results are rendered as plain text, or as JSON if the request accepts {@value #JSON_TYPE}.
+ *
+ * As at the console, a client gets {@value #MAX_LOGIN_ATTEMPTS} tries at the password; after that, logins from its
+ * address are refused for {@link #LOCKOUT_MILLIS}. A session unused for {@link #SESSION_IDLE_MILLIS} ends.
+ */
+public class CommandServer {
+    public static final String SESSION_HEADER = "X-Session-Id";
+    public static final String JSON_TYPE = "application/json";
+    public static final String TEXT_TYPE = "text/plain; charset=utf-8";
+
+    public static final String MESSAGE_INVALID_SESSION = "Session is invalid or has ended. Please log in again.";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "Only POST requests are accepted.";
+    public static final String MESSAGE_SESSION_ENDED = "Session ended.";
+    public static final String MESSAGE_LOCKED_OUT = "Too many incorrect passwords. Try again in %1$d minutes.";
+
+    public static final int MAX_LOGIN_ATTEMPTS = 5;
+    public static final long LOCKOUT_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    public static final long SESSION_IDLE_MILLIS = TimeUnit.MINUTES.toMillis(30);
+
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_UNAUTHORIZED = 401;
+    private static final int HTTP_FORBIDDEN = 403;
+    private static final int HTTP_BAD_METHOD = 405;
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+    private static final int HTTP_INTERNAL_ERROR = 500;
+
+    /** Pending connections the operating system may queue before the server accepts them. */
+    private static final int CONNECTION_BACKLOG = 4096;
+
+    private static final Logger logger = Logger.getLogger(CommandServer.class.getName());
+
+    private final Logic logic;
+    private final HttpServer httpServer;
+    private final ExecutorService executor;
+    private final Map<String, ServerSession> sessions = new ConcurrentHashMap<>();
+    /** Incorrect passwords sent by each client address since its last login or lockout. */
+    private final Map<InetAddress, LoginAttempts> loginAttempts = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a server for the records of {@code logic}, listening on {@code port} (0 for any free port)
+     * of the loopback address only.
+     */
+    public CommandServer(Logic logic, int port) throws IOException {
+        this(logic, InetAddress.getLoopbackAddress(), port);
+    }
+
+    /**
+     * Creates a server for the records of {@code logic}, listening on {@code port} (0 for any free port)
+     * of {@code bindAddress}.
+     */
+    public CommandServer(Logic logic, InetAddress bindAddress, int port) throws IOException {
+        this.logic = logic;
+        httpServer = HttpServer.create(new InetSocketAddress(bindAddress, port), CONNECTION_BACKLOG);
+        executor = newThreadPerTaskExecutor();
+        httpServer.setExecutor(executor);
+        httpServer.createContext("/login", new PostHandler(this::login));
+        httpServer.createContext("/command", new PostHandler(this::command));
+        httpServer.createContext("/logout", new PostHandler(this::logout));
+    }
+
+    /**
+     * Returns an executor that runs every task on a thread of its own: a virtual thread where the runtime
+     * supports them, otherwise a pooled platform thread.
+     */
+    static ExecutorService newThreadPerTaskExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        Parser.setupLoggerForAll(logger);
+        httpServer.start();
+        logger.info("Listening on port " + getPort());
+    }
+
+    /**
+     * Stops accepting requests, ends all sessions and releases the server threads.
+     */
+    public void stop() {
+        httpServer.stop(0);
+        executor.shutdownNow();
+        sessions.clear();
+    }
+
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    public int getNumberOfSessions() {
+        return sessions.size();
+    }
+
+    /**
+     * Opens a session for the user whose password is {@code password}, unless the client is locked out.
+     */
+    private Response login(HttpExchange exchange, String password) throws IOException {
+        InetAddress client = exchange.getRemoteAddress().getAddress();
+        long now = ClockService.currentTimeMillis();
+        LoginAttempts attempts = loginAttempts.get(client);
+        if (attempts != null && attempts.isLockedOut(now)) {
+            long minutesLeft = (long) Math.ceil((attempts.lockedUntil - now) / (double) TimeUnit.MINUTES.toMillis(1));
+            return new Response(HTTP_TOO_MANY_REQUESTS, String.format(MESSAGE_LOCKED_OUT, minutesLeft));
+        }
+        String userId = Password.authenticate(password);
+        if (userId == null) {
+            loginAttempts.compute(client, (address, previous) -> LoginAttempts.failed(previous, now));
+            return new Response(HTTP_UNAUTHORIZED, Password.MESSAGE_INCORRECT_PASSWORD);
+        }
+        loginAttempts.remove(client);
+        endIdleSessions(now);
+        String sessionId = UUID.randomUUID().toString();
+        sessions.put(sessionId, new ServerSession(logic.openSession(SessionContext.forUser(userId)), now));
+        logger.info("Opened session for " + userId);
+        return new Response(HTTP_OK, sessionId).with("session", sessionId).with("user", userId);
+    }
+
+    /**
+     * Executes {@code userCommandText} in the caller's session.
+     */
+    private Response command(HttpExchange exchange, String userCommandText) throws Exception {
+        Logic session = getSession(exchange);
+        if (session == null) {
+            return new Response(HTTP_UNAUTHORIZED, MESSAGE_INVALID_SESSION);
+        }
+        String commandText = userCommandText.trim();
+        if (isEndOfSessionCommand(commandText)) {
+            return logout(exchange, commandText);
+        }
+        if (isUnauthorized(session, commandText)) {
+            return new Response(HTTP_FORBIDDEN, Password.invalidPoResult(commandText));
+        }
+        return render(session.execute(commandText));
+    }
+
+    /**
+     * Ends the caller's session.
+     */
+    private Response logout(HttpExchange exchange, String body) {
+        String sessionId = exchange.getRequestHeaders().getFirst(SESSION_HEADER);
+        if (sessionId == null || sessions.remove(sessionId) == null) {
+            return new Response(HTTP_UNAUTHORIZED, MESSAGE_INVALID_SESSION);
+        }
+        return new Response(HTTP_OK, MESSAGE_SESSION_ENDED);
+    }
+
+    /**
+     * Returns the caller's session, or null if it has none or its session has been idle too long.
+     */
+    private Logic getSession(HttpExchange exchange) {
+        String sessionId = exchange.getRequestHeaders().getFirst(SESSION_HEADER);
+        ServerSession session = (sessionId == null) ? null : sessions.get(sessionId);
+        if (session == null) {
+            return null;
+        }
+        long now = ClockService.currentTimeMillis();
+        if (session.isIdle(now)) {
+            sessions.remove(sessionId, session);
+            return null;
+        }
+        session.lastUsedMillis = now;
+        return session.logic;
+    }
+
+    /**
+     * Ends every session idle for longer than {@link #SESSION_IDLE_MILLIS}, so that abandoned sessions do not
+     * pile up.
+     */
+    private void endIdleSessions(long now) {
+        sessions.values().removeIf(session -> session.isIdle(now));
+    }
+
+    /**
+     * Returns true for commands that end the console session. Over the network these only end the caller's
+     * session, as locking the device or shutting down would affect every other terminal.
+     */
+    private static boolean isEndOfSessionCommand(String commandText) {
+        return commandText.equals(LogoutCommand.COMMAND_WORD) || commandText.equals(ShutdownCommand.COMMAND_WORD);
+    }
+
+    private static boolean isUnauthorized(Logic session, String commandText) {
+        boolean isHqp = PatrolResourceStatus.HEADQUARTER_PERSONNEL_ID.equals(session.getSession().getUserId());
+        return !isHqp && Password.isRejectPo(Password.getUnauthorizedPoCommand(commandText));
+    }
+
+    /**
+     * Renders the result the way the console displays it: the persons listed (if any), then the feedback.
+     */
+    private static Response render(CommandResult result) {
+        UiFormatter formatter = new UiFormatter();
+        StringBuilder text = new StringBuilder();
+        List<String> persons = new ArrayList<>();
+        Optional<List<? extends ReadOnlyPerson>> resultPersons = result.getRelevantPersons();
+        if (resultPersons.isPresent()) {
+            text.append(formatter.format(resultPersons.get()));
+            for (ReadOnlyPerson person : resultPersons.get()) {
+                persons.add(person.getAsTextShowAll());
+            }
+        }
+        text.append(formatter.format(result.feedbackToUser));
+
+        Response response = new Response(HTTP_OK, text.toString()).with("feedback", result.feedbackToUser);
+        return resultPersons.isPresent() ? response.with("persons", new JSONArray(persons)) : response;
+    }
+
+    /**
+     * Handles a request body and returns the response to send.
+     */
+    @FunctionalInterface
+    private interface RequestAction {
+        Response handle(HttpExchange exchange, String body) throws Exception;
+    }
+
+    /**
+     * Reads POST bodies, runs the action and writes its response in the format the client accepts.
+     */
+    private static class PostHandler implements HttpHandler {
+        private final RequestAction action;
+
+        PostHandler(RequestAction action) {
+            this.action = action;
+        }
+
+        /**
+         * Responds to the request, with status 405 if it is not a POST.
+         */
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            Response response;
+            try {
+                if (!"POST".equals(exchange.getRequestMethod())) {
+                    response = new Response(HTTP_BAD_METHOD, MESSAGE_METHOD_NOT_ALLOWED);
+                } else {
+                    String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                    response = action.handle(exchange, body);
+                }
+            } catch (Exception e) {
+                logger.log(Level.WARNING, "Request failed", e);
+                response = new Response(HTTP_INTERNAL_ERROR, String.valueOf(e.getMessage()));
+            }
+            send(exchange, response);
+        }
+
+        /**
+         * Writes the response as JSON if the client accepts it, otherwise as plain text.
+         */
+        private static void send(HttpExchange exchange, Response response) throws IOException {
+            String accept = exchange.getRequestHeaders().getFirst("Accept");
+            boolean isJson = accept != null && accept.contains(JSON_TYPE);
+            byte[] body = (isJson ? response.toJson() : response.text).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", isJson ? JSON_TYPE : TEXT_TYPE);
+            exchange.sendResponseHeaders(response.status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    /**
+     * The session of a logged in client, and when it last sent a command.
+     */
+    private static class ServerSession {
+        private final Logic logic;
+        private volatile long lastUsedMillis;
+
+        ServerSession(Logic logic, long lastUsedMillis) {
+            this.logic = logic;
+            this.lastUsedMillis = lastUsedMillis;
+        }
+
+        boolean isIdle(long now) {
+            return now - lastUsedMillis > SESSION_IDLE_MILLIS;
+        }
+    }
+
+    /**
+     * The incorrect passwords a client has sent, and until when it is locked out once it has sent too many.
+     * Immutable, so that it can be replaced atomically in a concurrent map.
+     */
+    private static class LoginAttempts {
+        private final int failures;
+        private final long lockedUntil;
+
+        private LoginAttempts(int failures, long lockedUntil) {
+            this.failures = failures;
+            this.lockedUntil = lockedUntil;
+        }
+
+        /**
+         * Returns the attempts after {@code previous} (null if none) and another incorrect password at {@code now}.
+         * The last of {@link #MAX_LOGIN_ATTEMPTS} incorrect passwords locks the client out, and a lockout which
+         * has passed starts the count again.
+         */
+        static LoginAttempts failed(LoginAttempts previous, long now) {
+            int failures = (previous == null || previous.lockedUntil != 0) ? 1 : previous.failures + 1;
+            return new LoginAttempts(failures, (failures >= MAX_LOGIN_ATTEMPTS) ? now + LOCKOUT_MILLIS : 0);
+        }
+
+        boolean isLockedOut(long now) {
+            return now < lockedUntil;
+        }
+    }
+
+    /**
+     * A response with a plain text rendering and the fields of its JSON rendering.
+     */
+    private static class Response {
+        private final int status;
+        private final String text;
+        private final JSONObject json = new JSONObject();
+
+        Response(int status, String text) {
+            this.status = status;
+            this.text = text;
+            if (status != HTTP_OK) {
+                with("error", text);
+            }
+        }
+
+        /**
+         * Adds a field to the JSON rendering of the response.
+         */
+        Response with(String key, Object value) {
+            try {
+                json.put(key, value);
+            } catch (JSONException e) {
+                throw new IllegalArgumentException(e);
+            }
+            return this;
+        }
+
+        String toJson() {
+            return json.toString();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+//@@author andyrobert3
+package seedu.addressbook.server;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+import seedu.addressbook.common.EtaMatrix;
+import seedu.addressbook.logic.Logic;
+import seedu.addressbook.tracking.PositionFeed;
+
+/**
+ * Entry point for running the records as a headless server, without the GUI.
+ * Usage: {@code ServerMain [port] [gpsFeedPort]}
+ * Officers' devices send GPS pings to the feed port, if one is given; see {@link PositionFeed}.
+ * The server and the feed listen on the loopback address only, unless the system property
+ * {@value #BIND_ADDRESS_PROPERTY} gives another address.
+ */
+public class ServerMain {
+    public static final int DEFAULT_PORT = 8080;
+    public static final String BIND_ADDRESS_PROPERTY = "addressbook.bindAddress";
+
+    /**
+     * Starts the server on the port given as the first argument, or the default port,
+     * and the GPS feed on the port given as the second argument, if any.
+     */
+    public static void main(String[] args) throws Exception {
+        int port = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        EtaMatrix.startShared();
+        CommandServer server = new CommandServer(new Logic(), getBindAddress(), port);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+        if (args.length > 1) {
+            new PositionFeed().listen(getBindAddress(), Integer.parseInt(args[1]));
+        }
+        server.start();
+    }
+
+    /**
+     * Returns the address given by {@value #BIND_ADDRESS_PROPERTY}, or the loopback address if none is given.
+     */
+    static InetAddress getBindAddress() throws UnknownHostException {
+        String bindAddress = System.getProperty(BIND_ADDRESS_PROPERTY);
+        return (bindAddress == null) ? InetAddress.getLoopbackAddress() : InetAddress.getByName(bindAddress);
+    }
+}
@@ -0,0 +1,311 @@
+//@@author andyrobert3
+package seedu.addressbook.simulation;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import seedu.addressbook.commands.DispatchBatchCommand;
+import seedu.addressbook.commands.DispatchCommand;
+import seedu.addressbook.commands.RequestHelpCommand;
+import seedu.addressbook.commands.UpdateStatusCommand;
+import seedu.addressbook.common.EtaEstimator;
+import seedu.addressbook.common.Location;
+import seedu.addressbook.common.PatrolResourceStatus;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Offense;
+import seedu.addressbook.inbox.Msg;
+import seedu.addressbook.inbox.TriageQueue;
+import seedu.addressbook.timeanddate.ClockService;
+import seedu.addressbook.tracking.PositionStore;
+
+/**
+ * Replays a day of incidents offline, to see how dispatch copes with a given load.
+ *
+ * Incidents arrive at random, each reported by a free officer who moves to it and requests backup ({@code rb})
+ * for an offense drawn from {@link Offense#getPriorities()}. Headquarters sends backup ({@code dispatch batch})
+ * whenever a request or an officer is waiting. Once backup arrives, both officers stay on scene for a while
+ * and then become free again ({@code updatestatus}). Free officers patrol, reporting a new position every minute.
+ *
+ * The simulation runs on a {@link VirtualClock}, one event at a time, through the same {@link TriageQueue},
+ * {@link PatrolResourceStatus} and {@link PositionStore} as the System, and estimates every ETA with the
+ * given {@link EtaEstimator} so that nothing goes online. Inboxes are not written to. As that state is shared,
+ * a simulation must not run alongside the System; it is reset before and after every run.
+ */
+public class DispatchSimulator {
+    /** Time at which every simulation starts, 0800hrs on 1 November 2018 in Singapore. */
+    public static final long START_MILLIS = 1541030400000L;
+    public static final ZoneId ZONE = ZoneId.of("Asia/Singapore");
+
+    private static final long PATROL_INTERVAL_MILLIS = 60 * 1000;
+    /** Furthest an officer on patrol moves in a minute, in degrees. */
+    private static final double PATROL_STEP_DEGREES = 0.005;
+    private static final double MIN_LATITUDE = 1.28;
+    private static final double MAX_LATITUDE = 1.42;
+    private static final double MIN_LONGITUDE = 103.68;
+    private static final double MAX_LONGITUDE = 103.98;
+
+    private final Random random;
+    private final EtaEstimator etaProvider;
+    private final long meanMillisBetweenIncidents;
+    private final long meanMillisOnScene;
+    private final Map<String, Msg.Priority> priorities = Offense.getPriorities();
+    private final List<String> offenses = new ArrayList<>(priorities.keySet());
+    private Consumer<String> commandLog = command -> { };
+
+    private VirtualClock clock;
+    private PriorityQueue<Event> events;
+    private long numEventsScheduled;
+    private Map<String, Long> engagedSince;
+    private Map<String, Long> engagedMillis;
+    private List<Long> responseMillis;
+    private int numIncidents;
+    private int numDropped;
+    private int numResolved;
+
+    /**
+     * Creates a simulator in which incidents arrive on average every {@code meanMillisBetweenIncidents},
+     * and keep officers on scene for {@code meanMillisOnScene} on average after backup arrives.
+     * Runs with the same {@code seed} simulate the same incidents.
+     */
+    public DispatchSimulator(long seed, EtaEstimator etaProvider, long meanMillisBetweenIncidents,
+                             long meanMillisOnScene) {
+        this.random = new Random(seed);
+        this.etaProvider = etaProvider;
+        this.meanMillisBetweenIncidents = meanMillisBetweenIncidents;
+        this.meanMillisOnScene = meanMillisOnScene;
+    }
+
+    /**
+     * Passes every command the simulation issues to {@code commandLog}, e.g. "po2: rb gun",
+     * so that the same stream can be replayed against the System.
+     */
+    public void setCommandLog(Consumer<String> commandLog) {
+        this.commandLog = commandLog;
+    }
+
+    /**
+     * Simulates {@code durationMillis} of incidents and dispatches.
+     */
+    public SimulationReport run(long durationMillis) {
+        long wallStart = System.currentTimeMillis();
+        resetState();
+        clock = new VirtualClock(START_MILLIS, ZONE);
+        ClockService.setClock(clock);
+        events = new PriorityQueue<>();
+        numEventsScheduled = 0;
+        engagedSince = new HashMap<>();
+        engagedMillis = new LinkedHashMap<>();
+        responseMillis = new ArrayList<>();
+        numIncidents = 0;
+        numDropped = 0;
+        numResolved = 0;
+        for (String officer : PatrolResourceStatus.getFreeOfficers()) {
+            engagedMillis.put(officer, 0L);
+        }
+
+        long endMillis = START_MILLIS + durationMillis;
+        try {
+            schedule(nextIncidentMillis(), this::reportIncident);
+            schedule(START_MILLIS + PATROL_INTERVAL_MILLIS, this::patrol);
+            while (!events.isEmpty() && events.peek().timeMillis <= endMillis) {
+                Event event = events.poll();
+                clock.advanceTo(event.timeMillis);
+                event.action.run();
+            }
+            return new SimulationReport(durationMillis, numIncidents, numDropped, numResolved, responseMillis,
+                    getUtilisation(endMillis, durationMillis), numEventsScheduled - events.size(),
+                    System.currentTimeMillis() - wallStart);
+        } finally {
+            resetState();
+            ClockService.resetClock();
+        }
+    }
+
+    private static void resetState() {
+        PatrolResourceStatus.resetPatrolResourceStatus();
+        TriageQueue.getInstance().clear();
+        PositionStore.getInstance().clear();
+    }
+
+    private void schedule(long timeMillis, Runnable action) {
+        events.add(new Event(timeMillis, numEventsScheduled++, action));
+    }
+
+    /**
+     * Has a free officer report a new incident and request backup, or drops the incident if there is none.
+     */
+    private void reportIncident() {
+        schedule(nextIncidentMillis(), this::reportIncident);
+        List<String> freeOfficers = PatrolResourceStatus.getFreeOfficers();
+        if (freeOfficers.isEmpty()) {
+            numDropped++;
+            return;
+        }
+        numIncidents++;
+        String requester = freeOfficers.get(random.nextInt(freeOfficers.size()));
+        String offense = offenses.get(random.nextInt(offenses.size()));
+        Location scene = new Location(uniform(MIN_LATITUDE, MAX_LATITUDE), uniform(MIN_LONGITUDE, MAX_LONGITUDE));
+        PositionStore.getInstance().update(requester, scene, clock.millis());
+
+        commandLog.accept(requester + ": " + RequestHelpCommand.COMMAND_WORD + " " + offense);
+        Msg request = new Msg(priorities.get(offense), offense, scene);
+        TriageQueue.getInstance().add(requester, offense, request);
+        engage(requester);
+        dispatch();
+    }
+
+    /**
+     * Sends backup to the open requests, if any officers are free.
+     */
+    private void dispatch() {
+        if (TriageQueue.getInstance().size() == 0 || PatrolResourceStatus.getFreeOfficers().isEmpty()) {
+            return;
+        }
+        commandLog.accept(PatrolResourceStatus.HEADQUARTER_PERSONNEL_ID + ": " + DispatchCommand.COMMAND_WORD + " "
+                + DispatchBatchCommand.BATCH_KEYWORD);
+        try {
+            Optional<List<DispatchBatchCommand.Assignment>> assignments =
+                    new DispatchBatchCommand(etaProvider).dispatch();
+            for (DispatchBatchCommand.Assignment assignment : assignments.orElseThrow(IllegalStateException::new)) {
+                String officer = assignment.getOfficerId();
+                String requester = assignment.getRequest().getRequesterId();
+                long requestedAt = assignment.getRequest().getMessage().getTime().getTime();
+                markEngaged(officer);
+                schedule(clock.millis() + assignment.getEtaSeconds() * 1000, () -> arrive(officer, requester,
+                        requestedAt));
+            }
+        } catch (IllegalValueException ive) {
+            throw new IllegalStateException(ive);
+        }
+    }
+
+    /**
+     * Backup {@code officer} arrives at the scene of {@code requester}, who asked for it at {@code requestedAt}.
+     */
+    private void arrive(String officer, String requester, long requestedAt) {
+        responseMillis.add(clock.millis() - requestedAt);
+        PositionStore.getInstance().update(officer, PositionStore.getInstance().getLocation(requester),
+                clock.millis());
+        schedule(clock.millis() + exponential(meanMillisOnScene), () -> resolve(officer, requester));
+    }
+
+    /**
+     * Both officers at a scene become free again once the incident is resolved.
+     */
+    private void resolve(String officer, String requester) {
+        numResolved++;
+        free(officer);
+        free(requester);
+        dispatch();
+    }
+
+    /**
+     * Moves every free officer a short way along their patrol.
+     */
+    private void patrol() {
+        schedule(clock.millis() + PATROL_INTERVAL_MILLIS, this::patrol);
+        PositionStore positions = PositionStore.getInstance();
+        for (String officer : PatrolResourceStatus.getFreeOfficers()) {
+            Location location = positions.getLocation(officer);
+            double latitude = clamp(location.getLatitude() + uniform(-1, 1) * PATROL_STEP_DEGREES,
+                    MIN_LATITUDE, MAX_LATITUDE);
+            double longitude = clamp(location.getLongitude() + uniform(-1, 1) * PATROL_STEP_DEGREES,
+                    MIN_LONGITUDE, MAX_LONGITUDE);
+            positions.update(officer, new Location(latitude, longitude), clock.millis());
+        }
+    }
+
+    /**
+     * Engages {@code officer} from now, as requesting backup does.
+     */
+    private void engage(String officer) {
+        try {
+            PatrolResourceStatus.setStatus(officer, true);
+        } catch (IllegalValueException ive) {
+            throw new IllegalStateException(ive);
+        }
+        markEngaged(officer);
+    }
+
+    /**
+     * Frees {@code officer} from now, adding the time since they were engaged to their utilisation.
+     */
+    private void free(String officer) {
+        commandLog.accept(officer + ": " + UpdateStatusCommand.COMMAND_WORD);
+        try {
+            PatrolResourceStatus.setStatus(officer, false);
+        } catch (IllegalValueException ive) {
+            throw new IllegalStateException(ive);
+        }
+        Long since = engagedSince.remove(officer);
+        engagedMillis.merge(officer, clock.millis() - since, Long::sum);
+    }
+
+    private void markEngaged(String officer) {
+        engagedSince.put(officer, clock.millis());
+    }
+
+    /**
+     * Returns the fraction of the run each officer was engaged, counting officers still engaged at the end.
+     */
+    private Map<String, Double> getUtilisation(long endMillis, long durationMillis) {
+        Map<String, Double> utilisation = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> officer : engagedMillis.entrySet()) {
+            long millis = officer.getValue();
+            Long since = engagedSince.get(officer.getKey());
+            if (since != null) {
+                millis += endMillis - since;
+            }
+            utilisation.put(officer.getKey(), (double) millis / durationMillis);
+        }
+        return utilisation;
+    }
+
+    private long nextIncidentMillis() {
+        return clock.millis() + exponential(meanMillisBetweenIncidents);
+    }
+
+    /**
+     * Returns a random duration with the given mean, as between arrivals in a Poisson process.
+     */
+    private long exponential(long meanMillis) {
+        return Math.round(-Math.log(1 - random.nextDouble()) * meanMillis);
+    }
+
+    private double uniform(double min, double max) {
+        return min + random.nextDouble() * (max - min);
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    /**
+     * Something which happens at a point in simulated time. Events at the same time happen in the order scheduled.
+     */
+    private static class Event implements Comparable<Event> {
+        private final long timeMillis;
+        private final long sequenceNumber;
+        private final Runnable action;
+
+        Event(long timeMillis, long sequenceNumber, Runnable action) {
+            this.timeMillis = timeMillis;
+            this.sequenceNumber = sequenceNumber;
+            this.action = action;
+        }
+
+        @Override
+        public int compareTo(Event other) {
+            int byTime = Long.compare(timeMillis, other.timeMillis);
+            return (byTime != 0) ? byTime : Long.compare(sequenceNumber, other.sequenceNumber);
+        }
+    }
+}
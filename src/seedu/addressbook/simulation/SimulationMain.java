@@ -0,0 +1,33 @@
+//@@author andyrobert3
+package seedu.addressbook.simulation;
+
+import seedu.addressbook.common.EtaEstimator;
+
+/**
+ * Runs the {@link DispatchSimulator} from the command line and prints its report.
+ * Usage: {@code SimulationMain [hours] [minutesBetweenIncidents] [minutesOnScene] [seed]}
+ */
+public class SimulationMain {
+    public static final double DEFAULT_HOURS = 24;
+    public static final double DEFAULT_MINUTES_BETWEEN_INCIDENTS = 30;
+    public static final double DEFAULT_MINUTES_ON_SCENE = 20;
+    public static final long DEFAULT_SEED = 2018;
+
+    private static final long MILLIS_PER_MINUTE = 60 * 1000;
+
+    /**
+     * Simulates the load given by the arguments, or a day of incidents every 30 minutes if none are given.
+     */
+    public static void main(String[] args) {
+        double hours = (args.length > 0) ? Double.parseDouble(args[0]) : DEFAULT_HOURS;
+        double minutesBetweenIncidents = (args.length > 1) ? Double.parseDouble(args[1])
+                : DEFAULT_MINUTES_BETWEEN_INCIDENTS;
+        double minutesOnScene = (args.length > 2) ? Double.parseDouble(args[2]) : DEFAULT_MINUTES_ON_SCENE;
+        long seed = (args.length > 3) ? Long.parseLong(args[3]) : DEFAULT_SEED;
+
+        DispatchSimulator simulator = new DispatchSimulator(seed, new EtaEstimator(),
+                Math.round(minutesBetweenIncidents * MILLIS_PER_MINUTE),
+                Math.round(minutesOnScene * MILLIS_PER_MINUTE));
+        System.out.println(simulator.run(Math.round(hours * 60 * MILLIS_PER_MINUTE)));
+    }
+}
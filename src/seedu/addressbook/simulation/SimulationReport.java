@@ -0,0 +1,115 @@
+//@@author andyrobert3
+package seedu.addressbook.simulation;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * What happened during a run of the {@link DispatchSimulator}.
+ */
+public class SimulationReport {
+    private static final double MILLIS_PER_MINUTE = 60 * 1000;
+    private static final double MILLIS_PER_HOUR = 60 * MILLIS_PER_MINUTE;
+
+    private final long durationMillis;
+    private final int numIncidents;
+    private final int numDropped;
+    private final int numResolved;
+    private final long[] responseMillis;
+    private final Map<String, Double> utilisation;
+    private final long numEvents;
+    private final long wallMillis;
+
+    SimulationReport(long durationMillis, int numIncidents, int numDropped, int numResolved,
+                     List<Long> responseMillis, Map<String, Double> utilisation, long numEvents, long wallMillis) {
+        this.durationMillis = durationMillis;
+        this.numIncidents = numIncidents;
+        this.numDropped = numDropped;
+        this.numResolved = numResolved;
+        this.responseMillis = responseMillis.stream().mapToLong(Long::longValue).sorted().toArray();
+        this.utilisation = Collections.unmodifiableMap(utilisation);
+        this.numEvents = numEvents;
+        this.wallMillis = wallMillis;
+    }
+
+    /**
+     * Returns the number of incidents reported, not counting those dropped.
+     */
+    public int getNumIncidents() {
+        return numIncidents;
+    }
+
+    /**
+     * Returns the number of incidents which could not be reported as every officer was engaged.
+     */
+    public int getNumDropped() {
+        return numDropped;
+    }
+
+    public int getNumResolved() {
+        return numResolved;
+    }
+
+    /**
+     * Returns the number of requests for backup which backup reached.
+     */
+    public int getNumResponses() {
+        return responseMillis.length;
+    }
+
+    /**
+     * Returns the time within which {@code percentile} percent of backups arrived after being requested,
+     * or 0 if none arrived.
+     */
+    public long getResponseMillis(double percentile) {
+        if (responseMillis.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * responseMillis.length);
+        return responseMillis[Math.max(0, Math.min(rank, responseMillis.length) - 1)];
+    }
+
+    /**
+     * Returns the fraction of the run for which each officer was engaged.
+     */
+    public Map<String, Double> getUtilisation() {
+        return utilisation;
+    }
+
+    public double getMeanUtilisation() {
+        return utilisation.values().stream().mapToDouble(Double::doubleValue).average().orElse(0);
+    }
+
+    /**
+     * Returns the number of incidents resolved per simulated hour.
+     */
+    public double getThroughputPerHour() {
+        return numResolved / (durationMillis / MILLIS_PER_HOUR);
+    }
+
+    /**
+     * Returns the number of events simulated per second of real time.
+     */
+    public double getEventsPerSecond() {
+        return numEvents * 1000.0 / Math.max(1, wallMillis);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Simulated %.1f hours: %d incidents, %d dropped, %d backups arrived, %d resolved%n",
+                durationMillis / MILLIS_PER_HOUR, numIncidents, numDropped, getNumResponses(), numResolved));
+        report.append(String.format("Response time (min): p50 %.1f, p90 %.1f, p99 %.1f, max %.1f%n",
+                getResponseMillis(50) / MILLIS_PER_MINUTE, getResponseMillis(90) / MILLIS_PER_MINUTE,
+                getResponseMillis(99) / MILLIS_PER_MINUTE, getResponseMillis(100) / MILLIS_PER_MINUTE));
+        report.append(String.format("Throughput: %.2f incidents resolved per hour%n", getThroughputPerHour()));
+        report.append(String.format("Utilisation: mean %.0f%%", getMeanUtilisation() * 100));
+        for (Map.Entry<String, Double> officer : utilisation.entrySet()) {
+            report.append(String.format(", %s %.0f%%", officer.getKey(), officer.getValue() * 100));
+        }
+        report.append(String.format("%n%d events in %d ms (%.0f events/s)", numEvents, wallMillis,
+                getEventsPerSecond()));
+        return report.toString();
+    }
+}
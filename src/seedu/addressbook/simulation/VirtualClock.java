@@ -0,0 +1,46 @@
+//@@author andyrobert3
+package seedu.addressbook.simulation;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+/**
+ * A clock which only moves when it is told to, so that a simulation can run hours of work in seconds.
+ */
+public class VirtualClock extends Clock {
+    private final ZoneId zone;
+    private volatile long millis;
+
+    public VirtualClock(long startMillis, ZoneId zone) {
+        this.millis = startMillis;
+        this.zone = zone;
+    }
+
+    /**
+     * Moves the clock forward to {@code newMillis}. The clock never moves back.
+     */
+    public void advanceTo(long newMillis) {
+        millis = Math.max(millis, newMillis);
+    }
+
+    @Override
+    public long millis() {
+        return millis;
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId newZone) {
+        return new VirtualClock(millis, newZone);
+    }
+}
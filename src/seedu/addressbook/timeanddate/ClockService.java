@@ -0,0 +1,262 @@
+//@@author andyrobert3
+package seedu.addressbook.timeanddate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+/**
+ * The time of the System and the formats timestamps are shown and stored in.
+ *
+ * Formatters are immutable and safe to share between threads. Formatting the same second twice reuses the
+ * text of the first call, so stamping many messages or screenings within a second costs little.
+ * Parsing remembers the offset of the time zone between the daylight saving transitions around the last timestamp
+ * parsed, so parsing a file of timestamps creates no objects unless they cross a transition. Zones without daylight
+ * saving, such as Asia/Singapore since 1982, have just one offset for every timestamp stored.
+ * The clock can be replaced, e.g. with {@link Clock#fixed(Instant, ZoneId)}, so tests and benchmarks see
+ * a known time.
+ */
+public class ClockService {
+
+    /** Layout of stored timestamps, e.g. 01/02/2018-13:45:07:042. */
+    public static final String TIMESTAMP_PATTERN = "dd/MM/yyyy-HH:mm:ss:SSS";
+
+    public static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern(TIMESTAMP_PATTERN);
+    public static final DateTimeFormatter MAIN_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HHmm");
+    public static final DateTimeFormatter CHECK_COMMAND_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy-HHmm");
+
+    private static final int TIMESTAMP_LENGTH = TIMESTAMP_PATTERN.length();
+    private static final int CHECK_COMMAND_LENGTH = "dd/MM/yyyy-HHmm".length();
+    private static final long MILLIS_PER_SECOND = 1000;
+    private static final long SECONDS_PER_DAY = 86400;
+
+    private static volatile Clock clock = Clock.systemDefaultZone();
+    private static volatile FormattedSecond lastFormatted = null;
+    private static volatile OffsetWindow lastOffsetWindow = null;
+
+    /**
+     * Replaces the clock of the System. For testing and benchmarking purposes.
+     */
+    public static void setClock(Clock newClock) {
+        clock = newClock;
+        lastFormatted = null;
+        lastOffsetWindow = null;
+    }
+
+    /**
+     * Restores the system clock in the default time zone.
+     */
+    public static void resetClock() {
+        setClock(Clock.systemDefaultZone());
+    }
+
+    public static long currentTimeMillis() {
+        return clock.millis();
+    }
+
+    public static ZoneId getZone() {
+        return clock.getZone();
+    }
+
+    /**
+     * Formats {@code epochMilli} in the {@value #TIMESTAMP_PATTERN} layout.
+     */
+    public static String formatTimestamp(long epochMilli) {
+        int millis = (int) Math.floorMod(epochMilli, MILLIS_PER_SECOND);
+        String secondText = getFormattedSecond(epochMilli).timestampUpToSecond;
+        StringBuilder timestamp = new StringBuilder(TIMESTAMP_LENGTH).append(secondText);
+        if (millis < 100) {
+            timestamp.append('0');
+        }
+        if (millis < 10) {
+            timestamp.append('0');
+        }
+        return timestamp.append(millis).toString();
+    }
+
+    /**
+     * Formats {@code epochMilli} as shown on the main window, e.g. 01/02/2018 1345.
+     */
+    public static String formatForMain(long epochMilli) {
+        return getFormattedSecond(epochMilli).main;
+    }
+
+    /**
+     * Formats {@code epochMilli} as shown in screening history, e.g. 01/02/2018-1345.
+     */
+    public static String formatForCheckCommand(long epochMilli) {
+        return getFormattedSecond(epochMilli).checkCommand;
+    }
+
+    private static FormattedSecond getFormattedSecond(long epochMilli) {
+        long epochSecond = Math.floorDiv(epochMilli, MILLIS_PER_SECOND);
+        FormattedSecond formatted = lastFormatted;
+        if (formatted == null || formatted.epochSecond != epochSecond) {
+            formatted = new FormattedSecond(epochSecond, LocalDateTime.ofInstant(
+                    Instant.ofEpochSecond(epochSecond), clock.getZone()));
+            lastFormatted = formatted;
+        }
+        return formatted;
+    }
+
+    /**
+     * Parses a timestamp in the {@value #TIMESTAMP_PATTERN} layout, in the time zone of the clock.
+     * Anything after the timestamp (e.g. "hrs") is ignored.
+     * Timestamps between the same two daylight saving transitions as the last one parsed are parsed without
+     * creating any objects.
+     *
+     * @return the timestamp in milliseconds since the epoch.
+     * @throws DateTimeParseException if {@code text} does not start with such a timestamp.
+     */
+    public static long parseTimestamp(CharSequence text) {
+        if (text.length() < TIMESTAMP_LENGTH) {
+            throw new DateTimeParseException("Timestamp is too short", text, text.length());
+        }
+        expect(text, 2, '/');
+        expect(text, 5, '/');
+        expect(text, 10, '-');
+        expect(text, 13, ':');
+        expect(text, 16, ':');
+        expect(text, 19, ':');
+        int day = digits(text, 0, 2);
+        int month = digits(text, 3, 2);
+        int year = digits(text, 6, 4);
+        int hour = digits(text, 11, 2);
+        int minute = digits(text, 14, 2);
+        int second = digits(text, 17, 2);
+        int millis = digits(text, 20, 3);
+        return toEpochMilli(text, year, month, day, hour, minute, second, millis);
+    }
+
+    /**
+     * Parses a timestamp as shown in screening history, e.g. 01/02/2018-1345, in the time zone of the clock.
+     * Anything after the timestamp (e.g. "hrs") is ignored.
+     *
+     * @return the timestamp in milliseconds since the epoch.
+     * @throws DateTimeParseException if {@code text} does not start with such a timestamp.
+     */
+    public static long parseForCheckCommand(CharSequence text) {
+        if (text.length() < CHECK_COMMAND_LENGTH) {
+            throw new DateTimeParseException("Timestamp is too short", text, text.length());
+        }
+        expect(text, 2, '/');
+        expect(text, 5, '/');
+        expect(text, 10, '-');
+        return toEpochMilli(text, digits(text, 6, 4), digits(text, 3, 2), digits(text, 0, 2), digits(text, 11, 2),
+                digits(text, 13, 2), 0, 0);
+    }
+
+    /**
+     * Returns the milliseconds since the epoch of the given local time, parsed from {@code text},
+     * in the time zone of the clock.
+     *
+     * @throws DateTimeParseException if any field is out of range, including a day past the end of its month.
+     */
+    private static long toEpochMilli(CharSequence text, int year, int month, int day, int hour, int minute,
+                                     int second, int millis) {
+        if (month < 1 || month > 12 || day < 1 || day > Month.of(month).length(Year.isLeap(year))
+                || hour > 23 || minute > 59 || second > 59) {
+            throw new DateTimeParseException("Timestamp is out of range", text, 0);
+        }
+
+        long localSecond = toEpochDay(year, month, day) * SECONDS_PER_DAY + hour * 3600 + minute * 60 + second;
+        ZoneId zone = clock.getZone();
+        OffsetWindow window = lastOffsetWindow;
+        if (window == null || !window.contains(zone, localSecond)) {
+            ZoneRules rules = zone.getRules();
+            ZoneOffset offset = rules.getOffset(LocalDateTime.of(year, month, day, hour, minute, second));
+            Instant instant = Instant.ofEpochSecond(localSecond - offset.getTotalSeconds());
+            window = new OffsetWindow(zone, offset, rules.previousTransition(instant), rules.nextTransition(instant));
+            if (!window.contains(zone, localSecond)) {
+                // In a gap or overlap at a transition, where the offset depends on the local time itself.
+                return (localSecond - offset.getTotalSeconds()) * MILLIS_PER_SECOND + millis;
+            }
+            lastOffsetWindow = window;
+        }
+        return (localSecond - window.offsetSeconds) * MILLIS_PER_SECOND + millis;
+    }
+
+    private static void expect(CharSequence text, int index, char expected) {
+        if (text.charAt(index) != expected) {
+            throw new DateTimeParseException("Expected '" + expected + "'", text, index);
+        }
+    }
+
+    /**
+     * Returns the number written in {@code count} digits of {@code text}, starting at {@code start}.
+     */
+    private static int digits(CharSequence text, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new DateTimeParseException("Expected a digit", text, i);
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of days from 1970-01-01 to the given date in the proleptic Gregorian calendar.
+     */
+    private static long toEpochDay(int year, int month, int day) {
+        int yearOfEra = (month <= 2) ? year - 1 : year;
+        int era = Math.floorDiv(yearOfEra, 400);
+        int yearOfCycle = yearOfEra - era * 400;
+        int dayOfYear = (153 * (month + ((month > 2) ? -3 : 9)) + 2) / 5 + day - 1;
+        int dayOfCycle = yearOfCycle * 365 + yearOfCycle / 4 - yearOfCycle / 100 + dayOfYear;
+        return era * 146097L + dayOfCycle - 719468;
+    }
+
+    /**
+     * The local times of a time zone, in seconds since 1970-01-01T00:00, which have one offset and only one:
+     * those between two transitions, away from the gap or overlap each transition leaves in local time.
+     */
+    private static class OffsetWindow {
+        private final ZoneId zone;
+        private final int offsetSeconds;
+        private final long fromLocalSecond;
+        private final long untilLocalSecond;
+
+        OffsetWindow(ZoneId zone, ZoneOffset offset, ZoneOffsetTransition previous, ZoneOffsetTransition next) {
+            this.zone = zone;
+            offsetSeconds = offset.getTotalSeconds();
+            fromLocalSecond = previous == null ? Long.MIN_VALUE : previous.toEpochSecond()
+                    + Math.max(previous.getOffsetBefore().getTotalSeconds(),
+                    previous.getOffsetAfter().getTotalSeconds());
+            untilLocalSecond = next == null ? Long.MAX_VALUE : next.toEpochSecond()
+                    + Math.min(next.getOffsetBefore().getTotalSeconds(), next.getOffsetAfter().getTotalSeconds());
+        }
+
+        boolean contains(ZoneId zone, long localSecond) {
+            return localSecond >= fromLocalSecond && localSecond < untilLocalSecond && this.zone.equals(zone);
+        }
+    }
+
+    /**
+     * The texts of one second of time, in each of the formats.
+     */
+    private static class FormattedSecond {
+        private final long epochSecond;
+        private final String timestampUpToSecond;
+        private final String main;
+        private final String checkCommand;
+
+        FormattedSecond(long epochSecond, LocalDateTime time) {
+            this.epochSecond = epochSecond;
+            String timestamp = TIMESTAMP_FORMATTER.format(time);
+            timestampUpToSecond = timestamp.substring(0, TIMESTAMP_LENGTH - 3);
+            main = MAIN_FORMATTER.format(time);
+            checkCommand = CHECK_COMMAND_FORMATTER.format(time);
+        }
+    }
+}
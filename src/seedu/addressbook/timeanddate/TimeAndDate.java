@@ -1,7 +1,6 @@
 package seedu.addressbook.timeanddate;
 
 import java.sql.Timestamp;
-import java.text.SimpleDateFormat;
 
 //@@author iamputradanish
 
@@ -10,16 +9,10 @@ import java.text.SimpleDateFormat;
  * Class for generating timestamps in different formats (in string form)
  */
 public class TimeAndDate {
-    private static SimpleDateFormat timeStampFormatter = new SimpleDateFormat("dd/MM/yyyy-HH:mm:ss:SSS");
-    private static SimpleDateFormat timeStampForMain = new SimpleDateFormat("dd/MM/yyyy HHmm");
-    private static SimpleDateFormat timeStampFormatterForCheckCommand = new SimpleDateFormat("dd/MM/yyyy-HHmm");
-    private Timestamp currentDat = new Timestamp(System.currentTimeMillis());
-    private String outputMain = timeStampForMain.format(currentDat);
-    private String outputDat = timeStampFormatter.format(currentDat);
-    private String outputDatForCheckCommand = timeStampFormatterForCheckCommand.format(currentDat);
+    private final long currentDat = ClockService.currentTimeMillis();
 
     public String outputDatHrs() {
-        return outputDat + "hrs";
+        return ClockService.formatTimestamp(currentDat) + "hrs";
     }
 
     /**
@@ -29,12 +22,12 @@ public class TimeAndDate {
      * @return the timestamp in string
      */
     public static String outputDatHrs(Timestamp theTime) {
-        String outputDat = timeStampFormatter.format(theTime);
+        String outputDat = ClockService.formatTimestamp(theTime.getTime());
         return outputDat + "hrs";
     }
 
     public String outputDatMainHrs() {
-        return outputMain + "hrs";
+        return ClockService.formatForMain(currentDat) + "hrs";
     }
 
     /**
@@ -43,12 +36,12 @@ public class TimeAndDate {
      * @return the timestamp in string
      */
     public static String outputDatHrsForMain(Timestamp theTime) {
-        String outputDat = timeStampForMain.format(theTime);
+        String outputDat = ClockService.formatForMain(theTime.getTime());
         return outputDat + "hrs";
     }
 
     public String getOutputDatHrsForCheckCommand() {
-        return outputDatForCheckCommand + "hrs";
+        return ClockService.formatForCheckCommand(currentDat) + "hrs";
     }
 
 }
@@ -0,0 +1,36 @@
+//@@author andyrobert3
+package seedu.addressbook.tracking;
+
+import seedu.addressbook.common.Location;
+
+/**
+ * Where an officer was at a point in time, as reported by a GPS ping. Immutable.
+ */
+public final class OfficerPosition {
+    private final String officerId;
+    private final Location location;
+    private final long timestampMillis;
+
+    public OfficerPosition(String officerId, Location location, long timestampMillis) {
+        this.officerId = officerId;
+        this.location = location;
+        this.timestampMillis = timestampMillis;
+    }
+
+    public String getOfficerId() {
+        return officerId;
+    }
+
+    public Location getLocation() {
+        return location;
+    }
+
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+
+    @Override
+    public String toString() {
+        return officerId + " at " + location + " (" + timestampMillis + ")";
+    }
+}
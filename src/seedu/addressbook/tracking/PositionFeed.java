@@ -0,0 +1,166 @@
+//@@author andyrobert3
+package seedu.addressbook.tracking;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.addressbook.common.Location;
+import seedu.addressbook.timeanddate.ClockService;
+
+/**
+ * Feeds GPS pings into a {@link PositionStore}, from a file or from devices connected over a socket.
+ *
+ * Each ping is one line: {@code OFFICER_ID,LATITUDE,LONGITUDE[,EPOCH_MILLIS]}, e.g. {@code po1,1.3069,103.7905}.
+ * A ping without a time was taken when it is read. Malformed lines are skipped, as are pings off the globe and
+ * pings timed more than {@link #MAX_CLOCK_SKEW_MILLIS} in the future, which would otherwise hide every later ping.
+ */
+public class PositionFeed {
+    /** How far ahead of the System's clock a device's clock may run. */
+    public static final long MAX_CLOCK_SKEW_MILLIS = 60 * 1000;
+
+    private static final Logger logger = Logger.getLogger(PositionFeed.class.getName());
+
+    private final PositionStore store;
+    private ServerSocket serverSocket;
+
+    public PositionFeed() {
+        this(PositionStore.getInstance());
+    }
+
+    public PositionFeed(PositionStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Records the ping in {@code line}.
+     *
+     * @return true if the ping is now the latest position of its officer.
+     */
+    public boolean accept(String line) {
+        String[] fields = line.trim().split(",");
+        if (fields.length < 3 || fields.length > 4) {
+            return false;
+        }
+        try {
+            double latitude = Double.parseDouble(fields[1].trim());
+            double longitude = Double.parseDouble(fields[2].trim());
+            long now = ClockService.currentTimeMillis();
+            long timestampMillis = (fields.length == 4) ? Long.parseLong(fields[3].trim()) : now;
+            if (!Location.isValidCoordinates(latitude, longitude) || timestampMillis > now + MAX_CLOCK_SKEW_MILLIS) {
+                return false;
+            }
+            return store.update(fields[0].trim(), new Location(latitude, longitude), timestampMillis);
+        } catch (NumberFormatException nfe) {
+            return false;
+        }
+    }
+
+    /**
+     * Records every ping read from {@code reader} until it ends.
+     *
+     * @return the number of pings which became the latest position of their officer.
+     */
+    public int read(BufferedReader reader) throws IOException {
+        int numAccepted = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (accept(line)) {
+                numAccepted++;
+            }
+        }
+        return numAccepted;
+    }
+
+    /**
+     * Records every ping in the file at {@code path}, e.g. a recorded patrol being replayed.
+     *
+     * @return the number of pings which became the latest position of their officer.
+     */
+    public int replay(Path path) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return read(reader);
+        }
+    }
+
+    /**
+     * Starts accepting devices on {@code port} (0 for any free port) of the loopback address only.
+     *
+     * @return the port listened on.
+     * @see #listen(InetAddress, int)
+     */
+    public int listen(int port) throws IOException {
+        return listen(InetAddress.getLoopbackAddress(), port);
+    }
+
+    /**
+     * Starts accepting devices on {@code port} (0 for any free port) of {@code bindAddress}, each sending pings
+     * until it disconnects. Devices are not authenticated, so bind to an address only they can reach.
+     *
+     * @return the port listened on.
+     */
+    public synchronized int listen(InetAddress bindAddress, int port) throws IOException {
+        serverSocket = new ServerSocket(port, 0, bindAddress);
+        ServerSocket listening = serverSocket;
+        startDaemon("position-feed", () -> acceptDevices(listening));
+        return listening.getLocalPort();
+    }
+
+    /**
+     * Stops accepting devices. Devices already connected are served until they disconnect.
+     */
+    public synchronized void stop() {
+        if (serverSocket == null) {
+            return;
+        }
+        try {
+            serverSocket.close();
+        } catch (IOException ioe) {
+            logger.log(Level.WARNING, "Could not close position feed", ioe);
+        }
+        serverSocket = null;
+    }
+
+    /**
+     * Serves every device connecting to {@code listening}, each on its own thread, until it is closed.
+     */
+    private void acceptDevices(ServerSocket listening) {
+        while (!listening.isClosed()) {
+            try {
+                Socket device = listening.accept();
+                startDaemon("position-feed-" + device.getRemoteSocketAddress(), () -> readDevice(device));
+            } catch (IOException ioe) {
+                if (!listening.isClosed()) {
+                    logger.log(Level.WARNING, "Could not accept device", ioe);
+                }
+            }
+        }
+    }
+
+    /**
+     * Records the pings sent by {@code device} until it disconnects.
+     */
+    private void readDevice(Socket device) {
+        try (Socket connected = device;
+             BufferedReader reader = new BufferedReader(new InputStreamReader(connected.getInputStream(),
+                     StandardCharsets.UTF_8))) {
+            read(reader);
+        } catch (IOException ioe) {
+            logger.log(Level.INFO, "Device disconnected", ioe);
+        }
+    }
+
+    private static void startDaemon(String name, Runnable task) {
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
@@ -0,0 +1,61 @@
+//@@author andyrobert3
+package seedu.addressbook.tracking;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The most recent positions of one officer, in a fixed-size ring buffer which overwrites the oldest position.
+ *
+ * Writers claim a slot with a single atomic increment, so pings are recorded without locking. Each slot holds
+ * the sequence number it was claimed with, so a reader racing with writers skips a slot not yet written, or already
+ * overwritten by a later ping, rather than return a position from a lap of the ring before or after.
+ * A reader may therefore miss the positions being written, but never sees a partly written or stale one.
+ */
+class PositionHistory {
+    private final AtomicReferenceArray<Entry> slots;
+    private final AtomicLong numRecorded = new AtomicLong();
+
+    PositionHistory(int capacity) {
+        slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    void record(OfficerPosition position) {
+        long sequenceNumber = numRecorded.getAndIncrement();
+        slots.set((int) (sequenceNumber % slots.length()), new Entry(sequenceNumber, position));
+    }
+
+    /**
+     * Returns the recorded positions, oldest first by the time they were taken.
+     * Pings accepted at the same moment may be recorded in either order, hence the sort.
+     */
+    List<OfficerPosition> getRecent() {
+        long end = numRecorded.get();
+        long start = Math.max(0, end - slots.length());
+        List<OfficerPosition> recent = new ArrayList<>((int) (end - start));
+        for (long i = start; i < end; i++) {
+            Entry entry = slots.get((int) (i % slots.length()));
+            if (entry != null && entry.sequenceNumber == i) {
+                recent.add(entry.position);
+            }
+        }
+        recent.sort(Comparator.comparingLong(OfficerPosition::getTimestampMillis));
+        return recent;
+    }
+
+    /**
+     * A position and the sequence number of the ping that recorded it.
+     */
+    private static class Entry {
+        private final long sequenceNumber;
+        private final OfficerPosition position;
+
+        Entry(long sequenceNumber, OfficerPosition position) {
+            this.sequenceNumber = sequenceNumber;
+            this.position = position;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+//@@author andyrobert3
+package seedu.addressbook.tracking;
+
+import java.util.Collection;
+
+import seedu.addressbook.common.EtaEstimator;
+import seedu.addressbook.common.Location;
+
+/**
+ * The latest position of every officer at one moment. Later pings do not change a snapshot,
+ * so a command can look up several officers and see them all as they were at the same time.
+ */
+public class PositionSnapshot {
+    private final PositionStore store;
+    private final OfficerPosition[] positions;
+
+    PositionSnapshot(PositionStore store, OfficerPosition[] positions) {
+        this.store = store;
+        this.positions = positions;
+    }
+
+    /**
+     * Returns the latest position of {@code officerId}, or null if the officer is unknown or has no position.
+     */
+    public OfficerPosition getPosition(String officerId) {
+        int index = store.indexOf(officerId);
+        return (index < 0) ? null : positions[index];
+    }
+
+    /**
+     * Returns the latest location of {@code officerId}, or null if the officer is unknown or has no position.
+     */
+    public Location getLocation(String officerId) {
+        OfficerPosition position = getPosition(officerId);
+        return (position == null) ? null : position.getLocation();
+    }
+
+    /**
+     * Returns the one of {@code officerIds} nearest to {@code target}, or null if none of them has a position.
+     */
+    public String findNearest(Location target, Collection<String> officerIds) {
+        String nearestOfficer = null;
+        double nearestDistance = Double.MAX_VALUE;
+        for (String officerId : officerIds) {
+            Location location = getLocation(officerId);
+            if (location == null) {
+                continue;
+            }
+            double distance = EtaEstimator.getDistanceKm(location, target);
+            if (distance < nearestDistance) {
+                nearestDistance = distance;
+                nearestOfficer = officerId;
+            }
+        }
+        return nearestOfficer;
+    }
+}
@@ -0,0 +1,132 @@
+//@@author andyrobert3
+package seedu.addressbook.tracking;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.javatuples.Triplet;
+
+import seedu.addressbook.common.Location;
+import seedu.addressbook.common.PatrolResourceStatus;
+
+/**
+ * The latest and recent positions of every officer, as reported by their GPS pings.
+ *
+ * Pings arrive far more often than commands read them, so nothing here locks. Each officer has a fixed slot
+ * holding their latest {@link OfficerPosition}, which a ping replaces with a single compare-and-set;
+ * a ping older than the position already held is dropped, so pings may arrive out of order.
+ * Readers take a {@link PositionSnapshot}, copying the slots once, and then see a consistent set of positions
+ * however many pings arrive while they work.
+ */
+public class PositionStore {
+    /** Positions kept for each officer in their recent history. */
+    public static final int HISTORY_CAPACITY = 64;
+
+    private static final PositionStore instance = new PositionStore(getHomePositions());
+
+    private final Map<String, Integer> officerIndices = new HashMap<>();
+    private final List<OfficerPosition> homePositions;
+    private final AtomicReferenceArray<OfficerPosition> latest;
+    private final PositionHistory[] histories;
+
+    /**
+     * Creates a store for the officers of {@code homePositions}, each starting at their home position.
+     */
+    public PositionStore(List<OfficerPosition> homePositions) {
+        this.homePositions = new ArrayList<>(homePositions);
+        latest = new AtomicReferenceArray<>(homePositions.size());
+        histories = new PositionHistory[homePositions.size()];
+        for (int i = 0; i < homePositions.size(); i++) {
+            officerIndices.put(homePositions.get(i).getOfficerId().toLowerCase(), i);
+            histories[i] = new PositionHistory(HISTORY_CAPACITY);
+        }
+        clear();
+    }
+
+    public static PositionStore getInstance() {
+        return instance;
+    }
+
+    /**
+     * Returns where every patrol resource starts before their first ping, timestamped at the epoch.
+     */
+    private static List<OfficerPosition> getHomePositions() {
+        List<OfficerPosition> homePositions = new ArrayList<>();
+        for (Triplet<String, Location, Boolean> resource : PatrolResourceStatus.getPatrolResourceStatus()) {
+            homePositions.add(new OfficerPosition(resource.getValue0(), resource.getValue1(), 0));
+        }
+        return homePositions;
+    }
+
+    /**
+     * Records that {@code officerId} was at {@code location} at {@code timestampMillis}.
+     *
+     * @return true if this is now the latest position of the officer, false if the officer is unknown
+     *         or a later position has already been recorded.
+     */
+    public boolean update(String officerId, Location location, long timestampMillis) {
+        int index = indexOf(officerId);
+        if (index < 0) {
+            return false;
+        }
+        OfficerPosition position = new OfficerPosition(homePositions.get(index).getOfficerId(), location,
+                timestampMillis);
+        OfficerPosition current;
+        do {
+            current = latest.get(index);
+            if (current.getTimestampMillis() > timestampMillis) {
+                return false;
+            }
+        } while (!latest.compareAndSet(index, current, position));
+        histories[index].record(position);
+        return true;
+    }
+
+    /**
+     * Returns the latest location of {@code officerId}, or null if there is no such officer.
+     */
+    public Location getLocation(String officerId) {
+        int index = indexOf(officerId);
+        return (index < 0) ? null : latest.get(index).getLocation();
+    }
+
+    /**
+     * Returns the last {@value #HISTORY_CAPACITY} positions recorded for {@code officerId}, oldest first.
+     */
+    public List<OfficerPosition> getRecent(String officerId) {
+        int index = indexOf(officerId);
+        return (index < 0) ? Collections.emptyList() : histories[index].getRecent();
+    }
+
+    /**
+     * Returns the latest position of every officer at this moment.
+     */
+    public PositionSnapshot snapshot() {
+        OfficerPosition[] positions = new OfficerPosition[latest.length()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = latest.get(i);
+        }
+        return new PositionSnapshot(this, positions);
+    }
+
+    /**
+     * Moves every officer back to their home position. Their recent history is kept.
+     */
+    public void clear() {
+        for (int i = 0; i < homePositions.size(); i++) {
+            latest.set(i, homePositions.get(i));
+        }
+    }
+
+    /**
+     * Returns the slot of {@code officerId}, or -1 if there is no such officer.
+     */
+    int indexOf(String officerId) {
+        Integer index = officerIndices.get(officerId.toLowerCase());
+        return (index == null) ? -1 : index;
+    }
+}
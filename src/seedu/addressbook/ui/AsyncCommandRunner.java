@@ -0,0 +1,204 @@
+//@@author andyrobert3
+package seedu.addressbook.ui;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+import seedu.addressbook.autocorrect.AutoCorrect;
+import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.commands.DispatchCommand;
+
+/**
+ * Executes commands on a background worker so that slow commands (network calls, saving, reading the inbox)
+ * do not freeze the GUI. Results are handed back on the UI thread.
+ *
+ * Commands run one at a time, in the order submitted, and at most {@link #QUEUE_CAPACITY} may wait.
+ * A command that runs past its timeout, or is cancelled, is reported as such straight away;
+ * its result is discarded if it completes later.
+ *
+ * Commands ignore interrupts, so a command that writes, as told by the given predicate (e.g.
+ * {@code Logic::isMutating}), is never interrupted once it has started: the user is told it may still complete rather than that it failed, so that they check before trying
+ * again instead of, say, dispatching backup twice. A writing command that has not started yet is cancelled outright.
+ */
+public class AsyncCommandRunner {
+
+    public static final String MESSAGE_BUSY = "Please wait for the current command to complete.";
+    public static final String MESSAGE_CANCELLED = "Command cancelled.";
+    public static final String MESSAGE_TIMED_OUT = "Command timed out after %1$d seconds.";
+    public static final String MESSAGE_STILL_RUNNING = "Command is still running after %1$d seconds and may yet "
+            + "complete. Check whether it did before trying again.";
+    public static final String MESSAGE_ABANDONED = "Command was already running and may yet complete. "
+            + "Check whether it did before trying again.";
+
+    public static final int QUEUE_CAPACITY = 8;
+
+    private static final long DEFAULT_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    /** Commands that are expected to take longer, e.g. because they call external services. */
+    private static final Map<String, Long> TIMEOUT_MILLIS = new HashMap<>();
+
+    static {
+        TIMEOUT_MILLIS.put(DispatchCommand.COMMAND_WORD, TimeUnit.SECONDS.toMillis(30));
+    }
+
+    /**
+     * Executes a command, e.g. {@code Logic::execute}.
+     */
+    @FunctionalInterface
+    public interface CommandExecutor {
+        CommandResult execute(String userCommandText) throws Exception;
+    }
+
+    private final CommandExecutor commandExecutor;
+    private final Predicate<String> isWriting;
+    private final Executor uiThread;
+    private final ToLongFunction<String> timeoutPolicy;
+    private final ThreadPoolExecutor worker;
+    private final ScheduledExecutorService timer;
+
+    /** The command most recently submitted, if it has not finished. Only accessed on the UI thread. */
+    private Submission current;
+
+    public AsyncCommandRunner(CommandExecutor commandExecutor, Predicate<String> isWriting, Executor uiThread) {
+        this(commandExecutor, isWriting, uiThread, AsyncCommandRunner::getTimeoutMillis);
+    }
+
+    AsyncCommandRunner(CommandExecutor commandExecutor, Predicate<String> isWriting, Executor uiThread,
+            ToLongFunction<String> timeoutPolicy) {
+        this.commandExecutor = commandExecutor;
+        this.isWriting = isWriting;
+        this.uiThread = uiThread;
+        this.timeoutPolicy = timeoutPolicy;
+        worker = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> newDaemonThread(runnable, "command-worker"));
+        timer = Executors.newSingleThreadScheduledExecutor(runnable -> newDaemonThread(runnable, "command-timer"));
+    }
+
+    private static Thread newDaemonThread(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Returns the time the given command may run before it is timed out.
+     */
+    public static long getTimeoutMillis(String userCommandText) {
+        String commandWord = AutoCorrect.getCommand(userCommandText.trim());
+        return TIMEOUT_MILLIS.getOrDefault(commandWord, DEFAULT_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Runs the command in the background. Exactly one of {@code onResult} or {@code onFailure} (with a message
+     * for the user) is later called on the UI thread.
+     * Must be called on the UI thread.
+     */
+    public void submit(String userCommandText, Consumer<CommandResult> onResult, Consumer<String> onFailure) {
+        Submission submission = new Submission(onResult, onFailure, isWriting.test(userCommandText));
+        try {
+            submission.future = worker.submit(() -> submission.run(userCommandText));
+        } catch (RejectedExecutionException e) {
+            onFailure.accept(MESSAGE_BUSY);
+            return;
+        }
+        long timeoutMillis = timeoutPolicy.applyAsLong(userCommandText);
+        long timeoutSeconds = TimeUnit.MILLISECONDS.toSeconds(timeoutMillis);
+        submission.timeout = timer.schedule(() -> submission.abandon(String.format(MESSAGE_TIMED_OUT, timeoutSeconds),
+                String.format(MESSAGE_STILL_RUNNING, timeoutSeconds)), timeoutMillis, TimeUnit.MILLISECONDS);
+        current = submission;
+    }
+
+    /**
+     * Cancels the command most recently submitted, if it has not finished.
+     * Must be called on the UI thread.
+     */
+    public void cancel() {
+        if (current != null) {
+            current.abandon(MESSAGE_CANCELLED, MESSAGE_ABANDONED);
+        }
+    }
+
+    /**
+     * Stops the background threads. Commands that have not started are discarded.
+     */
+    public void shutdown() {
+        worker.shutdownNow();
+        timer.shutdownNow();
+    }
+
+    /**
+     * A submitted command, which settles exactly once: with its result, its failure, a timeout or a cancellation.
+     */
+    private class Submission {
+        private final Consumer<CommandResult> onResult;
+        private final Consumer<String> onFailure;
+        private final boolean isWriting;
+        private final AtomicBoolean isSettled = new AtomicBoolean(false);
+        /** Claimed by the worker to run the command, or by {@link #abandon} to stop it from ever running. */
+        private final AtomicBoolean isStarted = new AtomicBoolean(false);
+        private volatile Future<?> future;
+        private volatile Future<?> timeout;
+
+        Submission(Consumer<CommandResult> onResult, Consumer<String> onFailure, boolean isWriting) {
+            this.onResult = onResult;
+            this.onFailure = onFailure;
+            this.isWriting = isWriting;
+        }
+
+        /** Runs on the worker thread. */
+        void run(String userCommandText) {
+            if (isSettled.get() || !isStarted.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                CommandResult result = commandExecutor.execute(userCommandText);
+                settle(() -> onResult.accept(result));
+            } catch (Exception e) {
+                settle(() -> onFailure.accept(e.getMessage()));
+            }
+        }
+
+        /**
+         * Gives up on the command, reporting {@code message}. A command that does not write is interrupted if it
+         * is running. A command that writes is only stopped if it has not started; otherwise it is left to run and
+         * {@code messageIfRunning} is reported instead, as it may still complete.
+         */
+        void abandon(String message, String messageIfRunning) {
+            if (!isWriting) {
+                if (settle(() -> onFailure.accept(message))) {
+                    future.cancel(true);
+                }
+                return;
+            }
+            if (isStarted.compareAndSet(false, true)) {
+                settle(() -> onFailure.accept(message));
+                future.cancel(false);
+            } else {
+                settle(() -> onFailure.accept(messageIfRunning));
+            }
+        }
+
+        private boolean settle(Runnable callback) {
+            if (!isSettled.compareAndSet(false, true)) {
+                return false;
+            }
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
+            uiThread.execute(callback);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+//@@author andyrobert3
+package seedu.addressbook.ui;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * One entry of the output console: either a message or a person in a listing.
+ * A person is only formatted when the entry is first displayed, so listing many persons stays cheap
+ * however few of them are scrolled into view.
+ */
+public class ConsoleEntry {
+    private static final UiFormatter FORMATTER = new UiFormatter();
+
+    private final ReadOnlyPerson person;
+    private final int visibleIndex;
+    private String text;
+
+    private ConsoleEntry(String text, ReadOnlyPerson person, int visibleIndex) {
+        this.text = text;
+        this.person = person;
+        this.visibleIndex = visibleIndex;
+    }
+
+    /**
+     * Returns an entry displaying the given message.
+     */
+    public static ConsoleEntry ofMessage(String message) {
+        return new ConsoleEntry(FORMATTER.formatLine(message), null, 0);
+    }
+
+    /**
+     * Returns an entry displaying {@code person} as item {@code visibleIndex} of a listing.
+     */
+    public static ConsoleEntry ofPerson(int visibleIndex, ReadOnlyPerson person) {
+        return new ConsoleEntry(null, person, visibleIndex);
+    }
+
+    /**
+     * Returns the text of the entry, formatting it on first use.
+     */
+    public String getText() {
+        if (text == null) {
+            text = FORMATTER.formatIndexedPerson(visibleIndex, person);
+        }
+        return text;
+    }
+
+    boolean isFormatted() {
+        return text != null;
+    }
+}
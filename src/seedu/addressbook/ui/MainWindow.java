@@ -20,21 +20,40 @@ import static seedu.addressbook.password.Password.unlockDevice;
 import static seedu.addressbook.password.Password.updatePassword;
 import static seedu.addressbook.password.Password.updatePasswordFinal;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 
 import javafx.fxml.FXML;
-import javafx.scene.control.TextArea;
+import javafx.geometry.Side;
+import javafx.scene.control.Button;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.MenuItem;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 
+import seedu.addressbook.autocorrect.AutoComplete;
 import seedu.addressbook.autocorrect.AutoCorrect;
 import seedu.addressbook.autocorrect.CheckDistance;
 import seedu.addressbook.commands.CommandResult;
 import seedu.addressbook.commands.LogoutCommand;
 import seedu.addressbook.commands.ShutdownCommand;
 import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.inbox.Inbox;
+import seedu.addressbook.inbox.InboxEvents;
+import seedu.addressbook.inbox.MessageFilePaths;
+import seedu.addressbook.inbox.UnreadCounter;
 import seedu.addressbook.logic.Logic;
 import seedu.addressbook.password.Password;
 import seedu.addressbook.timeanddate.TimeAndDate;
@@ -45,25 +64,62 @@ import seedu.addressbook.timeanddate.TimeAndDate;
  */
 public class MainWindow {
 
+    public static final String MESSAGE_UNREAD_BADGE = "%d unread";
+
     private TimeAndDate tad = new TimeAndDate();
     private Logic logic;
+    private AsyncCommandRunner commandRunner;
+    private SuggestionRunner suggestionRunner;
+    private ContextMenu suggestionMenu;
     private Stoppable mainApp;
+    private String watchedInboxPath;
+    private UnreadCounter unreadCounter;
 
     @FXML
-    private TextArea outputConsole;
+    private ListView<ConsoleEntry> outputConsole;
 
     @FXML
     private TextField commandInput;
 
+    @FXML
+    private ProgressIndicator commandProgress;
+
+    @FXML
+    private Button cancelCommand;
+
+    @FXML
+    private Label unreadBadge;
+
     public MainWindow() {
     }
 
+    //@@author andyrobert3
+    /**
+     * Sets up the output console to render only the entries scrolled into view,
+     * and the command input to suggest how to finish the word being typed.
+     */
+    @FXML
+    private void initialize() {
+        outputConsole.setCellFactory(listView -> new ConsoleEntryCell());
+        suggestionMenu = new ContextMenu();
+        commandInput.textProperty().addListener((observable, oldText, newText) -> requestSuggestions(newText));
+        commandInput.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB && suggestionMenu.isShowing()) {
+                acceptSuggestion(suggestionMenu.getItems().get(0).getText());
+                event.consume();
+            }
+        });
+    }
+
+    //@@author
+
     /**
      *
      * @param event
      */
     @FXML
     void onCommand(ActionEvent event) {
+        hideSuggestions();
         try {
             String userCommandText = commandInput.getText();
             decipherUserCommandText(userCommandText);
@@ -74,8 +130,21 @@ public class MainWindow {
         }
     }
 
+    //@@author andyrobert3
+    /**
+     * Cancels the command that is running, if any.
+     */
+    @FXML
+    void onCancel(ActionEvent event) {
+        commandRunner.cancel();
+    }
+
+    //@@author
     void setLogic(Logic logic) {
         this.logic = logic;
+        this.commandRunner = new AsyncCommandRunner(logic::execute, logic::isMutating, Platform::runLater);
+        this.suggestionRunner = new SuggestionRunner(new AutoComplete(logic::completeNric)::suggest,
+                Platform::runLater);
     }
 
     void setMainApp(Stoppable mainApp) {
@@ -95,13 +164,16 @@ public class MainWindow {
             lockDevice();
             mainApp.stop();
         } else if (isLogoutCommand(userCommandText)) {
-            CommandResult result = logic.execute(userCommandText);
-            clearScreen();
-            displayResult(result);
+            executeInBackground(userCommandText, result -> {
+                clearScreen();
+                displayResult(result);
+                watchInbox();
+            });
         } else if (isLocked()) {
             String unlockDeviceResult = unlockDevice(userCommandText, Password.getWrongPasswordCounter());
             clearScreen();
             display(unlockDeviceResult);
+            watchInbox();
         } else if (canUpdatePassword(userCommandText)) {
             String prepareUpdatePasswordResult = prepareUpdatePassword();
             clearScreen();
@@ -136,13 +208,134 @@ public class MainWindow {
                 display(displayCommand);
             } else {
                 clearScreen();
-                CommandResult result = logic.execute(userCommandText);
-                displayResult(result);
-                clearCommandInput();
+                executeInBackground(userCommandText, result -> {
+                    displayResult(result);
+                    clearCommandInput();
+                });
             }
         }
     }
 
+    //@@author andyrobert3
+    /**
+     * Executes the command off the UI thread, blocking further input until {@code onResult} has been called
+     * with its result, or the failure has been displayed.
+     */
+    private void executeInBackground(String userCommandText, Consumer<CommandResult> onResult) {
+        Consumer<CommandResult> onSuccess = result -> {
+            setBusy(false);
+            onResult.accept(result);
+        };
+        Consumer<String> onFailure = message -> {
+            setBusy(false);
+            display(message);
+        };
+        setBusy(true);
+        commandRunner.submit(userCommandText, onSuccess, onFailure);
+    }
+
+    /**
+     * Shows the number of unread messages of the logged in user as they arrive, instead of waiting for them
+     * to check their inbox. Nothing is shown while the device is locked.
+     *
+     * The counter subscribes before the inbox is counted, so that a message arriving meanwhile is not missed;
+     * the fresh count then replaces whatever the counter has seen so far.
+     */
+    private void watchInbox() {
+        if (unreadCounter != null) {
+            InboxEvents.unsubscribe(watchedInboxPath, unreadCounter);
+            unreadCounter = null;
+        }
+        if (isLocked()) {
+            showUnreadCount(0);
+            return;
+        }
+        String userId = Password.getId();
+        IntConsumer showOnUiThread = count -> Platform.runLater(() -> showUnreadCount(count));
+        watchedInboxPath = MessageFilePaths.getFilePathFromUserId(userId);
+        unreadCounter = new UnreadCounter(0, showOnUiThread);
+        InboxEvents.subscribe(watchedInboxPath, unreadCounter);
+        try {
+            unreadCounter.unreadCountChanged(new Inbox(userId).countUnreadMsgs());
+        } catch (IOException e) {
+            unreadCounter.unreadCountChanged(0);
+        }
+    }
+
+    /**
+     * Shows {@code numUnreadMsgs} on the unread badge, hiding it when there are none
+     * or when no one is logged in any more.
+     */
+    private void showUnreadCount(int numUnreadMsgs) {
+        unreadBadge.setText(String.format(MESSAGE_UNREAD_BADGE, numUnreadMsgs));
+        unreadBadge.setVisible(numUnreadMsgs > 0 && !isLocked());
+    }
+
+    /**
+     * Looks up how to finish the word being typed, unless a password is being typed.
+     */
+    private void requestSuggestions(String commandText) {
+        if (suggestionRunner == null || isLocked() || isUpdatingPasswordNow()) {
+            hideSuggestions();
+            return;
+        }
+        suggestionRunner.request(commandText, this::showSuggestions);
+    }
+
+    /**
+     * Shows {@code suggestions} below the command input, or hides them if there are none.
+     * The first suggestion is taken with the Tab key.
+     */
+    private void showSuggestions(List<String> suggestions) {
+        if (suggestions.isEmpty() || commandInput.isDisabled()) {
+            suggestionMenu.hide();
+            return;
+        }
+        List<MenuItem> items = new ArrayList<>(suggestions.size());
+        for (String suggestion : suggestions) {
+            MenuItem item = new MenuItem(suggestion);
+            item.setOnAction(event -> acceptSuggestion(suggestion));
+            items.add(item);
+        }
+        suggestionMenu.getItems().setAll(items);
+        if (!suggestionMenu.isShowing()) {
+            suggestionMenu.show(commandInput, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    /**
+     * Replaces the word being typed with {@code suggestion}, ready for the next word.
+     */
+    private void acceptSuggestion(String suggestion) {
+        String commandText = commandInput.getText();
+        int wordStart = commandText.length();
+        while (wordStart > 0 && !Character.isWhitespace(commandText.charAt(wordStart - 1))) {
+            wordStart--;
+        }
+        commandInput.setText(commandText.substring(0, wordStart) + suggestion + " ");
+        commandInput.positionCaret(commandInput.getText().length());
+    }
+
+    /**
+     * Hides the suggestions shown and discards those still being looked up.
+     */
+    private void hideSuggestions() {
+        if (suggestionRunner != null) {
+            suggestionRunner.cancel();
+        }
+        suggestionMenu.hide();
+    }
+
+    /** Shows the progress of a running command and blocks input while it runs. */
+    private void setBusy(boolean isBusy) {
+        commandInput.setDisable(isBusy);
+        commandProgress.setVisible(isBusy);
+        cancelCommand.setVisible(isBusy);
+        if (!isBusy) {
+            commandInput.requestFocus();
+        }
+    }
+
     /** Returns true when user is HQP and given input is update password command*/
     //@@author iamputradanish
     private boolean canUpdatePassword(String userCommandText) {
@@ -179,7 +372,7 @@ public class MainWindow {
 
     /** Clears the output display area */
     private void clearOutputConsole() {
-        outputConsole.clear();
+        outputConsole.getItems().clear();
     }
 
     /** Clears both command input box and the output display area*/
@@ -209,14 +402,40 @@ public class MainWindow {
      * Private contact details are hidden.
      */
     private void display(List<? extends ReadOnlyPerson> persons) {
-        display(new UiFormatter().format(persons));
+        final List<ConsoleEntry> entries = new ArrayList<>(persons.size());
+        int displayIndex = Gui.DISPLAYED_INDEX_OFFSET;
+        for (ReadOnlyPerson person : persons) {
+            entries.add(ConsoleEntry.ofPerson(displayIndex++, person));
+        }
+        outputConsole.getItems().addAll(entries);
     }
 
     /**
      * Displays the given messages on the output display area, after formatting appropriately.
      */
     private void display(String... messages) {
-        outputConsole.setText(outputConsole.getText() + new UiFormatter().format(messages));
+        final List<ConsoleEntry> entries = new ArrayList<>(messages.length);
+        for (String message : messages) {
+            entries.add(ConsoleEntry.ofMessage(message));
+        }
+        outputConsole.getItems().addAll(entries);
+    }
+
+    //@@author andyrobert3
+    /**
+     * Renders a console entry as wrapped text. Cells are reused as the console scrolls.
+     */
+    private static class ConsoleEntryCell extends ListCell<ConsoleEntry> {
+        ConsoleEntryCell() {
+            setWrapText(true);
+            setPrefWidth(0);
+        }
+
+        @Override
+        protected void updateItem(ConsoleEntry entry, boolean isEmpty) {
+            super.updateItem(entry, isEmpty);
+            setText((isEmpty || entry == null) ? null : entry.getText());
+        }
     }
 
 }
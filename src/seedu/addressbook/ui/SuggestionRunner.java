@@ -0,0 +1,89 @@
+//@@author andyrobert3
+package seedu.addressbook.ui;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Works out suggestions for the command being typed on a background thread, so that looking them up never holds
+ * up the GUI. Results are handed back on the UI thread.
+ *
+ * A lookup starts once typing has paused for {@link #DEBOUNCE_MILLIS}, and a keystroke cancels any lookup not yet
+ * started. Suggestions for text which has since changed are discarded rather than shown.
+ */
+public class SuggestionRunner {
+    public static final long DEBOUNCE_MILLIS = 40;
+
+    private final Function<String, List<String>> suggester;
+    private final Executor uiThread;
+    private final long debounceMillis;
+    private final ScheduledExecutorService worker;
+
+    /** Incremented on every request, so that only the suggestions for the latest text are shown. */
+    private final AtomicLong latestRequest = new AtomicLong();
+
+    /** The lookup most recently requested, if it has not started. Only accessed on the UI thread. */
+    private Future<?> pending;
+
+    public SuggestionRunner(Function<String, List<String>> suggester, Executor uiThread) {
+        this(suggester, uiThread, DEBOUNCE_MILLIS);
+    }
+
+    SuggestionRunner(Function<String, List<String>> suggester, Executor uiThread, long debounceMillis) {
+        this.suggester = suggester;
+        this.uiThread = uiThread;
+        this.debounceMillis = debounceMillis;
+        worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "suggestion-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Looks up suggestions for {@code commandText}, replacing any earlier request. {@code onSuggestions} is later
+     * called with them on the UI thread, unless another request or a {@link #cancel()} comes first.
+     * Must be called on the UI thread.
+     */
+    public void request(String commandText, Consumer<List<String>> onSuggestions) {
+        cancel();
+        long request = latestRequest.get();
+        pending = worker.schedule(() -> {
+            if (latestRequest.get() != request) {
+                return;
+            }
+            List<String> suggestions = suggester.apply(commandText);
+            uiThread.execute(() -> {
+                if (latestRequest.get() == request) {
+                    onSuggestions.accept(suggestions);
+                }
+            });
+        }, debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Discards the suggestions requested so far, e.g. once the command has been entered.
+     * Must be called on the UI thread.
+     */
+    public void cancel() {
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+        latestRequest.incrementAndGet();
+    }
+
+    /**
+     * Stops the background thread.
+     */
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+}
@@ -42,6 +42,17 @@ public class UiFormatter {
         }
         return format(asIndexedList(formattedPersons));
     }
+    //@@author andyrobert3
+    /** Formats a single message as one block of lines, without a trailing line separator. */
+    public String formatLine(String message) {
+        return LINE_PREFIX + message.replace("\n", LS + LINE_PREFIX);
+    }
+
+    /** Formats a person as it appears at {@code visibleIndex} in a listing, without a trailing line separator. */
+    public String formatIndexedPerson(int visibleIndex, ReadOnlyPerson person) {
+        return formatLine(getIndexedListItem(visibleIndex, person.getAsTextShowAll()));
+    }
+
     //@@author muhdharun
     /** Formats given list of strings to the user. */
     public String formatForStrings(List<String> strings) {
@@ -0,0 +1,55 @@
+//@@author andyrobert3
+package seedu.addressbook.autocorrect;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class AutoCompleteTest {
+    private AutoComplete autoComplete;
+
+    @Before
+    public void setup() {
+        Trie nrics = new Trie(Arrays.asList("s1234567a", "s1234568b", "t7654321c"));
+        autoComplete = new AutoComplete(Arrays.asList("find", "dispatch", "delete", "rb", "edit", "nearby"),
+                Arrays.asList("gun", "theft", "drugs"), Arrays.asList("po1", "po2"), nrics::complete);
+    }
+
+    @Test
+    public void suggest_commandWord() {
+        assertEquals(Arrays.asList("delete", "dispatch"), autoComplete.suggest("d"));
+        assertEquals(Collections.singletonList("find"), autoComplete.suggest("  FI"));
+    }
+
+    @Test
+    public void suggest_argumentOfCommand() {
+        assertEquals(Arrays.asList("s1234567a", "s1234568b"), autoComplete.suggest("find s12"));
+        assertEquals(Collections.singletonList("t7654321c"), autoComplete.suggest("delete T"));
+        assertEquals(Arrays.asList("po1", "po2"), autoComplete.suggest("nearby p"));
+        assertEquals(Collections.singletonList("theft"), autoComplete.suggest("rb t"));
+        assertEquals(Collections.singletonList("po2"), autoComplete.suggest("dispatch po2"));
+        assertEquals(Collections.singletonList("gun"), autoComplete.suggest("dispatch po2 g"));
+        assertEquals(Collections.singletonList("po1"), autoComplete.suggest("dispatch po2 gun po1"));
+    }
+
+    @Test
+    public void suggest_prefixedArgument() {
+        assertEquals(Collections.singletonList("n/t7654321c"), autoComplete.suggest("edit n/t"));
+        assertEquals(Collections.singletonList("w/drugs"), autoComplete.suggest("edit n/s1234567a w/dr"));
+        assertEquals(Collections.singletonList("o/gun"), autoComplete.suggest("edit n/s1234567a o/g"));
+    }
+
+    @Test
+    public void suggest_nothingToFinish_empty() {
+        assertTrue(autoComplete.suggest("").isEmpty());
+        assertTrue(autoComplete.suggest("find ").isEmpty());
+        assertTrue(autoComplete.suggest("find s1234567a t").isEmpty());
+        assertTrue(autoComplete.suggest("list p").isEmpty());
+        assertTrue(autoComplete.suggest("x").isEmpty());
+    }
+}
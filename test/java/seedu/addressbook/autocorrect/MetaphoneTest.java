@@ -0,0 +1,41 @@
+//@@author andyrobert3
+package seedu.addressbook.autocorrect;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class MetaphoneTest {
+
+    @Test
+    public void encode_soundsAlike_sameKey() {
+        assertEquals("SSR", Metaphone.encode("Cesaro"));
+        assertEquals("SSR", Metaphone.encode("sesaro"));
+        assertEquals("SM0", Metaphone.encode("Smith"));
+        assertEquals("SM0", Metaphone.encode("Smyth"));
+        assertEquals("FLP", Metaphone.encode("Philip"));
+        assertEquals("FLP", Metaphone.encode("Filip"));
+        assertEquals("JN", Metaphone.encode("John"));
+        assertEquals("JN", Metaphone.encode("Jon"));
+        assertEquals("K0RN", Metaphone.encode("Catherine"));
+        assertEquals("K0RN", Metaphone.encode("Kathryn"));
+    }
+
+    @Test
+    public void encode_silentStart() {
+        assertEquals("NT", Metaphone.encode("Knight"));
+        assertEquals("RT", Metaphone.encode("Wright"));
+        assertEquals("SFR", Metaphone.encode("Xavier"));
+    }
+
+    @Test
+    public void encode_keyTruncated() {
+        assertEquals(Metaphone.MAX_KEY_LENGTH, Metaphone.encode("Abdulrahman").length());
+    }
+
+    @Test
+    public void encode_noLetters_empty() {
+        assertEquals("", Metaphone.encode("123"));
+        assertEquals("", Metaphone.encode(""));
+    }
+}
@@ -0,0 +1,89 @@
+//@@author andyrobert3
+package seedu.addressbook.autocorrect;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class TrieTest {
+
+    @Test
+    public void complete_alphabeticalUpToLimit() {
+        Trie trie = new Trie(Arrays.asList("list", "logout", "find", "lis", "inbox"));
+
+        assertEquals(Arrays.asList("lis", "list", "logout"), trie.complete("l", 10));
+        assertEquals(Arrays.asList("lis", "list"), trie.complete("l", 2));
+        assertEquals(Collections.singletonList("find"), trie.complete("find", 10));
+        assertEquals(Arrays.asList("find", "inbox", "lis", "list", "logout"), trie.complete("", 10));
+        assertTrue(trie.complete("z", 10).isEmpty());
+        assertTrue(trie.complete("l", 0).isEmpty());
+    }
+
+    @Test
+    public void addRemove_sizeAndContains() {
+        Trie trie = new Trie();
+        assertTrue(trie.add("s1234567a"));
+        assertFalse(trie.add("s1234567a"));
+        assertTrue(trie.add("s1234567"));
+        assertEquals(2, trie.size());
+
+        assertTrue(trie.remove("s1234567a"));
+        assertFalse(trie.remove("s1234567a"));
+        assertFalse(trie.remove("s123"));
+        assertFalse(trie.contains("s1234567a"));
+        assertTrue(trie.contains("s1234567"));
+        assertEquals(Collections.singletonList("s1234567"), trie.complete("s", 10));
+
+        trie.clear();
+        assertEquals(0, trie.size());
+        assertTrue(trie.complete("", 10).isEmpty());
+    }
+
+    @Test
+    public void remove_deadBranchesPruned() {
+        Trie trie = new Trie(Arrays.asList("s1234567a", "s1234567b", "s1299999z"));
+        int nodesBefore = trie.getNumNodes();
+
+        assertTrue(trie.remove("s1299999z"));
+        assertEquals(nodesBefore - "99999z".length(), trie.getNumNodes());
+        assertTrue(trie.complete("s129", 10).isEmpty());
+        assertEquals(Arrays.asList("s1234567a", "s1234567b"), trie.complete("s12", 10));
+
+        assertTrue(trie.remove("s1234567a"));
+        assertEquals(nodesBefore - "99999z".length() - 1, trie.getNumNodes());
+        assertEquals(Collections.singletonList("s1234567b"), trie.complete("s", 10));
+
+        assertTrue(trie.add("s1299999z"));
+        assertTrue(trie.add("s1234567a"));
+        assertEquals(nodesBefore, trie.getNumNodes());
+        assertEquals(Arrays.asList("s1234567a", "s1234567b", "s1299999z"), trie.complete("s", 10));
+    }
+
+    @Test
+    public void complete_millionNrics_withinOneFrame() {
+        Trie trie = new Trie();
+        Random random = new Random(2018);
+        String prefixes = "stgf";
+        for (int i = 0; i < 1_000_000; i++) {
+            trie.add(String.format("%c%07d%c", prefixes.charAt(random.nextInt(4)), random.nextInt(10_000_000),
+                    (char) ('a' + random.nextInt(26))));
+        }
+
+        String[] queries = {"s", "t12", "g9999", "f0000001"};
+        for (String query : queries) {
+            trie.complete(query, AutoComplete.MAX_SUGGESTIONS);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < 1000; i++) {
+            trie.complete(queries[i % queries.length], AutoComplete.MAX_SUGGESTIONS);
+        }
+        long meanMicros = (System.nanoTime() - start) / 1000 / 1000;
+        assertTrue("Mean completion took " + meanMicros + " us", meanMicros < 16_000);
+    }
+}
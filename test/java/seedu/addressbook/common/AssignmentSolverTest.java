@@ -0,0 +1,117 @@
+//@@author andyrobert3
+package seedu.addressbook.common;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class AssignmentSolverTest {
+
+    @Test
+    public void solve_empty() {
+        assertEquals(0, AssignmentSolver.solve(new long[0][0]).length);
+    }
+
+    @Test
+    public void solve_greedyChoiceNotOptimal_findsLeastTotal() {
+        // Greedily giving row 0 its cheapest column costs 1 + 100; the optimum is 2 + 3.
+        long[][] cost = {{1, 2}, {3, 100}};
+        assertArrayEquals(new int[] {1, 0}, AssignmentSolver.solve(cost));
+    }
+
+    @Test
+    public void solve_moreRowsThanColumns_cheapestRowsAssigned() {
+        long[][] cost = {{9}, {4}, {7}};
+        assertArrayEquals(new int[] {AssignmentSolver.UNASSIGNED, 0, AssignmentSolver.UNASSIGNED},
+                AssignmentSolver.solve(cost));
+    }
+
+    @Test
+    public void solve_randomMatrices_matchBruteForce() {
+        Random random = new Random(42);
+        for (int trial = 0; trial < 200; trial++) {
+            int rows = 1 + random.nextInt(5);
+            int columns = 1 + random.nextInt(5);
+            long[][] cost = new long[rows][columns];
+            for (long[] row : cost) {
+                for (int j = 0; j < columns; j++) {
+                    row[j] = random.nextInt(1000);
+                }
+            }
+            int[] assignment = AssignmentSolver.solve(cost);
+            assertEquals(bruteForce(cost, 0, new boolean[columns]), totalCost(cost, assignment));
+            assertValid(assignment, Math.min(rows, columns));
+        }
+    }
+
+    @Test
+    public void solve_hundredsOfRequestsAndOfficers_wellUnderASecond() {
+        Random random = new Random(7);
+        long[][] cost = new long[400][400];
+        for (long[] row : cost) {
+            for (int j = 0; j < row.length; j++) {
+                row[j] = random.nextInt(3600);
+            }
+        }
+        long start = System.nanoTime();
+        int[] assignment = AssignmentSolver.solve(cost);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        assertValid(assignment, 400);
+        assertTrue("Took " + elapsedMillis + "ms", elapsedMillis < 1000);
+    }
+
+    /**
+     * Returns the least total cost of assigning rows {@code row} onwards to the columns not yet used.
+     */
+    private static long bruteForce(long[][] cost, int row, boolean[] isUsed) {
+        if (row == cost.length) {
+            return 0;
+        }
+        int rowsLeft = cost.length - row;
+        int columnsLeft = 0;
+        for (boolean used : isUsed) {
+            columnsLeft += used ? 0 : 1;
+        }
+        long best = (rowsLeft > columnsLeft) ? bruteForce(cost, row + 1, isUsed) : Long.MAX_VALUE;
+        for (int j = 0; j < isUsed.length; j++) {
+            if (!isUsed[j]) {
+                isUsed[j] = true;
+                best = Math.min(best, cost[row][j] + bruteForce(cost, row + 1, isUsed));
+                isUsed[j] = false;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the total cost of the cells chosen by {@code assignment}.
+     */
+    private static long totalCost(long[][] cost, int[] assignment) {
+        long total = 0;
+        for (int i = 0; i < assignment.length; i++) {
+            if (assignment[i] != AssignmentSolver.UNASSIGNED) {
+                total += cost[i][assignment[i]];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Asserts that {@code expectedAssigned} rows are assigned, each to a different column.
+     */
+    private static void assertValid(int[] assignment, int expectedAssigned) {
+        Set<Integer> columns = new HashSet<>();
+        for (int column : assignment) {
+            if (column != AssignmentSolver.UNASSIGNED) {
+                assertTrue(columns.add(column));
+            }
+        }
+        assertEquals(expectedAssigned, columns.size());
+    }
+}
@@ -0,0 +1,168 @@
+//@@author andyrobert3
+package seedu.addressbook.common;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.HttpResponseException;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.javatuples.Pair;
+import org.junit.Test;
+
+public class DistanceServiceTest {
+    private static final Location NUS = new Location(1.294166, 103.770730);
+    private static final Location NTU = new Location(1.346301, 103.682060);
+    private static final Location SMU = new Location(1.296057, 103.849865);
+
+    @Test
+    public void getMapsDistanceUrl_multipleOrigins() {
+        DistanceService service = new DistanceService("key", new HttpRestClient());
+        assertEquals("https://maps.googleapis.com/maps/api/distancematrix/json?"
+                + "origins=1.346301,103.68206|1.296057,103.849865&destinations=1.294166,103.77073&key=key",
+                service.getMapsDistanceUrl(Arrays.asList(NTU, SMU), NUS));
+    }
+
+    @Test
+    public void getEta_response_sortedQuickestFirst() throws Exception {
+        String json = "{\"rows\":[{\"elements\":[{\"duration\":{\"value\":1500,\"text\":\"25 mins\"}}]},"
+                + "{\"elements\":[{\"duration\":{\"value\":600,\"text\":\"10 mins\"}}]}]}";
+        DistanceService service = new DistanceService("key", new StubHttpRestClient(200, json));
+
+        List<Pair<Integer, String>> etas = service.getEta(Arrays.asList(NTU, SMU), NUS);
+
+        assertEquals(Arrays.asList(new Pair<>(600, "10 mins"), new Pair<>(1500, "25 mins")), etas);
+    }
+
+    @Test(expected = org.apache.http.client.HttpResponseException.class)
+    public void getEta_errorStatus_throwsException() throws Exception {
+        new DistanceService("key", new StubHttpRestClient(403, "{}")).getEta(Arrays.asList(NTU), NUS);
+    }
+
+    @Test
+    public void getEta_errorStatus_responseConsumed() throws Exception {
+        StubHttpRestClient client = new StubHttpRestClient(503, "Service Unavailable");
+        try {
+            new DistanceService("key", client).getEta(Arrays.asList(NTU), NUS);
+            fail("Expected HttpResponseException");
+        } catch (HttpResponseException hre) {
+            assertTrue(client.isContentClosed);
+        }
+    }
+
+    @Test
+    public void getEtaSecondsMatrix_response_inRequestOrder() throws Exception {
+        String json = "{\"status\":\"OK\",\"rows\":["
+                + "{\"elements\":[{\"status\":\"OK\",\"duration\":{\"value\":1500,\"text\":\"25 mins\"}},"
+                + "{\"status\":\"ZERO_RESULTS\"}]},"
+                + "{\"elements\":[{\"status\":\"OK\",\"duration\":{\"value\":600,\"text\":\"10 mins\"}},"
+                + "{\"status\":\"OK\",\"duration\":{\"value\":300,\"text\":\"5 mins\"}}]}]}";
+        DistanceService service = new DistanceService("key", new StubHttpRestClient(200, json));
+
+        long[][] etaSeconds = service.getEtaSecondsMatrix(Arrays.asList(NTU, SMU), Arrays.asList(NUS, SMU));
+
+        assertArrayEquals(new long[] {1500, EtaSource.UNKNOWN}, etaSeconds[0]);
+        assertArrayEquals(new long[] {600, 300}, etaSeconds[1]);
+    }
+
+    @Test
+    public void getEtaSecondsMatrix_manyDestinations_askedForInBlocks() throws Exception {
+        List<Location> destinations = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            destinations.add(new Location(1.0 + i / 1000.0, 103.0));
+        }
+        // Each destination is answered with an ETA of its index, read back from its latitude in the URL
+        StubHttpRestClient client = new StubHttpRestClient(200, url -> {
+            String[] coordinates = url.replaceAll(".*destinations=(.*)&key=.*", "$1").split("\\|");
+            StringBuilder elements = new StringBuilder();
+            for (String coordinate : coordinates) {
+                long index = Math.round((Double.parseDouble(coordinate.split(",")[0]) - 1.0) * 1000);
+                elements.append(elements.length() == 0 ? "" : ",")
+                        .append("{\"duration\":{\"value\":").append(index).append("}}");
+            }
+            return "{\"rows\":[{\"elements\":[" + elements + "]}]}";
+        });
+
+        long[][] etaSeconds = new DistanceService("key", client)
+                .getEtaSecondsMatrix(Collections.singletonList(NUS), destinations);
+
+        assertEquals(2, client.requestedUrls.size());
+        for (int i = 0; i < destinations.size(); i++) {
+            assertEquals(i, etaSeconds[0][i]);
+        }
+    }
+
+    @Test
+    public void getEtaSecondsMatrix_refused_throwsIoException() {
+        String json = "{\"status\":\"OVER_QUERY_LIMIT\",\"rows\":[]}";
+        try {
+            new DistanceService("key", new StubHttpRestClient(200, json))
+                    .getEtaSecondsMatrix(Arrays.asList(NTU), Arrays.asList(NUS));
+            fail("Expected IOException");
+        } catch (IOException ioe) {
+            assertTrue(ioe.getMessage().contains("OVER_QUERY_LIMIT"));
+        }
+    }
+
+    @Test
+    public void readApiKey_missingFile_null() {
+        assertNull(DistanceService.readApiKey(new File("no such file").toPath()));
+    }
+
+    @Test
+    public void location_valueSemantics() {
+        assertEquals(new Location(1.294166, 103.770730), NUS);
+        assertEquals(new Location(1.294166, 103.770730).hashCode(), NUS.hashCode());
+        assertEquals("https://www.google.com/maps/place/1.294166,103.77073", NUS.getGoogleMapsUrl());
+    }
+
+    /**
+     * Answers requests with a canned response instead of going over the network.
+     */
+    private static class StubHttpRestClient extends HttpRestClient {
+        private final int status;
+        private final Function<String, String> bodyOfUrl;
+        private final List<String> requestedUrls = new ArrayList<>();
+        private boolean isContentClosed;
+
+        StubHttpRestClient(int status, String body) {
+            this(status, url -> body);
+        }
+
+        StubHttpRestClient(int status, Function<String, String> bodyOfUrl) {
+            this.status = status;
+            this.bodyOfUrl = bodyOfUrl;
+        }
+
+        @Override
+        public HttpResponse requestGetResponse(String url) {
+            requestedUrls.add(url);
+            HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, status, "");
+            BasicHttpEntity entity = new BasicHttpEntity();
+            byte[] body = bodyOfUrl.apply(url).getBytes(StandardCharsets.UTF_8);
+            entity.setContent(new ByteArrayInputStream(body) {
+                @Override
+                public void close() {
+                    isContentClosed = true;
+                }
+            });
+            response.setEntity(entity);
+            return response;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+//@@author andyrobert3
+package seedu.addressbook.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.addressbook.timeanddate.ClockService;
+
+public class EtaMatrixTest {
+    /** 2 by 3 cells of 0.05 degrees, about 5.5 km. */
+    private static final PatrolGrid GRID = new PatrolGrid(1.3, 103.7, 1.4, 103.85, 0.05);
+    private static final Location IN_CELL_0 = new Location(1.31, 103.71);
+    private static final Location IN_CELL_5 = new Location(1.39, 103.84);
+    private static final long MAX_AGE_MILLIS = 60 * 60 * 1000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path path;
+
+    @Before
+    public void setup() {
+        path = folder.getRoot().toPath().resolve("etaMatrix.bin");
+        setTime(1000);
+    }
+
+    @After
+    public void tearDown() {
+        ClockService.resetClock();
+    }
+
+    @Test
+    public void patrolGrid_cellsAndCentres() {
+        assertEquals(6, GRID.getNumCells());
+        assertEquals(0, GRID.getCell(IN_CELL_0));
+        assertEquals(5, GRID.getCell(IN_CELL_5));
+        assertEquals(-1, GRID.getCell(new Location(1.29, 103.71)));
+        assertEquals(5, GRID.getCell(GRID.getCentre(5)));
+    }
+
+    @Test
+    public void lookup_notFetched_unknownAndEstimated() {
+        EtaMatrix matrix = EtaMatrix.inMemory(GRID, new EtaEstimator(60));
+
+        assertEquals(EtaMatrix.UNKNOWN, matrix.lookup(IN_CELL_0, IN_CELL_5));
+        assertEquals(new EtaEstimator().getEtaSeconds(IN_CELL_0, IN_CELL_5), matrix.getEtaSeconds(IN_CELL_0,
+                IN_CELL_5));
+    }
+
+    @Test
+    public void refreshStalest_cellToCellEtasFromSource() throws IOException {
+        EtaMatrix matrix = EtaMatrix.inMemory(GRID, new EtaEstimator(60));
+        assertEquals(6, matrix.refreshStalest(10, MAX_AGE_MILLIS));
+
+        int expected = new EtaEstimator(60).getEtaSeconds(GRID.getCentre(0), GRID.getCentre(5));
+        assertEquals(expected, matrix.lookup(0, 5));
+        assertEquals(expected, matrix.lookup(IN_CELL_0, IN_CELL_5));
+        assertEquals(expected, matrix.getEtaSeconds(IN_CELL_0, IN_CELL_5));
+        assertEquals(EtaMatrix.UNKNOWN, matrix.lookup(IN_CELL_0, IN_CELL_0));
+    }
+
+    @Test
+    public void refreshStalest_neverFetchedFirst_thenOldest() throws IOException {
+        CountingSource source = new CountingSource();
+        EtaMatrix matrix = EtaMatrix.inMemory(GRID, source);
+        assertEquals(4, matrix.refreshStalest(4, MAX_AGE_MILLIS));
+
+        setTime(2000);
+        assertEquals(2, matrix.refreshStalest(3, MAX_AGE_MILLIS));
+        assertEquals(2000, matrix.getFetchedAt(4));
+        assertEquals(2000, matrix.getFetchedAt(5));
+        assertEquals(0, matrix.refreshStalest(3, MAX_AGE_MILLIS));
+        assertEquals(6, source.numCalls);
+
+        setTime(1000 + MAX_AGE_MILLIS);
+        assertEquals(4, matrix.refreshStalest(6, MAX_AGE_MILLIS));
+        assertEquals(1000 + MAX_AGE_MILLIS, matrix.getFetchedAt(0));
+        assertEquals(2000, matrix.getFetchedAt(5));
+        assertEquals(7, matrix.lookup(0, 5));
+    }
+
+    @Test
+    public void refreshStalest_noRoute_estimated() throws IOException {
+        EtaMatrix matrix = EtaMatrix.inMemory(GRID, new CountingSource() {
+            @Override
+            public long[][] getEtaSecondsMatrix(List<Location> origins, List<Location> destinations)
+                    throws IOException {
+                long[][] etaSeconds = super.getEtaSecondsMatrix(origins, destinations);
+                etaSeconds[0][5] = EtaSource.UNKNOWN;
+                return etaSeconds;
+            }
+        });
+        matrix.refreshStalest(1, MAX_AGE_MILLIS);
+
+        assertEquals(1, matrix.lookup(0, 4));
+        assertEquals(EtaMatrix.UNKNOWN, matrix.lookup(0, 5));
+        assertEquals(new EtaEstimator().getEtaSeconds(IN_CELL_0, IN_CELL_5), matrix.getEtaSeconds(IN_CELL_0,
+                IN_CELL_5));
+    }
+
+    @Test
+    public void refreshStalest_sourceFails_fetchedCellsKept() {
+        EtaMatrix matrix = EtaMatrix.inMemory(GRID, new CountingSource() {
+            @Override
+            public long[][] getEtaSecondsMatrix(List<Location> origins, List<Location> destinations)
+                    throws IOException {
+                if (numCalls == 1) {
+                    throw new IOException("Over query limit");
+                }
+                return super.getEtaSecondsMatrix(origins, destinations);
+            }
+        });
+        try {
+            matrix.refreshStalest(3, MAX_AGE_MILLIS);
+            fail("Expected IOException");
+        } catch (IOException ioe) {
+            assertEquals(1000, matrix.getFetchedAt(0));
+            assertEquals(0, matrix.getFetchedAt(1));
+            assertEquals(1, matrix.lookup(0, 5));
+        }
+    }
+
+    @Test
+    public void open_reopened_etasSurvive() throws IOException {
+        EtaMatrix matrix = EtaMatrix.open(path, GRID, new EtaEstimator(60));
+        matrix.refreshStalest(2, MAX_AGE_MILLIS);
+        int eta = matrix.lookup(1, 5);
+
+        EtaMatrix reopened = EtaMatrix.open(path, GRID, new EtaEstimator(60));
+        assertEquals(eta, reopened.lookup(1, 5));
+        assertEquals(1000, reopened.getFetchedAt(1));
+        assertEquals(0, reopened.getFetchedAt(2));
+        assertEquals(EtaMatrix.UNKNOWN, reopened.lookup(2, 5));
+    }
+
+    @Test
+    public void open_otherGrid_startedAgain() throws IOException {
+        EtaMatrix.open(path, GRID, new EtaEstimator(60)).refreshStalest(6, MAX_AGE_MILLIS);
+
+        PatrolGrid finerGrid = new PatrolGrid(1.3, 103.7, 1.4, 103.85, 0.025);
+        EtaMatrix reopened = EtaMatrix.open(path, finerGrid, new EtaEstimator(60));
+        assertEquals(0, reopened.getFetchedAt(0));
+        assertEquals(EtaMatrix.UNKNOWN, reopened.lookup(0, 5));
+    }
+
+    @Test
+    public void open_otherSource_startedAgain() throws IOException {
+        EtaMatrix.open(path, GRID, new EtaEstimator(60)).refreshStalest(6, MAX_AGE_MILLIS);
+
+        EtaMatrix reopened = EtaMatrix.open(path, GRID, new CountingSource());
+        assertEquals(0, reopened.getFetchedAt(0));
+        assertEquals(EtaMatrix.UNKNOWN, reopened.lookup(0, 5));
+    }
+
+    @Test
+    public void startRefreshing_refreshesInBackground() throws InterruptedException {
+        EtaMatrix matrix = EtaMatrix.inMemory(GRID, new EtaEstimator(60));
+        matrix.startRefreshing(1, 2, MAX_AGE_MILLIS);
+        try {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (matrix.getFetchedAt(5) == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+        } finally {
+            matrix.stopRefreshing();
+        }
+        assertTrue(matrix.lookup(5, 0) > 0);
+    }
+
+    private static void setTime(long epochMilli) {
+        ClockService.setClock(Clock.fixed(Instant.ofEpochMilli(epochMilli), ZoneId.of("Asia/Singapore")));
+    }
+
+    /**
+     * Answers the n-th call, counting from 1, with an ETA of n seconds between every pair of locations.
+     */
+    private static class CountingSource implements EtaSource {
+        protected int numCalls = 0;
+
+        @Override
+        public long[][] getEtaSecondsMatrix(List<Location> origins, List<Location> destinations)
+                throws IOException {
+            numCalls++;
+            long[][] etaSeconds = new long[origins.size()][destinations.size()];
+            for (long[] row : etaSeconds) {
+                Arrays.fill(row, numCalls);
+            }
+            return etaSeconds;
+        }
+
+        @Override
+        public long getSignature() {
+            return 42;
+        }
+    }
+}
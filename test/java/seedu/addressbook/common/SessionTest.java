@@ -0,0 +1,58 @@
+//@@author andyrobert3
+package seedu.addressbook.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Test;
+
+import seedu.addressbook.password.Password;
+
+public class SessionTest {
+
+    @After
+    public void tearDown() {
+        Password.lockDevice();
+    }
+
+    @Test
+    public void of_sameUser_sameSession() {
+        assertSame(Session.of(PatrolResourceStatus.POLICE_OFFICER_1_ID),
+                Session.of(PatrolResourceStatus.POLICE_OFFICER_1_ID));
+    }
+
+    @Test
+    public void getDisplayName_knownAndNewUsers() {
+        assertEquals(Password.MESSAGE_HQP, Session.of(PatrolResourceStatus.HEADQUARTER_PERSONNEL_ID).getDisplayName());
+        assertEquals(Password.MESSAGE_PO + Password.MESSAGE_TWO,
+                Session.of(PatrolResourceStatus.POLICE_OFFICER_2_ID).getDisplayName());
+        assertEquals(Password.MESSAGE_PO + "po9", Session.of("po9").getDisplayName());
+    }
+
+    @Test
+    public void isHqp() {
+        assertTrue(Session.of(PatrolResourceStatus.HEADQUARTER_PERSONNEL_ID).isHqp());
+        assertFalse(Session.of(PatrolResourceStatus.POLICE_OFFICER_3_ID).isHqp());
+        assertFalse(Session.NONE.isHqp());
+    }
+
+    @Test
+    public void getSession_console_followsConsoleLogin() {
+        SessionContext console = SessionContext.forConsole();
+        Password.lockDevice();
+        assertSame(Session.NONE, console.getSession());
+
+        Password.unlockHqp();
+        assertSame(Session.of(PatrolResourceStatus.HEADQUARTER_PERSONNEL_ID), console.getSession());
+    }
+
+    @Test
+    public void getSession_user_fixedIdentity() {
+        SessionContext session = SessionContext.forUser(PatrolResourceStatus.POLICE_OFFICER_4_ID);
+        Password.unlockHqp();
+        assertEquals(PatrolResourceStatus.POLICE_OFFICER_4_ID, session.getSession().getUserId());
+    }
+}
@@ -0,0 +1,100 @@
+//@@author andyrobert3
+package seedu.addressbook.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.DateOfBirth;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Nric;
+import seedu.addressbook.data.person.Offense;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.PostalCode;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.Status;
+
+public class NameIndexTest {
+    private NameIndex index;
+    private Person adamBrown;
+    private Person adaLee;
+    private Person bettyBrowne;
+
+    @Before
+    public void setup() throws Exception {
+        index = new NameIndex();
+        adamBrown = person("Adam Brown", "s1000001a");
+        adaLee = person("Ada Lee", "s1000002a");
+        bettyBrowne = person("Betty Browne", "s1000003a");
+        index.add(adamBrown);
+        index.add(adaLee);
+        index.add(bettyBrowne);
+    }
+
+    @Test
+    public void getTrigrams_wordsPadded() {
+        assertEquals(new HashSet<>(Arrays.asList("  a", " ad", "ada", "dam", "am ")),
+                NameIndex.getTrigrams("Adam", true));
+        assertEquals(new HashSet<>(Arrays.asList("  a", " ad", "ada")), NameIndex.getTrigrams(" ADA ", false));
+        assertTrue(NameIndex.getTrigrams("  ", false).isEmpty());
+    }
+
+    @Test
+    public void find_prefixOfEveryWord_bestMatchFirst() {
+        assertEquals(Arrays.asList(adamBrown, adaLee, bettyBrowne), index.find("ada bro", 10));
+        assertEquals(Collections.singletonList(adamBrown), index.find("ada bro", 1));
+    }
+
+    @Test
+    public void find_wholeName_exactMatchFirst() {
+        assertEquals(Arrays.asList(adaLee, adamBrown), index.find("Ada Lee", 10));
+        assertEquals(Arrays.asList(bettyBrowne, adamBrown), index.find("browne", 10));
+    }
+
+    @Test
+    public void find_misspeltName_stillFound() {
+        assertEquals(bettyBrowne, index.find("bety browne", 10).get(0));
+    }
+
+    @Test
+    public void find_noMatch_empty() {
+        assertTrue(index.find("zachary", 10).isEmpty());
+        assertTrue(index.find("", 10).isEmpty());
+        assertTrue(index.find("ada", 0).isEmpty());
+    }
+
+    @Test
+    public void remove_byNric_noLongerFound() throws Exception {
+        index.remove(person("Someone Else", "s1000002a"));
+
+        assertEquals(2, index.size());
+        assertEquals(Collections.singletonList(adamBrown), index.find("ada", 10));
+    }
+
+    @Test
+    public void find_manyPersons_topResultsOnly() throws Exception {
+        index.clear();
+        for (int i = 0; i < 50_000; i++) {
+            index.add(person("Person " + i, String.format("s%07da", i)));
+        }
+        Person tanAhKow = person("Tan Ah Kow", "t0000001a");
+        index.add(tanAhKow);
+
+        List<ReadOnlyPerson> found = index.find("tan ah", 5);
+        assertEquals(Collections.singletonList(tanAhKow), found);
+        assertEquals(5, index.find("person", 5).size());
+    }
+
+    private static Person person(String name, String nric) throws IllegalValueException {
+        return new Person(new Name(name), new Nric(nric), new DateOfBirth("1990"), new PostalCode("123456"),
+                new Status("clear"), new Offense(), new HashSet<>());
+    }
+}
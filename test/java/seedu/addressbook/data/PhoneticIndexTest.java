@@ -0,0 +1,89 @@
+//@@author andyrobert3
+package seedu.addressbook.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.DateOfBirth;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Nric;
+import seedu.addressbook.data.person.Offense;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.PostalCode;
+import seedu.addressbook.data.person.Status;
+
+public class PhoneticIndexTest {
+    private PhoneticIndex index;
+    private Person cesaroTan;
+    private Person cesarTan;
+    private Person johnSmith;
+
+    @Before
+    public void setup() throws Exception {
+        index = new PhoneticIndex();
+        cesaroTan = person("Cesaro Tan", "s1000001a");
+        cesarTan = person("Cesar Tan", "s1000002a");
+        johnSmith = person("John Smith", "s1000003a");
+        index.add(cesaroTan);
+        index.add(cesarTan);
+        index.add(johnSmith);
+    }
+
+    @Test
+    public void find_misspeltAsHeard_found() {
+        assertEquals(Arrays.asList(cesaroTan, cesarTan), index.find("Sesaro", 10));
+        assertEquals(Collections.singletonList(johnSmith), index.find("jon smyth", 10));
+    }
+
+    @Test
+    public void find_moreWordsSoundingAlikeFirst() throws Exception {
+        Person sesaroTan = person("Sesaro Tan", "s1000004a");
+        Person cesaroTam = person("Cesaro Tam", "s1000005a");
+        index.add(sesaroTan);
+        index.add(cesaroTam);
+
+        assertEquals(Arrays.asList(cesaroTan, cesarTan, sesaroTan, cesaroTam), index.find("cesaro tan", 10));
+        assertEquals(Arrays.asList(cesaroTan, cesarTan), index.find("cesaro tan", 2));
+    }
+
+    @Test
+    public void find_wordNeitherSoundingNorSpeltAlike_dropped() {
+        assertTrue(index.find("cesaro smith", 10).isEmpty());
+    }
+
+    @Test
+    public void find_noSoundAlike_empty() {
+        assertTrue(index.find("Kumar", 10).isEmpty());
+        assertTrue(index.find("123", 10).isEmpty());
+    }
+
+    @Test
+    public void remove_byNric_noLongerFound() throws Exception {
+        index.remove(person("Someone Else", "s1000001a"));
+
+        assertEquals(2, index.size());
+        assertEquals(Collections.singletonList(cesarTan), index.find("sesaro", 10));
+    }
+
+    @Test
+    public void update_renamed_reindexed() throws Exception {
+        index.update(person("Kesar Tan", "s1000002a"));
+
+        assertEquals(3, index.size());
+        assertEquals("Kesar Tan", index.find("kaesar", 10).get(0).getName().fullName);
+        assertEquals(Collections.singletonList(cesaroTan), index.find("cesar", 10));
+    }
+
+    private static Person person(String name, String nric) throws IllegalValueException {
+        return new Person(new Name(name), new Nric(nric), new DateOfBirth("1990"), new PostalCode("123456"),
+                new Status("clear"), new Offense(), new HashSet<>());
+    }
+}
@@ -0,0 +1,129 @@
+//@@author andyrobert3
+package seedu.addressbook.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.addressbook.common.Location;
+import seedu.addressbook.common.PatrolGrid;
+import seedu.addressbook.common.PostalCodeTable;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.DateOfBirth;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Nric;
+import seedu.addressbook.data.person.Offense;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.PostalCode;
+import seedu.addressbook.data.person.Status;
+
+public class ProximityIndexTest {
+    private static final Location CITY = new Location(1.2840, 103.8510);
+
+    private ProximityIndex index;
+
+    @Before
+    public void setup() throws IOException {
+        PostalCodeTable postalCodes = new PostalCodeTable(new BufferedReader(new StringReader(
+                "01,1.2840,103.8510\n"
+                + "05,1.2860,103.8460\n"
+                + "44,1.3000,103.8950\n"
+                + "77,1.3650,103.8250\n"
+                + "010001,1.2900,103.8510\n")));
+        index = new ProximityIndex(PatrolGrid.SINGAPORE, postalCodes);
+    }
+
+    @Test
+    public void findNearby_nearestFirst() throws Exception {
+        Person far = person("s1000001a", "440001", "xc");
+        Person near = person("s1000002a", "050001", "wanted");
+        Person nearest = person("s1000003a", "010002", "xc");
+        index.add(far);
+        index.add(near);
+        index.add(nearest);
+
+        assertEquals(Arrays.asList(nearest, near, far), index.findNearby(CITY, 10, false));
+        assertEquals(Collections.singletonList(nearest), index.findNearby(CITY, 0.1, false));
+    }
+
+    @Test
+    public void findNearby_exactPostalCodeBeforeSector() throws Exception {
+        Person exact = person("s1000001a", "010001", "xc");
+        index.add(exact);
+
+        assertTrue(index.findNearby(CITY, 0.5, false).isEmpty());
+        assertEquals(Collections.singletonList(exact), index.findNearby(CITY, 1, false));
+    }
+
+    @Test
+    public void findNearby_wantedOnly_leavesOutExConvicts() throws Exception {
+        Person wanted = person("s1000001a", "050001", "wanted");
+        index.add(person("s1000002a", "010002", "xc"));
+        index.add(wanted);
+
+        assertEquals(Collections.singletonList(wanted), index.findNearby(CITY, 5, true));
+        assertEquals(2, index.findNearby(CITY, 5, false).size());
+    }
+
+    @Test
+    public void add_clearOrUnlocatable_notIndexed() throws Exception {
+        index.add(person("s1000001a", "010002", "clear"));
+        index.add(person("s1000002a", "990001", "xc"));
+
+        assertEquals(0, index.size());
+        assertTrue(index.findNearby(CITY, 100, false).isEmpty());
+    }
+
+    @Test
+    public void update_movedAndCleared_reindexed() throws Exception {
+        Person person = person("s1000001a", "010002", "xc");
+        index.add(person);
+
+        person.setPostalCode(new PostalCode("770001"));
+        index.update(person);
+        assertTrue(index.findNearby(CITY, 1, false).isEmpty());
+        assertEquals(Collections.singletonList(person), index.findNearby(new Location(1.3650, 103.8250), 1, false));
+
+        person.setStatus(new Status("clear"));
+        index.update(person);
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void remove_byNric() throws Exception {
+        Person person = person("s1000001a", "010002", "xc");
+        index.add(person);
+        index.remove(new Person(person));
+
+        assertEquals(0, index.size());
+        assertFalse(index.findNearby(CITY, 5, false).contains(person));
+    }
+
+    @Test
+    public void findNearby_manyPersons_onlyNearbyCellsScanned() throws Exception {
+        String[] postalCodes = {"010002", "050001", "440001", "770001"};
+        for (int i = 0; i < 100_000; i++) {
+            index.add(person(String.format("s%07da", i), postalCodes[i % postalCodes.length], "xc"));
+        }
+
+        List<?> nearby = index.findNearby(new Location(1.3650, 103.8250), 1, false);
+        assertEquals(25_000, nearby.size());
+    }
+
+    private static Person person(String nric, String postalCode, String status) throws IllegalValueException {
+        Offense wantedFor = "wanted".equals(status) ? new Offense("theft") : new Offense();
+        return new Person(new Name("Person " + nric), new Nric(nric), new DateOfBirth("1990"),
+                new PostalCode(postalCode), new Status(status), wantedFor, new HashSet<>());
+    }
+}
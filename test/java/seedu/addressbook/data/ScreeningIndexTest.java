@@ -0,0 +1,186 @@
+//@@author andyrobert3
+package seedu.addressbook.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.addressbook.data.ScreeningIndex.Screening;
+import seedu.addressbook.readandwrite.ScreeningLog;
+import seedu.addressbook.readandwrite.ScreeningLogPolicy;
+import seedu.addressbook.timeanddate.ClockService;
+
+public class ScreeningIndexTest {
+    private static final String HQP = "Headquarters Personnel";
+    private static final String PO3 = "Police Officer Tango Hotel Romeo Echo Echo";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File file;
+    private ScreeningLog log;
+    private ScreeningIndex index;
+
+    @Before
+    public void setup() throws Exception {
+        ClockService.setClock(Clock.fixed(Instant.parse("2018-11-01T00:00:00Z"), ZoneId.of("Asia/Singapore")));
+        file = folder.newFile("screeningHistory.txt");
+        append("s8012345a 20/10/2018-1611hrs " + HQP,
+                "s8012345a 28/10/2018-0302hrs " + PO3,
+                "s1234567a 28/10/2018-0302hrs " + HQP,
+                "s1234567a 29/10/2018-1245hrs " + PO3,
+                "s8012345a 29/10/2018-2232hrs " + PO3,
+                "s8012345a 01/11/2018-2202hrs " + HQP);
+        log = new ScreeningLog(file, ScreeningLogPolicy.defaultPolicy());
+        index = new ScreeningIndex(log);
+        index.refresh();
+    }
+
+    @After
+    public void tearDown() {
+        ClockService.resetClock();
+    }
+
+    @Test
+    public void getScreenings_betweenTimes_earliestFirst() {
+        assertEquals(6, index.size());
+        assertEquals(Arrays.asList("s8012345a 28/10/2018-0302hrs by " + PO3, "s1234567a 28/10/2018-0302hrs by " + HQP,
+                "s1234567a 29/10/2018-1245hrs by " + PO3),
+                toStrings(index.getScreenings(null, time("28/10/2018-0302"), time("29/10/2018-2232"))));
+        assertTrue(index.getScreenings(null, time("29/10/2018-2232"), time("29/10/2018-2232")).isEmpty());
+    }
+
+    @Test
+    public void getScreenings_byOfficer_onlyTheirs() {
+        assertEquals(Arrays.asList("s8012345a 28/10/2018-0302hrs by " + PO3, "s1234567a 29/10/2018-1245hrs by " + PO3,
+                "s8012345a 29/10/2018-2232hrs by " + PO3),
+                toStrings(index.getScreenings(PO3, time("01/10/2018-0000"), time("01/12/2018-0000"))));
+        assertTrue(index.getScreenings("Ghost", time("01/10/2018-0000"), time("01/12/2018-0000")).isEmpty());
+    }
+
+    @Test
+    public void getMostScreened_mostFirstThenAlphabetical() {
+        assertEquals(Arrays.asList(entry("s8012345a", 4), entry("s1234567a", 2)),
+                index.getMostScreened(null, time("01/10/2018-0000"), time("01/12/2018-0000"), 5));
+        assertEquals(Arrays.asList(entry("s1234567a", 1)),
+                index.getMostScreened(HQP, time("28/10/2018-0000"), time("29/10/2018-0000"), 1));
+        assertEquals(Arrays.asList(entry("s1234567a", 1), entry("s8012345a", 1)),
+                index.getMostScreened(null, time("28/10/2018-0000"), time("29/10/2018-0000"), 2));
+    }
+
+    @Test
+    public void refresh_appended_onlyNewLinesIndexed() throws Exception {
+        append("s1234567a 02/11/2018-0900hrs " + PO3);
+        index.refresh();
+        index.refresh();
+
+        assertEquals(7, index.size());
+        assertEquals(1, index.getScreenings(null, time("02/11/2018-0000"), time("03/11/2018-0000")).size());
+    }
+
+    @Test
+    public void refresh_lineBeingWritten_leftForLater() throws Exception {
+        try (PrintWriter writer = new PrintWriter(new FileWriter(file, true))) {
+            writer.print("s1234567a 02/11/2018-0900hrs ");
+        }
+        index.refresh();
+        assertEquals(6, index.size());
+
+        append(PO3);
+        index.refresh();
+        assertEquals(Arrays.asList("s1234567a 02/11/2018-0900hrs by " + PO3),
+                toStrings(index.getScreenings(PO3, time("02/11/2018-0000"), time("03/11/2018-0000"))));
+    }
+
+    @Test
+    public void refresh_malformedOrFileReplaced_reindexed() throws Exception {
+        assertFalse(index.addLine("s1234567a yesterday " + HQP));
+        assertFalse(index.addLine("s1234567a 02/11/2018-0900hrs null"));
+
+        try (PrintWriter writer = new PrintWriter(new FileWriter(file))) {
+            writer.println("s7654321a 05/11/2018-1000hrs " + HQP);
+        }
+        index.refresh();
+
+        assertEquals(1, index.size());
+        assertEquals("s7654321a", index.getScreenings(null, time("01/10/2018-0000"), time("01/12/2018-0000"))
+                .get(0).getNric());
+    }
+
+    @Test
+    public void refresh_fileSealedIntoSegment_segmentStillIndexed() throws Exception {
+        log.rotate();
+        log.append("s1234567a 02/11/2018-0900hrs " + PO3);
+        index.refresh();
+
+        assertEquals(7, index.size());
+        assertEquals(Arrays.asList("s1234567a 29/10/2018-1245hrs by " + PO3, "s8012345a 29/10/2018-2232hrs by " + PO3,
+                "s1234567a 02/11/2018-0900hrs by " + PO3),
+                toStrings(index.getScreenings(PO3, time("29/10/2018-0000"), time("03/11/2018-0000"))));
+
+        ScreeningIndex reopened = new ScreeningIndex(new ScreeningLog(file, ScreeningLogPolicy.defaultPolicy()));
+        reopened.refresh();
+        assertEquals(7, reopened.size());
+    }
+
+    @Test
+    public void refresh_manyScreenings_rangeHoldsOnlyPeriod() throws Exception {
+        int numScreenings = 100000;
+        long start = time("01/11/2018-0000");
+        try (PrintWriter writer = new PrintWriter(new FileWriter(file))) {
+            for (int i = 0; i < numScreenings; i++) {
+                writer.println(String.format("s%07da %shrs %s", i % 1000,
+                        ClockService.formatForCheckCommand(start + i * 60000L), (i % 2 == 0) ? HQP : PO3));
+            }
+        }
+        index.refresh();
+
+        assertEquals(numScreenings, index.size());
+        assertEquals(60, index.getScreenings(null, start + 3600000L, start + 7200000L).size());
+        assertEquals(30, index.getScreenings(PO3, start + 3600000L, start + 7200000L).size());
+        assertEquals(entry("s0000000a", 100),
+                index.getMostScreened(null, start, start + numScreenings * 60000L, 1).get(0));
+    }
+
+    /**
+     * Appends {@code lines} to the screening history file.
+     */
+    private void append(String... lines) throws IOException {
+        try (PrintWriter writer = new PrintWriter(new FileWriter(file, true))) {
+            for (String line : lines) {
+                writer.println(line);
+            }
+        }
+    }
+
+    private static long time(String timestamp) {
+        return ClockService.parseForCheckCommand(timestamp);
+    }
+
+    private static Map.Entry<String, Integer> entry(String nric, int count) {
+        return new AbstractMap.SimpleImmutableEntry<>(nric, count);
+    }
+
+    private static List<String> toStrings(List<Screening> screenings) {
+        return screenings.stream().map(Screening::toString).collect(Collectors.toList());
+    }
+}
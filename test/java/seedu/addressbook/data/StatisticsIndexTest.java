@@ -0,0 +1,153 @@
+//@@author andyrobert3
+package seedu.addressbook.data;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.DateOfBirth;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Nric;
+import seedu.addressbook.data.person.Offense;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.PostalCode;
+import seedu.addressbook.data.person.Status;
+
+public class StatisticsIndexTest {
+    private static final int CURRENT_YEAR = 2018;
+
+    private StatisticsIndex index;
+    private Person wanted;
+    private Person exConvict;
+
+    @Before
+    public void setup() throws Exception {
+        index = new StatisticsIndex();
+        wanted = person("s1000001a", "1990", "510123", "wanted", "murder", "theft");
+        exConvict = person("s1000002a", "2005", "018956", "xc", "none", "theft", "riot");
+        index.add(wanted);
+        index.add(exConvict);
+    }
+
+    @Test
+    public void getStatistics_countsEveryDetail() {
+        PersonStatistics statistics = index.getStatistics();
+
+        assertEquals(2, statistics.getTotal());
+        assertEquals(counts("wanted", 1, "xc", 1), statistics.getByStatus());
+        assertEquals(counts("murder", 1), statistics.getByWantedFor());
+        assertEquals(counts("riot", 1, "theft", 2), statistics.getByPastOffense());
+        assertEquals(counts("D01", 1, "D18", 1), statistics.getByDistrict());
+        assertEquals(ageBands(1, 1, 0, 0, 0), statistics.getByAgeBand(CURRENT_YEAR));
+    }
+
+    @Test
+    public void getStatistics_postalCodeInNoDistrict_unknown() throws Exception {
+        index.add(person("s1000003a", "1950", "999999", "clear", "none"));
+
+        assertEquals(counts("D01", 1, "D18", 1, PersonStatistics.UNKNOWN_DISTRICT, 1),
+                index.getStatistics().getByDistrict());
+        assertEquals(ageBands(1, 1, 0, 0, 1), index.getStatistics().getByAgeBand(CURRENT_YEAR));
+    }
+
+    @Test
+    public void remove_byNric_noLongerCounted() throws Exception {
+        index.remove(person("s1000001a", "1900", "123456", "clear", "none"));
+        PersonStatistics statistics = index.getStatistics();
+
+        assertEquals(1, index.size());
+        assertEquals(1, statistics.getTotal());
+        assertEquals(counts("xc", 1), statistics.getByStatus());
+        assertEquals(counts(), statistics.getByWantedFor());
+        assertEquals(counts("riot", 1, "theft", 1), statistics.getByPastOffense());
+    }
+
+    @Test
+    public void update_changedInPlace_countedAgain() throws Exception {
+        exConvict.setStatus(new Status("wanted"));
+        exConvict.setWantedFor(new Offense("riot"));
+        index.update(exConvict);
+        PersonStatistics statistics = index.getStatistics();
+
+        assertEquals(2, statistics.getTotal());
+        assertEquals(counts("wanted", 2), statistics.getByStatus());
+        assertEquals(counts("murder", 1, "riot", 1), statistics.getByWantedFor());
+    }
+
+    @Test
+    public void getStatistics_copy_unchangedByLaterChanges() {
+        PersonStatistics before = index.getStatistics();
+        index.clear();
+
+        assertEquals(2, before.getTotal());
+        assertEquals(0, index.getStatistics().getTotal());
+        assertEquals(counts(), index.getStatistics().getByStatus());
+    }
+
+    @Test
+    public void of_parallel_sameAsCountedOneByOne() throws Exception {
+        String[] statuses = {"wanted", "xc", "clear"};
+        String[] offenses = {"none", "theft", "riot", "murder", "drugs"};
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            String status = statuses[i % statuses.length];
+            String wantedFor = status.equals("wanted") ? offenses[1 + i % 4] : offenses[i % offenses.length];
+            persons.add(person(String.format("s%07da", i), String.valueOf(1920 + i % 98),
+                    String.format("%02d%04d", i % 83, i % 10000), status, wantedFor, offenses[1 + i % 4]));
+        }
+        StatisticsIndex oneByOne = new StatisticsIndex();
+        persons.forEach(oneByOne::add);
+
+        PersonStatistics expected = oneByOne.getStatistics();
+        PersonStatistics actual = PersonStatistics.of(persons, person -> true);
+        assertEquals(expected.getTotal(), actual.getTotal());
+        assertEquals(expected.getByStatus(), actual.getByStatus());
+        assertEquals(expected.getByWantedFor(), actual.getByWantedFor());
+        assertEquals(expected.getByPastOffense(), actual.getByPastOffense());
+        assertEquals(expected.getByDistrict(), actual.getByDistrict());
+        assertEquals(expected.getByAgeBand(CURRENT_YEAR), actual.getByAgeBand(CURRENT_YEAR));
+
+        PersonStatistics wantedOnly = PersonStatistics.of(persons, person -> person.getStatus().isWanted());
+        assertEquals(counts("wanted", persons.size() / statuses.length + 1), wantedOnly.getByStatus());
+    }
+
+    /**
+     * Returns the counts of the keys followed by their counts in {@code keysAndCounts}, in order of key.
+     */
+    private static Map<String, Integer> counts(Object... keysAndCounts) {
+        Map<String, Integer> counts = new TreeMap<>();
+        for (int i = 0; i < keysAndCounts.length; i += 2) {
+            counts.put((String) keysAndCounts[i], (Integer) keysAndCounts[i + 1]);
+        }
+        return counts;
+    }
+
+    /**
+     * Returns {@code counts} by age band, youngest band first.
+     */
+    private static Map<String, Integer> ageBands(int... counts) {
+        String[] bands = {"under 18", "18-29", "30-44", "45-59", "60 and over"};
+        Map<String, Integer> ageBands = new LinkedHashMap<>();
+        for (int i = 0; i < bands.length; i++) {
+            ageBands.put(bands[i], counts[i]);
+        }
+        return ageBands;
+    }
+
+    private static Person person(String nric, String birthYear, String postalCode, String status, String wantedFor,
+                                 String... pastOffenses) throws IllegalValueException {
+        return new Person(new Name("Someone"), new Nric(nric), new DateOfBirth(birthYear), new PostalCode(postalCode),
+                new Status(status), new Offense(wantedFor),
+                Offense.getOffenseSet(new HashSet<>(Arrays.asList(pastOffenses))));
+    }
+}
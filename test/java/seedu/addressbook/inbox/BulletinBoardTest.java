@@ -0,0 +1,88 @@
+//@@author andyrobert3
+package seedu.addressbook.inbox;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BulletinBoardTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private BulletinBoard board;
+    private String po1Inbox;
+    private String po2Inbox;
+
+    @Before
+    public void setup() throws IOException {
+        board = new BulletinBoard(folder.getRoot().toPath().resolve("bulletins").toString());
+        po1Inbox = folder.newFile("PO1").getPath();
+        po2Inbox = folder.newFile("PO2").getPath();
+    }
+
+    @Test
+    public void loadBulletins_noBulletinsSent_empty() throws IOException {
+        assertTrue(board.loadBulletins(po1Inbox).isEmpty());
+    }
+
+    @Test
+    public void broadcast_writtenOnce_seenByEveryInbox() throws IOException {
+        board.broadcast(new Msg(Msg.Priority.HIGH, "Roadblock"));
+
+        for (String inbox : new String[] {po1Inbox, po2Inbox}) {
+            List<Msg> bulletins = board.loadBulletins(inbox);
+            assertEquals(1, bulletins.size());
+            assertEquals("Roadblock", bulletins.get(0).getMsg());
+            assertTrue(bulletins.get(0).isBulletin());
+            assertFalse(bulletins.get(0).hasBeenRead());
+        }
+        assertEquals(0, Files.size(Paths.get(po1Inbox)));
+    }
+
+    @Test
+    public void markRead_onlyThatInbox() throws IOException {
+        board.broadcast(new Msg(Msg.Priority.HIGH, "first"));
+        board.broadcast(new Msg(Msg.Priority.LOW, "second"));
+        board.markRead(po1Inbox, 1);
+
+        List<Msg> po1Bulletins = board.loadBulletins(po1Inbox);
+        assertFalse(po1Bulletins.get(0).hasBeenRead());
+        assertTrue(po1Bulletins.get(1).hasBeenRead());
+        assertFalse(board.loadBulletins(po2Inbox).get(1).hasBeenRead());
+    }
+
+    @Test
+    public void clear_hidesEarlierBulletinsOnly() throws IOException {
+        board.broadcast(new Msg(Msg.Priority.HIGH, "before"));
+        board.clear(po1Inbox);
+        board.broadcast(new Msg(Msg.Priority.HIGH, "after"));
+
+        List<Msg> po1Bulletins = board.loadBulletins(po1Inbox);
+        assertEquals(1, po1Bulletins.size());
+        assertEquals("after", po1Bulletins.get(0).getMsg());
+        assertEquals(2, board.loadBulletins(po2Inbox).size());
+    }
+
+    @Test
+    public void clearAll_forgetsLogAndReadState() throws IOException {
+        board.broadcast(new Msg(Msg.Priority.HIGH, "old"));
+        board.markRead(po1Inbox, 0);
+        board.clearAll(po1Inbox, po2Inbox);
+        board.broadcast(new Msg(Msg.Priority.HIGH, "new"));
+
+        List<Msg> po1Bulletins = board.loadBulletins(po1Inbox);
+        assertEquals(1, po1Bulletins.size());
+        assertFalse(po1Bulletins.get(0).hasBeenRead());
+    }
+}
@@ -0,0 +1,76 @@
+//@@author andyrobert3
+package seedu.addressbook.inbox;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class InboxEventsTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private String inboxPath;
+    private List<Integer> shownCounts;
+    private UnreadCounter counter;
+
+    @Before
+    public void setup() throws IOException {
+        inboxPath = folder.newFile("PO1").getPath();
+        shownCounts = new ArrayList<>();
+        counter = new UnreadCounter(2, shownCounts::add);
+        InboxEvents.subscribe(inboxPath, counter);
+        BulletinBoard.setDefaultLogPath(folder.getRoot().toPath().resolve("bulletins").toString());
+    }
+
+    @After
+    public void tearDown() {
+        InboxEvents.unsubscribe(inboxPath, counter);
+        BulletinBoard.resetDefaultLogPath();
+    }
+
+    @Test
+    public void writeToFile_unreadMessage_countedWithoutReading() throws IOException {
+        new NotificationWriter(inboxPath, true).writeToFile(new Msg(Msg.Priority.HIGH, "Backup needed"));
+        assertEquals(3, counter.getNumUnreadMsgs());
+        assertEquals(3, (int) shownCounts.get(0));
+    }
+
+    @Test
+    public void broadcast_countedInEveryInbox() throws IOException {
+        BulletinBoard board = new BulletinBoard(folder.getRoot().toPath().resolve("bulletins").toString());
+        board.broadcast(new Msg(Msg.Priority.HIGH, "Roadblock"));
+        assertEquals(3, counter.getNumUnreadMsgs());
+    }
+
+    @Test
+    public void clearInbox_countReset() throws IOException {
+        NotificationWriter.clearInbox(inboxPath);
+        assertEquals(0, counter.getNumUnreadMsgs());
+    }
+
+    @Test
+    public void messageRead_countDecreasedButNotBelowZero() {
+        Msg message = new Msg(Msg.Priority.LOW, "FYI");
+        counter.messageRead(message);
+        counter.messageRead(message);
+        counter.messageRead(message);
+        assertEquals(0, counter.getNumUnreadMsgs());
+    }
+
+    @Test
+    public void unsubscribe_noLongerCounted() throws IOException {
+        InboxEvents.unsubscribe(inboxPath, counter);
+        new NotificationWriter(inboxPath, true).writeToFile(new Msg(Msg.Priority.HIGH, "Backup needed"));
+        assertEquals(2, counter.getNumUnreadMsgs());
+        assertEquals(0, shownCounts.size());
+    }
+}
@@ -0,0 +1,94 @@
+//@@author andyrobert3
+package seedu.addressbook.inbox;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+public class TriageQueueTest {
+    private static final long NOW = 1_541_000_000_000L;
+
+    private final TriageQueue queue = new TriageQueue();
+
+    @Test
+    public void getRequests_higherPriorityFirst() {
+        queue.add("po1", "theft", request(Msg.Priority.LOW, NOW));
+        queue.add("po2", "gun", request(Msg.Priority.HIGH, NOW + 1));
+        queue.add("po3", "riot", request(Msg.Priority.MED, NOW + 2));
+
+        assertEquals(Arrays.asList("po2", "po3", "po1"), getRequesterIds());
+    }
+
+    @Test
+    public void getRequests_samePriority_earlierFirst() {
+        queue.add("po1", "gun", request(Msg.Priority.HIGH, NOW + 5));
+        queue.add("po2", "gun", request(Msg.Priority.HIGH, NOW));
+        queue.add("po3", "gun", request(Msg.Priority.HIGH, NOW));
+
+        assertEquals(Arrays.asList("po2", "po3", "po1"), getRequesterIds());
+    }
+
+    @Test
+    public void peek_longWaitingRequest_agesAheadOfNewerUrgentOne() {
+        queue.add("po1", "theft", request(Msg.Priority.MED, NOW));
+        queue.add("po2", "gun", request(Msg.Priority.HIGH, NOW + TriageQueue.AGING_MILLIS + 1));
+
+        assertEquals("po1", queue.peek().getRequesterId());
+    }
+
+    @Test
+    public void peek_leavesRequestQueued() {
+        assertNull(queue.peek());
+        queue.add("po1", "theft", request(Msg.Priority.LOW, NOW));
+        queue.add("po2", "gun", request(Msg.Priority.HIGH, NOW + 1));
+
+        assertEquals("po2", queue.peek().getRequesterId());
+        assertEquals(2, queue.size());
+        assertEquals("po2", queue.remove("po2", "gun").getRequesterId());
+        assertEquals("po1", queue.peek().getRequesterId());
+    }
+
+    @Test
+    public void remove_onlyThatRequester() {
+        queue.add("po1", "gun", request(Msg.Priority.HIGH, NOW));
+        queue.add("po2", "gun", request(Msg.Priority.HIGH, NOW));
+
+        assertEquals("po2", queue.remove("PO2", "gun").getRequesterId());
+        assertNull(queue.remove("po2", "gun"));
+        assertEquals(1, queue.size());
+        assertEquals("po1", queue.getRequests().get(0).getRequesterId());
+    }
+
+    @Test
+    public void remove_onlyThatOffense() {
+        queue.add("po1", "theft", request(Msg.Priority.LOW, NOW));
+        queue.add("po1", "gun", request(Msg.Priority.HIGH, NOW + 1));
+
+        assertEquals("theft", queue.remove("po1", "theft").getOffense());
+        assertNull(queue.remove("po1", "theft"));
+        assertEquals("gun", queue.peek().getOffense());
+    }
+
+    /**
+     * Returns the requesters of the open requests, most urgent first.
+     */
+    private List<String> getRequesterIds() {
+        return queue.getRequests().stream().map(TriageQueue.Request::getRequesterId).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns a backup request of {@code priority} sent at {@code requestedAt}.
+     */
+    private static Msg request(Msg.Priority priority, long requestedAt) {
+        Msg message = new Msg();
+        message.setPriority(priority);
+        message.setTime(new Timestamp(requestedAt));
+        return message;
+    }
+}
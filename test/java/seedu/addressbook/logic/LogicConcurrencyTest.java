@@ -0,0 +1,222 @@
+//@@author andyrobert3
+package seedu.addressbook.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.addressbook.commands.AddCommand;
+import seedu.addressbook.commands.Command;
+import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.common.PatrolResourceStatus;
+import seedu.addressbook.common.SessionContext;
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.DateOfBirth;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Nric;
+import seedu.addressbook.data.person.Offense;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.PostalCode;
+import seedu.addressbook.data.person.Status;
+import seedu.addressbook.password.Password;
+import seedu.addressbook.storage.StorageFile;
+
+/**
+ * Stress tests for several sessions sharing one set of records.
+ */
+public class LogicConcurrencyTest {
+
+    private static final int TIMEOUT_SECONDS = 10;
+
+    @Rule
+    public TemporaryFolder saveFolder = new TemporaryFolder();
+
+    private StorageFile saveFile;
+    private AddressBook addressBook;
+    private Logic logic;
+    private ExecutorService executor;
+
+    @Before
+    public void setup() throws Exception {
+        saveFile = new StorageFile(saveFolder.newFile("testSaveFile.txt").getPath());
+        addressBook = new AddressBook();
+        saveFile.save(addressBook);
+        logic = new Logic(saveFile, addressBook);
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void readers_runConcurrently() throws Exception {
+        final int numReaders = 4;
+        CyclicBarrier allReadersInside = new CyclicBarrier(numReaders);
+
+        // Each reader waits inside its command until every other reader is inside too,
+        // which can only happen if reads are not serialised.
+        List<Callable<CommandResult>> readers = new ArrayList<>();
+        for (int i = 0; i < numReaders; i++) {
+            Logic session = logic.openSession(SessionContext.forUser(PatrolResourceStatus.POLICE_OFFICER_1_ID));
+            readers.add(() -> session.execute(new ReadCommand(() -> {
+                allReadersInside.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                return "";
+            })));
+        }
+        for (Future<CommandResult> result : executor.invokeAll(readers)) {
+            result.get();
+        }
+    }
+
+    @Test
+    public void readers_throughputScalesWithThreads() throws Exception {
+        final int readsPerThread = 50;
+        timeReads(1, readsPerThread); // warm up, including the first save of the records
+        long singleThreadNanos = timeReads(1, readsPerThread);
+        long fourThreadNanos = timeReads(4, readsPerThread);
+
+        // Four threads perform four times the work; with shared reads they should finish in well under that.
+        assertTrue("4 readers took " + fourThreadNanos + "ns, 1 reader took " + singleThreadNanos + "ns",
+                fourThreadNanos < 2 * singleThreadNanos);
+    }
+
+    @Test
+    public void writers_areSerialised() throws Exception {
+        final int numWriters = 4;
+        final int writesPerThread = 25;
+        AtomicInteger writersInside = new AtomicInteger();
+        AtomicBoolean isOverlapping = new AtomicBoolean(false);
+
+        List<Callable<Void>> writers = new ArrayList<>();
+        for (int i = 0; i < numWriters; i++) {
+            final int writer = i;
+            Logic session = logic.openSession(SessionContext.forUser(PatrolResourceStatus.HEADQUARTER_PERSONNEL_ID));
+            writers.add(() -> {
+                for (int j = 0; j < writesPerThread; j++) {
+                    Person person = generatePerson(writer * writesPerThread + j);
+                    session.execute(new AddCommand(person) {
+                        @Override
+                        public CommandResult execute() {
+                            if (writersInside.incrementAndGet() > 1) {
+                                isOverlapping.set(true);
+                            }
+                            CommandResult result = super.execute();
+                            writersInside.decrementAndGet();
+                            return result;
+                        }
+                    });
+                    session.execute(new ReadCommand(() -> {
+                        if (writersInside.get() > 0) {
+                            isOverlapping.set(true);
+                        }
+                        return "";
+                    }));
+                }
+                return null;
+            });
+        }
+        for (Future<Void> result : executor.invokeAll(writers)) {
+            result.get();
+        }
+
+        assertFalse(isOverlapping.get());
+        assertEquals(numWriters * writesPerThread, addressBook.getAllPersons().immutableListView().size());
+        assertEquals(addressBook, saveFile.load());
+    }
+
+    @Test
+    public void sessions_haveSeparateIdentityAndLastShownList() throws Exception {
+        addressBook.addPerson(generatePerson(1));
+        Logic po1 = logic.openSession(SessionContext.forUser(PatrolResourceStatus.POLICE_OFFICER_1_ID));
+        Logic po2 = logic.openSession(SessionContext.forUser(PatrolResourceStatus.POLICE_OFFICER_2_ID));
+
+        po1.execute("list");
+        assertEquals(1, po1.getLastShownList().size());
+        assertEquals(Collections.emptyList(), po2.getLastShownList());
+
+        assertEquals(PatrolResourceStatus.POLICE_OFFICER_1_ID,
+                po1.execute(new ReadCommand(Password::getId)).feedbackToUser);
+        assertEquals(PatrolResourceStatus.POLICE_OFFICER_2_ID,
+                po2.execute(new ReadCommand(Password::getId)).feedbackToUser);
+    }
+
+    /**
+     * Returns the time taken for {@code numThreads} sessions to each perform {@code readsPerThread} reads.
+     */
+    private long timeReads(int numThreads, int readsPerThread) throws Exception {
+        List<Callable<Void>> readers = new ArrayList<>();
+        for (int i = 0; i < numThreads; i++) {
+            Logic session = logic.openSession(SessionContext.forUser(PatrolResourceStatus.POLICE_OFFICER_1_ID));
+            readers.add(() -> {
+                for (int j = 0; j < readsPerThread; j++) {
+                    session.execute(new ReadCommand(() -> {
+                        Thread.sleep(1);
+                        return "";
+                    }));
+                }
+                return null;
+            });
+        }
+        long start = System.nanoTime();
+        for (Future<Void> result : executor.invokeAll(readers)) {
+            result.get();
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Generates a valid person unique to the given seed.
+     */
+    private Person generatePerson(int seed) throws Exception {
+        return new Person(
+                new Name("Person " + seed),
+                new Nric("g" + String.format("%07d", seed) + "t"),
+                new DateOfBirth("1990"),
+                new PostalCode("777777"),
+                new Status("xc"),
+                new Offense(),
+                new HashSet<>(Arrays.asList(new Offense("theft"))));
+    }
+
+    /**
+     * A command that only reads, running the given action while it holds the records.
+     */
+    private static class ReadCommand extends Command {
+        private final Callable<String> action;
+
+        ReadCommand(Callable<String> action) {
+            this.action = action;
+        }
+
+        @Override
+        public CommandResult execute() {
+            try {
+                return new CommandResult(action.call());
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
@@ -34,6 +34,9 @@ import static seedu.addressbook.password.Password.unlockPo;
 import java.io.IOException;
 import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -45,6 +48,7 @@ import java.util.Set;
 import java.util.StringJoiner;
 import java.util.concurrent.ThreadLocalRandom;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -54,6 +58,7 @@ import org.junit.rules.TemporaryFolder;
 import seedu.addressbook.autocorrect.AutoCorrect;
 import seedu.addressbook.autocorrect.CheckDistance;
 import seedu.addressbook.commands.AddCommand;
+import seedu.addressbook.commands.BroadcastCommand;
 import seedu.addressbook.commands.CheckCommand;
 import seedu.addressbook.commands.CheckPoStatusCommand;
 import seedu.addressbook.commands.ClearCommand;
@@ -63,20 +68,28 @@ import seedu.addressbook.commands.CommandResult;
 import seedu.addressbook.commands.DateTimeCommand;
 import seedu.addressbook.commands.DeleteCommand;
 import seedu.addressbook.commands.Dictionary;
+import seedu.addressbook.commands.DispatchBatchCommand;
 import seedu.addressbook.commands.DispatchCommand;
 import seedu.addressbook.commands.EditCommand;
 import seedu.addressbook.commands.FindCommand;
+import seedu.addressbook.commands.FindNameCommand;
 import seedu.addressbook.commands.HelpCommand;
 import seedu.addressbook.commands.InboxCommand;
 import seedu.addressbook.commands.IncorrectCommand;
 import seedu.addressbook.commands.ListCommand;
 import seedu.addressbook.commands.LogoutCommand;
+import seedu.addressbook.commands.NearbyCommand;
+import seedu.addressbook.commands.NextCommand;
+import seedu.addressbook.commands.QueueCommand;
 import seedu.addressbook.commands.ReadCommand;
 import seedu.addressbook.commands.RequestHelpCommand;
+import seedu.addressbook.commands.ScreeningsCommand;
 import seedu.addressbook.commands.ShowUnreadCommand;
 import seedu.addressbook.commands.ShutdownCommand;
+import seedu.addressbook.commands.StatsCommand;
 import seedu.addressbook.commands.UpdateStatusCommand;
 import seedu.addressbook.commands.ViewAllCommand;
+import seedu.addressbook.common.EtaEstimator;
 import seedu.addressbook.common.HttpRestClient;
 import seedu.addressbook.common.Location;
 import seedu.addressbook.common.Messages;
@@ -91,13 +104,16 @@ import seedu.addressbook.data.person.Person;
 import seedu.addressbook.data.person.PostalCode;
 import seedu.addressbook.data.person.ReadOnlyPerson;
 import seedu.addressbook.data.person.Status;
+import seedu.addressbook.inbox.BulletinBoard;
 import seedu.addressbook.inbox.Inbox;
 import seedu.addressbook.inbox.MessageFilePaths;
 import seedu.addressbook.inbox.Msg;
 import seedu.addressbook.inbox.NotificationReader;
 import seedu.addressbook.inbox.NotificationWriter;
+import seedu.addressbook.inbox.TriageQueue;
 import seedu.addressbook.password.Password;
 import seedu.addressbook.storage.StorageFile;
+import seedu.addressbook.timeanddate.ClockService;
 import seedu.addressbook.timeanddate.TimeAndDate;
 import seedu.addressbook.ui.UiFormatter;
 
@@ -123,6 +139,12 @@ public class LogicTest {
         addressBook = new AddressBook();
         saveFile.save(addressBook);
         logic = new Logic(saveFile, addressBook);
+        BulletinBoard.setDefaultLogPath(saveFolder.getRoot().toPath().resolve("bulletins").toString());
+    }
+
+    @After
+    public void teardown() {
+        BulletinBoard.resetDefaultLogPath();
     }
 
     @Test
@@ -480,6 +502,58 @@ public class LogicTest {
                               expectedList);
     }
 
+    //@@author andyrobert3
+    @Test
+    public void execute_listPaged_showsPageThenNextPage() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Person p1 = helper.generatePerson(1);
+        Person p2 = helper.generatePerson(2);
+        Person p3 = helper.generatePerson(3);
+        AddressBook expectedAb = helper.generateAddressBook(helper.generatePersonList(p1, p2, p3));
+        helper.addToAddressBook(addressBook, helper.generatePersonList(p1, p2, p3));
+
+        assertCommandBehavior("list --page 1 --size 2",
+                              "\n\n" + String.format(ListCommand.MESSAGE_PAGE_OVERVIEW, 1, 2, 1, 2, 3),
+                              expectedAb,
+                              true,
+                              helper.generatePersonList(p1, p2));
+
+        assertCommandBehavior("list --next",
+                              "\n\n" + String.format(ListCommand.MESSAGE_PAGE_OVERVIEW, 2, 2, 3, 3, 3),
+                              expectedAb,
+                              true,
+                              helper.generatePersonList(p3));
+
+        // indexes refer to the page last shown
+        assertCommandBehavior("viewall 1",
+                              String.format(ViewAllCommand.MESSAGE_VIEW_PERSON_DETAILS, p3.getAsTextShowAll()),
+                              expectedAb,
+                              false,
+                              helper.generatePersonList(p3));
+
+        assertCommandBehavior("list --next", ListCommand.MESSAGE_NO_MORE_PAGES, expectedAb, false,
+                              helper.generatePersonList(p3));
+    }
+
+    @Test
+    public void execute_listPaged_noSuchPage() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        AddressBook expectedAb = helper.generateAddressBook(false, false);
+        helper.addToAddressBook(addressBook, false, false);
+
+        assertCommandBehavior("list --page 3 --size 1",
+                              String.format(ListCommand.MESSAGE_NO_SUCH_PAGE, 3, 2, 1),
+                              expectedAb,
+                              false,
+                              Collections.emptyList());
+    }
+
+    @Test
+    public void execute_listNext_notPaging() throws Exception {
+        assertCommandBehavior("list --next", ListCommand.MESSAGE_NOT_PAGING);
+    }
+    //@@author
+
 
     /**
      * Confirms the 'invalid argument index number behaviour' for the given command
@@ -525,11 +599,12 @@ public class LogicTest {
         double newLatitude = 4.5679;
         double newLongitude = 9.6533;
 
-        location.setLatitude(newLatitude);
-        location.setLongitude(newLongitude);
+        Location moved = location.withLatitude(newLatitude).withLongitude(newLongitude);
 
-        assertTrue(location.getLatitude() == newLatitude);
-        assertTrue(location.getLongitude() == newLongitude);
+        assertTrue(moved.getLatitude() == newLatitude);
+        assertTrue(moved.getLongitude() == newLongitude);
+        assertTrue(location.getLatitude() == 1.2345);
+        assertTrue(location.getLongitude() == 2.4567);
     }
 
     @Test
@@ -1705,6 +1780,257 @@ public class LogicTest {
         assertCommandBehavior(ReadCommand.COMMAND_WORD + " 1", Inbox.INBOX_NOT_READ_YET);
     }
 
+    @Test
+    public void execute_broadcast_shownInInboxUntilRead() throws Exception {
+        NotificationWriter.clearAllInbox();
+        Password.unlockHqp();
+        final String bulletin = "Roadblock at Clementi Ave 3";
+        assertCommandBehavior(BroadcastCommand.COMMAND_WORD + " " + bulletin,
+                String.format(BroadcastCommand.MESSAGE_BROADCAST_SUCCESS, bulletin));
+
+        CommandResult r = logic.execute(InboxCommand.COMMAND_WORD);
+        assertTrue(r.feedbackToUser.startsWith(String.format(InboxCommand.MESSAGE_TOTAL_MESSAGE_NOTIFICATION, 1, 1)));
+        assertTrue(r.feedbackToUser.contains("(bulletin)"));
+        assertTrue(r.feedbackToUser.contains(bulletin));
+
+        assertCommandBehavior(ReadCommand.COMMAND_WORD + " 1", ReadCommand.MESSAGE_UPDATE_SUCCESS);
+        r = logic.execute(InboxCommand.COMMAND_WORD);
+        assertTrue(r.feedbackToUser.startsWith(String.format(InboxCommand.MESSAGE_TOTAL_MESSAGE_NOTIFICATION, 1, 0)));
+
+        logic.execute(ClearInboxCommand.COMMAND_WORD);
+        assertCommandBehavior(InboxCommand.COMMAND_WORD,
+                String.format(InboxCommand.MESSAGE_TOTAL_MESSAGE_NOTIFICATION, 0, 0));
+        NotificationWriter.clearAllInbox();
+    }
+
+    @Test
+    public void execute_editToWanted_broadcastsBulletin() throws Exception {
+        NotificationWriter.clearAllInbox();
+        Password.unlockHqp();
+        TestDataHelper helper = new TestDataHelper();
+        addressBook.addPerson(helper.generatePersonWithNric("s1234567a"));
+
+        logic.execute("edit n/s1234567a s/wanted w/murder");
+        CommandResult r = logic.execute(InboxCommand.COMMAND_WORD);
+        assertTrue(r.feedbackToUser.startsWith(String.format(InboxCommand.MESSAGE_TOTAL_MESSAGE_NOTIFICATION, 1, 1)));
+        assertTrue(r.feedbackToUser.contains("is now wanted for murder"));
+        NotificationWriter.clearAllInbox();
+    }
+
+    @Test
+    public void execute_editAlreadyWanted_noSecondBulletin() throws Exception {
+        NotificationWriter.clearAllInbox();
+        Password.unlockHqp();
+        TestDataHelper helper = new TestDataHelper();
+        addressBook.addPerson(helper.generatePersonWithNric("s1234567a"));
+
+        logic.execute("edit n/s1234567a s/wanted w/murder");
+        logic.execute("edit n/s1234567a p/510247 s/wanted w/murder");
+        CommandResult r = logic.execute(InboxCommand.COMMAND_WORD);
+        assertTrue(r.feedbackToUser.startsWith(String.format(InboxCommand.MESSAGE_TOTAL_MESSAGE_NOTIFICATION, 1, 1)));
+        NotificationWriter.clearAllInbox();
+    }
+
+    @Test
+    public void execute_nearby_listsPersonsOfInterest() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Person adam = helper.adam();
+        AddressBook expectedAb = new AddressBook();
+        expectedAb.addPerson(adam);
+        addressBook.addPerson(adam);
+
+        assertCommandBehavior("nearby po1 50", "\n\n" + String.format(NearbyCommand.MESSAGE_NEARBY_OVERVIEW, 1,
+                "wanted persons and ex-convicts", 50.0, "po1"), expectedAb, true, Collections.singletonList(adam));
+        assertCommandBehavior("nearby po1 50 s/wanted", "\n\n" + String.format(NearbyCommand.MESSAGE_NEARBY_OVERVIEW,
+                0, "wanted persons", 50.0, "po1"), expectedAb, true, Collections.emptyList());
+    }
+
+    @Test
+    public void isMutating_decidedByParsedCommand() {
+        assertTrue(logic.isMutating("find s1234567a"));
+        assertFalse(logic.isMutating("find n/John"));
+        assertFalse(logic.isMutating("find ~John"));
+        assertTrue(logic.isMutating("clearinbox"));
+        assertFalse(logic.isMutating("list"));
+        assertFalse(logic.isMutating("not a command"));
+    }
+
+    @Test
+    public void execute_findName_listsBestMatchesWithoutScreening() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Person adam = helper.adam();
+        Person bob = helper.generatePersonWithNric("s1234567a");
+        AddressBook expectedAb = new AddressBook();
+        expectedAb.addPerson(adam);
+        expectedAb.addPerson(bob);
+        addressBook.addPerson(adam);
+        addressBook.addPerson(bob);
+
+        assertCommandBehavior("find n/adm brow", "\n\n" + String.format(FindNameCommand.MESSAGE_NAME_MATCHES, 1,
+                "adm brow"), expectedAb, true, Collections.singletonList(adam));
+        assertCommandBehavior("find n/carol", "\n\n" + String.format(FindNameCommand.MESSAGE_NAME_MATCHES, 0,
+                "carol"), expectedAb, true, Collections.emptyList());
+    }
+
+    @Test
+    public void execute_findSoundsLike_listsNamesSoundingAlike() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Person adam = helper.adam();
+        AddressBook expectedAb = new AddressBook();
+        expectedAb.addPerson(adam);
+        addressBook.addPerson(adam);
+
+        assertCommandBehavior("find ~adum braun", "\n\n" + String.format(FindNameCommand.MESSAGE_SOUNDS_LIKE_MATCHES,
+                1, "adum braun"), expectedAb, true, Collections.singletonList(adam));
+    }
+
+    @Test
+    public void execute_editToClear_noLongerNearby() throws Exception {
+        Password.unlockHqp();
+        TestDataHelper helper = new TestDataHelper();
+        addressBook.addPerson(helper.generatePersonWithNric("s1234567a"));
+        assertEquals(1, addressBook.findNearby(PatrolResourceStatus.getLocation("po1"), 50, false).size());
+
+        logic.execute("edit n/s1234567a s/clear");
+        assertTrue(addressBook.findNearby(PatrolResourceStatus.getLocation("po1"), 50, false).isEmpty());
+    }
+
+    @Test
+    public void execute_stats_countsKeptAsRecordsChange() throws Exception {
+        Password.unlockHqp();
+        ClockService.setClock(Clock.fixed(Instant.parse("2018-11-01T00:00:00Z"), ZoneId.of("Asia/Singapore")));
+        try {
+            TestDataHelper helper = new TestDataHelper();
+            addressBook.addPerson(helper.adam());
+            addressBook.addPerson(helper.generatePersonWithNric("s1234567a"));
+
+            assertEquals("\n\n" + String.format(StatsCommand.MESSAGE_STATS_OVERVIEW, 2, "")
+                    + "\nBy status: xc 2"
+                    + "\nWanted for: " + StatsCommand.MESSAGE_NONE
+                    + "\nPast offenses: drugs 1, riot 2"
+                    + "\nBy postal district: D05 1, D15 1"
+                    + "\nBy age band: under 18 1, 18-29 0, 30-44 0, 45-59 0, 60 and over 1",
+                    logic.execute("stats").feedbackToUser);
+
+            logic.execute("edit n/s1234567a s/clear");
+            assertEquals("\n\n" + String.format(StatsCommand.MESSAGE_STATS_OVERVIEW, 1, " with s/xc p/15")
+                    + "\nBy status: xc 1"
+                    + "\nWanted for: " + StatsCommand.MESSAGE_NONE
+                    + "\nPast offenses: drugs 1, riot 1"
+                    + "\nBy postal district: D15 1"
+                    + "\nBy age band: under 18 0, 18-29 0, 30-44 0, 45-59 0, 60 and over 1",
+                    logic.execute("stats s/xc p/15").feedbackToUser);
+            assertTrue(logic.execute("stats").feedbackToUser.contains("\nBy status: clear 1, xc 1\n"));
+
+            logic.execute("delete s1234567a");
+            assertTrue(logic.execute("stats").feedbackToUser.startsWith("\n\n"
+                    + String.format(StatsCommand.MESSAGE_STATS_OVERVIEW, 1, "") + "\nBy status: xc 1\n"));
+        } finally {
+            ClockService.resetClock();
+        }
+    }
+
+    @Test
+    public void execute_screenings_keptUpWithScreeningsAppended() throws Exception {
+        ClockService.setClock(Clock.fixed(Instant.parse("2018-11-01T04:30:00Z"), ZoneId.of("Asia/Singapore")));
+        try {
+            String file = saveFolder.newFile("testScreenings.txt").getPath();
+            long[] today = ScreeningsCommand.getPeriod(ScreeningsCommand.PERIOD_TODAY);
+            ScreeningsCommand screenings = new ScreeningsCommand(today[0], today[1], "hqp", 0);
+            screenings.setFile(file);
+            screenings.setData(addressBook, Collections.emptyList());
+            String period = String.format(" from 01/11/2018-0000hrs to 02/11/2018-0000hrs by %s",
+                    Password.MESSAGE_HQP);
+            assertEquals("\n\n" + String.format(ScreeningsCommand.MESSAGE_SCREENINGS_OVERVIEW, 0, "01/11/2018-0000hrs",
+                    "02/11/2018-0000hrs", " by " + Password.MESSAGE_HQP), screenings.execute().feedbackToUser);
+
+            addressBook.addPersonToDbAndUpdate(new TestDataHelper().adam());
+            addressBook.updateDatabase(file, Password.MESSAGE_HQP);
+            assertEquals(1, addressBook.getScreeningIndex(file).size());
+            assertEquals("\n\n1 screenings" + period + " listed!\n1. f1234567j 01/11/2018-1230hrs by "
+                    + Password.MESSAGE_HQP, screenings.execute().feedbackToUser);
+        } finally {
+            ClockService.resetClock();
+        }
+    }
+
+    @Test
+    public void execute_queueAndNext_emptyQueue() throws Exception {
+        TriageQueue.getInstance().clear();
+        assertCommandBehavior(QueueCommand.COMMAND_WORD, QueueCommand.MESSAGE_QUEUE_EMPTY);
+        assertCommandBehavior(NextCommand.COMMAND_WORD, QueueCommand.MESSAGE_QUEUE_EMPTY);
+    }
+
+    @Test
+    public void execute_next_showsMostUrgentRequestAndKeepsIt() throws Exception {
+        TriageQueue.getInstance().clear();
+        TriageQueue.getInstance().add("po1", "theft", new Msg(Msg.Priority.LOW, "po1 needs help"));
+        TriageQueue.getInstance().add("po2", "gun", new Msg(Msg.Priority.HIGH, "po2 needs help"));
+
+        CommandResult r = logic.execute(QueueCommand.COMMAND_WORD);
+        assertTrue(r.feedbackToUser.startsWith(String.format(QueueCommand.MESSAGE_QUEUE_SIZE, 2)
+                + "1. po2 needs help with gun"));
+
+        r = logic.execute(NextCommand.COMMAND_WORD);
+        assertTrue(r.feedbackToUser.endsWith(DispatchCommand.COMMAND_WORD + " BACKUP_OFFICER_ID gun po2"));
+        assertEquals(2, TriageQueue.getInstance().size());
+        assertEquals("po2", TriageQueue.getInstance().remove("po2", "gun").getRequesterId());
+        assertEquals("po1", TriageQueue.getInstance().peek().getRequesterId());
+        TriageQueue.getInstance().clear();
+    }
+
+    @Test
+    public void execute_dispatchBatch_noOpenRequests() throws Exception {
+        TriageQueue.getInstance().clear();
+        assertCommandBehavior("dispatch batch", DispatchBatchCommand.MESSAGE_NO_OPEN_REQUESTS);
+    }
+
+    @Test
+    public void execute_dispatchBatch_assignsNearestFreeOfficers() throws Exception {
+        PatrolResourceStatus.resetPatrolResourceStatus();
+        TriageQueue.getInstance().clear();
+        NotificationWriter.clearAllInbox();
+        for (String requester : new String[] {"po1", "po5"}) {
+            TriageQueue.getInstance().add(requester, "gun", new Msg(Msg.Priority.HIGH, requester + " needs help"));
+            PatrolResourceStatus.setStatus(requester, true);
+        }
+
+        CommandResult r = logic.execute("dispatch batch");
+        assertTrue(r.feedbackToUser.startsWith("Dispatched 2 backups"));
+        assertEquals(0, TriageQueue.getInstance().size());
+        assertEquals(1, PatrolResourceStatus.getFreeOfficers().size());
+
+        PatrolResourceStatus.resetPatrolResourceStatus();
+        NotificationWriter.clearAllInbox();
+    }
+
+    @Test
+    public void execute_dispatchBatch_notificationFails_dispatchKeptAndOfficerNamed() throws Exception {
+        PatrolResourceStatus.resetPatrolResourceStatus();
+        TriageQueue.getInstance().clear();
+        for (String requester : new String[] {"po1", "po5"}) {
+            TriageQueue.getInstance().add(requester, "gun", new Msg(Msg.Priority.HIGH, requester + " needs help"));
+            PatrolResourceStatus.setStatus(requester, true);
+        }
+        List<String> notified = new ArrayList<>();
+        DispatchBatchCommand command = new DispatchBatchCommand(new EtaEstimator(), (recipientId, message) -> {
+            if (recipientId.equals("po1")) {
+                throw new IOException("Inbox is not writable");
+            }
+            notified.add(recipientId);
+        });
+
+        CommandResult r = logic.execute(command);
+        assertTrue(r.feedbackToUser.startsWith("Dispatched 2 backups"));
+        assertTrue(r.feedbackToUser.contains(String.format(DispatchBatchCommand.MESSAGE_NOT_NOTIFIED, "po1")));
+        assertTrue(r.feedbackToUser.contains(" to po5 for gun"));
+        assertEquals(3, notified.size());
+        assertEquals(0, TriageQueue.getInstance().size());
+        assertEquals(1, PatrolResourceStatus.getFreeOfficers().size());
+
+        PatrolResourceStatus.resetPatrolResourceStatus();
+    }
+
     @Test
     public void execute_clearInbox_thenCheckInbox() throws Exception {
         Password.lockIsHqp();
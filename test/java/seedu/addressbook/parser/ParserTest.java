@@ -14,6 +14,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import seedu.addressbook.commands.AddCommand;
+import seedu.addressbook.commands.BroadcastCommand;
 import seedu.addressbook.commands.CheckCommand;
 import seedu.addressbook.commands.CheckPoStatusCommand;
 import seedu.addressbook.commands.ClearCommand;
@@ -23,15 +24,20 @@ import seedu.addressbook.commands.DeleteCommand;
 import seedu.addressbook.commands.DispatchCommand;
 import seedu.addressbook.commands.EditCommand;
 import seedu.addressbook.commands.FindCommand;
+import seedu.addressbook.commands.FindNameCommand;
 import seedu.addressbook.commands.HelpCommand;
 import seedu.addressbook.commands.IncorrectCommand;
 import seedu.addressbook.commands.ListCommand;
+import seedu.addressbook.commands.NearbyCommand;
 import seedu.addressbook.commands.ReadCommand;
 import seedu.addressbook.commands.RequestHelpCommand;
+import seedu.addressbook.commands.ScreeningsCommand;
 import seedu.addressbook.commands.ShowUnreadCommand;
 import seedu.addressbook.commands.ShutdownCommand;
+import seedu.addressbook.commands.StatsCommand;
 import seedu.addressbook.commands.UpdateStatusCommand;
 import seedu.addressbook.commands.ViewAllCommand;
+import seedu.addressbook.common.Messages;
 import seedu.addressbook.data.exception.IllegalValueException;
 
 import seedu.addressbook.data.person.DateOfBirth;
@@ -42,6 +48,7 @@ import seedu.addressbook.data.person.Person;
 import seedu.addressbook.data.person.PostalCode;
 import seedu.addressbook.data.person.ReadOnlyPerson;
 import seedu.addressbook.data.person.Status;
+import seedu.addressbook.timeanddate.ClockService;
 
 public class ParserTest {
 
@@ -96,6 +103,23 @@ public class ParserTest {
         parseAndAssertCommandType(input, ListCommand.class);
     }
 
+    //@@author andyrobert3
+    @Test
+    public void listCommand_pagedArgs_parsedCorrectly() {
+        parseAndAssertCommandType("list --page 2 --size 10", ListCommand.class);
+        parseAndAssertCommandType("list --size 10", ListCommand.class);
+        parseAndAssertCommandType("list --page 2", ListCommand.class);
+        parseAndAssertCommandType("list --next", ListCommand.class);
+    }
+
+    @Test
+    public void listCommand_invalidArgs_errorMessage() {
+        final String resultMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage,
+                "list all", "list --page", "list --page 0", "list --size 0", "list --page two", "list --next 2");
+    }
+    //@@author
+
     @Test
     public void exitCommand_parsedCorrectly() {
         final String input = "shutdown";
@@ -222,6 +246,93 @@ public class ParserTest {
         assertEquals(caseType, result.getCaseName());
     }
 
+    @Test
+    public void broadcastCommand_noArgs() {
+        final String[] inputs = { "broadcast", "broadcast  "};
+        final String resultMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, BroadcastCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, inputs);
+    }
+
+    @Test
+    public void broadcastCommand_validArgs_parsedCorrectly() {
+        final String message = "Roadblock at Clementi Ave 3";
+        final BroadcastCommand result =
+                parseAndAssertCommandType("broadcast " + message, BroadcastCommand.class);
+        assertEquals(message, result.getMessage());
+    }
+
+    @Test
+    public void nearbyCommand_invalidArgs() {
+        final String[] inputs = { "nearby", "nearby po1", "nearby po1 0", "nearby po1 -2", "nearby po1 2 s/clear"};
+        final String resultMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, NearbyCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, inputs);
+        parseAndAssertIncorrectWithMessage(Messages.MESSAGE_PO_NOT_FOUND, "nearby po99 2");
+    }
+
+    @Test
+    public void nearbyCommand_validArgs_parsedCorrectly() {
+        NearbyCommand result = parseAndAssertCommandType("nearby PO1 2.5", NearbyCommand.class);
+        assertEquals("po1", result.getOfficerId());
+        assertEquals(2.5, result.getRadiusKm(), 0);
+        assertFalse(result.isWantedOnly());
+
+        result = parseAndAssertCommandType("nearby po2 10 s/wanted", NearbyCommand.class);
+        assertEquals(10, result.getRadiusKm(), 0);
+        assertTrue(result.isWantedOnly());
+    }
+
+    @Test
+    public void screeningsCommand_invalidArgs() {
+        final String[] inputs = { "screenings", "screenings yesterday", "screenings 29/10/2018-0000",
+            "screenings 30/10/2018-0000 29/10/2018-0000", "screenings 29/10/2018 30/10/2018", "screenings today top/0",
+            "screenings week top/five"};
+        final String resultMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScreeningsCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, inputs);
+        parseAndAssertIncorrectWithMessage(Messages.MESSAGE_PO_NOT_FOUND, "screenings today by/po99");
+    }
+
+    @Test
+    public void screeningsCommand_validArgs_parsedCorrectly() {
+        ScreeningsCommand result = parseAndAssertCommandType("screenings 29/10/2018-0000 30/10/2018-1200hrs",
+                ScreeningsCommand.class);
+        assertEquals(ClockService.parseForCheckCommand("29/10/2018-0000"), result.getFromMillis());
+        assertEquals(ClockService.parseForCheckCommand("30/10/2018-1200"), result.getToMillis());
+        assertEquals(null, result.getOfficerId());
+        assertEquals(0, result.getTop());
+
+        result = parseAndAssertCommandType("screenings Week by/PO1 top/5", ScreeningsCommand.class);
+        long[] week = ScreeningsCommand.getPeriod(ScreeningsCommand.PERIOD_WEEK);
+        assertEquals(week[0], result.getFromMillis());
+        assertEquals(week[1], result.getToMillis());
+        assertEquals("po1", result.getOfficerId());
+        assertEquals(5, result.getTop());
+    }
+
+    @Test
+    public void statsCommand_invalidArgs() {
+        final String[] inputs = { "stats all", "stats p/0", "stats p/29", "stats p/five", "stats o/riot s/wanted"};
+        final String resultMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, inputs);
+        parseAndAssertIncorrectWithMessage(Status.MESSAGE_NAME_CONSTRAINTS, "stats s/fugitive");
+    }
+
+    @Test
+    public void statsCommand_validArgs_parsedCorrectly() {
+        StatsCommand result = parseAndAssertCommandType("stats", StatsCommand.class);
+        assertEquals(null, result.getStatus());
+        assertEquals(null, result.getDistrict());
+        assertEquals(null, result.getOffense());
+
+        result = parseAndAssertCommandType("stats s/wanted p/19 o/Riot", StatsCommand.class);
+        assertEquals("wanted", result.getStatus());
+        assertEquals(Integer.valueOf(19), result.getDistrict());
+        assertEquals("riot", result.getOffense());
+
+        result = parseAndAssertCommandType("stats p/5", StatsCommand.class);
+        assertEquals(null, result.getStatus());
+        assertEquals(Integer.valueOf(5), result.getDistrict());
+    }
+
     @Test
     public void dispatchCommand_noArgs() {
         final String[] inputs = { "dispatch", "dispatch "};
@@ -332,6 +443,30 @@ public class ParserTest {
         parseAndAssertIncorrectWithMessage(resultMessage, input);
     }
 
+    //@@author andyrobert3
+    @Test
+    public void findNameCommand_invalidArgs() {
+        final String resultMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindNameCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, "find n/", "find n/  ", "find n/ada-lee");
+    }
+
+    @Test
+    public void findNameCommand_validArgs_parsedCorrectly() {
+        final FindNameCommand result = parseAndAssertCommandType("find n/ ada   bro ", FindNameCommand.class);
+        assertEquals("ada bro", result.getName());
+        assertFalse(result.isSoundsLike());
+    }
+
+    @Test
+    public void findNameCommand_soundsLike_parsedCorrectly() {
+        final FindNameCommand result = parseAndAssertCommandType("find ~Sesaro", FindNameCommand.class);
+        assertEquals("Sesaro", result.getName());
+        assertTrue(result.isSoundsLike());
+        parseAndAssertIncorrectWithMessage(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindNameCommand.MESSAGE_USAGE), "find ~", "find ~ses@ro");
+    }
+    //@@author
+
 
     /**
      * Test check persons by nric command
@@ -0,0 +1,79 @@
+//@@author andyrobert3
+package seedu.addressbook.password;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CredentialStoreTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path passwordFile;
+
+    @Before
+    public void setup() throws IOException {
+        passwordFile = folder.newFile("passwordStorage.txt").toPath();
+        Files.write(passwordFile, Arrays.asList("hqp " + CredentialStore.hash("papa123"),
+                "po1 " + CredentialStore.hash("popo1"), ""), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void findUser_storedPassword_returnsUser() throws IOException {
+        CredentialStore store = CredentialStore.load(passwordFile);
+        assertEquals(2, store.getNumberOfUsers());
+        assertEquals("hqp", store.findUser("papa123"));
+        assertEquals("po1", store.findUser("popo1"));
+        assertNull(store.findUser("wrong1"));
+    }
+
+    @Test
+    public void setPassword_existingUser_replacesOldPasswordAndSaves() throws IOException {
+        CredentialStore store = CredentialStore.load(passwordFile);
+        store.setPassword("po1", "newpass1");
+
+        assertNull(store.findUser("popo1"));
+        assertFalse(store.isPasswordInUse("popo1"));
+        assertEquals("po1", store.findUser("newpass1"));
+        assertEquals("po1", CredentialStore.load(passwordFile).findUser("newpass1"));
+    }
+
+    @Test
+    public void setPassword_newUser_added() throws IOException {
+        CredentialStore store = CredentialStore.load(passwordFile);
+        for (int i = 6; i <= 50; i++) {
+            store.setPassword("po" + i, "pass" + i);
+        }
+
+        CredentialStore reloaded = CredentialStore.load(passwordFile);
+        assertEquals(47, reloaded.getNumberOfUsers());
+        assertTrue(reloaded.hasUser("po50"));
+        assertEquals("po50", reloaded.findUser("pass50"));
+        assertEquals("hqp", reloaded.findUser("papa123"));
+    }
+
+    @Test
+    public void setPassword_leavesNoTemporaryFiles() throws IOException {
+        CredentialStore.load(passwordFile).setPassword("hqp", "mama123");
+        assertEquals(1, folder.getRoot().list().length);
+    }
+
+    @Test(expected = IOException.class)
+    public void load_lineWithoutHash_throwsIoException() throws IOException {
+        Files.write(passwordFile, Arrays.asList("hqp"), StandardCharsets.UTF_8);
+        CredentialStore.load(passwordFile);
+    }
+}
@@ -0,0 +1,296 @@
+//@@author andyrobert3
+package seedu.addressbook.readandwrite;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.addressbook.timeanddate.ClockService;
+
+public class ScreeningLogTest {
+    private static final String HQP = "Headquarters Personnel";
+    private static final String PO3 = "Police Officer Tango Hotel Romeo Echo Echo";
+    private static final ZoneId ZONE = ZoneId.of("Asia/Singapore");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File file;
+
+    @Before
+    public void setup() throws Exception {
+        setToday("2018-11-01T12:00:00Z");
+        file = folder.newFile("screeningHistory.txt");
+    }
+
+    @After
+    public void tearDown() {
+        ClockService.resetClock();
+    }
+
+    @Test
+    public void append_pastSegmentSize_sealedAndStillRead() throws Exception {
+        ScreeningLog log = new ScreeningLog(file, new ScreeningLogPolicy(200, false, 0, true));
+        List<String> appended = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            String line = String.format("s%07da 01/11/2018-%02d00hrs %s", i % 3, i, (i % 2 == 0) ? HQP : PO3);
+            log.append(line);
+            appended.add(line);
+        }
+
+        assertTrue(log.getSegments().size() >= 3);
+        assertTrue(file.length() < 200 + appended.get(0).length() + 1);
+        assertEquals(linesOf(appended, "s0000001a"), toLines(log.read("s0000001a")));
+        assertTrue(log.read("s7654321a").isEmpty());
+
+        ScreeningLog reopened = new ScreeningLog(file, ScreeningLogPolicy.defaultPolicy());
+        assertEquals(log.getSegments().size(), reopened.getSegments().size());
+        assertEquals(linesOf(appended, "s0000002a"), toLines(reopened.read("s0000002a")));
+        List<ScreeningRecord> sealed = new ArrayList<>();
+        reopened.forEachSealed(sealed::add);
+        assertEquals(appended.size(), sealed.size() + linesInFile());
+    }
+
+    @Test
+    public void append_newDayWhileRotatingDaily_yesterdaySealed() throws Exception {
+        ScreeningLog log = new ScreeningLog(file, new ScreeningLogPolicy(Long.MAX_VALUE, true, 0, true));
+        log.append("s1234567a 01/11/2018-0900hrs " + HQP);
+        log.append("s1234567a 01/11/2018-2300hrs " + PO3);
+        assertTrue(log.getSegments().isEmpty());
+
+        setToday("2018-11-02T01:00:00Z");
+        log.append("s1234567a 02/11/2018-0900hrs " + HQP);
+
+        assertEquals(1, log.getSegments().size());
+        assertEquals(1, log.getGeneration());
+        assertEquals(1, linesInFile());
+        assertEquals(3, log.read("s1234567a").size());
+    }
+
+    @Test
+    public void rotate_segmentsPastRetention_archivedOrDeleted() throws Exception {
+        ScreeningLog archiving = new ScreeningLog(file, new ScreeningLogPolicy(Long.MAX_VALUE, false, 7, true));
+        archiving.append("s1234567a 01/10/2018-0900hrs " + HQP);
+        archiving.rotate();
+        assertEquals(0, archiving.getSegments().size());
+        File archive = new File(file.getPath() + ScreeningLog.SEGMENTS_SUFFIX, ScreeningLog.ARCHIVE_DIRECTORY);
+        assertEquals(2, archive.list().length);
+
+        ScreeningLog deleting = new ScreeningLog(file, new ScreeningLogPolicy(Long.MAX_VALUE, false, 7, false));
+        deleting.append("s1234567a 31/10/2018-0900hrs " + HQP);
+        deleting.rotate();
+        assertEquals(1, deleting.getSegments().size());
+        setToday("2018-11-30T00:00:00Z");
+        deleting.append("s1234567a 30/11/2018-0900hrs " + HQP);
+        deleting.rotate();
+        assertEquals(1, deleting.getSegments().size());
+        assertEquals(Arrays.asList("s1234567a 30/11/2018-0900hrs " + HQP), toLines(deleting.read("s1234567a")));
+        assertEquals(2, archive.list().length);
+    }
+
+    @Test
+    public void open_crashedBeforeSealing_pendingScreeningsSealed() throws Exception {
+        List<String> lines = Arrays.asList("s1234567a 01/11/2018-0900hrs " + HQP,
+                "s7654321a 01/11/2018-1000hrs " + PO3);
+        // The file was moved aside for sealing, but the System stopped before the segment was written.
+        File segmentsDirectory = new File(file.getPath() + ScreeningLog.SEGMENTS_SUFFIX);
+        assertTrue(segmentsDirectory.mkdirs());
+        Files.write(new File(segmentsDirectory, "segment-000001.txt").toPath(), lines);
+        assertTrue(file.delete());
+
+        ScreeningLog log = new ScreeningLog(file, ScreeningLogPolicy.defaultPolicy());
+        assertEquals(1, log.getSegments().size());
+        assertEquals(linesOf(lines, "s1234567a"), toLines(log.read("s1234567a")));
+        assertTrue(file.exists());
+        assertFalse(new File(segmentsDirectory, "segment-000001.txt").exists());
+    }
+
+    @Test
+    public void open_crashedAfterSealing_screeningsNotSealedTwice() throws Exception {
+        List<String> lines = Arrays.asList("s1234567a 01/11/2018-0900hrs " + HQP,
+                "s1234567a 01/11/2018-1000hrs " + PO3);
+        ScreeningLog log = new ScreeningLog(file, ScreeningLogPolicy.defaultPolicy());
+        for (String line : lines) {
+            log.append(line);
+        }
+        log.rotate();
+        // The segment was written, but the System stopped before the file moved aside was deleted.
+        File segmentsDirectory = new File(file.getPath() + ScreeningLog.SEGMENTS_SUFFIX);
+        Files.write(new File(segmentsDirectory, "segment-000001.txt").toPath(), lines);
+
+        ScreeningLog reopened = new ScreeningLog(file, ScreeningLogPolicy.defaultPolicy());
+        assertEquals(1, reopened.getSegments().size());
+        assertEquals(lines, toLines(reopened.read("s1234567a")));
+        assertFalse(new File(segmentsDirectory, "segment-000001.txt").exists());
+        assertEquals(0, file.length());
+    }
+
+    @Test
+    public void append_missingFile_throwsFileNotFound() throws Exception {
+        ScreeningLog log = new ScreeningLog(new File(folder.getRoot(), "missing.txt"),
+                ScreeningLogPolicy.defaultPolicy());
+        try {
+            log.append("s1234567a 01/11/2018-0900hrs " + HQP);
+        } catch (FileNotFoundException fnfe) {
+            return;
+        }
+        throw new AssertionError("Expected FileNotFoundException");
+    }
+
+    @Test
+    public void seal_manyBlocks_onlyMatchingRecordsInOrder() throws Exception {
+        List<ScreeningRecord> records = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            records.add(ScreeningRecord.of(String.format("s%07da", i % 500),
+                    ClockService.currentTimeMillis() + i * 60000L, (i % 2 == 0) ? HQP : PO3));
+        }
+        ScreeningSegment segment = ScreeningSegment.seal(records, folder.newFile("segment.gz"),
+                folder.newFile("segment.idx"));
+        ScreeningSegment opened = ScreeningSegment.open(segment.getDataFile(), segment.getIndexFile());
+
+        assertEquals(10000, opened.getNumRecords());
+        assertEquals(recordsOf(records, "s0000042a"), opened.read("s0000042a"));
+        assertEquals(recordsOf(records, "s0000499a"), opened.read("s0000499a"));
+        int falsePositives = 0;
+        for (int i = 500; i < 10500; i++) {
+            String nric = String.format("s%07da", i);
+            assertTrue(opened.read(nric).isEmpty());
+            falsePositives += opened.mightContain(nric) ? 1 : 0;
+        }
+        assertTrue(falsePositives < 500);
+    }
+
+    @Test
+    public void codec_writeThenRead_sameRecordsAndOfficerNamedOnce() throws Exception {
+        List<ScreeningRecord> records = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            records.add(ScreeningRecord.of(String.format("t%07dz", i * 99991), ClockService.currentTimeMillis()
+                    + i * 1000L, (i % 2 == 0) ? HQP : PO3));
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            ScreeningRecordCodec codec = new ScreeningRecordCodec();
+            for (ScreeningRecord record : records) {
+                codec.write(out, record);
+            }
+        }
+        assertEquals(100 * ScreeningRecordCodec.SCREENING_BYTES + 2 * 3 + HQP.length() + PO3.length(),
+                bytes.size());
+
+        List<ScreeningRecord> read = new ArrayList<>();
+        ScreeningRecordCodec codec = new ScreeningRecordCodec();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray(), 0,
+                bytes.size() - 1))) {
+            ScreeningRecord record;
+            while ((record = codec.read(in)) != null) {
+                read.add(record);
+            }
+        }
+        assertEquals(records.subList(0, 99), read);
+        assertEquals(bytes.size() - ScreeningRecordCodec.SCREENING_BYTES, codec.getBytesRead());
+        assertEquals("t0099991z", records.get(1).getNric());
+    }
+
+    @Test
+    public void packNric_sortsAsNrics() {
+        List<String> nrics = Arrays.asList("f0000000a", "g9999999z", "s0000001a", "s0000001b", "s1234567a",
+                "t0000000a");
+        for (int i = 1; i < nrics.size(); i++) {
+            assertTrue(ScreeningRecord.packNric(nrics.get(i - 1)) < ScreeningRecord.packNric(nrics.get(i)));
+            assertEquals(nrics.get(i), ScreeningRecord.unpackNric(ScreeningRecord.packNric(nrics.get(i))));
+        }
+        assertNull(ScreeningRecord.parseLegacyLine("S1234567A 01/11/2018-0900hrs " + HQP));
+        assertNull(ScreeningRecord.parseLegacyLine("s1234567a 01/11/2018-0900hrs null"));
+    }
+
+    @Test
+    public void load_propertiesFile_overridesDefaults() throws Exception {
+        File properties = folder.newFile(ScreeningLogPolicy.DEFAULT_FILE);
+        try (PrintWriter writer = new PrintWriter(new FileWriter(properties))) {
+            writer.println(ScreeningLogPolicy.KEY_MAX_SEGMENT_BYTES + "=4096");
+            writer.println(ScreeningLogPolicy.KEY_ROTATE_DAILY + "=true");
+            writer.println(ScreeningLogPolicy.KEY_RETENTION_DAYS + "=-1");
+        }
+        ScreeningLogPolicy policy = ScreeningLogPolicy.load(properties);
+        assertEquals(4096, policy.getMaxSegmentBytes());
+        assertTrue(policy.isRotateDaily());
+        assertEquals(0, policy.getRetentionDays());
+        assertTrue(policy.isArchive());
+
+        ScreeningLogPolicy missing = ScreeningLogPolicy.load(new File(folder.getRoot(), "missing.properties"));
+        assertEquals(ScreeningLogPolicy.DEFAULT_MAX_SEGMENT_BYTES, missing.getMaxSegmentBytes());
+        assertFalse(missing.isRotateDaily());
+    }
+
+    private static void setToday(String instant) {
+        ClockService.setClock(Clock.fixed(Instant.parse(instant), ZONE));
+    }
+
+    /**
+     * Returns the lines of {@code lines} screening {@code nric}, in order.
+     */
+    private static List<String> linesOf(List<String> lines, String nric) {
+        List<String> matching = new ArrayList<>();
+        for (String line : lines) {
+            if (line.startsWith(nric + " ")) {
+                matching.add(line);
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * Returns the records of {@code records} screening {@code nric}, in order.
+     */
+    private static List<ScreeningRecord> recordsOf(List<ScreeningRecord> records, String nric) {
+        List<ScreeningRecord> matching = new ArrayList<>();
+        for (ScreeningRecord record : records) {
+            if (record.getNric().equals(nric)) {
+                matching.add(record);
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * Returns {@code records} as lines of the text screening history.
+     */
+    private static List<String> toLines(List<ScreeningRecord> records) {
+        List<String> lines = new ArrayList<>();
+        for (ScreeningRecord record : records) {
+            lines.add(record.toString());
+        }
+        return lines;
+    }
+
+    /**
+     * Returns the number of lines in the screening history file, not yet sealed into a segment.
+     */
+    private int linesInFile() throws IOException {
+        return Files.readAllLines(file.toPath()).size();
+    }
+}
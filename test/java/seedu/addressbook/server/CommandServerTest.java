@@ -0,0 +1,227 @@
+//@@author andyrobert3
+package seedu.addressbook.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.addressbook.commands.ListCommand;
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.DateOfBirth;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Nric;
+import seedu.addressbook.data.person.Offense;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.PostalCode;
+import seedu.addressbook.data.person.Status;
+import seedu.addressbook.logic.Logic;
+import seedu.addressbook.password.Password;
+import seedu.addressbook.storage.StorageFile;
+import seedu.addressbook.timeanddate.ClockService;
+
+public class CommandServerTest {
+    private static final String HQP_PASSWORD = "papa123";
+    private static final String PO1_PASSWORD = "popo1";
+
+    @Rule
+    public TemporaryFolder saveFolder = new TemporaryFolder();
+
+    private AddressBook addressBook;
+    private CommandServer server;
+
+    @Before
+    public void setup() throws Exception {
+        StorageFile saveFile = new StorageFile(saveFolder.newFile("testSaveFile.txt").getPath());
+        addressBook = new AddressBook();
+        addressBook.addPerson(new Person(new Name("Adam Brown"), new Nric("f1234567j"), new DateOfBirth("1900"),
+                new PostalCode("444444"), new Status("xc"), new Offense(),
+                new HashSet<>(Arrays.asList(new Offense("drugs")))));
+        saveFile.save(addressBook);
+        server = new CommandServer(new Logic(saveFile, addressBook), 0);
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop();
+        ClockService.resetClock();
+    }
+
+    @Test
+    public void login_wrongPassword_unauthorized() throws Exception {
+        Reply reply = post("/login", null, "not a password", false);
+        assertEquals(401, reply.status);
+        assertEquals(Password.MESSAGE_INCORRECT_PASSWORD, reply.body);
+    }
+
+    @Test
+    public void login_tooManyWrongPasswords_lockedOut() throws Exception {
+        setTime(0);
+        for (int i = 0; i < CommandServer.MAX_LOGIN_ATTEMPTS; i++) {
+            assertEquals(401, post("/login", null, "not a password", false).status);
+        }
+
+        Reply reply = post("/login", null, HQP_PASSWORD, false);
+        assertEquals(429, reply.status);
+        assertEquals(String.format(CommandServer.MESSAGE_LOCKED_OUT, 5), reply.body);
+
+        setTime(CommandServer.LOCKOUT_MILLIS);
+        login(HQP_PASSWORD);
+    }
+
+    @Test
+    public void command_sessionIdle_unauthorized() throws Exception {
+        setTime(0);
+        String session = login(HQP_PASSWORD);
+        setTime(CommandServer.SESSION_IDLE_MILLIS);
+        assertEquals(200, post("/command", session, ListCommand.COMMAND_WORD, false).status);
+
+        setTime(2 * CommandServer.SESSION_IDLE_MILLIS + 1);
+        Reply reply = post("/command", session, ListCommand.COMMAND_WORD, false);
+        assertEquals(401, reply.status);
+        assertEquals(CommandServer.MESSAGE_INVALID_SESSION, reply.body);
+        assertEquals(0, server.getNumberOfSessions());
+    }
+
+    @Test
+    public void command_withoutSession_unauthorized() throws Exception {
+        Reply reply = post("/command", "no such session", ListCommand.COMMAND_WORD, false);
+        assertEquals(401, reply.status);
+        assertEquals(CommandServer.MESSAGE_INVALID_SESSION, reply.body);
+    }
+
+    @Test
+    public void command_restrictedForPo_forbidden() throws Exception {
+        String session = login(PO1_PASSWORD);
+        Reply reply = post("/command", session, "delete 1", false);
+        assertEquals(403, reply.status);
+        assertEquals(Password.invalidPoResult("delete 1"), reply.body);
+        assertEquals(1, addressBook.getAllPersons().immutableListView().size());
+    }
+
+    @Test
+    public void command_acceptsJson_rendersResultAsJson() throws Exception {
+        String session = login(HQP_PASSWORD);
+        Reply reply = post("/command", session, ListCommand.COMMAND_WORD, true);
+        assertEquals(200, reply.status);
+        JSONObject json = new JSONObject(reply.body);
+        assertEquals(1, json.getJSONArray("persons").length());
+        assertTrue(json.getString("feedback").contains("1"));
+    }
+
+    @Test
+    public void command_text_rendersPersonsThenFeedback() throws Exception {
+        String session = login(HQP_PASSWORD);
+        Reply reply = post("/command", session, ListCommand.COMMAND_WORD, false);
+        assertEquals(200, reply.status);
+        assertTrue(reply.body.contains("Adam Brown"));
+    }
+
+    @Test
+    public void logout_endsSession() throws Exception {
+        String session = login(PO1_PASSWORD);
+        assertEquals(1, server.getNumberOfSessions());
+        assertEquals(200, post("/command", session, "logout", false).status);
+        assertEquals(0, server.getNumberOfSessions());
+        assertEquals(401, post("/command", session, ListCommand.COMMAND_WORD, false).status);
+    }
+
+    @Test
+    public void sessions_scaleIntoThousands() throws Exception {
+        final int numSessions = 2000;
+        final int numClientThreads = 200;
+        ExecutorService clients = Executors.newFixedThreadPool(numClientThreads);
+        try {
+            List<Callable<String>> logins = new ArrayList<>();
+            for (int i = 0; i < numSessions; i++) {
+                logins.add(() -> login(PO1_PASSWORD));
+            }
+            List<String> sessions = new ArrayList<>();
+            for (Future<String> session : clients.invokeAll(logins)) {
+                sessions.add(session.get());
+            }
+            assertEquals(numSessions, server.getNumberOfSessions());
+
+            List<Callable<Integer>> commands = new ArrayList<>();
+            for (String session : sessions) {
+                commands.add(() -> post("/command", session, ListCommand.COMMAND_WORD, false).status);
+            }
+            for (Future<Integer> status : clients.invokeAll(commands)) {
+                assertEquals(200, (int) status.get());
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private static void setTime(long epochMilli) {
+        ClockService.setClock(Clock.fixed(Instant.ofEpochMilli(epochMilli), ZoneId.of("Asia/Singapore")));
+    }
+
+    private String login(String password) throws IOException {
+        Reply reply = post("/login", null, password, false);
+        assertEquals(200, reply.status);
+        return reply.body;
+    }
+
+    /**
+     * Sends {@code body} to {@code path}, in the given session if not null.
+     */
+    private Reply post(String path, String session, String body, boolean isJson) throws IOException {
+        URL url = new URL("http://localhost:" + server.getPort() + path);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        if (session != null) {
+            connection.setRequestProperty(CommandServer.SESSION_HEADER, session);
+        }
+        if (isJson) {
+            connection.setRequestProperty("Accept", CommandServer.JSON_TYPE);
+        }
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        int status = connection.getResponseCode();
+        InputStream in = (status < 400) ? connection.getInputStream() : connection.getErrorStream();
+        try (InputStream reply = in) {
+            return new Reply(status, new String(reply.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Status and body of a server response.
+     */
+    private static class Reply {
+        private final int status;
+        private final String body;
+
+        Reply(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+}
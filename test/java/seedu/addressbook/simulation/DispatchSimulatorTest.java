@@ -0,0 +1,108 @@
+//@@author andyrobert3
+package seedu.addressbook.simulation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.addressbook.common.EtaEstimator;
+import seedu.addressbook.common.Location;
+import seedu.addressbook.common.PatrolResourceStatus;
+import seedu.addressbook.inbox.TriageQueue;
+import seedu.addressbook.timeanddate.ClockService;
+
+public class DispatchSimulatorTest {
+    private static final long MINUTE = 60 * 1000;
+    private static final long HOUR = 60 * MINUTE;
+
+    /** Every trip takes five minutes. */
+    private static final EtaEstimator FIVE_MINUTES_AWAY = new EtaEstimator() {
+        @Override
+        public int getEtaSeconds(Location origin, Location destination) {
+            return 300;
+        }
+    };
+
+    @Test
+    public void run_lightLoad_backupArrivesAfterEta() {
+        SimulationReport report = new DispatchSimulator(1, FIVE_MINUTES_AWAY, 6 * HOUR, 10 * MINUTE)
+                .run(7 * 24 * HOUR);
+
+        assertTrue(report.getNumIncidents() > 0);
+        assertEquals(0, report.getNumDropped());
+        assertEquals(5 * MINUTE, report.getResponseMillis(50));
+        assertEquals(5 * MINUTE, report.getResponseMillis(100));
+        assertTrue(report.getMeanUtilisation() < 0.1);
+    }
+
+    @Test
+    public void run_heavyLoad_requestsWaitForOfficers() {
+        SimulationReport report = new DispatchSimulator(1, FIVE_MINUTES_AWAY, 5 * MINUTE, 60 * MINUTE)
+                .run(24 * HOUR);
+
+        assertTrue(report.getNumDropped() > 0);
+        assertTrue(report.getResponseMillis(99) > 5 * MINUTE);
+        assertTrue(report.getMeanUtilisation() > 0.8);
+        assertEquals(5, report.getUtilisation().size());
+    }
+
+    @Test
+    public void run_sameSeed_sameReport() {
+        SimulationReport first = new DispatchSimulator(7, new EtaEstimator(), 20 * MINUTE, 20 * MINUTE)
+                .run(24 * HOUR);
+        SimulationReport second = new DispatchSimulator(7, new EtaEstimator(), 20 * MINUTE, 20 * MINUTE)
+                .run(24 * HOUR);
+        SimulationReport other = new DispatchSimulator(8, new EtaEstimator(), 20 * MINUTE, 20 * MINUTE)
+                .run(24 * HOUR);
+
+        assertEquals(first.getNumIncidents(), second.getNumIncidents());
+        assertEquals(first.getResponseMillis(90), second.getResponseMillis(90));
+        assertEquals(first.getUtilisation(), second.getUtilisation());
+        assertNotEquals(first.getUtilisation(), other.getUtilisation());
+    }
+
+    @Test
+    public void run_logsCommandStream() {
+        List<String> commands = new ArrayList<>();
+        DispatchSimulator simulator = new DispatchSimulator(1, FIVE_MINUTES_AWAY, 30 * MINUTE, 10 * MINUTE);
+        simulator.setCommandLog(commands::add);
+        simulator.run(4 * HOUR);
+
+        assertTrue(commands.get(0).matches("po[1-5]: rb .+"));
+        assertEquals("hqp: dispatch batch", commands.get(1));
+        assertTrue(commands.stream().anyMatch(command -> command.endsWith(": updatestatus")));
+    }
+
+    @Test
+    public void run_restoresState() {
+        new DispatchSimulator(1, FIVE_MINUTES_AWAY, MINUTE, HOUR).run(HOUR);
+
+        assertEquals(0, TriageQueue.getInstance().size());
+        assertEquals(5, PatrolResourceStatus.getFreeOfficers().size());
+        assertFalse(Math.abs(ClockService.currentTimeMillis() - System.currentTimeMillis()) > HOUR);
+    }
+
+    @Test
+    public void getResponseMillis_percentilesByNearestRank() {
+        List<Long> responses = new ArrayList<>();
+        for (long i = 100; i >= 1; i--) {
+            responses.add(i * MINUTE);
+        }
+        SimulationReport report = new SimulationReport(HOUR, 100, 0, 50, responses, new HashMap<>(), 0, 0);
+
+        assertEquals(50 * MINUTE, report.getResponseMillis(50));
+        assertEquals(99 * MINUTE, report.getResponseMillis(99));
+        assertEquals(100 * MINUTE, report.getResponseMillis(100));
+        assertEquals(50.0, report.getThroughputPerHour(), 1e-9);
+        assertEquals(0, new SimulationReport(HOUR, 0, 0, 0, Collections.emptyList(), new HashMap<>(), 0, 0)
+                .getResponseMillis(90));
+    }
+}
@@ -0,0 +1,159 @@
+//@@author andyrobert3
+package seedu.addressbook.timeanddate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.text.SimpleDateFormat;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.TimeZone;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class ClockServiceTest {
+    private static final ZoneId SINGAPORE = ZoneId.of("Asia/Singapore");
+    private static final ZoneId LONDON = ZoneId.of("Europe/London");
+
+    @After
+    public void tearDown() {
+        ClockService.resetClock();
+    }
+
+    @Test
+    public void formatters_fixedClock_formatCurrentTime() {
+        useClock("2018-11-05T06:07:08.009Z", SINGAPORE);
+        TimeAndDate now = new TimeAndDate();
+
+        assertEquals("05/11/2018-14:07:08:009hrs", now.outputDatHrs());
+        assertEquals("05/11/2018 1407hrs", now.outputDatMainHrs());
+        assertEquals("05/11/2018-1407hrs", now.getOutputDatHrsForCheckCommand());
+    }
+
+    @Test
+    public void formatTimestamp_sameSecond_millisecondsDiffer() {
+        useClock("2018-11-05T06:07:08.000Z", SINGAPORE);
+        long second = ClockService.currentTimeMillis();
+
+        assertEquals("05/11/2018-14:07:08:000", ClockService.formatTimestamp(second));
+        assertEquals("05/11/2018-14:07:08:042", ClockService.formatTimestamp(second + 42));
+        assertEquals("05/11/2018-14:07:08:999", ClockService.formatTimestamp(second + 999));
+        assertEquals("05/11/2018-14:07:09:000", ClockService.formatTimestamp(second + 1000));
+    }
+
+    @Test
+    public void parseTimestamp_matchesSimpleDateFormat() throws Exception {
+        for (ZoneId zone : new ZoneId[] {SINGAPORE, LONDON}) {
+            useClock("2018-01-01T00:00:00Z", zone);
+            SimpleDateFormat reference = new SimpleDateFormat(ClockService.TIMESTAMP_PATTERN);
+            reference.setTimeZone(TimeZone.getTimeZone(zone));
+            for (String timestamp : new String[] {"01/01/1970-00:00:00:000", "29/02/2016-23:59:59:999",
+                "15/07/2018-12:30:45:123", "31/12/2099-08:00:00:001"}) {
+                assertEquals(timestamp, reference.parse(timestamp).getTime(),
+                        ClockService.parseTimestamp(timestamp));
+            }
+        }
+    }
+
+    @Test
+    public void parseTimestamp_acrossDaylightSavingTransitions_matchesZoneRules() {
+        useClock("2015-01-01T00:00:00Z", LONDON);
+        // Winter, the gap and the summer after it, the overlap and the winter after that, then back to summer.
+        LocalDateTime[] times = {LocalDateTime.of(2015, 3, 29, 0, 59, 59), LocalDateTime.of(2015, 3, 29, 1, 30),
+            LocalDateTime.of(2015, 3, 29, 2, 0), LocalDateTime.of(2015, 10, 25, 0, 59, 59),
+            LocalDateTime.of(2015, 10, 25, 1, 30), LocalDateTime.of(2015, 10, 25, 2, 0),
+            LocalDateTime.of(2015, 7, 1, 12, 0)};
+        for (LocalDateTime time : times) {
+            assertEquals(time.toString(), ZonedDateTime.of(time, LONDON).toInstant().toEpochMilli(),
+                    ClockService.parseTimestamp(time.format(ClockService.TIMESTAMP_FORMATTER)));
+        }
+    }
+
+    @Test
+    public void parseTimestamp_regionZone_createsNoObjects() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        useClock("2018-11-05T06:07:08.009Z", SINGAPORE);
+        String[] timestamps = {"01/01/2018-00:00:00:000", "15/07/2018-12:30:45:123", "31/12/2099-08:00:00:001"};
+        final int numParses = 30_000;
+
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        long sum = 0;
+        for (int i = 0; i < numParses; i++) {
+            sum += ClockService.parseTimestamp(timestamps[i % timestamps.length]);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue("Parsing allocated " + allocated + " bytes", allocated < numParses);
+        assertTrue(sum != 0);
+    }
+
+    @Test
+    public void parseTimestamp_formattedTimestamp_roundTrips() {
+        useClock("2018-11-05T06:07:08.009Z", SINGAPORE);
+        long now = ClockService.currentTimeMillis();
+        assertEquals(now, ClockService.parseTimestamp(ClockService.formatTimestamp(now) + "hrs"));
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    public void parseTimestamp_wrongSeparator_throwsException() {
+        ClockService.parseTimestamp("05-11-2018-14:07:08:009");
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    public void parseTimestamp_notDigits_throwsException() {
+        ClockService.parseTimestamp("05/11/2018-14:0x:08:009");
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    public void parseTimestamp_tooShort_throwsException() {
+        ClockService.parseTimestamp("05/11/2018");
+    }
+
+    @Test
+    public void parseForCheckCommand_formattedTimestamp_roundTrips() {
+        useClock("2018-11-05T06:07:00Z", SINGAPORE);
+        long now = ClockService.currentTimeMillis();
+        assertEquals("05/11/2018-1407", ClockService.formatForCheckCommand(now));
+        assertEquals(now, ClockService.parseForCheckCommand(ClockService.formatForCheckCommand(now) + "hrs"));
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    public void parseForCheckCommand_outOfRange_throwsException() {
+        ClockService.parseForCheckCommand("05/11/2018-2460hrs");
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    public void parseForCheckCommand_dayPastEndOfMonth_throwsException() {
+        useClock("2018-11-05T06:07:00Z", SINGAPORE);
+        ClockService.parseForCheckCommand("31/02/2018-1200hrs");
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    public void parseForCheckCommand_dayPastEndOfMonthInFixedZone_throwsException() {
+        useClock("2018-11-05T06:07:00Z", ZoneOffset.UTC);
+        ClockService.parseForCheckCommand("29/02/2018-1200hrs");
+    }
+
+    @Test
+    public void parseForCheckCommand_leapDay_accepted() {
+        useClock("2018-11-05T06:07:00Z", SINGAPORE);
+        assertEquals(ClockService.parseForCheckCommand("28/02/2020-1200") + 24 * 3600 * 1000,
+                ClockService.parseForCheckCommand("29/02/2020-1200"));
+    }
+
+    private static void useClock(String instant, ZoneId zone) {
+        ClockService.setClock(Clock.fixed(Instant.parse(instant), zone));
+    }
+}
@@ -0,0 +1,103 @@
+//@@author andyrobert3
+package seedu.addressbook.tracking;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.addressbook.common.Location;
+import seedu.addressbook.timeanddate.ClockService;
+
+public class PositionFeedTest {
+    private PositionStore store;
+    private PositionFeed feed;
+
+    @Before
+    public void setup() {
+        store = new PositionStore(Collections.singletonList(new OfficerPosition("po1", new Location(0, 0), 0)));
+        feed = new PositionFeed(store);
+    }
+
+    @After
+    public void tearDown() {
+        feed.stop();
+    }
+
+    @Test
+    public void accept_validPing_recorded() {
+        assertTrue(feed.accept("po1, 1.3069, 103.7905, 1000"));
+        assertEquals(new Location(1.3069, 103.7905), store.getLocation("po1"));
+    }
+
+    @Test
+    public void accept_malformedPing_skipped() {
+        assertFalse(feed.accept("po1,1.3069"));
+        assertFalse(feed.accept("po1,north,103.7905,1000"));
+        assertFalse(feed.accept(""));
+        assertEquals(new Location(0, 0), store.getLocation("po1"));
+    }
+
+    @Test
+    public void accept_offTheGlobe_skipped() {
+        assertFalse(feed.accept("po1,NaN,103.7905,1000"));
+        assertFalse(feed.accept("po1,1.3069,Infinity,1000"));
+        assertFalse(feed.accept("po1,90.5,103.7905,1000"));
+        assertFalse(feed.accept("po1,1.3069,-180.5,1000"));
+        assertEquals(new Location(0, 0), store.getLocation("po1"));
+    }
+
+    @Test
+    public void accept_timedInTheFuture_skipped() {
+        ClockService.setClock(Clock.fixed(Instant.ofEpochMilli(1000000), ZoneId.of("Asia/Singapore")));
+        try {
+            assertFalse(feed.accept("po1,1.3069,103.7905," + (1000000 + PositionFeed.MAX_CLOCK_SKEW_MILLIS + 1)));
+            assertTrue(feed.accept("po1,1.3069,103.7905," + (1000000 + PositionFeed.MAX_CLOCK_SKEW_MILLIS)));
+        } finally {
+            ClockService.resetClock();
+        }
+    }
+
+    @Test
+    public void read_skipsMalformedAndStalePings() throws IOException {
+        String pings = "po1,1.1,103.1,100\n"
+                + "garbage\n"
+                + "po1,1.2,103.2,300\n"
+                + "po1,1.3,103.3,200\n";
+
+        assertEquals(2, feed.read(new BufferedReader(new StringReader(pings))));
+        assertEquals(new Location(1.2, 103.2), store.getLocation("po1"));
+    }
+
+    @Test
+    public void listen_deviceSendsPings_recorded() throws Exception {
+        int port = feed.listen(0);
+        try (Socket device = new Socket("localhost", port);
+             Writer writer = new OutputStreamWriter(device.getOutputStream(), StandardCharsets.UTF_8)) {
+            writer.write("po1,1.5,103.5,100\n");
+            writer.flush();
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (!new Location(1.5, 103.5).equals(store.getLocation("po1"))
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+        }
+        assertEquals(new Location(1.5, 103.5), store.getLocation("po1"));
+    }
+}
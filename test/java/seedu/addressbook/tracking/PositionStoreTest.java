@@ -0,0 +1,143 @@
+//@@author andyrobert3
+package seedu.addressbook.tracking;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.addressbook.common.Location;
+
+public class PositionStoreTest {
+    private static final Location HOME = new Location(1.3, 103.8);
+
+    private PositionStore store;
+
+    @Before
+    public void setup() {
+        store = new PositionStore(Arrays.asList(new OfficerPosition("po1", HOME, 0),
+                new OfficerPosition("po2", HOME, 0)));
+    }
+
+    @Test
+    public void getLocation_noPings_homeLocation() {
+        assertEquals(HOME, store.getLocation("po1"));
+        assertNull(store.getLocation("po9"));
+    }
+
+    @Test
+    public void update_laterPing_replacesLatest() {
+        assertTrue(store.update("PO1", new Location(1.31, 103.81), 100));
+        assertTrue(store.update("po1", new Location(1.32, 103.82), 200));
+
+        assertEquals(new Location(1.32, 103.82), store.getLocation("po1"));
+        assertEquals(HOME, store.getLocation("po2"));
+    }
+
+    @Test
+    public void update_olderPing_ignored() {
+        store.update("po1", new Location(1.32, 103.82), 200);
+
+        assertFalse(store.update("po1", new Location(1.31, 103.81), 100));
+        assertEquals(new Location(1.32, 103.82), store.getLocation("po1"));
+    }
+
+    @Test
+    public void update_unknownOfficer_ignored() {
+        assertFalse(store.update("po9", HOME, 100));
+    }
+
+    @Test
+    public void snapshot_laterPings_unchanged() {
+        PositionSnapshot snapshot = store.snapshot();
+        store.update("po1", new Location(1.32, 103.82), 200);
+
+        assertEquals(HOME, snapshot.getLocation("po1"));
+        assertEquals(new Location(1.32, 103.82), store.snapshot().getLocation("po1"));
+    }
+
+    @Test
+    public void findNearest_nearestCandidate() {
+        store.update("po1", new Location(1.40, 103.80), 100);
+        store.update("po2", new Location(1.31, 103.80), 100);
+
+        assertEquals("po2", store.snapshot().findNearest(new Location(1.30, 103.80), Arrays.asList("po1", "po2")));
+        assertEquals("po1", store.snapshot().findNearest(new Location(1.30, 103.80), Arrays.asList("po1", "po9")));
+        assertNull(store.snapshot().findNearest(HOME, Arrays.asList("po9")));
+    }
+
+    @Test
+    public void getRecent_moreThanCapacity_lastPositionsInOrder() {
+        int numPings = PositionStore.HISTORY_CAPACITY + 10;
+        for (int i = 1; i <= numPings; i++) {
+            store.update("po1", HOME, i);
+        }
+
+        List<OfficerPosition> recent = store.getRecent("po1");
+        assertEquals(PositionStore.HISTORY_CAPACITY, recent.size());
+        assertEquals(11, recent.get(0).getTimestampMillis());
+        assertEquals(numPings, recent.get(recent.size() - 1).getTimestampMillis());
+    }
+
+    @Test
+    public void getRecent_whilePinging_neverStaleOrOutOfOrder() throws InterruptedException {
+        int numPings = 200000;
+        Thread pinger = new Thread(() -> {
+            for (int i = 1; i <= numPings; i++) {
+                store.update("po1", HOME, i);
+            }
+        });
+        pinger.start();
+        try {
+            while (pinger.isAlive()) {
+                List<OfficerPosition> recent = store.getRecent("po1");
+                for (int i = 1; i < recent.size(); i++) {
+                    assertTrue(recent.get(i - 1).getTimestampMillis() < recent.get(i).getTimestampMillis());
+                }
+                if (!recent.isEmpty()) {
+                    assertTrue(recent.get(recent.size() - 1).getTimestampMillis() - recent.get(0).getTimestampMillis()
+                            < PositionStore.HISTORY_CAPACITY);
+                }
+            }
+        } finally {
+            pinger.join();
+        }
+    }
+
+    @Test
+    public void update_concurrentPings_latestIsLastPing() throws InterruptedException {
+        int numThreads = 4;
+        int pingsPerThread = 50000;
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < numThreads; t++) {
+            int firstTimestamp = t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < pingsPerThread; i++) {
+                    long timestamp = firstTimestamp + (long) i * numThreads;
+                    store.update((timestamp % 2 == 0) ? "po1" : "po2", new Location(timestamp, timestamp), timestamp);
+                }
+            }));
+        }
+        long start = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1000000;
+
+        long lastTimestamp = (long) numThreads * pingsPerThread - 1;
+        assertEquals(lastTimestamp, store.snapshot().getPosition("po2").getTimestampMillis());
+        assertEquals(lastTimestamp - 1, store.snapshot().getPosition("po1").getTimestampMillis());
+        assertEquals(new Location(lastTimestamp, lastTimestamp), store.getLocation("po2"));
+        assertTrue("200000 pings took " + elapsedMillis + "ms", elapsedMillis < 5000);
+    }
+}
@@ -0,0 +1,206 @@
+//@@author andyrobert3
+package seedu.addressbook.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.commands.DispatchCommand;
+import seedu.addressbook.commands.ListCommand;
+
+public class AsyncCommandRunnerTest {
+    private static final int WAIT_SECONDS = 5;
+    /** Treats every command but {@code list} as writing, as {@code Logic::isMutating} would. */
+    private static final Predicate<String> IS_WRITING = text -> !text.equals(ListCommand.COMMAND_WORD);
+
+    private ExecutorService uiThread;
+    private AsyncCommandRunner runner;
+
+    @Before
+    public void setup() {
+        uiThread = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        if (runner != null) {
+            runner.shutdown();
+        }
+        uiThread.shutdownNow();
+    }
+
+    @Test
+    public void submit_commandCompletes_resultDeliveredOnUiThread() throws Exception {
+        runner = new AsyncCommandRunner(text -> new CommandResult(text), IS_WRITING, uiThread);
+        CompletableFuture<String> delivered = new CompletableFuture<>();
+        Thread testThread = Thread.currentThread();
+
+        runner.submit("list", result -> {
+            assertFalse(Thread.currentThread() == testThread);
+            delivered.complete(result.feedbackToUser);
+        }, delivered::complete);
+
+        assertEquals("list", delivered.get(WAIT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void submit_commandThrows_failureDelivered() throws Exception {
+        runner = new AsyncCommandRunner(text -> {
+            throw new Exception("failed");
+        }, IS_WRITING, uiThread);
+        CompletableFuture<String> failure = new CompletableFuture<>();
+
+        runner.submit("list", result -> failure.complete("unexpected result"), failure::complete);
+
+        assertEquals("failed", failure.get(WAIT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void submit_commandTooSlow_timesOutAndDiscardsResult() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        AtomicBoolean isResultDelivered = new AtomicBoolean(false);
+        runner = new AsyncCommandRunner(text -> {
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(WAIT_SECONDS));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return new CommandResult(text);
+        }, IS_WRITING, uiThread, text -> 50);
+        CompletableFuture<String> failure = new CompletableFuture<>();
+
+        runner.submit("list", result -> isResultDelivered.set(true), failure::complete);
+
+        assertEquals(String.format(AsyncCommandRunner.MESSAGE_TIMED_OUT, 0), failure.get(WAIT_SECONDS,
+                TimeUnit.SECONDS));
+        assertTrue(interrupted.await(WAIT_SECONDS, TimeUnit.SECONDS));
+        assertFalse(isResultDelivered.get());
+    }
+
+    @Test
+    public void submit_writingCommandTooSlow_leftRunningAndReportedStillRunning() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(1);
+        AtomicBoolean isInterrupted = new AtomicBoolean(false);
+        AtomicBoolean isResultDelivered = new AtomicBoolean(false);
+        runner = new AsyncCommandRunner(text -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                isInterrupted.set(true);
+            }
+            completed.countDown();
+            return new CommandResult(text);
+        }, IS_WRITING, uiThread, text -> 50);
+        CompletableFuture<String> failure = new CompletableFuture<>();
+
+        runner.submit(DispatchCommand.COMMAND_WORD + " po1 gun po2", result -> isResultDelivered.set(true),
+                failure::complete);
+
+        assertEquals(String.format(AsyncCommandRunner.MESSAGE_STILL_RUNNING, 0), failure.get(WAIT_SECONDS,
+                TimeUnit.SECONDS));
+        release.countDown();
+        assertTrue(completed.await(WAIT_SECONDS, TimeUnit.SECONDS));
+        assertFalse(isInterrupted.get());
+        assertFalse(isResultDelivered.get());
+    }
+
+    @Test
+    public void cancel_runningCommand_reportsCancelled() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        runner = new AsyncCommandRunner(text -> {
+            started.countDown();
+            Thread.sleep(TimeUnit.SECONDS.toMillis(WAIT_SECONDS));
+            return new CommandResult(text);
+        }, IS_WRITING, uiThread);
+        CompletableFuture<String> failure = new CompletableFuture<>();
+
+        runner.submit("list", result -> failure.complete("unexpected result"), failure::complete);
+        assertTrue(started.await(WAIT_SECONDS, TimeUnit.SECONDS));
+        runner.cancel();
+
+        assertEquals(AsyncCommandRunner.MESSAGE_CANCELLED, failure.get(WAIT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void cancel_runningWritingCommand_reportsMayYetComplete() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        runner = new AsyncCommandRunner(text -> {
+            started.countDown();
+            release.await();
+            return new CommandResult(text);
+        }, IS_WRITING, uiThread);
+        CompletableFuture<String> failure = new CompletableFuture<>();
+
+        runner.submit("clearinbox", result -> failure.complete("unexpected result"), failure::complete);
+        assertTrue(started.await(WAIT_SECONDS, TimeUnit.SECONDS));
+        runner.cancel();
+        release.countDown();
+
+        assertEquals(AsyncCommandRunner.MESSAGE_ABANDONED, failure.get(WAIT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void cancel_queuedWritingCommand_neverRuns() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean isWritingCommandRun = new AtomicBoolean(false);
+        runner = new AsyncCommandRunner(text -> {
+            if (text.equals("list")) {
+                release.await();
+            } else {
+                isWritingCommandRun.set(true);
+            }
+            return new CommandResult(text);
+        }, IS_WRITING, uiThread);
+        CompletableFuture<String> failure = new CompletableFuture<>();
+        CompletableFuture<String> listed = new CompletableFuture<>();
+
+        runner.submit("list", result -> listed.complete(result.feedbackToUser), listed::complete);
+        runner.submit("clearinbox", result -> failure.complete("unexpected result"), failure::complete);
+        runner.cancel();
+        release.countDown();
+
+        assertEquals(AsyncCommandRunner.MESSAGE_CANCELLED, failure.get(WAIT_SECONDS, TimeUnit.SECONDS));
+        assertEquals("list", listed.get(WAIT_SECONDS, TimeUnit.SECONDS));
+        assertFalse(isWritingCommandRun.get());
+    }
+
+    @Test
+    public void submit_queueFull_rejectedAsBusy() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        runner = new AsyncCommandRunner(text -> {
+            release.await();
+            return new CommandResult(text);
+        }, IS_WRITING, uiThread);
+
+        // One command runs while the rest fill the queue.
+        for (int i = 0; i <= AsyncCommandRunner.QUEUE_CAPACITY; i++) {
+            runner.submit("list", result -> { }, message -> { });
+        }
+        CompletableFuture<String> failure = new CompletableFuture<>();
+        runner.submit("list", result -> failure.complete("unexpected result"), failure::complete);
+        release.countDown();
+
+        assertEquals(AsyncCommandRunner.MESSAGE_BUSY, failure.get(WAIT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void getTimeoutMillis_networkCommand_allowedLonger() {
+        assertTrue(AsyncCommandRunner.getTimeoutMillis(DispatchCommand.COMMAND_WORD + " po1 gun po2")
+                > AsyncCommandRunner.getTimeoutMillis(ListCommand.COMMAND_WORD));
+    }
+}
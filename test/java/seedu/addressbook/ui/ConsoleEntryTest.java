@@ -0,0 +1,51 @@
+//@@author andyrobert3
+package seedu.addressbook.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+import seedu.addressbook.data.person.DateOfBirth;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Nric;
+import seedu.addressbook.data.person.Offense;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.PostalCode;
+import seedu.addressbook.data.person.Status;
+
+public class ConsoleEntryTest {
+
+    @Test
+    public void ofPerson_formattedOnlyWhenDisplayed() throws Exception {
+        ConsoleEntry entry = ConsoleEntry.ofPerson(1, adam());
+        assertFalse(entry.isFormatted());
+        entry.getText();
+        assertTrue(entry.isFormatted());
+    }
+
+    @Test
+    public void ofPerson_sameTextAsFormattedListing() throws Exception {
+        Person adam = adam();
+        String listing = new UiFormatter().format(Collections.singletonList(adam));
+        assertTrue(listing.startsWith(ConsoleEntry.ofPerson(1, adam).getText() + System.lineSeparator()));
+    }
+
+    @Test
+    public void ofMessage_sameTextAsFormattedMessage() {
+        String message = "first line\nsecond line";
+        assertEquals(new UiFormatter().format(message),
+                ConsoleEntry.ofMessage(message).getText() + System.lineSeparator());
+    }
+
+    private Person adam() throws Exception {
+        return new Person(new Name("Adam Brown"), new Nric("f1234567j"), new DateOfBirth("1900"),
+                new PostalCode("444444"), new Status("xc"), new Offense(),
+                new HashSet<>(Arrays.asList(new Offense("drugs"), new Offense("riot"))));
+    }
+}
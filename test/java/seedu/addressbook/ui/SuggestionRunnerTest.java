@@ -0,0 +1,121 @@
+//@@author andyrobert3
+package seedu.addressbook.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SuggestionRunnerTest {
+    private static final int WAIT_SECONDS = 5;
+
+    private ExecutorService uiThread;
+    private SuggestionRunner runner;
+    private List<String> looked;
+
+    @Before
+    public void setup() {
+        uiThread = Executors.newSingleThreadExecutor();
+        looked = new CopyOnWriteArrayList<>();
+    }
+
+    @After
+    public void tearDown() {
+        runner.shutdown();
+        uiThread.shutdownNow();
+    }
+
+    @Test
+    public void request_rapidTyping_onlyLatestLookedUp() throws Exception {
+        runner = new SuggestionRunner(text -> {
+            looked.add(text);
+            return Collections.singletonList(text + "!");
+        }, uiThread, 200);
+        List<List<String>> shown = new CopyOnWriteArrayList<>();
+        CountDownLatch isShown = new CountDownLatch(1);
+
+        onUiThread(() -> {
+            runner.request("f", shown::add);
+            runner.request("fi", shown::add);
+            runner.request("fin", suggestions -> {
+                shown.add(suggestions);
+                isShown.countDown();
+            });
+        });
+
+        assertTrue(isShown.await(WAIT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonList("fin"), looked);
+        assertEquals(Collections.singletonList(Collections.singletonList("fin!")), shown);
+    }
+
+    @Test
+    public void request_textChangedDuringLookup_staleSuggestionsDiscarded() throws Exception {
+        CountDownLatch isLooking = new CountDownLatch(1);
+        CountDownLatch canFinish = new CountDownLatch(1);
+        runner = new SuggestionRunner(text -> {
+            looked.add(text);
+            if (text.equals("slow")) {
+                isLooking.countDown();
+                await(canFinish);
+            }
+            return Collections.singletonList(text);
+        }, uiThread, 0);
+        List<List<String>> shown = new CopyOnWriteArrayList<>();
+        CountDownLatch isShown = new CountDownLatch(1);
+
+        onUiThread(() -> runner.request("slow", shown::add));
+        assertTrue(isLooking.await(WAIT_SECONDS, TimeUnit.SECONDS));
+        onUiThread(() -> runner.request("fast", suggestions -> {
+            shown.add(suggestions);
+            isShown.countDown();
+        }));
+        canFinish.countDown();
+
+        assertTrue(isShown.await(WAIT_SECONDS, TimeUnit.SECONDS));
+        onUiThread(() -> { });
+        assertEquals(Collections.singletonList(Collections.singletonList("fast")), shown);
+    }
+
+    @Test
+    public void cancel_nothingShown() throws Exception {
+        runner = new SuggestionRunner(text -> {
+            looked.add(text);
+            return Collections.singletonList(text);
+        }, uiThread, 100);
+        List<List<String>> shown = new CopyOnWriteArrayList<>();
+
+        onUiThread(() -> {
+            runner.request("find", shown::add);
+            runner.cancel();
+        });
+        Thread.sleep(300);
+
+        assertTrue(looked.isEmpty());
+        assertTrue(shown.isEmpty());
+    }
+
+    private void onUiThread(Runnable action) throws Exception {
+        uiThread.submit(action).get(WAIT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Waits for {@code latch}, as a lookup blocked until the test lets it finish.
+     */
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}